@@ -16,6 +16,7 @@
 package com.navercorp.pinpoint.profiler.context.exception.model;
 
 import com.navercorp.pinpoint.common.util.StringUtils;
+import com.navercorp.pinpoint.common.util.SuppressedExceptionCountUtils;
 
 import java.util.Arrays;
 import java.util.Objects;
@@ -25,6 +26,7 @@ import java.util.Objects;
  */
 public class ExceptionWrapper {
     private static final String EMPTY_STRING = "";
+    private static final StackTraceElement[] EMPTY_STACK_TRACE = new StackTraceElement[0];
     private final String exceptionClassName;
     private final String exceptionMessage;
     private final StackTraceElement[] stackTraceElements;
@@ -67,6 +69,38 @@ public class ExceptionWrapper {
         );
     }
 
+    /**
+     * @return a copy without stack trace, sent for repeated occurrences of an already reported chain
+     */
+    public ExceptionWrapper withoutStackTrace() {
+        return new ExceptionWrapper(
+                exceptionClassName,
+                exceptionMessage,
+                EMPTY_STACK_TRACE,
+                startTime,
+                exceptionId,
+                exceptionDepth
+        );
+    }
+
+    /**
+     * @return a copy counting the identical chains dropped before this one in its message
+     * @see SuppressedExceptionCountUtils
+     */
+    public ExceptionWrapper withSuppressedCount(int suppressedCount) {
+        if (suppressedCount <= 0) {
+            return this;
+        }
+        return new ExceptionWrapper(
+                exceptionClassName,
+                SuppressedExceptionCountUtils.appendSuppressedCount(exceptionMessage, suppressedCount),
+                stackTraceElements,
+                startTime,
+                exceptionId,
+                exceptionDepth
+        );
+    }
+
     public String getExceptionClassName() {
         return exceptionClassName;
     }
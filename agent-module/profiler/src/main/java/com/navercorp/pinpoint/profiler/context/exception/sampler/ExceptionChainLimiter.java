@@ -0,0 +1,229 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.exception.sampler;
+
+import com.navercorp.pinpoint.profiler.context.exception.model.ExceptionWrapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Limits identical exception chains per fingerprint with a token bucket.
+ * Each fingerprint may send a burst of {@code maxPerInterval} chains, refilled at {@code maxPerInterval} per interval.
+ * The first chain of a fingerprint in an interval is sent in full, the others without stack traces,
+ * and chains finding the bucket empty are dropped.
+ * The number of dropped chains is handed to the next chain sent for the fingerprint, see {@link Permit#getSuppressedCount()}.
+ */
+public class ExceptionChainLimiter {
+
+    private static final Logger logger = LogManager.getLogger(ExceptionChainLimiter.class);
+
+    public static final int DEFAULT_MAX_FINGERPRINTS = 1024;
+
+    public static final ExceptionChainLimiter DISABLED = new ExceptionChainLimiter(0, 0, 0);
+
+    public enum Decision {
+        FULL,
+        COMPACT,
+        DROP
+    }
+
+    public static final class Permit {
+        static final Permit FULL = new Permit(Decision.FULL, 0);
+        static final Permit COMPACT = new Permit(Decision.COMPACT, 0);
+        static final Permit DROP = new Permit(Decision.DROP, 0);
+
+        private final Decision decision;
+        private final int suppressedCount;
+
+        private Permit(Decision decision, int suppressedCount) {
+            this.decision = decision;
+            this.suppressedCount = suppressedCount;
+        }
+
+        static Permit of(Decision decision, int suppressedCount) {
+            if (suppressedCount == 0) {
+                return decision == Decision.FULL ? FULL : COMPACT;
+            }
+            return new Permit(decision, suppressedCount);
+        }
+
+        public Decision getDecision() {
+            return decision;
+        }
+
+        /**
+         * @return the number of chains of the same fingerprint dropped since the previous chain sent
+         */
+        public int getSuppressedCount() {
+            return suppressedCount;
+        }
+
+        @Override
+        public String toString() {
+            return "Permit{" +
+                    "decision=" + decision +
+                    ", suppressedCount=" + suppressedCount +
+                    '}';
+        }
+    }
+
+    private final long intervalMillis;
+    private final int maxPerInterval;
+    private final int maxFingerprints;
+
+    private final ConcurrentMap<Long, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public ExceptionChainLimiter(long intervalMillis, int maxPerInterval) {
+        this(intervalMillis, maxPerInterval, DEFAULT_MAX_FINGERPRINTS);
+    }
+
+    public ExceptionChainLimiter(long intervalMillis, int maxPerInterval, int maxFingerprints) {
+        this.intervalMillis = intervalMillis;
+        this.maxPerInterval = Math.max(1, maxPerInterval);
+        this.maxFingerprints = maxFingerprints;
+    }
+
+    public boolean isEnabled() {
+        return intervalMillis > 0;
+    }
+
+    public Permit acquire(List<ExceptionWrapper> wrappers) {
+        return acquire(wrappers, System.currentTimeMillis());
+    }
+
+    Permit acquire(List<ExceptionWrapper> wrappers, long currentTimeMillis) {
+        if (!isEnabled() || wrappers == null || wrappers.isEmpty()) {
+            return Permit.FULL;
+        }
+        final long fingerprint = fingerprint(wrappers);
+        final Bucket bucket = getBucket(fingerprint, wrappers.get(0).getExceptionClassName(), currentTimeMillis);
+        if (bucket == null) {
+            // too many distinct chains to track, fall back to sending everything
+            return Permit.FULL;
+        }
+        return bucket.acquire(currentTimeMillis);
+    }
+
+    private Bucket getBucket(long fingerprint, String exceptionClassName, long currentTimeMillis) {
+        final Bucket bucket = buckets.get(fingerprint);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxFingerprints) {
+            evictExpired(currentTimeMillis);
+            if (buckets.size() >= maxFingerprints) {
+                return null;
+            }
+        }
+        return buckets.computeIfAbsent(fingerprint, key -> new Bucket(key, exceptionClassName, currentTimeMillis));
+    }
+
+    private void evictExpired(long currentTimeMillis) {
+        for (Map.Entry<Long, Bucket> entry : buckets.entrySet()) {
+            final Bucket bucket = entry.getValue();
+            if (bucket.isIdle(currentTimeMillis) && buckets.remove(entry.getKey(), bucket)) {
+                bucket.logSuppressed();
+            }
+        }
+    }
+
+    /**
+     * Hashes the class names and the class/method names of every frame in the chain.
+     * Messages and line numbers are left out so that the same failure path yields the same fingerprint.
+     */
+    public static long fingerprint(List<ExceptionWrapper> wrappers) {
+        long hash = 1125899906842597L;
+        for (ExceptionWrapper wrapper : wrappers) {
+            hash = 31 * hash + wrapper.getExceptionClassName().hashCode();
+            for (StackTraceElement element : wrapper.getStackTraceElements()) {
+                hash = 31 * hash + element.getClassName().hashCode();
+                hash = 31 * hash + element.getMethodName().hashCode();
+            }
+        }
+        return hash;
+    }
+
+    private class Bucket {
+        private final long fingerprint;
+        private final String exceptionClassName;
+        private double tokens;
+        private long refillTime;
+        private long fullTime;
+        private int suppressed;
+
+        private Bucket(long fingerprint, String exceptionClassName, long currentTimeMillis) {
+            this.fingerprint = fingerprint;
+            this.exceptionClassName = exceptionClassName;
+            this.tokens = maxPerInterval;
+            this.refillTime = currentTimeMillis;
+            this.fullTime = currentTimeMillis - intervalMillis;
+        }
+
+        private synchronized Permit acquire(long currentTimeMillis) {
+            refill(currentTimeMillis);
+            if (tokens < 1) {
+                suppressed++;
+                return Permit.DROP;
+            }
+            tokens--;
+            Decision decision = Decision.COMPACT;
+            if (currentTimeMillis - fullTime >= intervalMillis) {
+                this.fullTime = currentTimeMillis;
+                decision = Decision.FULL;
+            }
+            final int suppressedCount = this.suppressed;
+            this.suppressed = 0;
+            return Permit.of(decision, suppressedCount);
+        }
+
+        private void refill(long currentTimeMillis) {
+            final long elapsed = currentTimeMillis - refillTime;
+            if (elapsed <= 0) {
+                return;
+            }
+            this.tokens = Math.min(maxPerInterval, tokens + (double) elapsed * maxPerInterval / intervalMillis);
+            this.refillTime = currentTimeMillis;
+        }
+
+        /**
+         * a full bucket unused for an interval behaves like a new one
+         */
+        private synchronized boolean isIdle(long currentTimeMillis) {
+            return currentTimeMillis - refillTime >= intervalMillis;
+        }
+
+        private synchronized void logSuppressed() {
+            if (suppressed > 0) {
+                logger.info("Dropped {} exception chains of {} fingerprint:{}", suppressed, exceptionClassName, fingerprint);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ExceptionChainLimiter{" +
+                "intervalMillis=" + intervalMillis +
+                ", maxPerInterval=" + maxPerInterval +
+                ", maxFingerprints=" + maxFingerprints +
+                '}';
+    }
+}
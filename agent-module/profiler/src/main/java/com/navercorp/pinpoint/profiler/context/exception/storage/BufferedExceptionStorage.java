@@ -20,11 +20,14 @@ import com.navercorp.pinpoint.common.util.CollectionUtils;
 import com.navercorp.pinpoint.profiler.context.exception.model.ExceptionMetaData;
 import com.navercorp.pinpoint.profiler.context.exception.model.ExceptionMetaDataFactory;
 import com.navercorp.pinpoint.profiler.context.exception.model.ExceptionWrapper;
+import com.navercorp.pinpoint.profiler.context.exception.sampler.ExceptionChainLimiter;
 import com.navercorp.pinpoint.profiler.metadata.MetaDataType;
 import com.navercorp.pinpoint.profiler.util.queue.ArrayBuffer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -39,26 +42,63 @@ public class BufferedExceptionStorage implements ExceptionStorage {
     private final ArrayBuffer<ExceptionWrapper> buffer;
     private final DataConsumer<MetaDataType> dataSender;
     private final ExceptionMetaDataFactory factory;
+    private final ExceptionChainLimiter limiter;
 
     public BufferedExceptionStorage(
             int bufferSize,
             DataConsumer<MetaDataType> dataSender,
             ExceptionMetaDataFactory exceptionMetaDataFactory
+    ) {
+        this(bufferSize, dataSender, exceptionMetaDataFactory, ExceptionChainLimiter.DISABLED);
+    }
+
+    public BufferedExceptionStorage(
+            int bufferSize,
+            DataConsumer<MetaDataType> dataSender,
+            ExceptionMetaDataFactory exceptionMetaDataFactory,
+            ExceptionChainLimiter limiter
     ) {
         this.dataSender = Objects.requireNonNull(dataSender, "dataSender");
         this.buffer = new ArrayBuffer<>(bufferSize);
         this.factory = Objects.requireNonNull(exceptionMetaDataFactory, "exceptionMetaDataFactory");
+        this.limiter = Objects.requireNonNull(limiter, "limiter");
     }
 
     @Override
     public void store(List<ExceptionWrapper> wrappers) {
-        this.buffer.put(wrappers);
+        final List<ExceptionWrapper> limited = limit(wrappers);
+        if (CollectionUtils.isEmpty(limited)) {
+            return;
+        }
+        this.buffer.put(limited);
         if (buffer.isOverflow()) {
             final List<ExceptionWrapper> flushData = buffer.drain();
             sendExceptionMetaData(flushData);
         }
     }
 
+    private List<ExceptionWrapper> limit(List<ExceptionWrapper> wrappers) {
+        if (CollectionUtils.isEmpty(wrappers)) {
+            return wrappers;
+        }
+        final ExceptionChainLimiter.Permit permit = limiter.acquire(wrappers);
+        final ExceptionChainLimiter.Decision decision = permit.getDecision();
+        if (decision == ExceptionChainLimiter.Decision.DROP) {
+            return Collections.emptyList();
+        }
+        if (decision == ExceptionChainLimiter.Decision.FULL && permit.getSuppressedCount() == 0) {
+            return wrappers;
+        }
+        final List<ExceptionWrapper> limited = new ArrayList<>(wrappers.size());
+        for (ExceptionWrapper wrapper : wrappers) {
+            if (decision == ExceptionChainLimiter.Decision.COMPACT) {
+                wrapper = wrapper.withoutStackTrace();
+            }
+            limited.add(wrapper.withSuppressedCount(permit.getSuppressedCount()));
+        }
+        return limited;
+    }
+
     @Override
     public void flush() {
         final List<ExceptionWrapper> copy = buffer.drain();
@@ -91,6 +131,7 @@ public class BufferedExceptionStorage implements ExceptionStorage {
                 "buffer=" + buffer +
                 ", dataSender=" + dataSender +
                 ", factory=" + factory +
+                ", limiter=" + limiter +
                 '}';
     }
 }
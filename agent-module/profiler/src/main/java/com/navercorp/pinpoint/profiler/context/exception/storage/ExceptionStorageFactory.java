@@ -17,6 +17,7 @@ package com.navercorp.pinpoint.profiler.context.exception.storage;
 
 import com.navercorp.pinpoint.common.profiler.message.DataConsumer;
 import com.navercorp.pinpoint.profiler.context.exception.model.ExceptionMetaDataFactory;
+import com.navercorp.pinpoint.profiler.context.exception.sampler.ExceptionChainLimiter;
 import com.navercorp.pinpoint.profiler.metadata.MetaDataType;
 
 import java.util.Objects;
@@ -28,13 +29,19 @@ public class ExceptionStorageFactory {
 
     private final DataConsumer<MetaDataType> dataSender;
     private final int bufferSize;
+    private final ExceptionChainLimiter limiter;
 
     public ExceptionStorageFactory(DataConsumer<MetaDataType> dataSender, int bufferSize) {
+        this(dataSender, bufferSize, ExceptionChainLimiter.DISABLED);
+    }
+
+    public ExceptionStorageFactory(DataConsumer<MetaDataType> dataSender, int bufferSize, ExceptionChainLimiter limiter) {
         this.dataSender = Objects.requireNonNull(dataSender, "dataSender");
         this.bufferSize = bufferSize;
+        this.limiter = Objects.requireNonNull(limiter, "limiter");
     }
 
     public ExceptionStorage createStorage(ExceptionMetaDataFactory factory) {
-        return new BufferedExceptionStorage(bufferSize, dataSender, factory);
+        return new BufferedExceptionStorage(bufferSize, dataSender, factory, limiter);
     }
 }
@@ -13,6 +13,10 @@ public class DefaultExceptionTraceConfig implements ExceptionTraceConfig {
     private int exceptionTraceMaxDepth = 0;
     @Value("${profiler.exceptiontrace.io.buffering.buffersize}")
     private int ioBufferingBufferSize = 20;
+    @Value("${profiler.exceptiontrace.dedup.interval}")
+    private long dedupIntervalMillis = 0;
+    @Value("${profiler.exceptiontrace.dedup.max.per.interval}")
+    private int dedupMaxPerInterval = 100;
 
     @Override
     public boolean isExceptionTraceEnable() {
@@ -39,6 +43,16 @@ public class DefaultExceptionTraceConfig implements ExceptionTraceConfig {
         return ioBufferingBufferSize;
     }
 
+    @Override
+    public long getDedupIntervalMillis() {
+        return dedupIntervalMillis;
+    }
+
+    @Override
+    public int getDedupMaxPerInterval() {
+        return dedupMaxPerInterval;
+    }
+
     @Override
     public String toString() {
         return "DefaultExceptionTraceConfig{" +
@@ -47,6 +61,8 @@ public class DefaultExceptionTraceConfig implements ExceptionTraceConfig {
                 ", errorMessageMaxLength=" + errorMessageMaxLength +
                 ", exceptionTraceMaxDepth=" + exceptionTraceMaxDepth +
                 ", ioBufferingBufferSize=" + ioBufferingBufferSize +
+                ", dedupIntervalMillis=" + dedupIntervalMillis +
+                ", dedupMaxPerInterval=" + dedupMaxPerInterval +
                 '}';
     }
 }
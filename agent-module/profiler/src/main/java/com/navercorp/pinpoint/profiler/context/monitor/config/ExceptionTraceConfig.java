@@ -10,4 +10,8 @@ public interface ExceptionTraceConfig {
     int getExceptionTraceMaxDepth();
 
     int getIoBufferingBufferSize();
+
+    long getDedupIntervalMillis();
+
+    int getDedupMaxPerInterval();
 }
@@ -18,6 +18,7 @@ package com.navercorp.pinpoint.profiler.context.provider.exception;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.navercorp.pinpoint.common.profiler.message.DataSender;
+import com.navercorp.pinpoint.profiler.context.exception.sampler.ExceptionChainLimiter;
 import com.navercorp.pinpoint.profiler.context.exception.storage.ExceptionStorageFactory;
 import com.navercorp.pinpoint.profiler.context.module.MetadataDataSender;
 import com.navercorp.pinpoint.profiler.context.monitor.config.ExceptionTraceConfig;
@@ -48,6 +49,10 @@ public class ExceptionStorageFactoryProvider implements Provider<ExceptionStorag
     }
 
     private ExceptionStorageFactory newStorageFactory() {
-        return new ExceptionStorageFactory(spanTypeDataSender, exceptionTraceConfig.getIoBufferingBufferSize());
+        final ExceptionChainLimiter limiter = new ExceptionChainLimiter(
+                exceptionTraceConfig.getDedupIntervalMillis(),
+                exceptionTraceConfig.getDedupMaxPerInterval()
+        );
+        return new ExceptionStorageFactory(spanTypeDataSender, exceptionTraceConfig.getIoBufferingBufferSize(), limiter);
     }
 }
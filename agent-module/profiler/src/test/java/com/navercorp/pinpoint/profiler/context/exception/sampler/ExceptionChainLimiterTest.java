@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.exception.sampler;
+
+import com.navercorp.pinpoint.profiler.context.exception.model.ExceptionWrapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ExceptionChainLimiterTest {
+
+    private static final long INTERVAL = 1000;
+    private static final long START_TIME = 10_000;
+
+    @Test
+    void fullOnceThenCompactThenDrop() {
+        ExceptionChainLimiter limiter = new ExceptionChainLimiter(INTERVAL, 3);
+        List<ExceptionWrapper> chain = chain(new RuntimeException("first"));
+
+        assertEquals(ExceptionChainLimiter.Decision.FULL, limiter.acquire(chain, START_TIME).getDecision());
+        assertEquals(ExceptionChainLimiter.Decision.COMPACT, limiter.acquire(chain, START_TIME + 1).getDecision());
+        assertEquals(ExceptionChainLimiter.Decision.COMPACT, limiter.acquire(chain, START_TIME + 2).getDecision());
+        assertEquals(ExceptionChainLimiter.Decision.DROP, limiter.acquire(chain, START_TIME + 3).getDecision());
+        assertEquals(ExceptionChainLimiter.Decision.DROP, limiter.acquire(chain, START_TIME + 4).getDecision());
+
+        ExceptionChainLimiter.Permit permit = limiter.acquire(chain, START_TIME + INTERVAL);
+        assertEquals(ExceptionChainLimiter.Decision.FULL, permit.getDecision());
+        assertEquals(2, permit.getSuppressedCount());
+
+        permit = limiter.acquire(chain, START_TIME + INTERVAL + 1);
+        assertEquals(ExceptionChainLimiter.Decision.COMPACT, permit.getDecision());
+        assertEquals(0, permit.getSuppressedCount());
+    }
+
+    @Test
+    void refillContinuously() {
+        ExceptionChainLimiter limiter = new ExceptionChainLimiter(INTERVAL, 2);
+        List<ExceptionWrapper> chain = chain(new RuntimeException("first"));
+
+        assertEquals(ExceptionChainLimiter.Decision.FULL, limiter.acquire(chain, START_TIME).getDecision());
+        assertEquals(ExceptionChainLimiter.Decision.COMPACT, limiter.acquire(chain, START_TIME).getDecision());
+        assertEquals(ExceptionChainLimiter.Decision.DROP, limiter.acquire(chain, START_TIME).getDecision());
+
+        // one token every INTERVAL / 2, no need to wait for the end of a fixed window
+        ExceptionChainLimiter.Permit permit = limiter.acquire(chain, START_TIME + INTERVAL / 2);
+        assertEquals(ExceptionChainLimiter.Decision.COMPACT, permit.getDecision());
+        assertEquals(1, permit.getSuppressedCount());
+        assertEquals(ExceptionChainLimiter.Decision.DROP, limiter.acquire(chain, START_TIME + INTERVAL / 2).getDecision());
+    }
+
+    @Test
+    void fingerprintIgnoresMessage() {
+        Throwable first = new IllegalStateException("message 1");
+        Throwable second = new IllegalStateException("message 2");
+        second.setStackTrace(first.getStackTrace());
+
+        assertEquals(ExceptionChainLimiter.fingerprint(chain(first)), ExceptionChainLimiter.fingerprint(chain(second)));
+        assertNotEquals(ExceptionChainLimiter.fingerprint(chain(first)),
+                ExceptionChainLimiter.fingerprint(chain(new IllegalArgumentException("message 1"))));
+    }
+
+    @Test
+    void untrackedFingerprintsAreSentInFull() {
+        ExceptionChainLimiter limiter = new ExceptionChainLimiter(INTERVAL, 1, 1);
+        List<ExceptionWrapper> chain1 = chain(new RuntimeException("1"));
+        List<ExceptionWrapper> chain2 = chain(new IllegalStateException("2"));
+
+        assertEquals(ExceptionChainLimiter.Decision.FULL, limiter.acquire(chain1, START_TIME).getDecision());
+        assertEquals(ExceptionChainLimiter.Decision.FULL, limiter.acquire(chain2, START_TIME).getDecision());
+        assertEquals(ExceptionChainLimiter.Decision.FULL, limiter.acquire(chain2, START_TIME + 1).getDecision());
+        assertEquals(ExceptionChainLimiter.Decision.DROP, limiter.acquire(chain1, START_TIME + 1).getDecision());
+
+        // the idle bucket of chain1 makes room for chain2
+        assertEquals(ExceptionChainLimiter.Decision.FULL, limiter.acquire(chain2, START_TIME + INTERVAL + 1).getDecision());
+        assertEquals(ExceptionChainLimiter.Decision.DROP, limiter.acquire(chain2, START_TIME + INTERVAL + 2).getDecision());
+    }
+
+    @Test
+    void disabled() {
+        List<ExceptionWrapper> chain = chain(new RuntimeException("1"));
+        for (int i = 0; i < 10; i++) {
+            assertEquals(ExceptionChainLimiter.Decision.FULL, ExceptionChainLimiter.DISABLED.acquire(chain, START_TIME).getDecision());
+        }
+    }
+
+    private List<ExceptionWrapper> chain(Throwable throwable) {
+        return Collections.singletonList(ExceptionWrapper.newException(throwable, START_TIME, 1, 0, 100));
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.monitor;
+
+import com.navercorp.pinpoint.common.util.Assert;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+
+/**
+ * Caps the number of running tasks of an unbounded executor(e.g. thread per task).
+ * Tasks over the limit wait in a queue of {@code queueCapacity} and start as running tasks complete.
+ * Tasks over the queue capacity are rejected, like a saturated {@link java.util.concurrent.ThreadPoolExecutor}.
+ * The optional latency recorder receives the nanoseconds from submit to completion of each task.
+ */
+public class ConcurrencyLimitedExecutorService extends AbstractExecutorService {
+
+    private final Logger logger;
+
+    private final ExecutorService delegate;
+    private final int maxConcurrency;
+    private final Semaphore semaphore;
+    private final int queueCapacity;
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final int logRate;
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final LongAdder submitCount = new LongAdder();
+    private final LongAdder completedCount = new LongAdder();
+    private final LongConsumer latencyRecorder;
+    private volatile boolean shutdown;
+
+    public ConcurrencyLimitedExecutorService(String executorName, ExecutorService delegate, int maxConcurrency, int queueCapacity, int logRate) {
+        this(executorName, delegate, maxConcurrency, queueCapacity, logRate, null);
+    }
+
+    public ConcurrencyLimitedExecutorService(String executorName, ExecutorService delegate, int maxConcurrency, int queueCapacity, int logRate,
+                                             LongConsumer latencyRecorder) {
+        Objects.requireNonNull(executorName, "executorName");
+        this.logger = LogManager.getLogger(executorName);
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        Assert.isTrue(maxConcurrency > 0, "must be `maxConcurrency > 0`");
+        Assert.isTrue(queueCapacity >= 0, "must be `queueCapacity >= 0`");
+        Assert.isTrue(logRate > 0, "must be `logRate > 0`");
+        this.maxConcurrency = maxConcurrency;
+        this.semaphore = new Semaphore(maxConcurrency);
+        this.queueCapacity = queueCapacity;
+        this.logRate = logRate;
+        this.latencyRecorder = latencyRecorder;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        Objects.requireNonNull(command, "command");
+        submitCount.increment();
+        if (shutdown) {
+            throw new RejectedExecutionException("shutdown");
+        }
+        final Runnable task = timed(command);
+        if (semaphore.tryAcquire()) {
+            start(task);
+            return;
+        }
+        if (pendingCount.incrementAndGet() > queueCapacity) {
+            pendingCount.decrementAndGet();
+            final long error = rejectedCount.getAndIncrement();
+            if ((error % logRate) == 0) {
+                logger.warn("The executor is saturated. Check the max-concurrency, queueCapacity and HBase options in the configuration. maxConcurrency={}, queueCapacity={}, rejectedCount={}",
+                        maxConcurrency, queueCapacity, error);
+            }
+            throw new RejectedExecutionException("maxConcurrency:" + maxConcurrency + " queueCapacity:" + queueCapacity);
+        }
+        pending.offer(task);
+        // shutdown() may have drained the queue between the state check and the offer
+        if (shutdown && pending.remove(task)) {
+            pendingCount.decrementAndGet();
+            // the delegate shutdown was deferred while this task was counted as pending
+            drain();
+            throw new RejectedExecutionException("shutdown");
+        }
+        // a running task may have completed before the offer, so start the queued task here if a permit is free
+        drain();
+    }
+
+    private Runnable timed(Runnable command) {
+        final LongConsumer recorder = this.latencyRecorder;
+        if (recorder == null) {
+            return command;
+        }
+        final long submitTime = System.nanoTime();
+        return () -> {
+            try {
+                command.run();
+            } finally {
+                recorder.accept(System.nanoTime() - submitTime);
+            }
+        };
+    }
+
+    private void start(Runnable command) {
+        try {
+            delegate.execute(() -> {
+                try {
+                    command.run();
+                } finally {
+                    completedCount.increment();
+                    semaphore.release();
+                    drain();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            semaphore.release();
+            throw e;
+        }
+    }
+
+    private void drain() {
+        while (!pending.isEmpty() && semaphore.tryAcquire()) {
+            final Runnable next = pending.poll();
+            if (next == null) {
+                semaphore.release();
+                continue;
+            }
+            try {
+                start(next);
+            } catch (RejectedExecutionException e) {
+                // the caller has already returned, the task is dropped
+                final long error = rejectedCount.getAndIncrement();
+                if ((error % logRate) == 0) {
+                    logger.warn("Queued task rejected by {}. rejectedCount={}", delegate, error, e);
+                }
+            } finally {
+                pendingCount.decrementAndGet();
+            }
+        }
+        // the delegate is shut down once the queued tasks have been handed over
+        if (shutdown && pendingCount.get() == 0) {
+            delegate.shutdown();
+        }
+    }
+
+    public int getActiveCount() {
+        return maxConcurrency - semaphore.availablePermits();
+    }
+
+    public int getQueueSize() {
+        return pendingCount.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public long getSubmitCount() {
+        return submitCount.longValue();
+    }
+
+    public long getCompletedTaskCount() {
+        return completedCount.longValue();
+    }
+
+    @Override
+    public void shutdown() {
+        this.shutdown = true;
+        drain();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        this.shutdown = true;
+        final List<Runnable> notStarted = new ArrayList<>(delegate.shutdownNow());
+        Runnable next;
+        while ((next = pending.poll()) != null) {
+            pendingCount.decrementAndGet();
+            notStarted.add(next);
+        }
+        return notStarted;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrencyLimitedExecutorService{" +
+                "delegate=" + delegate +
+                ", maxConcurrency=" + maxConcurrency +
+                ", queueCapacity=" + queueCapacity +
+                '}';
+    }
+}
@@ -16,6 +16,7 @@
 package com.navercorp.pinpoint.collector.monitor;
 
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -30,4 +31,8 @@ public interface MonitoredThreadPoolExecutorFactory {
             int corePoolSize, int maxPoolSize, int keepAliveSeconds, BlockingQueue<Runnable> queue,
             ThreadFactory threadFactory, RejectedExecutionHandler rejectedExecutionHandler
     );
+
+    ConcurrencyLimitedExecutorService createConcurrencyLimitedExecutor(
+            ExecutorService delegate, int maxConcurrency, int queueCapacity
+    );
 }
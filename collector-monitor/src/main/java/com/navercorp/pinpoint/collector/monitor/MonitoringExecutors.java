@@ -18,14 +18,20 @@
 package com.navercorp.pinpoint.collector.monitor;
 
 import com.navercorp.pinpoint.collector.monitor.receiver.ExecutorFactoryBean;
+import com.navercorp.pinpoint.collector.monitor.receiver.VirtualThreadExecutorFactoryBean;
 import com.navercorp.pinpoint.common.server.executor.ExecutorCustomizer;
 import com.navercorp.pinpoint.common.server.thread.MonitoringExecutorProperties;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.concurrent.ThreadPoolExecutorFactoryBean;
 
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 
 public class MonitoringExecutors {
+    private final Logger logger = LogManager.getLogger(this.getClass());
 
     private final ExecutorCustomizer<ThreadPoolExecutorFactoryBean> customizer;
     private final MonitoredThreadPoolExecutorFactoryProvider provider;
@@ -39,7 +45,28 @@ public class MonitoringExecutors {
         this.provider = provider;
     }
 
-    public ThreadPoolExecutorFactoryBean newExecutorFactoryBean(MonitoringExecutorProperties properties, String beanName) {
+    public FactoryBean<ExecutorService> newExecutorFactoryBean(MonitoringExecutorProperties properties, String beanName) {
+        if (properties.isVirtualThread()) {
+            if (VirtualThreads.isAvailable()) {
+                return newVirtualThreadExecutorFactoryBean(properties, beanName);
+            }
+            logger.warn("{} virtual thread not supported. java.version:{}, fallback to thread pool", beanName, System.getProperty("java.version"));
+        }
+        return newThreadPoolExecutorFactoryBean(properties, beanName);
+    }
+
+    private FactoryBean<ExecutorService> newVirtualThreadExecutorFactoryBean(MonitoringExecutorProperties properties, String beanName) {
+        String name = properties.getThreadNamePrefix() != null ? properties.getThreadNamePrefix() : beanName;
+        VirtualThreadExecutorFactoryBean executor = new VirtualThreadExecutorFactoryBean(name, properties.getMaxConcurrency(), properties.getQueueCapacity(), properties.getLogRate());
+        if (provider != null) {
+            executor.setExecutorFactory(provider.newFactory(beanName, properties));
+        }
+        executor.setWaitForTasksToCompleteOnShutdown(properties.isWaitForTasksToCompleteOnShutdown());
+        executor.setAwaitTerminationSeconds(properties.getAwaitTerminationSeconds());
+        return executor;
+    }
+
+    private ThreadPoolExecutorFactoryBean newThreadPoolExecutorFactoryBean(MonitoringExecutorProperties properties, String beanName) {
         MonitoredThreadPoolExecutorFactory factory = null;
         if (provider != null) {
             factory = provider.newFactory(beanName, properties);
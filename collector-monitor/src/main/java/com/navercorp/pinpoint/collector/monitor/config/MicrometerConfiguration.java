@@ -20,8 +20,11 @@ import com.navercorp.pinpoint.collector.monitor.MonitoredThreadPoolExecutorFacto
 import com.navercorp.pinpoint.collector.monitor.micrometer.BulkOperationMetrics;
 import com.navercorp.pinpoint.collector.monitor.micrometer.HBaseAsyncOperationMetrics;
 import com.navercorp.pinpoint.collector.monitor.micrometer.MicrometerThreadPoolExecutorFactoryProvider;
+import com.navercorp.pinpoint.collector.monitor.micrometer.WriteAheadLogMetrics;
 import com.navercorp.pinpoint.collector.monitor.micrometer.binder.NetworkMetricsBinder;
 import com.navercorp.pinpoint.common.hbase.counter.HBaseBatchPerformance;
+import com.navercorp.pinpoint.common.hbase.wal.WalReplayer;
+import com.navercorp.pinpoint.common.hbase.wal.WriteAheadLog;
 import io.grpc.ServerInterceptor;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -41,6 +44,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * @author intr3p1d
@@ -147,4 +151,13 @@ public class MicrometerConfiguration {
         return new HBaseAsyncOperationMetrics(hBaseAsyncOperationList, meterRegistry);
     }
 
+    @Bean
+    public WriteAheadLogMetrics writeAheadLogMetrics(
+            Optional<WriteAheadLog> writeAheadLog,
+            Optional<WalReplayer> walReplayer,
+            MeterRegistry meterRegistry
+    ) {
+        return new WriteAheadLogMetrics(writeAheadLog, walReplayer, meterRegistry);
+    }
+
 }
@@ -20,14 +20,18 @@ import com.navercorp.pinpoint.collector.monitor.MonitoredThreadPoolExecutor;
 import com.navercorp.pinpoint.collector.monitor.RejectedExecutionHandlerChain;
 import com.navercorp.pinpoint.collector.monitor.MonitoredThreadPoolExecutorFactory;
 import com.navercorp.pinpoint.collector.monitor.BypassRunnableDecorator;
+import com.navercorp.pinpoint.collector.monitor.ConcurrencyLimitedExecutorService;
 import com.navercorp.pinpoint.collector.monitor.RunnableDecorator;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 import java.io.Serializable;
 import java.util.Objects;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -83,6 +87,39 @@ public class MicrometerThreadPoolExecutorFactory implements Serializable, Monito
         return monitoredThreadPoolExecutor;
     }
 
+    @Override
+    public ConcurrencyLimitedExecutorService createConcurrencyLimitedExecutor(ExecutorService delegate, int maxConcurrency, int queueCapacity) {
+        Timer latency = Timer.builder(name + ".latency")
+                .description("Time from submit to completion of a task, including the time spent in the queue")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+
+        ConcurrencyLimitedExecutorService executor = new ConcurrencyLimitedExecutorService(name, delegate, maxConcurrency, queueCapacity,
+                logRate, nanos -> latency.record(nanos, TimeUnit.NANOSECONDS));
+
+        Gauge.builder(name + ".submitted", executor, ConcurrencyLimitedExecutorService::getSubmitCount)
+                .description("Number of tasks submitted to the executor")
+                .register(registry);
+
+        Gauge.builder(name + ".running", executor, ConcurrencyLimitedExecutorService::getActiveCount)
+                .description("Number of tasks currently running in the executor")
+                .register(registry);
+
+        Gauge.builder(name + ".queued", executor, ConcurrencyLimitedExecutorService::getQueueSize)
+                .description("Number of tasks waiting for a free slot of the executor")
+                .register(registry);
+
+        Gauge.builder(name + ".completed", executor, ConcurrencyLimitedExecutorService::getCompletedTaskCount)
+                .description("Number of tasks completed by the executor")
+                .register(registry);
+
+        FunctionCounter.builder(name + ".rejected", executor, ConcurrencyLimitedExecutorService::getRejectedCount)
+                .description("Number of tasks rejected by the executor")
+                .register(registry);
+
+        return executor;
+    }
+
 
     private RejectedExecutionHandler wrapHandlerChain(RejectedExecutionHandler rejectedExecutionHandler) {
         RejectedExecutionHandlerChain.Builder builder = new RejectedExecutionHandlerChain.Builder();
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.collector.monitor.micrometer;
+
+import com.navercorp.pinpoint.common.hbase.wal.WalReplayer;
+import com.navercorp.pinpoint.common.hbase.wal.WriteAheadLog;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Objects;
+import java.util.Optional;
+
+public class WriteAheadLogMetrics {
+
+    private static final String HBASE_WAL = "hbase.wal";
+    private static final String APPEND_COUNT = HBASE_WAL + ".append.count";
+    private static final String DROP_COUNT = HBASE_WAL + ".drop.count";
+    private static final String BYTES = HBASE_WAL + ".bytes";
+    private static final String SEGMENT_COUNT = HBASE_WAL + ".segment.count";
+    private static final String REPLAY_COUNT = HBASE_WAL + ".replay.count";
+    private static final String REPLAY_FAILED_COUNT = HBASE_WAL + ".replay.failed.count";
+
+    private final MeterRegistry meterRegistry;
+
+    public WriteAheadLogMetrics(Optional<WriteAheadLog> writeAheadLog, Optional<WalReplayer> walReplayer, MeterRegistry meterRegistry) {
+        Objects.requireNonNull(writeAheadLog, "writeAheadLog");
+        Objects.requireNonNull(walReplayer, "walReplayer");
+        this.meterRegistry = Objects.requireNonNull(meterRegistry, "meterRegistry");
+        writeAheadLog.ifPresent(this::registerMetrics);
+        walReplayer.ifPresent(this::registerMetrics);
+    }
+
+    private void registerMetrics(WriteAheadLog writeAheadLog) {
+        Gauge.builder(APPEND_COUNT, writeAheadLog, WriteAheadLog::getAppendCount)
+                .register(meterRegistry);
+        Gauge.builder(DROP_COUNT, writeAheadLog, WriteAheadLog::getDropCount)
+                .register(meterRegistry);
+        Gauge.builder(BYTES, writeAheadLog, WriteAheadLog::getTotalBytes)
+                .register(meterRegistry);
+        Gauge.builder(SEGMENT_COUNT, writeAheadLog, WriteAheadLog::getSegmentCount)
+                .register(meterRegistry);
+    }
+
+    private void registerMetrics(WalReplayer walReplayer) {
+        Gauge.builder(REPLAY_COUNT, walReplayer, WalReplayer::getReplayCount)
+                .register(meterRegistry);
+        Gauge.builder(REPLAY_FAILED_COUNT, walReplayer, WalReplayer::getReplayFailCount)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.monitor.receiver;
+
+import com.navercorp.pinpoint.collector.monitor.ConcurrencyLimitedExecutorService;
+import com.navercorp.pinpoint.collector.monitor.MonitoredThreadPoolExecutorFactory;
+import com.navercorp.pinpoint.collector.monitor.VirtualThreads;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Virtual thread per task executor with a concurrency limit.
+ */
+public class VirtualThreadExecutorFactoryBean implements FactoryBean<ExecutorService>, InitializingBean, DisposableBean {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final String executorName;
+    private final int maxConcurrency;
+    private final int queueCapacity;
+    private final int logRate;
+
+    private boolean waitForTasksToCompleteOnShutdown = false;
+    private long awaitTerminationMillis = 0;
+    private MonitoredThreadPoolExecutorFactory executorFactory;
+
+    private ExecutorService executor;
+
+    public VirtualThreadExecutorFactoryBean(String executorName, int maxConcurrency, int queueCapacity, int logRate) {
+        this.executorName = Objects.requireNonNull(executorName, "executorName");
+        this.maxConcurrency = maxConcurrency;
+        this.queueCapacity = queueCapacity;
+        this.logRate = logRate;
+    }
+
+    public void setWaitForTasksToCompleteOnShutdown(boolean waitForTasksToCompleteOnShutdown) {
+        this.waitForTasksToCompleteOnShutdown = waitForTasksToCompleteOnShutdown;
+    }
+
+    public void setAwaitTerminationSeconds(int awaitTerminationSeconds) {
+        this.awaitTerminationMillis = TimeUnit.SECONDS.toMillis(awaitTerminationSeconds);
+    }
+
+    public void setExecutorFactory(MonitoredThreadPoolExecutorFactory executorFactory) {
+        this.executorFactory = executorFactory;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        final ExecutorService virtualThreadExecutor = VirtualThreads.newThreadPerTaskExecutor(executorName + "-");
+        if (executorFactory != null && executorFactory.isEnable()) {
+            this.executor = executorFactory.createConcurrencyLimitedExecutor(virtualThreadExecutor, maxConcurrency, queueCapacity);
+        } else {
+            this.executor = new ConcurrencyLimitedExecutorService(executorName, virtualThreadExecutor, maxConcurrency, queueCapacity, logRate);
+        }
+        logger.info("{} virtual thread executor, maxConcurrency:{} queueCapacity:{}", executorName, maxConcurrency, queueCapacity);
+    }
+
+    @Override
+    public ExecutorService getObject() {
+        return executor;
+    }
+
+    @Override
+    public Class<?> getObjectType() {
+        return ExecutorService.class;
+    }
+
+    @Override
+    public void destroy() {
+        if (executor == null) {
+            return;
+        }
+        if (waitForTasksToCompleteOnShutdown) {
+            executor.shutdown();
+        } else {
+            executor.shutdownNow();
+        }
+        if (awaitTerminationMillis > 0) {
+            try {
+                if (!executor.awaitTermination(awaitTerminationMillis, TimeUnit.MILLISECONDS)) {
+                    logger.warn("Timed out while waiting for executor {} to terminate", executorName);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
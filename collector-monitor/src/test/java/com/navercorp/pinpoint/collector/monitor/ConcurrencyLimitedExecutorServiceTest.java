@@ -0,0 +1,231 @@
+package com.navercorp.pinpoint.collector.monitor;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrencyLimitedExecutorServiceTest {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    @Test
+    void execute_overLimit() throws Exception {
+        ExecutorService executor = new ConcurrencyLimitedExecutorService("test", Executors.newCachedThreadPool(), 2, 0, 1);
+        try {
+            CountDownLatch running = new CountDownLatch(2);
+            CountDownLatch release = new CountDownLatch(1);
+            for (int i = 0; i < 2; i++) {
+                executor.execute(() -> {
+                    running.countDown();
+                    await(release);
+                });
+            }
+            assertThat(running.await(3, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> executor.execute(() -> {}))
+                    .isInstanceOf(RejectedExecutionException.class);
+            assertThat(((ConcurrencyLimitedExecutorService) executor).getRejectedCount()).isEqualTo(1);
+
+            release.countDown();
+
+            CountDownLatch done = new CountDownLatch(1);
+            long deadline = System.currentTimeMillis() + 3000;
+            while (true) {
+                try {
+                    executor.execute(done::countDown);
+                    break;
+                } catch (RejectedExecutionException e) {
+                    assertThat(System.currentTimeMillis()).isLessThan(deadline);
+                    Thread.sleep(10);
+                }
+            }
+            assertThat(done.await(3, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_queued() throws Exception {
+        ConcurrencyLimitedExecutorService executor = new ConcurrencyLimitedExecutorService("test", Executors.newCachedThreadPool(), 1, 2, 1);
+        try {
+            CountDownLatch running = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            executor.execute(() -> {
+                running.countDown();
+                await(release);
+            });
+            assertThat(running.await(3, TimeUnit.SECONDS)).isTrue();
+
+            CountDownLatch queued = new CountDownLatch(2);
+            executor.execute(queued::countDown);
+            executor.execute(queued::countDown);
+            assertThat(executor.getQueueSize()).isEqualTo(2);
+            assertThat(executor.getActiveCount()).isEqualTo(1);
+
+            assertThatThrownBy(() -> executor.execute(() -> {}))
+                    .isInstanceOf(RejectedExecutionException.class);
+            assertThat(executor.getRejectedCount()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(queued.await(3, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shutdown_runsQueuedTasks() throws Exception {
+        ConcurrencyLimitedExecutorService executor = new ConcurrencyLimitedExecutorService("test", Executors.newCachedThreadPool(), 1, 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch queued = new CountDownLatch(1);
+        executor.execute(() -> await(release));
+        executor.execute(queued::countDown);
+
+        executor.shutdown();
+        assertThatThrownBy(() -> executor.execute(() -> {}))
+                .isInstanceOf(RejectedExecutionException.class);
+
+        release.countDown();
+        assertThat(queued.await(3, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.awaitTermination(3, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void queuedTaskRejectedByDelegate() throws Exception {
+        ExecutorService delegate = Executors.newCachedThreadPool();
+        ConcurrencyLimitedExecutorService executor = new ConcurrencyLimitedExecutorService("test", delegate, 1, 1, 1);
+        try {
+            CountDownLatch running = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            executor.execute(() -> {
+                running.countDown();
+                await(release);
+            });
+            assertThat(running.await(3, TimeUnit.SECONDS)).isTrue();
+            executor.execute(() -> {});
+
+            delegate.shutdown();
+            release.countDown();
+
+            long deadline = System.currentTimeMillis() + 3000;
+            while (executor.getRejectedCount() == 0 || executor.getQueueSize() != 0) {
+                assertThat(System.currentTimeMillis()).isLessThan(deadline);
+                Thread.sleep(10);
+            }
+            assertThat(executor.getRejectedCount()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void latencyRecorder() throws Exception {
+        AtomicLong recorded = new AtomicLong();
+        ConcurrencyLimitedExecutorService executor = new ConcurrencyLimitedExecutorService("test", Executors.newCachedThreadPool(), 1, 10, 1,
+                nanos -> recorded.incrementAndGet());
+        CountDownLatch done = new CountDownLatch(5);
+        for (int i = 0; i < 5; i++) {
+            executor.execute(done::countDown);
+        }
+        assertThat(done.await(3, TimeUnit.SECONDS)).isTrue();
+
+        executor.shutdown();
+        assertThat(executor.awaitTermination(3, TimeUnit.SECONDS)).isTrue();
+        assertThat(recorded.get()).isEqualTo(5);
+        assertThat(executor.getSubmitCount()).isEqualTo(5);
+        assertThat(executor.getCompletedTaskCount()).isEqualTo(5);
+    }
+
+    @Test
+    void virtualThread() throws Exception {
+        if (!VirtualThreads.isAvailable()) {
+            return;
+        }
+        ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("virtual-");
+        try {
+            assertThat(executor.submit(() -> Thread.currentThread().getName()).get(3, TimeUnit.SECONDS))
+                    .startsWith("virtual-");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Handlers that block on HBase, simulated by a sleep, submitted faster than the pool can run them.
+     * Virtual threads need a java 21+ runtime, otherwise only the thread pool is measured.
+     */
+    @Disabled("benchmark")
+    @Test
+    void benchmark_blockingTasks() throws Exception {
+        final int poolSize = 256;
+        for (int round = 0; round < 3; round++) {
+            measure("threadPool-" + poolSize, new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>()));
+            if (VirtualThreads.isAvailable()) {
+                for (int maxConcurrency : new int[]{poolSize, poolSize * 4, poolSize * 16}) {
+                    measure("virtual-" + maxConcurrency, new ConcurrencyLimitedExecutorService("benchmark",
+                            VirtualThreads.newThreadPerTaskExecutor("benchmark-"), maxConcurrency, Integer.MAX_VALUE, 100));
+                }
+            }
+        }
+    }
+
+    private void measure(String name, ExecutorService executor) throws InterruptedException {
+        final int tasks = 50_000;
+        final long blockMillis = 5;
+        final AtomicLongArray latency = new AtomicLongArray(tasks);
+        final CountDownLatch done = new CountDownLatch(tasks);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < tasks; i++) {
+            final int index = i;
+            final long submitTime = System.nanoTime();
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(blockMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                latency.set(index, System.nanoTime() - submitTime);
+                done.countDown();
+            });
+        }
+        assertThat(done.await(5, TimeUnit.MINUTES)).isTrue();
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+        long[] sorted = new long[tasks];
+        for (int i = 0; i < tasks; i++) {
+            sorted[i] = latency.get(i);
+        }
+        Arrays.sort(sorted);
+        logger.info("{} throughput:{}tasks/s p50:{}ms p99:{}ms", name,
+                tasks * TimeUnit.SECONDS.toNanos(1) / elapsed,
+                TimeUnit.NANOSECONDS.toMillis(sorted[tasks / 2]),
+                TimeUnit.NANOSECONDS.toMillis(sorted[tasks * 99 / 100]));
+    }
+}
@@ -10,6 +10,7 @@ import com.navercorp.pinpoint.common.hbase.config.DistributorConfiguration;
 import com.navercorp.pinpoint.common.hbase.config.HbaseNamespaceConfiguration;
 import com.navercorp.pinpoint.common.hbase.config.HbasePutWriterConfiguration;
 import com.navercorp.pinpoint.common.hbase.config.HbaseTemplateConfiguration;
+import com.navercorp.pinpoint.common.hbase.config.HbaseWalConfiguration;
 import com.navercorp.pinpoint.common.server.CommonsHbaseConfiguration;
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
 import com.navercorp.pinpoint.common.server.bo.serializer.RowKeyEncoder;
@@ -35,6 +36,7 @@ import org.springframework.context.annotation.PropertySource;
         HbaseClientConfiguration.class,
         HbaseTemplateConfiguration.class,
         HbasePutWriterConfiguration.class,
+        HbaseWalConfiguration.class,
 
         BatchHbaseClientConfiguration.class,
 
@@ -49,6 +49,10 @@ public class CollectorProperties {
     private long spanModSamplingRate;
     @Value("${collector.span.sampling.percent.sampling-rate:100}")
     private String spanPercentSamplingRate;
+    @Value("${collector.span.sampling.transaction.keep-error:false}")
+    private boolean spanTransactionSamplingKeepError;
+    @Value("${collector.span.sampling.transaction.slow-threshold:0}")
+    private int spanTransactionSamplingSlowThreshold;
 
     @Value("${collector.stat.uri:false}")
     private boolean uriStatEnable;
@@ -116,6 +120,22 @@ public class CollectorProperties {
         this.spanPercentSamplingRate = spanPercentSamplingRate;
     }
 
+    public boolean isSpanTransactionSamplingKeepError() {
+        return spanTransactionSamplingKeepError;
+    }
+
+    public void setSpanTransactionSamplingKeepError(boolean spanTransactionSamplingKeepError) {
+        this.spanTransactionSamplingKeepError = spanTransactionSamplingKeepError;
+    }
+
+    public int getSpanTransactionSamplingSlowThreshold() {
+        return spanTransactionSamplingSlowThreshold;
+    }
+
+    public void setSpanTransactionSamplingSlowThreshold(int spanTransactionSamplingSlowThreshold) {
+        this.spanTransactionSamplingSlowThreshold = spanTransactionSamplingSlowThreshold;
+    }
+
     public boolean isUriStatEnable() {
         return uriStatEnable;
     }
@@ -154,6 +174,8 @@ public class CollectorProperties {
                 ", spanSamplingType='" + spanSamplingType + '\'' +
                 ", spanModSamplingRate=" + spanModSamplingRate +
                 ", spanPercentSamplingRate='" + spanPercentSamplingRate + '\'' +
+                ", spanTransactionSamplingKeepError=" + spanTransactionSamplingKeepError +
+                ", spanTransactionSamplingSlowThreshold=" + spanTransactionSamplingSlowThreshold +
                 ", uriStatEnable=" + uriStatEnable +
                 ", statisticsAgentStateEnable=" + statisticsAgentStateEnable +
                 ", maxSqlLength=" + maxSqlLength +
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.collector.dao.hbase;
+
+import com.navercorp.pinpoint.collector.dao.ApplicationHeatMapDao;
+import com.navercorp.pinpoint.collector.dao.hbase.statistics.BulkWriter;
+import com.navercorp.pinpoint.collector.dao.hbase.statistics.ColumnName;
+import com.navercorp.pinpoint.collector.dao.hbase.statistics.HeatMapColumnName;
+import com.navercorp.pinpoint.collector.dao.hbase.statistics.HeatMapRowKey;
+import com.navercorp.pinpoint.collector.dao.hbase.statistics.RowKey;
+import com.navercorp.pinpoint.common.server.bo.SpanBo;
+import com.navercorp.pinpoint.common.server.scatter.HeatMapGridUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.Objects;
+
+/**
+ * Counts every span into the heatmap grid of its application,
+ * so that the web can draw heatmaps without scanning ApplicationTraceIndex.
+ */
+@Repository
+@ConditionalOnProperty(name = "collector.heatmap.grid.enable", havingValue = "true")
+public class HbaseApplicationHeatMapDao implements ApplicationHeatMapDao {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final BulkWriter bulkWriter;
+
+    public HbaseApplicationHeatMapDao(@Qualifier("heatMapBulkWriter") BulkWriter bulkWriter) {
+        this.bulkWriter = Objects.requireNonNull(bulkWriter, "bulkWriter");
+    }
+
+    @Override
+    public void insert(SpanBo span) {
+        Objects.requireNonNull(span, "span");
+
+        final long acceptedTime = span.getCollectorAcceptTime();
+        final RowKey rowKey = new HeatMapRowKey(span.getApplicationId(), HeatMapGridUtils.getRowTimeSlot(acceptedTime));
+
+        final int timeCell = HeatMapGridUtils.getTimeCell(acceptedTime);
+        final int elapsedCell = HeatMapGridUtils.getElapsedCell(span.getElapsed());
+        final boolean error = span.getErrCode() != 0;
+        final ColumnName columnName = new HeatMapColumnName(span.getAgentId(), timeCell, elapsedCell, error);
+
+        if (logger.isTraceEnabled()) {
+            logger.trace("[HeatMap] {} {}", rowKey, columnName);
+        }
+        this.bulkWriter.increment(rowKey, columnName);
+    }
+
+    @Override
+    public void flushLink() {
+        this.bulkWriter.flushLink();
+    }
+
+    @Override
+    public void flushAvgMax() {
+        this.bulkWriter.flushAvgMax();
+    }
+}
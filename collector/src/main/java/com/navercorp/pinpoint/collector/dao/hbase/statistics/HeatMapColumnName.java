@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.collector.dao.hbase.statistics;
+
+import com.navercorp.pinpoint.common.server.scatter.HeatMapGridUtils;
+
+import java.util.Objects;
+
+public class HeatMapColumnName implements ColumnName {
+
+    private final String agentId;
+    private final int timeCell;
+    private final int elapsedCell;
+    private final boolean error;
+
+    // WARNING - cached hash value should not be included for equals/hashCode
+    private int hash;
+
+    private long callCount;
+
+    public HeatMapColumnName(String agentId, int timeCell, int elapsedCell, boolean error) {
+        this.agentId = Objects.requireNonNull(agentId, "agentId");
+        this.timeCell = timeCell;
+        this.elapsedCell = elapsedCell;
+        this.error = error;
+    }
+
+    public long getCallCount() {
+        return callCount;
+    }
+
+    public void setCallCount(long callCount) {
+        this.callCount = callCount;
+    }
+
+    public byte[] getColumnName() {
+        return HeatMapGridUtils.makeColumnName(timeCell, elapsedCell, error, agentId);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        HeatMapColumnName that = (HeatMapColumnName) o;
+
+        if (timeCell != that.timeCell) return false;
+        if (elapsedCell != that.elapsedCell) return false;
+        if (error != that.error) return false;
+        return agentId.equals(that.agentId);
+    }
+
+    @Override
+    public int hashCode() {
+        // take care when modifying this method - contains hashCodes for hbasekeys
+        if (hash != 0) {
+            return hash;
+        }
+        int result = agentId.hashCode();
+        result = 31 * result + timeCell;
+        result = 31 * result + elapsedCell;
+        result = 31 * result + (error ? 1 : 0);
+        hash = result;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "HeatMapColumnName{" +
+                "agentId='" + agentId + '\'' +
+                ", timeCell=" + timeCell +
+                ", elapsedCell=" + elapsedCell +
+                ", error=" + error +
+                ", callCount=" + callCount +
+                '}';
+    }
+}
@@ -2,7 +2,8 @@ package com.navercorp.pinpoint.collector.sampler;
 
 public enum SamplerType {
     MOD,
-    PERCENT;
+    PERCENT,
+    TRANSACTION;
 
     public static final SamplerType DEFAULT_SAMPLER_TYPE = MOD;
 
@@ -15,6 +15,8 @@ public class SimpleSpanSamplerFactory implements SpanSamplerFactory {
     private final String spanSamplerType;
     private final long spanModSamplingRate;
     private final String spanPercentSamplingRateStr;
+    private final boolean spanTransactionSamplingKeepError;
+    private final int spanTransactionSamplingSlowThreshold;
 
     public SimpleSpanSamplerFactory(CollectorProperties collectorProperties) {
         Objects.requireNonNull(collectorProperties, "collectorProperties");
@@ -22,6 +24,8 @@ public class SimpleSpanSamplerFactory implements SpanSamplerFactory {
         this.spanSamplerType = collectorProperties.getSpanSamplingType();
         this.spanModSamplingRate = collectorProperties.getSpanModSamplingRate();
         this.spanPercentSamplingRateStr = collectorProperties.getSpanPercentSamplingRate();
+        this.spanTransactionSamplingKeepError = collectorProperties.isSpanTransactionSamplingKeepError();
+        this.spanTransactionSamplingSlowThreshold = collectorProperties.getSpanTransactionSamplingSlowThreshold();
     }
 
     @Override
@@ -33,6 +37,8 @@ public class SimpleSpanSamplerFactory implements SpanSamplerFactory {
                         return createPercentageSampler(spanPercentSamplingRateStr, createBasicSpanSamplingFunction());
                     case MOD:
                         return createModSampler(spanModSamplingRate, createBasicSpanSamplingFunction());
+                    case TRANSACTION:
+                        return createTransactionSampler(spanPercentSamplingRateStr);
                     default:
                         break;
                 }
@@ -59,6 +65,14 @@ public class SimpleSpanSamplerFactory implements SpanSamplerFactory {
         return new PercentRateSampler<>(percentSamplingRate, function);
     }
 
+    private Sampler<BasicSpan> createTransactionSampler(String percentSamplingRateStr) {
+        long percentSamplingRate = PercentRateSampler.parseSamplingRateString(percentSamplingRateStr);
+        Sampler<BasicSpan> sampler = new TransactionSampler(percentSamplingRate, new TransactionIdHashFunction(),
+                spanTransactionSamplingKeepError, spanTransactionSamplingSlowThreshold);
+        logger.info("span sampler {}", sampler);
+        return sampler;
+    }
+
     private Sampler<BasicSpan> createModSampler(long modSamplingRate,
                                                 ToLongFunction<BasicSpan> function) {
         if (modSamplingRate == 1) {
@@ -0,0 +1,35 @@
+package com.navercorp.pinpoint.collector.sampler;
+
+import com.navercorp.pinpoint.common.profiler.util.TransactionId;
+import com.navercorp.pinpoint.common.server.bo.BasicSpan;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Non-negative hash of the whole transaction id(agentId, agentStartTime, sequence).
+ * Every span and span chunk of a transaction, on any collector, hashes to the same value.
+ */
+public class TransactionIdHashFunction implements ToLongFunction<BasicSpan> {
+
+    @Override
+    public long applyAsLong(BasicSpan span) {
+        return hash(span.getTransactionId());
+    }
+
+    public static long hash(TransactionId transactionId) {
+        long hash = transactionId.getAgentId().hashCode();
+        hash = 31 * hash + transactionId.getAgentStartTime();
+        hash = 31 * hash + transactionId.getTransactionSequence();
+        return mix(hash) & Long.MAX_VALUE;
+    }
+
+    // murmur3 fmix64
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
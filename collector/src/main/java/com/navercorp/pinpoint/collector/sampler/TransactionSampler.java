@@ -0,0 +1,81 @@
+package com.navercorp.pinpoint.collector.sampler;
+
+import com.navercorp.pinpoint.common.server.bo.BasicSpan;
+import com.navercorp.pinpoint.common.server.bo.SpanBo;
+import com.navercorp.pinpoint.common.server.bo.SpanChunkBo;
+import com.navercorp.pinpoint.common.server.bo.SpanEventBo;
+import com.navercorp.pinpoint.common.util.Assert;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+/**
+ * Keeps or drops whole transactions.
+ * The decision compares the transaction id hash with a threshold, so spans and span chunks of a transaction
+ * get the same answer on every collector.
+ * <p>
+ * {@code keepError} and {@code slowThreshold} are off by default. A collector only sees a single span,
+ * so when they are on, an error or slow span is stored even though the rest of its transaction is dropped,
+ * and the call tree of that transaction is partial.
+ */
+public class TransactionSampler implements Sampler<BasicSpan> {
+
+    private final long samplingRate;
+    private final ToLongFunction<BasicSpan> function;
+    private final boolean keepError;
+    private final int slowThreshold;
+
+    public TransactionSampler(long samplingRate, ToLongFunction<BasicSpan> function,
+                              boolean keepError, int slowThreshold) {
+        Assert.isTrue(samplingRate >= 0, "must be `sampling percentage >= 0`");
+        Assert.isTrue(samplingRate <= PercentRateSampler.MAX, "must be `sampling percentage <= 100`");
+        this.samplingRate = samplingRate;
+        this.function = Objects.requireNonNull(function, "function");
+        this.keepError = keepError;
+        this.slowThreshold = slowThreshold;
+    }
+
+    @Override
+    public boolean isSampling(BasicSpan span) {
+        if (isErrorOrSlow(span)) {
+            return true;
+        }
+        final long dividend = function.applyAsLong(span) % PercentRateSampler.MAX;
+        return dividend < samplingRate;
+    }
+
+    private boolean isErrorOrSlow(BasicSpan span) {
+        if (span instanceof SpanBo spanBo) {
+            if (keepError && (spanBo.getErrCode() != 0 || spanBo.hasException() || hasException(spanBo.getSpanEventBoList()))) {
+                return true;
+            }
+            return slowThreshold > 0 && spanBo.getElapsed() >= slowThreshold;
+        }
+        if (span instanceof SpanChunkBo spanChunkBo) {
+            return keepError && hasException(spanChunkBo.getSpanEventBoList());
+        }
+        return false;
+    }
+
+    private boolean hasException(List<SpanEventBo> spanEventList) {
+        if (spanEventList == null) {
+            return false;
+        }
+        for (SpanEventBo spanEvent : spanEventList) {
+            if (spanEvent.hasException()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "TransactionSampler{" +
+                "samplingRate=" + samplingRate +
+                ", keepError=" + keepError +
+                ", slowThreshold=" + slowThreshold +
+                '}';
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.navercorp.pinpoint.collector.service;
 
+import com.navercorp.pinpoint.collector.dao.ApplicationHeatMapDao;
 import com.navercorp.pinpoint.collector.dao.ApplicationTraceIndexDao;
 import com.navercorp.pinpoint.collector.dao.HostApplicationMapDao;
 import com.navercorp.pinpoint.collector.dao.TraceDao;
@@ -39,6 +40,7 @@ import org.springframework.validation.annotation.Validated;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
@@ -53,6 +55,9 @@ public class HbaseTraceService implements TraceService {
 
     private final ApplicationTraceIndexDao applicationTraceIndexDao;
 
+    // @Nullable
+    private final ApplicationHeatMapDao applicationHeatMapDao;
+
     private final HostApplicationMapDao hostApplicationMapDao;
 
     private final StatisticsService statisticsService;
@@ -64,6 +69,7 @@ public class HbaseTraceService implements TraceService {
 
     public HbaseTraceService(TraceDao traceDao,
                              ApplicationTraceIndexDao applicationTraceIndexDao,
+                             Optional<ApplicationHeatMapDao> applicationHeatMapDao,
                              HostApplicationMapDao hostApplicationMapDao,
                              StatisticsService statisticsService,
                              ServiceTypeRegistryService registry,
@@ -71,6 +77,7 @@ public class HbaseTraceService implements TraceService {
                              @Qualifier("grpcSpanServerExecutor") Executor grpcSpanServerExecutor) {
         this.traceDao = Objects.requireNonNull(traceDao, "traceDao");
         this.applicationTraceIndexDao = Objects.requireNonNull(applicationTraceIndexDao, "applicationTraceIndexDao");
+        this.applicationHeatMapDao = applicationHeatMapDao.orElse(null);
         this.hostApplicationMapDao = Objects.requireNonNull(hostApplicationMapDao, "hostApplicationMapDao");
         this.statisticsService = Objects.requireNonNull(statisticsService, "statisticsService");
         this.registry = Objects.requireNonNull(registry, "registry");
@@ -103,6 +110,9 @@ public class HbaseTraceService implements TraceService {
         SpanInsertEvent event = publisher.captureContext(spanBo);
         CompletableFuture<Void> future = traceDao.asyncInsert(spanBo);
         applicationTraceIndexDao.insert(spanBo);
+        if (applicationHeatMapDao != null) {
+            applicationHeatMapDao.insert(spanBo);
+        }
         insertAcceptorHost(spanBo);
         insertSpanStat(spanBo);
         insertSpanEventStat(spanBo);
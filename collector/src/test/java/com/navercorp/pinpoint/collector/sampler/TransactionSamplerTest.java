@@ -0,0 +1,103 @@
+package com.navercorp.pinpoint.collector.sampler;
+
+import com.navercorp.pinpoint.common.profiler.util.TransactionId;
+import com.navercorp.pinpoint.common.server.bo.BasicSpan;
+import com.navercorp.pinpoint.common.server.bo.SpanBo;
+import com.navercorp.pinpoint.common.server.bo.SpanChunkBo;
+import com.navercorp.pinpoint.common.server.bo.SpanEventBo;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TransactionSamplerTest {
+
+    private final TransactionIdHashFunction hashFunction = new TransactionIdHashFunction();
+
+    @Test
+    public void sameDecisionForSpanAndSpanChunk() {
+        Sampler<BasicSpan> sampler = newSampler("30", false);
+
+        for (long i = 0; i < 1000; i++) {
+            TransactionId transactionId = TransactionId.of("callerAgent", 1000L, i);
+            assertThat(sampler.isSampling(newSpan(transactionId, "app1")))
+                    .isEqualTo(sampler.isSampling(newSpan(transactionId, "app2")))
+                    .isEqualTo(sampler.isSampling(newSpanChunk(transactionId, "app3")));
+        }
+    }
+
+    @Test
+    public void samplingRate() {
+        Sampler<BasicSpan> sampler = newSampler("10", false);
+
+        int sampled = 0;
+        for (long i = 0; i < 100_000; i++) {
+            if (sampler.isSampling(newSpan(TransactionId.of("agent", 1000L, i), "app"))) {
+                sampled++;
+            }
+        }
+        assertThat(sampled).isBetween(9_000, 11_000);
+    }
+
+    @Test
+    public void lowerRateIsSubset() {
+        Sampler<BasicSpan> high = newSampler("50", false);
+        Sampler<BasicSpan> low = newSampler("5", false);
+
+        for (long i = 0; i < 10_000; i++) {
+            SpanBo span = newSpan(TransactionId.of("agent", 1000L, i), "app");
+            if (low.isSampling(span)) {
+                assertThat(high.isSampling(span)).isTrue();
+            }
+        }
+    }
+
+    @Test
+    public void keepError() {
+        Sampler<BasicSpan> sampler = newSampler("0", true);
+
+        SpanBo span = newSpan(TransactionId.of("agent", 1000L, 1), "app");
+        assertThat(sampler.isSampling(span)).isFalse();
+
+        span.setErrCode(1);
+        assertThat(sampler.isSampling(span)).isTrue();
+
+        SpanChunkBo spanChunk = newSpanChunk(TransactionId.of("agent", 1000L, 1), "app");
+        assertThat(sampler.isSampling(spanChunk)).isFalse();
+
+        SpanEventBo spanEvent = new SpanEventBo();
+        spanEvent.setExceptionInfo(1, "error");
+        spanChunk.addSpanEventBoList(List.of(spanEvent));
+        assertThat(sampler.isSampling(spanChunk)).isTrue();
+    }
+
+    @Test
+    public void keepErrorDisabled() {
+        Sampler<BasicSpan> sampler = newSampler("0", false);
+
+        SpanBo span = newSpan(TransactionId.of("agent", 1000L, 1), "app");
+        span.setErrCode(1);
+        // the rest of the transaction is dropped, so its error span is dropped too
+        assertThat(sampler.isSampling(span)).isFalse();
+    }
+
+    private Sampler<BasicSpan> newSampler(String rate, boolean keepError) {
+        long samplingRate = PercentRateSampler.parseSamplingRateString(rate);
+        return new TransactionSampler(samplingRate, hashFunction, keepError, 0);
+    }
+
+    private SpanBo newSpan(TransactionId transactionId, String applicationId) {
+        SpanBo span = new SpanBo();
+        span.setTransactionId(transactionId);
+        span.setApplicationId(applicationId);
+        return span;
+    }
+
+    private SpanChunkBo newSpanChunk(TransactionId transactionId, String applicationId) {
+        SpanChunkBo spanChunk = new SpanChunkBo();
+        spanChunk.setTransactionId(transactionId);
+        spanChunk.setApplicationId(applicationId);
+        return spanChunk;
+    }
+}
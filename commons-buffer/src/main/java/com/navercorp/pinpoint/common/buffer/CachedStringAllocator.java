@@ -2,6 +2,7 @@ package com.navercorp.pinpoint.common.buffer;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 
@@ -22,7 +23,9 @@ public class CachedStringAllocator implements StringAllocator {
         }
 
         final String newString = StringAllocator.DEFAULT_ALLOCATOR.allocate(bytes, offset, length, charset);
-        cache.put(wrapByteBuffer, newString);
+        // copy the key so the cache does not pin the (possibly much larger) source array
+        final byte[] key = Arrays.copyOfRange(bytes, offset, offset + length);
+        cache.put(ByteBuffer.wrap(key), newString);
         return newString;
     }
 }
@@ -21,17 +21,21 @@ import java.util.Objects;
 /**
  * @author Taejin Koo
  */
-public class StringCacheableBuffer extends FixedBuffer {
+public class StringCacheableBuffer extends OffsetFixedBuffer {
 
     private final StringAllocator stringAllocator;
 
     public StringCacheableBuffer(byte[] buffer, StringAllocator stringAllocator) {
-        super(buffer);
+        this(buffer, 0, buffer.length, stringAllocator);
+    }
+
+    public StringCacheableBuffer(byte[] buffer, int startOffset, int length, StringAllocator stringAllocator) {
+        super(buffer, startOffset, length);
         this.stringAllocator = Objects.requireNonNull(stringAllocator, "stringAllocator");
     }
 
     protected String readString(final int size) {
-        Objects.checkFromIndexSize(offset, size, buffer.length);
+        Objects.checkFromIndexSize(offset, size, endOffset);
 
         String newValue = stringAllocator.allocate(buffer, offset, size, Buffer.UTF8_CHARSET);
         this.offset = offset + size;
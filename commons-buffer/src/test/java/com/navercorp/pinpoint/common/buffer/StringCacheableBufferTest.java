@@ -42,4 +42,26 @@ public class StringCacheableBufferTest {
 
         Assertions.assertThrows(IndexOutOfBoundsException.class, buffer::readPrefixedString);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void offsetBuffer() {
+
+        Buffer writer = new AutomaticBuffer();
+        writer.putPrefixedString("prefix");
+        writer.putPrefixedString("abc");
+        writer.putPrefixedString("abc");
+        writer.putPrefixedString("suffix");
+        byte[] bytes = writer.getBuffer();
+
+        StringAllocator allocator = new CachedStringAllocator(new LRUCache<>(2));
+
+        // "prefix" is 1 byte size + 6 bytes, the slice holds the two "abc"
+        Buffer buffer = new StringCacheableBuffer(bytes, 7, 8, allocator);
+        String s1 = buffer.readPrefixedString();
+        String s2 = buffer.readPrefixedString();
+
+        Assertions.assertEquals("abc", s1);
+        Assertions.assertSame(s1, s2);
+        Assertions.assertFalse(buffer.hasRemaining());
+    }
+}
@@ -117,6 +117,13 @@ public class HbaseColumnFamily {
         }
     }
 
+    public static final ApplicationHeatMap APPLICATION_HEATMAP_COUNTER = new ApplicationHeatMap(HbaseTable.APPLICATION_HEATMAP, Bytes.toBytes("C"));
+    public static class ApplicationHeatMap extends HbaseColumnFamily {
+        private ApplicationHeatMap(HbaseTable hBaseTable, byte[] columnFamilyName) {
+            super(hBaseTable, columnFamilyName);
+        }
+    }
+
     public static final HostStatMap HOST_APPLICATION_MAP_VER2_MAP = new HostStatMap(HbaseTable.HOST_APPLICATION_MAP_VER2, Bytes.toBytes("M"));
     public static class HostStatMap extends HbaseColumnFamily {
         private HostStatMap(HbaseTable hBaseTable, byte[] columnFamilyName) {
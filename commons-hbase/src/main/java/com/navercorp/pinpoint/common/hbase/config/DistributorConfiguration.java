@@ -80,6 +80,12 @@ public class DistributorConfiguration {
         return new RowKeyDistributorByHashPrefix(hasher);
     }
 
+    @Bean
+    public RowKeyDistributorByHashPrefix applicationHeatMapRowKeyDistributor() {
+        RowKeyDistributorByHashPrefix.Hasher hasher = newRangeOneByteSimpleHash(0, 32, 8);
+        return new RowKeyDistributorByHashPrefix(hasher);
+    }
+
     private RowKeyDistributorByHashPrefix.Hasher newRangeOneByteSimpleHash(int start, int end, int maxBuckets) {
         return new RangeOneByteSimpleHash(start, end, maxBuckets);
     }
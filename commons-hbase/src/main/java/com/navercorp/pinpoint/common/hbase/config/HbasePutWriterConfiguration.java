@@ -65,8 +65,9 @@ public class HbasePutWriterConfiguration {
 
         @Bean
         public HbasePutWriter spanPutWriter(@Qualifier("hbaseAsyncTableFactory") AsyncTableFactory asyncTableFactory,
-                                            @Qualifier("spanConcurrencyDecorator") HbasePutWriterDecorator decorator) {
-            HbasePutWriter putWriter = newPutWriter(asyncTableFactory, decorator);
+                                            @Qualifier("spanConcurrencyDecorator") HbasePutWriterDecorator decorator,
+                                            @Qualifier("walDecorator") Optional<HbasePutWriterDecorator> walDecorator) {
+            HbasePutWriter putWriter = wal(newPutWriter(asyncTableFactory, decorator), walDecorator);
             logger.info("hbaseSpanPutWriter {}", putWriter);
             return putWriter;
         }
@@ -123,8 +124,9 @@ public class HbasePutWriterConfiguration {
 
         @Bean
         public HbasePutWriter spanPutWriter(@Qualifier("hbaseAsyncBufferedMutatorFactory") AsyncBufferedMutatorFactory asyncTableFactory,
-                                            @Qualifier("spanConcurrencyDecorator") HbasePutWriterDecorator decorator) {
-            HbasePutWriter hbasePutWriter = newPutWriter(asyncTableFactory, decorator);
+                                            @Qualifier("spanConcurrencyDecorator") HbasePutWriterDecorator decorator,
+                                            @Qualifier("walDecorator") Optional<HbasePutWriterDecorator> walDecorator) {
+            HbasePutWriter hbasePutWriter = wal(newPutWriter(asyncTableFactory, decorator), walDecorator);
             logger.info("HbaseSpanPutWriter {}", hbasePutWriter);
             return hbasePutWriter;
         }
@@ -215,10 +217,11 @@ public class HbasePutWriterConfiguration {
         public HbasePutWriter spanPutWriter(@Qualifier("spanAsyncConnection") ConnectionSelector connection,
                                             @Qualifier("spanConcurrencyDecorator") HbasePutWriterDecorator decorator,
                                             @Qualifier("defaultPollerOption")
-                                            AsyncPollerOption option) {
+                                            AsyncPollerOption option,
+                                            @Qualifier("walDecorator") Optional<HbasePutWriterDecorator> walDecorator) {
 
             TableWriterFactory factory = new AsyncTableWriterSelectorFactory(connection);
-            HbasePutWriter hbasePutWriter = newPollerWriter("spanAsyncPoller-", factory, decorator, option);
+            HbasePutWriter hbasePutWriter = wal(newPollerWriter("spanAsyncPoller-", factory, decorator, option), walDecorator);
             logger.info("SpanPollerPutWriter {}", hbasePutWriter);
             return hbasePutWriter;
         }
@@ -238,4 +241,11 @@ public class HbasePutWriterConfiguration {
         }
     }
 
+    /**
+     * Wraps the outermost writer so that puts rejected by the inner decorators are also kept in the wal.
+     */
+    private static HbasePutWriter wal(HbasePutWriter putWriter, Optional<HbasePutWriterDecorator> walDecorator) {
+        return walDecorator.map(decorator -> decorator.decorator(putWriter))
+                .orElse(putWriter);
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase.config;
+
+import com.navercorp.pinpoint.common.hbase.async.HbaseAsyncTemplate;
+import com.navercorp.pinpoint.common.hbase.async.HbasePutWriterDecorator;
+import com.navercorp.pinpoint.common.hbase.wal.WalDecorator;
+import com.navercorp.pinpoint.common.hbase.wal.WalOption;
+import com.navercorp.pinpoint.common.hbase.wal.WalReplayer;
+import com.navercorp.pinpoint.common.hbase.wal.WriteAheadLog;
+import com.navercorp.pinpoint.common.profiler.concurrent.ExecutorFactory;
+import com.navercorp.pinpoint.common.profiler.concurrent.PinpointThreadFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Keeps span puts on local disk while hbase is unavailable
+ * and replays them once it recovers.
+ */
+@Configuration
+@ConditionalOnProperty(name = "hbase.client.wal.enable", havingValue = "true")
+public class HbaseWalConfiguration {
+    private final Logger logger = LogManager.getLogger(HbaseWalConfiguration.class);
+
+    public HbaseWalConfiguration() {
+        logger.info("Install {}", HbaseWalConfiguration.class.getSimpleName());
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "hbase.client.wal")
+    public WalOption walOption() {
+        return new WalOption();
+    }
+
+    @Bean(destroyMethod = "close")
+    public WriteAheadLog writeAheadLog(@Qualifier("walOption") WalOption option) throws IOException {
+        logger.info("{}", option);
+        return new WriteAheadLog(option);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public WalReplayer walReplayer(WriteAheadLog writeAheadLog,
+                                   @Qualifier("asyncTemplate") HbaseAsyncTemplate asyncTemplate,
+                                   @Qualifier("walOption") WalOption option) {
+        return new WalReplayer(writeAheadLog, asyncTemplate, option);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService walAppendExecutor() {
+        ThreadFactory threadFactory = new PinpointThreadFactory("Pinpoint-wal-append", true);
+        return ExecutorFactory.newFixedThreadPool(1, 1024 * 64, threadFactory);
+    }
+
+    @Bean
+    public HbasePutWriterDecorator walDecorator(WriteAheadLog writeAheadLog,
+                                                @Qualifier("walAppendExecutor") ExecutorService walAppendExecutor,
+                                                @Qualifier("walOption") WalOption option) {
+        return new WalDecorator(writeAheadLog, option.getWriteDeadlineMillis(), walAppendExecutor);
+    }
+}
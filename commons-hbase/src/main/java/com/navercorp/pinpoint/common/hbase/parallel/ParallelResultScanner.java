@@ -25,22 +25,30 @@ import org.apache.hadoop.hbase.client.ResultScanner;
 import org.apache.hadoop.hbase.client.Scan;
 import org.apache.hadoop.hbase.client.metrics.ScanMetrics;
 import org.apache.hadoop.hbase.util.Bytes;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author HyunGil Jeong
  */
 public class ParallelResultScanner implements ResultScanner {
 
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
     private final AbstractRowKeyDistributor keyDistributor;
     private final List<ScanTask> scanTasks;
-    private final Result[] nextResults;
+    // head result of each scan task, ordered by original row key
+    private final PriorityQueue<ScanResult> mergeQueue;
+    private boolean mergeQueueInitialized = false;
     private Result next = null;
 
     public ParallelResultScanner(TableName tableName, HbaseAccessor hbaseAccessor, ExecutorService executor, Scan originalScan, AbstractRowKeyDistributor keyDistributor, int numParallelThreads) throws IOException {
@@ -54,12 +62,18 @@ public class ParallelResultScanner implements ResultScanner {
         final Scan[] splitScans = ScanUtils.splitScans(originalScan, keyDistributor);
 
         this.scanTasks = createScanTasks(scanTaskConfig, splitScans, numParallelThreads);
-        this.nextResults = new Result[scanTasks.size()];
+        this.mergeQueue = new PriorityQueue<>(Math.max(1, scanTasks.size()));
         for (ScanTask scanTask : scanTasks) {
             executor.execute(scanTask);
         }
     }
 
+    ParallelResultScanner(AbstractRowKeyDistributor keyDistributor, List<ScanTask> scanTasks) {
+        this.keyDistributor = Objects.requireNonNull(keyDistributor, "keyDistributor");
+        this.scanTasks = Objects.requireNonNull(scanTasks, "scanTasks");
+        this.mergeQueue = new PriorityQueue<>(Math.max(1, scanTasks.size()));
+    }
+
 
     private List<ScanTask> createScanTasks(ScanTaskConfig scanTaskConfig, Scan[] splitScans, int numParallelThreads) {
         if (splitScans.length <= numParallelThreads) {
@@ -105,33 +119,44 @@ public class ParallelResultScanner implements ResultScanner {
     }
 
     private Result nextInternal() throws IOException {
-        Result result = null;
-        int indexOfResultToUse = -1;
-        for (int i = 0; i < this.scanTasks.size(); i++) {
-            ScanTask scanTask = this.scanTasks.get(i);
-            // fail fast in case of errors
-            checkTask(scanTask);
-            if (nextResults[i] == null) {
-                try {
-                    nextResults[i] = scanTask.getResult();
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    return null;
-                }
-                if (nextResults[i] == null) {
-                    continue;
+        try {
+            if (!mergeQueueInitialized) {
+                mergeQueueInitialized = true;
+                for (int i = 0; i < this.scanTasks.size(); i++) {
+                    offerNext(i, null);
                 }
             }
-            if (result == null || Bytes.compareTo(keyDistributor.getOriginalKey(nextResults[i].getRow()),
-                    keyDistributor.getOriginalKey(result.getRow())) < 0) {
-                result = nextResults[i];
-                indexOfResultToUse = i;
+            final ScanResult head = mergeQueue.poll();
+            if (head == null) {
+                return null;
             }
+            final Result result = head.result;
+            offerNext(head.taskIndex, head);
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private void offerNext(int taskIndex, ScanResult reuse) throws InterruptedException {
+        final ScanTask scanTask = this.scanTasks.get(taskIndex);
+        // fail fast in case of errors
+        checkTask(scanTask);
+        final Result result = scanTask.getResult();
+        if (result == null) {
+            checkTask(scanTask);
+            return;
         }
-        if (indexOfResultToUse >= 0) {
-            nextResults[indexOfResultToUse] = null;
+        // decode the original key once per row
+        final byte[] originalKey = keyDistributor.getOriginalKey(result.getRow());
+        if (reuse == null) {
+            mergeQueue.offer(new ScanResult(taskIndex, result, originalKey));
+        } else {
+            reuse.result = result;
+            reuse.originalKey = originalKey;
+            mergeQueue.offer(reuse);
         }
-        return result;
     }
 
     private void checkTask(ScanTask scanTask) {
@@ -162,6 +187,20 @@ public class ParallelResultScanner implements ResultScanner {
         for (ScanTask scanTask : this.scanTasks) {
             scanTask.close();
         }
+        if (logger.isDebugEnabled()) {
+            logger.debug("scan task wait time(ms):{}", getScanTaskWaitTimeMillis());
+        }
+    }
+
+    /**
+     * @return time spent waiting for each scan task, a slow partition shows up as the largest value
+     */
+    public List<Long> getScanTaskWaitTimeMillis() {
+        final List<Long> waitTimes = new ArrayList<>(scanTasks.size());
+        for (ScanTask scanTask : scanTasks) {
+            waitTimes.add(TimeUnit.NANOSECONDS.toMillis(scanTask.getWaitTimeNanos()));
+        }
+        return waitTimes;
     }
 
     public boolean renewLease() {
@@ -217,4 +256,25 @@ public class ParallelResultScanner implements ResultScanner {
             }
         };
     }
+
+    private static class ScanResult implements Comparable<ScanResult> {
+        private final int taskIndex;
+        private Result result;
+        private byte[] originalKey;
+
+        private ScanResult(int taskIndex, Result result, byte[] originalKey) {
+            this.taskIndex = taskIndex;
+            this.result = result;
+            this.originalKey = originalKey;
+        }
+
+        @Override
+        public int compareTo(ScanResult other) {
+            final int compare = Bytes.compareTo(this.originalKey, other.originalKey);
+            if (compare != 0) {
+                return compare;
+            }
+            return Integer.compare(this.taskIndex, other.taskIndex);
+        }
+    }
 }
@@ -27,7 +27,9 @@ import org.apache.hadoop.hbase.client.Table;
 import org.springframework.util.Assert;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 
@@ -45,6 +47,13 @@ public class ScanTask implements Runnable {
     private final Scan[] scans;
     private final BlockingQueue<Result> resultQueue;
 
+    // consumer thread only
+    private final Queue<Result> prefetchBuffer = new ArrayDeque<>();
+    private final int maxPrefetchSize;
+    private int prefetchSize = 1;
+    private long waitTimeNanos;
+    private long waitCount;
+
     private volatile Throwable throwable;
     private volatile boolean isQueueClosed = false;
     private volatile boolean isDone = false;
@@ -57,6 +66,7 @@ public class ScanTask implements Runnable {
         this.rowKeyDistributor = scanTaskConfig.getRowKeyDistributor();
         this.scans = scans;
         this.resultQueue = new ArrayBlockingQueue<>(scanTaskConfig.getScanTaskQueueSize());
+        this.maxPrefetchSize = scanTaskConfig.getScanTaskQueueSize();
     }
 
     @Override
@@ -104,16 +114,62 @@ public class ScanTask implements Runnable {
         if (this.isQueueClosed) {
             return null;
         }
-        Result take = this.resultQueue.take();
-        if (take == END_RESULT) {
+        Result result = this.prefetchBuffer.poll();
+        if (result == null) {
+            result = take();
+            if (result != END_RESULT) {
+                prefetch();
+            }
+        }
+        if (result == END_RESULT) {
             this.isQueueClosed = true;
+            this.prefetchBuffer.clear();
             return null;
         }
-        return take;
+        return result;
+    }
+
+    private Result take() throws InterruptedException {
+        final Result result = this.resultQueue.poll();
+        if (result != null) {
+            return result;
+        }
+        final long startTime = System.nanoTime();
+        try {
+            return this.resultQueue.take();
+        } finally {
+            this.waitTimeNanos += System.nanoTime() - startTime;
+            this.waitCount++;
+        }
+    }
+
+    /**
+     * Moves the results the scanner thread is ahead by into the local buffer with a single lock acquisition.
+     * The batch grows while the queue keeps it full and shrinks while the consumer is faster.
+     */
+    private void prefetch() {
+        final int drained = this.resultQueue.drainTo(this.prefetchBuffer, this.prefetchSize);
+        if (drained == this.prefetchSize) {
+            this.prefetchSize = Math.min(this.prefetchSize * 2, this.maxPrefetchSize);
+        } else if (drained < this.prefetchSize / 2) {
+            this.prefetchSize = Math.max(this.prefetchSize / 2, 1);
+        }
+    }
+
+    /**
+     * @return time the consumer was blocked waiting for this task
+     */
+    public long getWaitTimeNanos() {
+        return waitTimeNanos;
+    }
+
+    public long getWaitCount() {
+        return waitCount;
     }
 
     public void close() {
         this.isDone = true;
+        this.prefetchBuffer.clear();
         // signal threads blocked on resultQueue
         this.resultQueue.clear();
         this.resultQueue.add(END_RESULT);
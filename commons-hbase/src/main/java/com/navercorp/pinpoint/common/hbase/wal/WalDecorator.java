@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase.wal;
+
+import com.navercorp.pinpoint.common.hbase.async.HbasePutWriter;
+import com.navercorp.pinpoint.common.hbase.async.HbasePutWriterDecorator;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+public class WalDecorator implements HbasePutWriterDecorator {
+    private final WriteAheadLog writeAheadLog;
+    private final long writeDeadlineMillis;
+    private final Executor walExecutor;
+
+    public WalDecorator(WriteAheadLog writeAheadLog, long writeDeadlineMillis, Executor walExecutor) {
+        this.writeAheadLog = Objects.requireNonNull(writeAheadLog, "writeAheadLog");
+        this.writeDeadlineMillis = writeDeadlineMillis;
+        this.walExecutor = Objects.requireNonNull(walExecutor, "walExecutor");
+    }
+
+    @Override
+    public HbasePutWriter decorator(HbasePutWriter hbasePutWriter) {
+        return new WalHbasePutWriter(hbasePutWriter, writeAheadLog, writeDeadlineMillis, walExecutor);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase.wal;
+
+import com.navercorp.pinpoint.common.hbase.async.HbasePutWriter;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Put;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Puts that fail or are not acknowledged within the deadline are appended to the {@link WriteAheadLog}.
+ * The returned future completes normally once the put is either written to hbase or to the wal.
+ */
+public class WalHbasePutWriter implements HbasePutWriter {
+
+    private final HbasePutWriter delegate;
+    private final WriteAheadLog writeAheadLog;
+    private final long writeDeadlineMillis;
+    private final Executor walExecutor;
+
+    public WalHbasePutWriter(HbasePutWriter delegate, WriteAheadLog writeAheadLog, long writeDeadlineMillis, Executor walExecutor) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.writeAheadLog = Objects.requireNonNull(writeAheadLog, "writeAheadLog");
+        this.writeDeadlineMillis = writeDeadlineMillis;
+        this.walExecutor = Objects.requireNonNull(walExecutor, "walExecutor");
+    }
+
+    @Override
+    public CompletableFuture<Void> put(TableName tableName, Put put) {
+        final CompletableFuture<Void> future;
+        try {
+            future = delegate.put(tableName, put);
+        } catch (RuntimeException e) {
+            return appendNow(tableName, put, e);
+        }
+        return withWal(tableName, put, future);
+    }
+
+    @Override
+    public List<CompletableFuture<Void>> put(TableName tableName, List<Put> puts) {
+        final List<CompletableFuture<Void>> futures;
+        try {
+            futures = delegate.put(tableName, puts);
+        } catch (RuntimeException e) {
+            final List<CompletableFuture<Void>> results = new ArrayList<>(puts.size());
+            for (Put put : puts) {
+                results.add(appendNow(tableName, put, e));
+            }
+            return results;
+        }
+        if (futures == null) {
+            return null;
+        }
+        final List<CompletableFuture<Void>> results = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            results.add(withWal(tableName, puts.get(i), futures.get(i)));
+        }
+        return results;
+    }
+
+    private CompletableFuture<Void> withWal(TableName tableName, Put put, CompletableFuture<Void> future) {
+        return future.copy()
+                .orTimeout(writeDeadlineMillis, TimeUnit.MILLISECONDS)
+                .exceptionallyAsync(throwable -> {
+                    append(tableName, put, throwable);
+                    return null;
+                }, walExecutor);
+    }
+
+    private CompletableFuture<Void> appendNow(TableName tableName, Put put, Throwable cause) {
+        try {
+            append(tableName, put, cause);
+            return CompletableFuture.completedFuture(null);
+        } catch (CompletionException e) {
+            return CompletableFuture.failedFuture(e.getCause());
+        }
+    }
+
+    private void append(TableName tableName, Put put, Throwable cause) {
+        if (!writeAheadLog.append(new WalRecord(tableName, put))) {
+            throw new CompletionException(cause);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "WalHbasePutWriter{" +
+                "delegate=" + delegate +
+                ", writeAheadLog=" + writeAheadLog +
+                ", writeDeadlineMillis=" + writeDeadlineMillis +
+                '}';
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase.wal;
+
+/**
+ * hbase.client.wal.*
+ */
+public class WalOption {
+
+    private String directory = "./pinpoint-collector-wal";
+
+    // writes not acknowledged by hbase within the deadline are appended to the wal
+    private long writeDeadlineMillis = 1500;
+
+    private long segmentSize = 64 * 1024 * 1024;
+    private long maxTotalSize = 4L * 1024 * 1024 * 1024;
+
+    private long replayIntervalMillis = 5000;
+    private int replayBatchSize = 100;
+    // records per second
+    private double replayRateLimit = 2000;
+    private long replayTimeoutMillis = 10000;
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public long getWriteDeadlineMillis() {
+        return writeDeadlineMillis;
+    }
+
+    public void setWriteDeadlineMillis(long writeDeadlineMillis) {
+        this.writeDeadlineMillis = writeDeadlineMillis;
+    }
+
+    public long getSegmentSize() {
+        return segmentSize;
+    }
+
+    public void setSegmentSize(long segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    public long getMaxTotalSize() {
+        return maxTotalSize;
+    }
+
+    public void setMaxTotalSize(long maxTotalSize) {
+        this.maxTotalSize = maxTotalSize;
+    }
+
+    public long getReplayIntervalMillis() {
+        return replayIntervalMillis;
+    }
+
+    public void setReplayIntervalMillis(long replayIntervalMillis) {
+        this.replayIntervalMillis = replayIntervalMillis;
+    }
+
+    public int getReplayBatchSize() {
+        return replayBatchSize;
+    }
+
+    public void setReplayBatchSize(int replayBatchSize) {
+        this.replayBatchSize = replayBatchSize;
+    }
+
+    public double getReplayRateLimit() {
+        return replayRateLimit;
+    }
+
+    public void setReplayRateLimit(double replayRateLimit) {
+        this.replayRateLimit = replayRateLimit;
+    }
+
+    public long getReplayTimeoutMillis() {
+        return replayTimeoutMillis;
+    }
+
+    public void setReplayTimeoutMillis(long replayTimeoutMillis) {
+        this.replayTimeoutMillis = replayTimeoutMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "WalOption{" +
+                "directory='" + directory + '\'' +
+                ", writeDeadlineMillis=" + writeDeadlineMillis +
+                ", segmentSize=" + segmentSize +
+                ", maxTotalSize=" + maxTotalSize +
+                ", replayIntervalMillis=" + replayIntervalMillis +
+                ", replayBatchSize=" + replayBatchSize +
+                ", replayRateLimit=" + replayRateLimit +
+                ", replayTimeoutMillis=" + replayTimeoutMillis +
+                '}';
+    }
+}
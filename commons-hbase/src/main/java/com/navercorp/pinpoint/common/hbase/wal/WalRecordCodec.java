@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase.wal;
+
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Durability;
+import org.apache.hadoop.hbase.client.Put;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <pre>
+ * type(1) | tableName(utf) | row | timestamp(8) | durability(1) | cellCount(4) | (family | qualifier | timestamp(8) | value) * cellCount
+ * </pre>
+ * byte arrays are int length prefixed.
+ */
+public class WalRecordCodec {
+
+    private static final byte TYPE_PUT = 1;
+
+    public byte[] encode(WalRecord record) {
+        final Put put = record.put();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(TYPE_PUT);
+            out.writeUTF(record.tableName().getNameAsString());
+            writeBytes(out, put.getRow());
+            out.writeLong(put.getTimestamp());
+            out.writeByte(put.getDurability().ordinal());
+
+            final Map<byte[], List<Cell>> familyCellMap = put.getFamilyCellMap();
+            int cellCount = 0;
+            for (List<Cell> cells : familyCellMap.values()) {
+                cellCount += cells.size();
+            }
+            out.writeInt(cellCount);
+            for (List<Cell> cells : familyCellMap.values()) {
+                for (Cell cell : cells) {
+                    writeBytes(out, CellUtil.cloneFamily(cell));
+                    writeBytes(out, CellUtil.cloneQualifier(cell));
+                    out.writeLong(cell.getTimestamp());
+                    writeBytes(out, CellUtil.cloneValue(cell));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public WalRecord decode(byte[] payload) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            final byte type = in.readByte();
+            if (type != TYPE_PUT) {
+                throw new IOException("unknown record type:" + type);
+            }
+            final TableName tableName = TableName.valueOf(in.readUTF());
+            final byte[] row = readBytes(in);
+            final long timestamp = in.readLong();
+            final Durability durability = Durability.values()[in.readByte()];
+
+            final Put put = new Put(row, timestamp);
+            put.setDurability(durability);
+
+            final int cellCount = in.readInt();
+            for (int i = 0; i < cellCount; i++) {
+                final byte[] family = readBytes(in);
+                final byte[] qualifier = readBytes(in);
+                final long cellTimestamp = in.readLong();
+                final byte[] value = readBytes(in);
+                put.addColumn(family, qualifier, cellTimestamp, value);
+            }
+            return new WalRecord(tableName, put);
+        }
+    }
+
+    private void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private byte[] readBytes(DataInputStream in) throws IOException {
+        final int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("invalid length:" + length);
+        }
+        final byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase.wal;
+
+import com.google.common.util.concurrent.RateLimiter;
+import com.navercorp.pinpoint.common.hbase.async.AsyncHbaseOperations;
+import com.navercorp.pinpoint.common.profiler.concurrent.PinpointThreadFactory;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Replays {@link WriteAheadLog} segments in order once hbase accepts writes again.
+ * A segment is deleted only after all of its records are acknowledged.
+ * Replay is at-least-once: a batch that timed out is written again on the next attempt.
+ */
+public class WalReplayer implements Closeable {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final WriteAheadLog writeAheadLog;
+    private final AsyncHbaseOperations hbaseOperations;
+
+    private final int batchSize;
+    private final long replayIntervalMillis;
+    private final long replayTimeoutMillis;
+    private final RateLimiter rateLimiter;
+
+    private final ScheduledExecutorService scheduler;
+
+    // replay thread only
+    private final Map<Path, Long> replayPosition = new HashMap<>();
+
+    private final LongAdder replayCount = new LongAdder();
+    private final LongAdder replayFailCount = new LongAdder();
+
+    public WalReplayer(WriteAheadLog writeAheadLog, AsyncHbaseOperations hbaseOperations, WalOption option) {
+        this.writeAheadLog = Objects.requireNonNull(writeAheadLog, "writeAheadLog");
+        this.hbaseOperations = Objects.requireNonNull(hbaseOperations, "hbaseOperations");
+        Objects.requireNonNull(option, "option");
+
+        this.batchSize = Math.max(1, option.getReplayBatchSize());
+        this.replayIntervalMillis = option.getReplayIntervalMillis();
+        this.replayTimeoutMillis = option.getReplayTimeoutMillis();
+        this.rateLimiter = RateLimiter.create(option.getReplayRateLimit());
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new PinpointThreadFactory("Pinpoint-wal-replayer", true));
+    }
+
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::replaySafe, replayIntervalMillis, replayIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void replaySafe() {
+        try {
+            replay();
+        } catch (Throwable th) {
+            logger.warn("wal replay error", th);
+        }
+    }
+
+    /**
+     * @return true if every segment was replayed
+     */
+    boolean replay() throws IOException {
+        writeAheadLog.sync();
+
+        final List<Path> segments = writeAheadLog.rollAndGetSegments();
+        for (Path segment : segments) {
+            if (!replaySegment(segment)) {
+                return false;
+            }
+            writeAheadLog.delete(segment);
+            replayPosition.remove(segment);
+            logger.info("wal segment replayed. segment:{}", segment);
+        }
+        return true;
+    }
+
+    private boolean replaySegment(Path segment) throws IOException {
+        final long position = replayPosition.getOrDefault(segment, 0L);
+        try (WalSegmentReader reader = new WalSegmentReader(segment, position, writeAheadLog.getCodec())) {
+            final List<WalRecord> batch = new ArrayList<>(batchSize);
+            WalRecord record;
+            while ((record = reader.next()) != null) {
+                batch.add(record);
+                if (batch.size() >= batchSize) {
+                    if (!write(batch)) {
+                        return false;
+                    }
+                    replayPosition.put(segment, reader.position());
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                return write(batch);
+            }
+            return true;
+        }
+    }
+
+    private boolean write(List<WalRecord> batch) {
+        rateLimiter.acquire(batch.size());
+
+        final Map<TableName, List<Put>> puts = new LinkedHashMap<>();
+        for (WalRecord record : batch) {
+            puts.computeIfAbsent(record.tableName(), k -> new ArrayList<>()).add(record.put());
+        }
+
+        final List<CompletableFuture<?>> futures = new ArrayList<>(batch.size());
+        try {
+            for (Map.Entry<TableName, List<Put>> entry : puts.entrySet()) {
+                futures.addAll(hbaseOperations.put(entry.getKey(), entry.getValue()));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(replayTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            replayFailCount.increment();
+            return false;
+        } catch (ExecutionException | TimeoutException | RuntimeException e) {
+            replayFailCount.increment();
+            logger.info("wal replay deferred. hbase not ready. cause:{}", e.getMessage());
+            return false;
+        }
+        replayCount.add(batch.size());
+        return true;
+    }
+
+    public long getReplayCount() {
+        return replayCount.sum();
+    }
+
+    public long getReplayFailCount() {
+        return replayFailCount.sum();
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(3000, TimeUnit.MILLISECONDS)) {
+                scheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
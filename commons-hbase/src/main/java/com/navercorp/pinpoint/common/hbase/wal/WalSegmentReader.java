@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase.wal;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Reads records of a single segment. A torn or corrupted record ends the segment.
+ */
+public class WalSegmentReader implements Closeable {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final Path segment;
+    private final FileChannel channel;
+    private final WalRecordCodec codec;
+    private long position;
+
+    public WalSegmentReader(Path segment, long position, WalRecordCodec codec) throws IOException {
+        this.segment = Objects.requireNonNull(segment, "segment");
+        this.codec = Objects.requireNonNull(codec, "codec");
+        this.channel = FileChannel.open(segment, StandardOpenOption.READ);
+        this.position = position;
+    }
+
+    /**
+     * @return null at the end of the segment
+     */
+    public WalRecord next() throws IOException {
+        final long fileSize = channel.size();
+        if (position + WriteAheadLog.RECORD_HEADER_SIZE > fileSize) {
+            return null;
+        }
+        final ByteBuffer header = ByteBuffer.allocate(WriteAheadLog.RECORD_HEADER_SIZE);
+        readFully(header, position);
+        header.flip();
+        final int length = header.getInt();
+        final int checksum = header.getInt();
+
+        final long payloadPosition = position + WriteAheadLog.RECORD_HEADER_SIZE;
+        if (length <= 0 || payloadPosition + length > fileSize) {
+            logger.warn("truncated wal record. segment:{} position:{} length:{}", segment, position, length);
+            return null;
+        }
+        final ByteBuffer payload = ByteBuffer.allocate(length);
+        readFully(payload, payloadPosition);
+        final byte[] bytes = payload.array();
+        if (WriteAheadLog.checksum(bytes) != checksum) {
+            logger.warn("wal checksum mismatch. segment:{} position:{}", segment, position);
+            return null;
+        }
+
+        this.position = payloadPosition + length;
+        return codec.decode(bytes);
+    }
+
+    private void readFully(ByteBuffer buffer, long offset) throws IOException {
+        long readPosition = offset;
+        while (buffer.hasRemaining()) {
+            final int read = channel.read(buffer, readPosition);
+            if (read < 0) {
+                throw new IOException("unexpected end of segment:" + segment);
+            }
+            readPosition += read;
+        }
+    }
+
+    public long position() {
+        return position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
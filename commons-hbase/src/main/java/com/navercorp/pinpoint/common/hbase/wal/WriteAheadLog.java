@@ -0,0 +1,286 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase.wal;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Segmented, checksummed local log of hbase mutations.
+ * <pre>
+ * segment : wal-{sequence}.log
+ * record  : length(4) | crc32(4) | payload(length)
+ * </pre>
+ * Segments are replayed and deleted in sequence order by {@link WalReplayer}.
+ * Appends are written to the page cache; segments are fsync'ed on roll and by {@link #sync()}.
+ */
+public class WriteAheadLog implements Closeable {
+
+    static final int RECORD_HEADER_SIZE = 8;
+
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final Path directory;
+    private final long segmentSize;
+    private final long maxTotalSize;
+    private final WalRecordCodec codec = new WalRecordCodec();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<Path> closedSegments = new ArrayList<>();
+    private Segment active;
+    private long nextSequence;
+    private long totalBytes;
+
+    private final LongAdder appendCount = new LongAdder();
+    private final LongAdder dropCount = new LongAdder();
+
+    public WriteAheadLog(WalOption option) throws IOException {
+        Objects.requireNonNull(option, "option");
+        this.directory = Paths.get(option.getDirectory()).toAbsolutePath();
+        this.segmentSize = option.getSegmentSize();
+        this.maxTotalSize = option.getMaxTotalSize();
+
+        Files.createDirectories(directory);
+        recover();
+    }
+
+    private void recover() throws IOException {
+        final List<Path> segments = listSegments();
+        long lastSequence = 0;
+        for (Path segment : segments) {
+            this.totalBytes += Files.size(segment);
+            lastSequence = Math.max(lastSequence, parseSequence(segment));
+        }
+        this.closedSegments.addAll(segments);
+        this.nextSequence = lastSequence + 1;
+        if (!segments.isEmpty()) {
+            logger.info("recovered wal segments:{} bytes:{} directory:{}", segments.size(), totalBytes, directory);
+        }
+    }
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(WriteAheadLog::isSegment)
+                    .sorted((p1, p2) -> Long.compare(parseSequence(p1), parseSequence(p2)))
+                    .toList();
+        }
+    }
+
+    private static boolean isSegment(Path path) {
+        final String fileName = path.getFileName().toString();
+        return fileName.startsWith(SEGMENT_PREFIX) && fileName.endsWith(SEGMENT_SUFFIX);
+    }
+
+    static long parseSequence(Path segment) {
+        final String fileName = segment.getFileName().toString();
+        return Long.parseLong(fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private Path segmentPath(long sequence) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+    }
+
+    /**
+     * @return false if the record was dropped (disk budget exceeded or io error)
+     */
+    public boolean append(WalRecord record) {
+        final byte[] payload = codec.encode(record);
+        final int recordSize = RECORD_HEADER_SIZE + payload.length;
+
+        final ByteBuffer buffer = ByteBuffer.allocate(recordSize);
+        buffer.putInt(payload.length);
+        buffer.putInt(checksum(payload));
+        buffer.put(payload);
+        buffer.flip();
+
+        lock.lock();
+        try {
+            if (totalBytes + recordSize > maxTotalSize) {
+                dropCount.increment();
+                return false;
+            }
+            try {
+                if (active != null && active.size > 0 && active.size + recordSize > segmentSize) {
+                    roll();
+                }
+                if (active == null) {
+                    active = openSegment(nextSequence++);
+                }
+                while (buffer.hasRemaining()) {
+                    active.channel.write(buffer);
+                }
+                active.size += recordSize;
+                totalBytes += recordSize;
+            } catch (IOException e) {
+                logger.warn("wal append failed. segment:{}", active, e);
+                dropCount.increment();
+                return false;
+            }
+        } finally {
+            lock.unlock();
+        }
+        appendCount.increment();
+        return true;
+    }
+
+    static int checksum(byte[] payload) {
+        final CRC32 crc32 = new CRC32();
+        crc32.update(payload);
+        return (int) crc32.getValue();
+    }
+
+    private Segment openSegment(long sequence) throws IOException {
+        final Path path = segmentPath(sequence);
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        return new Segment(path, channel);
+    }
+
+    private void roll() throws IOException {
+        final Segment segment = this.active;
+        this.active = null;
+        try (FileChannel channel = segment.channel) {
+            channel.force(false);
+        }
+        closedSegments.add(segment.path);
+    }
+
+    /**
+     * Closes the active segment and returns every segment that can be replayed, oldest first.
+     */
+    public List<Path> rollAndGetSegments() throws IOException {
+        lock.lock();
+        try {
+            if (active != null && active.size > 0) {
+                roll();
+            }
+            return new ArrayList<>(closedSegments);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void sync() throws IOException {
+        lock.lock();
+        try {
+            if (active != null) {
+                active.channel.force(false);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void delete(Path segment) throws IOException {
+        lock.lock();
+        try {
+            if (!closedSegments.remove(segment)) {
+                return;
+            }
+            final long size = Files.size(segment);
+            Files.deleteIfExists(segment);
+            totalBytes -= size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getAppendCount() {
+        return appendCount.sum();
+    }
+
+    public long getDropCount() {
+        return dropCount.sum();
+    }
+
+    public long getTotalBytes() {
+        lock.lock();
+        try {
+            return totalBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getSegmentCount() {
+        lock.lock();
+        try {
+            return closedSegments.size() + (active != null ? 1 : 0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    WalRecordCodec getCodec() {
+        return codec;
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (active != null) {
+                roll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static class Segment {
+        private final Path path;
+        private final FileChannel channel;
+        private long size;
+
+        private Segment(Path path, FileChannel channel) {
+            this.path = path;
+            this.channel = channel;
+        }
+
+        @Override
+        public String toString() {
+            return path + "(" + size + ")";
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "WriteAheadLog{" +
+                "directory=" + directory +
+                ", segmentSize=" + segmentSize +
+                ", maxTotalSize=" + maxTotalSize +
+                '}';
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase.parallel;
+
+import com.navercorp.pinpoint.common.hbase.TableFactory;
+import com.sematext.hbase.wd.AbstractRowKeyDistributor;
+import com.sematext.hbase.wd.RowKeyDistributorByHashPrefix;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ParallelResultScannerTest {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private static final TableName TABLE = TableName.valueOf("test");
+    private static final byte[] FAMILY = Bytes.toBytes("F");
+    private static final int PARTITIONS = 32;
+
+    private final AbstractRowKeyDistributor distributor = new RowKeyDistributorByHashPrefix(new RowKeyDistributorByHashPrefix.OneByteSimpleHash(PARTITIONS));
+    private final ExecutorService executor = Executors.newFixedThreadPool(PARTITIONS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void mergeInOriginalKeyOrder() throws IOException {
+        final int rows = 5000;
+        List<ScanTask> scanTasks = new ArrayList<>();
+        for (List<Result> partition : partitions(rows).values()) {
+            scanTasks.add(newScanTask(partition, 16));
+        }
+        scanTasks.forEach(executor::execute);
+
+        List<String> keys = new ArrayList<>();
+        try (ParallelResultScanner scanner = new ParallelResultScanner(distributor, scanTasks)) {
+            for (Result result : scanner) {
+                keys.add(Bytes.toString(distributor.getOriginalKey(result.getRow())));
+            }
+            assertThat(scanner.getScanTaskWaitTimeMillis()).hasSize(scanTasks.size());
+        }
+
+        assertThat(keys).hasSize(rows);
+        assertThat(keys).isSorted();
+    }
+
+    @Test
+    void failFast() throws IOException {
+        List<ScanTask> scanTasks = new ArrayList<>();
+        scanTasks.add(newScanTask(List.of(newResult("a")), 4));
+
+        TableFactory failFactory = mock(TableFactory.class);
+        when(failFactory.getTable(TABLE)).thenThrow(new IllegalStateException("scan failed"));
+        scanTasks.add(new ScanTask(new ScanTaskConfig(TABLE, null, null, failFactory, distributor, 4), new Scan()));
+        scanTasks.forEach(executor::execute);
+
+        try (ParallelResultScanner scanner = new ParallelResultScanner(distributor, scanTasks)) {
+            assertThatThrownBy(() -> {
+                while (scanner.next() != null) {
+                    // drain
+                }
+            }).isInstanceOf(ScanTaskException.class);
+        }
+    }
+
+    @Disabled("benchmark")
+    @Test
+    void benchmark_merge() throws Exception {
+        Map<Byte, List<Result>> partitions = partitions(200_000);
+        for (int round = 0; round < 3; round++) {
+            measure("linear", partitions, scanTasks -> {
+                LinearMerge merge = new LinearMerge(distributor, scanTasks);
+                int count = 0;
+                while (merge.next() != null) {
+                    count++;
+                }
+                scanTasks.forEach(ScanTask::close);
+                return count;
+            });
+            measure("heap", partitions, scanTasks -> {
+                int count = 0;
+                try (ParallelResultScanner scanner = new ParallelResultScanner(distributor, scanTasks)) {
+                    while (scanner.next() != null) {
+                        count++;
+                    }
+                }
+                return count;
+            });
+        }
+    }
+
+    private void measure(String name, Map<Byte, List<Result>> partitions, Merge merge) throws Exception {
+        List<ScanTask> scanTasks = new ArrayList<>();
+        for (List<Result> partition : partitions.values()) {
+            scanTasks.add(newScanTask(partition, 64));
+        }
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long startAllocated = threadMXBean.getThreadAllocatedBytes(threadId);
+        long startTime = System.nanoTime();
+        scanTasks.forEach(executor::execute);
+        int rows = merge.merge(scanTasks);
+        long elapsed = System.nanoTime() - startTime;
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - startAllocated;
+        logger.info("{} partitions:{} rows:{} elapsed:{}ms allocated:{}B/row",
+                name, scanTasks.size(), rows, elapsed / 1_000_000, allocated / rows);
+    }
+
+    private interface Merge {
+        int merge(List<ScanTask> scanTasks) throws Exception;
+    }
+
+    /**
+     * merge of the previous implementation: compares the head of every scan task, decoding their keys, for each row
+     */
+    private static class LinearMerge {
+        private final AbstractRowKeyDistributor keyDistributor;
+        private final List<ScanTask> scanTasks;
+        private final Result[] nextResults;
+
+        LinearMerge(AbstractRowKeyDistributor keyDistributor, List<ScanTask> scanTasks) {
+            this.keyDistributor = keyDistributor;
+            this.scanTasks = scanTasks;
+            this.nextResults = new Result[scanTasks.size()];
+        }
+
+        Result next() throws InterruptedException {
+            Result result = null;
+            int indexOfResultToUse = -1;
+            for (int i = 0; i < scanTasks.size(); i++) {
+                if (nextResults[i] == null) {
+                    nextResults[i] = scanTasks.get(i).getResult();
+                    if (nextResults[i] == null) {
+                        continue;
+                    }
+                }
+                if (result == null || Bytes.compareTo(keyDistributor.getOriginalKey(nextResults[i].getRow()),
+                        keyDistributor.getOriginalKey(result.getRow())) < 0) {
+                    result = nextResults[i];
+                    indexOfResultToUse = i;
+                }
+            }
+            if (indexOfResultToUse >= 0) {
+                nextResults[indexOfResultToUse] = null;
+            }
+            return result;
+        }
+    }
+
+    private Map<Byte, List<Result>> partitions(int rows) {
+        Map<Byte, List<Result>> partitions = new TreeMap<>();
+        List<Result> results = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            results.add(newResult(String.format("row-%08d", i)));
+        }
+        // hbase returns rows of a partition in distributed key order
+        results.sort((r1, r2) -> Bytes.compareTo(r1.getRow(), r2.getRow()));
+        for (Result result : results) {
+            partitions.computeIfAbsent(result.getRow()[0], k -> new ArrayList<>()).add(result);
+        }
+        return partitions;
+    }
+
+    private Result newResult(String originalKey) {
+        byte[] row = distributor.getDistributedKey(Bytes.toBytes(originalKey));
+        KeyValue keyValue = new KeyValue(row, FAMILY, Bytes.toBytes("q"), Bytes.toBytes(originalKey));
+        return Result.create(List.of(keyValue));
+    }
+
+    private ScanTask newScanTask(List<Result> results, int queueSize) throws IOException {
+        ResultScanner resultScanner = mock(ResultScanner.class);
+        when(resultScanner.iterator()).thenReturn(results.iterator());
+
+        Table table = mock(Table.class);
+        when(table.getScanner(any(Scan.class))).thenReturn(resultScanner);
+
+        TableFactory tableFactory = mock(TableFactory.class);
+        when(tableFactory.getTable(TABLE)).thenReturn(table);
+
+        ScanTaskConfig config = new ScanTaskConfig(TABLE, null, null, tableFactory, distributor, queueSize);
+        return new ScanTask(config, new Scan());
+    }
+}
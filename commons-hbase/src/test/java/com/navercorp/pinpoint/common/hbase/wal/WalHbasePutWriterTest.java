@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.common.hbase.wal;
+
+import com.navercorp.pinpoint.common.hbase.async.HbasePutWriter;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WalHbasePutWriterTest {
+
+    private static final TableName TABLE = TableName.valueOf("pinpoint", "TraceV2");
+    private static final byte[] FAMILY = Bytes.toBytes("S");
+    private static final long DEADLINE_MILLIS = 100;
+
+    @TempDir
+    Path directory;
+
+    private ExecutorService walExecutor;
+
+    @BeforeEach
+    void setUp() {
+        walExecutor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        walExecutor.shutdownNow();
+    }
+
+    @Test
+    void put_acknowledged() throws Exception {
+        HbasePutWriter delegate = mock(HbasePutWriter.class);
+        when(delegate.put(any(TableName.class), any(Put.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        try (WriteAheadLog wal = new WriteAheadLog(newOption())) {
+            WalHbasePutWriter writer = new WalHbasePutWriter(delegate, wal, DEADLINE_MILLIS, walExecutor);
+
+            writer.put(TABLE, newPut(0)).get(3, TimeUnit.SECONDS);
+
+            assertThat(wal.getAppendCount()).isZero();
+        }
+    }
+
+    @Test
+    void put_deadlineExceeded() throws Exception {
+        HbasePutWriter delegate = mock(HbasePutWriter.class);
+        // hbase never answers
+        when(delegate.put(any(TableName.class), any(Put.class))).thenReturn(new CompletableFuture<>());
+
+        try (WriteAheadLog wal = new WriteAheadLog(newOption())) {
+            WalHbasePutWriter writer = new WalHbasePutWriter(delegate, wal, DEADLINE_MILLIS, walExecutor);
+
+            CompletableFuture<Void> future = writer.put(TABLE, newPut(0));
+            future.get(3, TimeUnit.SECONDS);
+
+            assertThat(future).isCompleted();
+            assertThat(wal.getAppendCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void put_failed() throws Exception {
+        HbasePutWriter delegate = mock(HbasePutWriter.class);
+        when(delegate.put(any(TableName.class), anyList())).thenAnswer(invocation -> {
+            List<Put> puts = invocation.getArgument(1);
+            return puts.stream()
+                    .map(put -> CompletableFuture.<Void>failedFuture(new IOException("hbase down")))
+                    .toList();
+        });
+
+        try (WriteAheadLog wal = new WriteAheadLog(newOption())) {
+            WalHbasePutWriter writer = new WalHbasePutWriter(delegate, wal, DEADLINE_MILLIS, walExecutor);
+
+            List<CompletableFuture<Void>> futures = writer.put(TABLE, List.of(newPut(0), newPut(1)));
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(3, TimeUnit.SECONDS);
+
+            assertThat(wal.getAppendCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void put_walFull() throws Exception {
+        HbasePutWriter delegate = mock(HbasePutWriter.class);
+        when(delegate.put(any(TableName.class), any(Put.class))).thenReturn(new CompletableFuture<>());
+
+        WalOption option = newOption();
+        option.setMaxTotalSize(1);
+        try (WriteAheadLog wal = new WriteAheadLog(option)) {
+            WalHbasePutWriter writer = new WalHbasePutWriter(delegate, wal, DEADLINE_MILLIS, walExecutor);
+
+            CompletableFuture<Void> future = writer.put(TABLE, newPut(0));
+
+            assertThatThrownBy(() -> future.get(3, TimeUnit.SECONDS))
+                    .hasRootCauseInstanceOf(TimeoutException.class);
+            assertThat(wal.getDropCount()).isEqualTo(1);
+        }
+    }
+
+    private WalOption newOption() {
+        WalOption option = new WalOption();
+        option.setDirectory(directory.toString());
+        return option;
+    }
+
+    private Put newPut(int i) {
+        Put put = new Put(Bytes.toBytes("row" + i), 1000L + i);
+        put.addColumn(FAMILY, Bytes.toBytes("q"), 1000L + i, Bytes.toBytes("value" + i));
+        return put;
+    }
+}
@@ -0,0 +1,124 @@
+package com.navercorp.pinpoint.common.hbase.wal;
+
+import com.navercorp.pinpoint.common.hbase.async.AsyncHbaseOperations;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WalReplayerTest {
+
+    private static final TableName TABLE = TableName.valueOf("pinpoint", "TraceV2");
+    private static final byte[] FAMILY = Bytes.toBytes("S");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replay_afterOutage() throws IOException {
+        WalOption option = new WalOption();
+        option.setDirectory(directory.toString());
+        option.setReplayBatchSize(3);
+
+        AsyncHbaseOperations hbase = mock(AsyncHbaseOperations.class);
+        when(hbase.put(any(TableName.class), anyList())).thenAnswer(invocation -> failed(invocation.getArgument(1)));
+
+        try (WriteAheadLog wal = new WriteAheadLog(option);
+             WalReplayer replayer = new WalReplayer(wal, hbase, option)) {
+            for (int i = 0; i < 10; i++) {
+                wal.append(new WalRecord(TABLE, newPut(i)));
+            }
+
+            // hbase down
+            assertThat(replayer.replay()).isFalse();
+            assertThat(wal.getSegmentCount()).isEqualTo(1);
+            assertThat(replayer.getReplayFailCount()).isEqualTo(1);
+
+            // hbase recovered
+            List<byte[]> written = new ArrayList<>();
+            when(hbase.put(any(TableName.class), anyList())).thenAnswer(invocation -> {
+                List<Put> puts = invocation.getArgument(1);
+                puts.forEach(put -> written.add(put.getRow()));
+                return completed(puts);
+            });
+
+            assertThat(replayer.replay()).isTrue();
+            assertThat(wal.getSegmentCount()).isZero();
+            assertThat(wal.getTotalBytes()).isZero();
+            assertThat(replayer.getReplayCount()).isEqualTo(10);
+
+            assertThat(written).hasSize(10);
+            for (int i = 0; i < written.size(); i++) {
+                assertThat(written.get(i)).isEqualTo(Bytes.toBytes("row" + i));
+            }
+        }
+    }
+
+    @Test
+    void replay_resumeFromAcknowledgedBatch() throws IOException {
+        WalOption option = new WalOption();
+        option.setDirectory(directory.toString());
+        option.setReplayBatchSize(2);
+
+        AsyncHbaseOperations hbase = mock(AsyncHbaseOperations.class);
+        // first batch succeeds, second batch fails, then everything succeeds
+        when(hbase.put(any(TableName.class), anyList()))
+                .thenAnswer(invocation -> completed(invocation.getArgument(1)))
+                .thenAnswer(invocation -> failed(invocation.getArgument(1)))
+                .thenAnswer(invocation -> completed(invocation.getArgument(1)));
+
+        try (WriteAheadLog wal = new WriteAheadLog(option);
+             WalReplayer replayer = new WalReplayer(wal, hbase, option)) {
+            for (int i = 0; i < 4; i++) {
+                wal.append(new WalRecord(TABLE, newPut(i)));
+            }
+            assertThat(replayer.replay()).isFalse();
+            assertThat(replayer.replay()).isTrue();
+        }
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Put>> captor = ArgumentCaptor.forClass(List.class);
+        verify(hbase, atLeastOnce()).put(any(TableName.class), captor.capture());
+        List<List<Put>> batches = captor.getAllValues();
+        assertThat(batches).hasSize(3);
+        assertThat(batches.get(2).get(0).getRow()).isEqualTo(Bytes.toBytes("row2"));
+    }
+
+    private List<CompletableFuture<Void>> completed(List<Put> puts) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (Put ignored : puts) {
+            futures.add(CompletableFuture.completedFuture(null));
+        }
+        return futures;
+    }
+
+    private List<CompletableFuture<Void>> failed(List<Put> puts) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (Put ignored : puts) {
+            futures.add(CompletableFuture.failedFuture(new IOException("hbase down")));
+        }
+        return futures;
+    }
+
+    private Put newPut(int i) {
+        Put put = new Put(Bytes.toBytes("row" + i), 1000L + i);
+        put.addColumn(FAMILY, Bytes.toBytes("q"), 1000L + i, Bytes.toBytes("value" + i));
+        return put;
+    }
+}
@@ -0,0 +1,127 @@
+package com.navercorp.pinpoint.common.hbase.wal;
+
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Durability;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WriteAheadLogTest {
+
+    private static final TableName TABLE = TableName.valueOf("pinpoint", "TraceV2");
+    private static final byte[] FAMILY = Bytes.toBytes("S");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void codec_put() throws IOException {
+        Put put = new Put(Bytes.toBytes("row"), 100L);
+        put.addColumn(FAMILY, Bytes.toBytes("q1"), 100L, Bytes.toBytes("v1"));
+        put.addColumn(FAMILY, Bytes.toBytes("q2"), 100L, Bytes.toBytes("v2"));
+        put.setDurability(Durability.SKIP_WAL);
+
+        WalRecordCodec codec = new WalRecordCodec();
+        WalRecord decoded = codec.decode(codec.encode(new WalRecord(TABLE, put)));
+
+        assertThat(decoded.tableName()).isEqualTo(TABLE);
+        assertThat(decoded.put().toMap()).isEqualTo(put.toMap());
+        assertThat(decoded.put().getDurability()).isEqualTo(Durability.SKIP_WAL);
+    }
+
+    @Test
+    void appendAndRecover() throws IOException {
+        WalOption option = newOption();
+        option.setSegmentSize(256);
+
+        try (WriteAheadLog wal = new WriteAheadLog(option)) {
+            for (int i = 0; i < 20; i++) {
+                assertThat(wal.append(new WalRecord(TABLE, newPut(i)))).isTrue();
+            }
+            assertThat(wal.getAppendCount()).isEqualTo(20);
+            assertThat(wal.getSegmentCount()).isGreaterThan(1);
+        }
+
+        try (WriteAheadLog recovered = new WriteAheadLog(option)) {
+            List<WalRecord> records = readAll(recovered);
+            assertThat(records).hasSize(20);
+            for (int i = 0; i < records.size(); i++) {
+                assertThat(records.get(i).put().getRow()).isEqualTo(Bytes.toBytes("row" + i));
+            }
+        }
+    }
+
+    @Test
+    void append_maxTotalSize() throws IOException {
+        WalOption option = newOption();
+        option.setMaxTotalSize(200);
+
+        try (WriteAheadLog wal = new WriteAheadLog(option)) {
+            int appended = 0;
+            for (int i = 0; i < 10; i++) {
+                if (wal.append(new WalRecord(TABLE, newPut(i)))) {
+                    appended++;
+                }
+            }
+            assertThat(wal.getTotalBytes()).isLessThanOrEqualTo(200);
+            assertThat(wal.getDropCount()).isEqualTo(10 - appended);
+        }
+    }
+
+    @Test
+    void recover_tornRecord() throws IOException {
+        WalOption option = newOption();
+        List<Path> segments;
+        try (WriteAheadLog wal = new WriteAheadLog(option)) {
+            wal.append(new WalRecord(TABLE, newPut(0)));
+            wal.append(new WalRecord(TABLE, newPut(1)));
+            segments = wal.rollAndGetSegments();
+        }
+
+        Path segment = segments.get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        try (WriteAheadLog recovered = new WriteAheadLog(option)) {
+            List<WalRecord> records = readAll(recovered);
+            assertThat(records).hasSize(1);
+            assertThat(records.get(0).put().getRow()).isEqualTo(Bytes.toBytes("row0"));
+        }
+    }
+
+    private WalOption newOption() {
+        WalOption option = new WalOption();
+        option.setDirectory(directory.toString());
+        return option;
+    }
+
+    private Put newPut(int i) {
+        Put put = new Put(Bytes.toBytes("row" + i), 1000L + i);
+        put.addColumn(FAMILY, Bytes.toBytes("q"), 1000L + i, Bytes.toBytes("value" + i));
+        return put;
+    }
+
+    private List<WalRecord> readAll(WriteAheadLog wal) throws IOException {
+        List<WalRecord> records = new ArrayList<>();
+        for (Path segment : wal.rollAndGetSegments()) {
+            try (WalSegmentReader reader = new WalSegmentReader(segment, 0, wal.getCodec())) {
+                WalRecord record;
+                while ((record = reader.next()) != null) {
+                    records.add(record);
+                }
+            }
+        }
+        return records;
+    }
+}
@@ -27,4 +27,30 @@ public class DefaultMetaDataRowKey implements MetaDataRowKey {
     public int getId() {
         return id;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        DefaultMetaDataRowKey that = (DefaultMetaDataRowKey) o;
+        return agentStartTime == that.agentStartTime && id == that.id && agentId.equals(that.agentId);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = agentId.hashCode();
+        result = 31 * result + Long.hashCode(agentStartTime);
+        result = 31 * result + id;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultMetaDataRowKey{" +
+                "agentId='" + agentId + '\'' +
+                ", agentStartTime=" + agentStartTime +
+                ", id=" + id +
+                '}';
+    }
 }
@@ -1,5 +1,6 @@
 package com.navercorp.pinpoint.common.server.bo.serializer.metadata.uid;
 
+import java.util.Arrays;
 import java.util.Objects;
 
 public class DefaultUidMetaDataRowKey implements UidMetaDataRowKey {
@@ -27,4 +28,30 @@ public class DefaultUidMetaDataRowKey implements UidMetaDataRowKey {
     public byte[] getUid() {
         return uid;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        DefaultUidMetaDataRowKey that = (DefaultUidMetaDataRowKey) o;
+        return agentStartTime == that.agentStartTime && agentId.equals(that.agentId) && Arrays.equals(uid, that.uid);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = agentId.hashCode();
+        result = 31 * result + Long.hashCode(agentStartTime);
+        result = 31 * result + Arrays.hashCode(uid);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultUidMetaDataRowKey{" +
+                "agentId='" + agentId + '\'' +
+                ", agentStartTime=" + agentStartTime +
+                ", uid=" + Arrays.toString(uid) +
+                '}';
+    }
 }
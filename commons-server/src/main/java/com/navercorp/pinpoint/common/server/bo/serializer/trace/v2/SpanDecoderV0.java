@@ -51,7 +51,10 @@ public class SpanDecoderV0 implements SpanDecoder {
     @Override
     public Object decode(Buffer qualifier, Buffer columnValue, SpanDecodingContext decodingContext) {
         final byte type = qualifier.readByte();
+        return decode(type, qualifier, columnValue, decodingContext);
+    }
 
+    protected Object decode(byte type, Buffer qualifier, Buffer columnValue, SpanDecodingContext decodingContext) {
         if (SpanEncoder.TYPE_SPAN == type) {
             return readSpan(qualifier, columnValue, decodingContext);
         } else if (SpanEncoder.TYPE_SPAN_CHUNK == type) {
@@ -62,7 +65,7 @@ public class SpanDecoderV0 implements SpanDecoder {
         }
     }
 
-    private SpanChunkBo readSpanChunk(Buffer qualifier, Buffer columnValue, SpanDecodingContext decodingContext) {
+    protected SpanChunkBo readSpanChunk(Buffer qualifier, Buffer columnValue, SpanDecodingContext decodingContext) {
         final SpanChunkBo spanChunk = new SpanChunkBo();
 
         final TransactionId transactionId = decodingContext.getTransactionId();
@@ -78,7 +81,7 @@ public class SpanDecoderV0 implements SpanDecoder {
     }
 
 
-    private SpanBo readSpan(Buffer qualifier, Buffer columnValue, SpanDecodingContext decodingContext) {
+    protected SpanBo readSpan(Buffer qualifier, Buffer columnValue, SpanDecodingContext decodingContext) {
         final SpanBo span = new SpanBo();
 
         final TransactionId transactionId = decodingContext.getTransactionId();
@@ -96,6 +99,8 @@ public class SpanDecoderV0 implements SpanDecoder {
         final byte version = buffer.readByte();
 
         spanChunk.setVersion(version);
+        readValueHeader(buffer, decodingContext);
+
         if (version == SpanVersion.TRACE_V2) {
             final long keyTime = buffer.readVLong();
             spanChunk.setKeyTime(keyTime);
@@ -109,6 +114,7 @@ public class SpanDecoderV0 implements SpanDecoder {
         final byte version = buffer.readByte();
 
         span.setVersion(version);
+        readValueHeader(buffer, decodingContext);
 
         final SpanBitField bitField = new SpanBitField(buffer.readByte());
 
@@ -137,10 +143,10 @@ public class SpanDecoderV0 implements SpanDecoder {
         span.setStartTime(startTime);
         span.setElapsed(buffer.readVInt());
 
-        span.setRpc(buffer.readPrefixedString());
+        span.setRpc(readString(buffer, decodingContext));
 
-        span.setEndPoint(buffer.readPrefixedString());
-        span.setRemoteAddr(buffer.readPrefixedString());
+        span.setEndPoint(readString(buffer, decodingContext));
+        span.setRemoteAddr(readString(buffer, decodingContext));
         span.setApiId(buffer.readSVInt());
 
         if (bitField.isSetErrorCode()) {
@@ -148,7 +154,7 @@ public class SpanDecoderV0 implements SpanDecoder {
         }
         if (bitField.isSetHasException()) {
             int exceptionId = buffer.readSVInt();
-            String exceptionMessage = buffer.readPrefixedString();
+            String exceptionMessage = readString(buffer, decodingContext);
             span.setExceptionInfo(exceptionId, exceptionMessage);
         }
 
@@ -160,7 +166,7 @@ public class SpanDecoderV0 implements SpanDecoder {
             span.setLoggingTransactionInfo(buffer.readByte());
         }
 
-        span.setAcceptorHost(buffer.readPrefixedString());
+        span.setAcceptorHost(readString(buffer, decodingContext));
 
 
         if (bitField.isSetAnnotation()) {
@@ -254,10 +260,10 @@ public class SpanDecoderV0 implements SpanDecoder {
         spanEventBo.setApiId(buffer.readSVInt());
 
         if (bitField.isSetEndPoint()) {
-            spanEventBo.setEndPoint(buffer.readPrefixedString());
+            spanEventBo.setEndPoint(readString(buffer, decodingContext));
         }
         if (bitField.isSetDestinationId()) {
-            spanEventBo.setDestinationId(buffer.readPrefixedString());
+            spanEventBo.setDestinationId(readString(buffer, decodingContext));
         }
 
         if (bitField.isSetNextSpanId()) {
@@ -267,7 +273,7 @@ public class SpanDecoderV0 implements SpanDecoder {
 
         if (bitField.isSetHasException()) {
             int exceptionId = buffer.readSVInt();
-            String exceptionMessage = buffer.readPrefixedString();
+            String exceptionMessage = readString(buffer, decodingContext);
             spanEventBo.setExceptionInfo(exceptionId, exceptionMessage);
         }
 
@@ -295,10 +301,10 @@ public class SpanDecoderV0 implements SpanDecoder {
         firstSpanEvent.setServiceType(buffer.readShort());
 
         if (bitField.isSetEndPoint()) {
-            firstSpanEvent.setEndPoint(buffer.readPrefixedString());
+            firstSpanEvent.setEndPoint(readString(buffer, decodingContext));
         }
         if (bitField.isSetDestinationId()) {
-            firstSpanEvent.setDestinationId(buffer.readPrefixedString());
+            firstSpanEvent.setDestinationId(readString(buffer, decodingContext));
         }
 
         firstSpanEvent.setApiId(buffer.readSVInt());
@@ -309,7 +315,7 @@ public class SpanDecoderV0 implements SpanDecoder {
 
         if (bitField.isSetHasException()) {
             int exceptionId = buffer.readSVInt();
-            String exceptionMessage = buffer.readPrefixedString();
+            String exceptionMessage = readString(buffer, decodingContext);
             firstSpanEvent.setExceptionInfo(exceptionId, exceptionMessage);
         }
 
@@ -334,11 +340,11 @@ public class SpanDecoderV0 implements SpanDecoder {
         for (int i = 0; i < annotationListSize; i++) {
             AnnotationBo current;
             if (i == 0) {
-                current = readFirstAnnotationBo(buffer);
+                current = readFirstAnnotationBo(buffer, decodingContext);
                 // save first annotation for delta bitfield
 //                decodingContext.setPrevFirstAnnotationBo(current);
             } else {
-                current = readDeltaAnnotationBo(buffer, prev);
+                current = readDeltaAnnotationBo(buffer, prev, decodingContext);
             }
 
             prev = current;
@@ -347,24 +353,40 @@ public class SpanDecoderV0 implements SpanDecoder {
         return annotationBoList;
     }
 
-    private AnnotationBo readFirstAnnotationBo(Buffer buffer) {
+    private AnnotationBo readFirstAnnotationBo(Buffer buffer, SpanDecodingContext decodingContext) {
         final int key = buffer.readSVInt();
-        byte valueType = buffer.readByte();
-        byte[] valueBytes = buffer.readPrefixedBytes();
-        Object value = transcoder.decode(valueType, valueBytes);
+        Object value = readAnnotationValue(buffer, decodingContext);
 
         return AnnotationBo.of(key, value);
     }
 
-    private AnnotationBo readDeltaAnnotationBo(Buffer buffer, AnnotationBo prev) {
+    private AnnotationBo readDeltaAnnotationBo(Buffer buffer, AnnotationBo prev, SpanDecodingContext decodingContext) {
         final int prevKey = prev.getKey();
         int key = buffer.readSVInt() + prevKey;
 
+        Object value = readAnnotationValue(buffer, decodingContext);
+
+        return AnnotationBo.of(key, value);
+    }
+
+    private Object readAnnotationValue(Buffer buffer, SpanDecodingContext decodingContext) {
         byte valueType = buffer.readByte();
+        return readAnnotationValue(valueType, buffer, decodingContext);
+    }
+
+    protected Object readAnnotationValue(byte valueType, Buffer buffer, SpanDecodingContext decodingContext) {
         byte[] valueBytes = buffer.readPrefixedBytes();
-        Object value = transcoder.decode(valueType, valueBytes);
+        return transcoder.decode(valueType, valueBytes);
+    }
 
-        return AnnotationBo.of(key, value);
+    protected String readString(Buffer buffer, SpanDecodingContext decodingContext) {
+        return buffer.readPrefixedString();
+    }
+
+    /**
+     * called right after the version byte of the column value
+     */
+    protected void readValueHeader(Buffer buffer, SpanDecodingContext decodingContext) {
     }
 
 
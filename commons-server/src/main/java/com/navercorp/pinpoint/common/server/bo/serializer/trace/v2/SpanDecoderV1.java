@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.bo.serializer.trace.v2;
+
+import com.navercorp.pinpoint.common.buffer.Buffer;
+
+/**
+ * Decodes both {@link SpanEncoderV0} and {@link SpanEncoderV1} columns.
+ * The encoding is resolved from the qualifier type.
+ */
+public class SpanDecoderV1 extends SpanDecoderV0 {
+
+    private static final String[] EMPTY_DICTIONARY = new String[0];
+
+    @Override
+    protected Object decode(byte type, Buffer qualifier, Buffer columnValue, SpanDecodingContext decodingContext) {
+        if (SpanEncoder.TYPE_SPAN_V1 == type) {
+            decodingContext.setStringDictionaryEncoded(true);
+            return readSpan(qualifier, columnValue, decodingContext);
+        } else if (SpanEncoder.TYPE_SPAN_CHUNK_V1 == type) {
+            decodingContext.setStringDictionaryEncoded(true);
+            return readSpanChunk(qualifier, columnValue, decodingContext);
+        }
+        decodingContext.setStringDictionaryEncoded(false);
+        return super.decode(type, qualifier, columnValue, decodingContext);
+    }
+
+    @Override
+    protected void readValueHeader(Buffer buffer, SpanDecodingContext decodingContext) {
+        if (!decodingContext.isStringDictionaryEncoded()) {
+            return;
+        }
+        final int size = buffer.readVInt();
+        if (size <= 0) {
+            decodingContext.setStringDictionary(EMPTY_DICTIONARY);
+            return;
+        }
+        final String[] dictionary = new String[size];
+        for (int i = 0; i < size; i++) {
+            dictionary[i] = buffer.readPrefixedString();
+        }
+        decodingContext.setStringDictionary(dictionary);
+    }
+
+    @Override
+    protected String readString(Buffer buffer, SpanDecodingContext decodingContext) {
+        if (!decodingContext.isStringDictionaryEncoded()) {
+            return super.readString(buffer, decodingContext);
+        }
+        final int reference = buffer.readVInt();
+        if (reference == StringDictionary.NULL_REFERENCE) {
+            return null;
+        }
+        final String[] dictionary = decodingContext.getStringDictionary();
+        if (reference > dictionary.length) {
+            throw new IllegalStateException("invalid string reference:" + reference + " dictionary size:" + dictionary.length);
+        }
+        return dictionary[reference - 1];
+    }
+
+    @Override
+    protected Object readAnnotationValue(byte valueType, Buffer buffer, SpanDecodingContext decodingContext) {
+        if (decodingContext.isStringDictionaryEncoded() && valueType == SpanEncoderV1.ANNOTATION_STRING_REFERENCE) {
+            return readString(buffer, decodingContext);
+        }
+        return super.readAnnotationValue(valueType, buffer, decodingContext);
+    }
+}
@@ -27,6 +27,9 @@ public class SpanDecodingContext {
     private long collectorAcceptedTime;
     private TransactionId transactionId;
 
+    private boolean stringDictionaryEncoded;
+    private String[] stringDictionary;
+
 //    public AnnotationBo getPrevFirstAnnotationBo() {
 //        return prevAnnotationBo;
 //    }
@@ -53,7 +56,25 @@ public class SpanDecodingContext {
     }
 
 
+    public boolean isStringDictionaryEncoded() {
+        return stringDictionaryEncoded;
+    }
+
+    public void setStringDictionaryEncoded(boolean stringDictionaryEncoded) {
+        this.stringDictionaryEncoded = stringDictionaryEncoded;
+    }
+
+    public String[] getStringDictionary() {
+        return stringDictionary;
+    }
+
+    public void setStringDictionary(String[] stringDictionary) {
+        this.stringDictionary = stringDictionary;
+    }
+
     public void next() {
+        this.stringDictionaryEncoded = false;
+        this.stringDictionary = null;
     }
 
     public void finish() {
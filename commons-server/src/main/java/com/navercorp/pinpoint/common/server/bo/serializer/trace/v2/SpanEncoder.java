@@ -12,6 +12,9 @@ public interface SpanEncoder {
 
     byte TYPE_SPAN = 0;
     byte TYPE_SPAN_CHUNK = 1;
+    // string dictionary encoding
+    byte TYPE_SPAN_V1 = 2;
+    byte TYPE_SPAN_CHUNK_V1 = 3;
 
     // reserved
     byte TYPE_PASSIVE_SPAN = 4;
@@ -35,7 +35,7 @@ public class SpanEncoderV0 implements SpanEncoder {
         final List<SpanEventBo> spanEventBoList = spanBo.getSpanEventBoList();
         final SpanEventBo firstEvent = getFirstSpanEvent(spanEventBoList);
 
-        return encodeQualifier(TYPE_SPAN, spanBo, firstEvent, null);
+        return encodeQualifier(getSpanType(), spanBo, firstEvent, null);
     }
 
     @Override
@@ -46,7 +46,15 @@ public class SpanEncoderV0 implements SpanEncoder {
         final SpanEventBo firstEvent = getFirstSpanEvent(spanEventBoList);
 
         LocalAsyncIdBo localAsyncId = spanChunkBo.getLocalAsyncId();
-        return encodeQualifier(TYPE_SPAN_CHUNK, spanChunkBo, firstEvent, localAsyncId);
+        return encodeQualifier(getSpanChunkType(), spanChunkBo, firstEvent, localAsyncId);
+    }
+
+    protected byte getSpanType() {
+        return TYPE_SPAN;
+    }
+
+    protected byte getSpanChunkType() {
+        return TYPE_SPAN_CHUNK;
     }
 
     private ByteBuffer encodeQualifier(byte type, BasicSpan basicSpan, SpanEventBo firstEvent, LocalAsyncIdBo localAsyncId) {
@@ -168,10 +176,10 @@ public class SpanEncoderV0 implements SpanEncoder {
         buffer.putVInt(span.getElapsed());
 
 
-        buffer.putPrefixedString(span.getRpc());
+        writeString(buffer, span.getRpc(), encodingContext);
 
-        buffer.putPrefixedString(span.getEndPoint());
-        buffer.putPrefixedString(span.getRemoteAddr());
+        writeString(buffer, span.getEndPoint(), encodingContext);
+        writeString(buffer, span.getRemoteAddr(), encodingContext);
         buffer.putSVInt(span.getApiId());
 
 
@@ -182,7 +190,7 @@ public class SpanEncoderV0 implements SpanEncoder {
 
         if (bitField.isSetHasException()) {
             buffer.putSVInt(span.getExceptionId());
-            buffer.putPrefixedString(span.getExceptionMessage());
+            writeString(buffer, span.getExceptionMessage(), encodingContext);
         }
 
         if (bitField.isSetFlag()) {
@@ -194,7 +202,7 @@ public class SpanEncoderV0 implements SpanEncoder {
             buffer.putByte(span.getLoggingTransactionInfo());
         }
 
-        buffer.putPrefixedString(span.getAcceptorHost());
+        writeString(buffer, span.getAcceptorHost(), encodingContext);
 
         if (bitField.isSetAnnotation()) {
             List<AnnotationBo> annotationBoList = span.getAnnotationBoList();
@@ -222,10 +230,10 @@ public class SpanEncoderV0 implements SpanEncoder {
         buffer.putShort(spanEventBo.getServiceType());
 
         if (bitField.isSetEndPoint()) {
-            buffer.putPrefixedString(spanEventBo.getEndPoint());
+            writeString(buffer, spanEventBo.getEndPoint(), encodingContext);
         }
         if (bitField.isSetDestinationId()) {
-            buffer.putPrefixedString(spanEventBo.getDestinationId());
+            writeString(buffer, spanEventBo.getDestinationId(), encodingContext);
         }
 
         buffer.putSVInt(spanEventBo.getApiId());
@@ -236,7 +244,7 @@ public class SpanEncoderV0 implements SpanEncoder {
 
         if (bitField.isSetHasException()) {
             buffer.putSVInt(spanEventBo.getExceptionId());
-            buffer.putPrefixedString(spanEventBo.getExceptionMessage());
+            writeString(buffer, spanEventBo.getExceptionMessage(), encodingContext);
         }
 
         if (bitField.isSetAnnotation()) {
@@ -311,10 +319,10 @@ public class SpanEncoderV0 implements SpanEncoder {
         buffer.putSVInt(spanEventBo.getApiId());
 
         if (bitField.isSetEndPoint()) {
-            buffer.putPrefixedString(spanEventBo.getEndPoint());
+            writeString(buffer, spanEventBo.getEndPoint(), encodingContext);
         }
         if (bitField.isSetDestinationId()) {
-            buffer.putPrefixedString(spanEventBo.getDestinationId());
+            writeString(buffer, spanEventBo.getDestinationId(), encodingContext);
         }
 
         if (bitField.isSetNextSpanId()) {
@@ -323,7 +331,7 @@ public class SpanEncoderV0 implements SpanEncoder {
 
         if (bitField.isSetHasException()) {
             buffer.putSVInt(spanEventBo.getExceptionId());
-            buffer.putPrefixedString(spanEventBo.getExceptionMessage());
+            writeString(buffer, spanEventBo.getExceptionMessage(), encodingContext);
         }
 
         if (bitField.isSetAnnotation()) {
@@ -353,25 +361,20 @@ public class SpanEncoderV0 implements SpanEncoder {
                 // first annotation
                 buffer.putSVInt(current.getKey());
 
-                Object value = current.getValue();
-                byte valueTypeCode = transcoder.getTypeCode(value);
-                byte[] valueBytes = transcoder.encode(value, valueTypeCode);
-
-                buffer.putByte(valueTypeCode);
-                buffer.putPrefixedBytes(valueBytes);
+                writeAnnotationValue(buffer, current.getValue(), encodingContext);
 //                else {
-//                    writeDeltaAnnotationBo(buffer, prev, current);
+//                    writeDeltaAnnotationBo(buffer, prev, current, encodingContext);
 //                }
                 // save first annotation
 //                encodingCtx.setPrevFirstAnnotationBo(current);
             } else {
-                writeDeltaAnnotationBo(buffer, prev, current);
+                writeDeltaAnnotationBo(buffer, prev, current, encodingContext);
             }
             prev = current;
         }
     }
 
-    private void writeDeltaAnnotationBo(Buffer buffer, AnnotationBo prev, AnnotationBo current) {
+    private void writeDeltaAnnotationBo(Buffer buffer, AnnotationBo prev, AnnotationBo current, SpanEncodingContext<?> encodingContext) {
         // prev : -30 cur: -20  = -20 - - 30 = 10
         // prev :  20 cur: 100  =  100 - 20 = 80
         // prev :  -40 cur: 1000  =  1000 + 40 = 10040
@@ -379,7 +382,10 @@ public class SpanEncoderV0 implements SpanEncoder {
         final int currentKey = current.getKey();
         buffer.putSVInt(currentKey - prevKey);
 
-        Object value = current.getValue();
+        writeAnnotationValue(buffer, current.getValue(), encodingContext);
+    }
+
+    protected void writeAnnotationValue(Buffer buffer, Object value, SpanEncodingContext<?> encodingContext) {
         byte valueTypeCode = transcoder.getTypeCode(value);
         byte[] valueBytes = transcoder.encode(value, valueTypeCode);
 
@@ -387,5 +393,9 @@ public class SpanEncoderV0 implements SpanEncoder {
         buffer.putPrefixedBytes(valueBytes);
     }
 
+    protected void writeString(Buffer buffer, String value, SpanEncodingContext<?> encodingContext) {
+        buffer.putPrefixedString(value);
+    }
+
 
 }
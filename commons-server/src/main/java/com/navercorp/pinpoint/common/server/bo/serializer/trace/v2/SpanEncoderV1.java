@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.bo.serializer.trace.v2;
+
+import com.navercorp.pinpoint.common.buffer.AutomaticBuffer;
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.server.bo.SpanBo;
+import com.navercorp.pinpoint.common.server.bo.SpanChunkBo;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Same layout as {@link SpanEncoderV0}, but endpoint, destinationId, rpc, remoteAddr, acceptorHost,
+ * exception messages and string annotation values are written once into a per-span dictionary
+ * and referenced by index afterward.
+ * <pre>
+ * column value : version(1) | dictionary size(vint) | prefixed string * size | body(v0 layout, string references)
+ * </pre>
+ * @see SpanDecoderV1
+ */
+public class SpanEncoderV1 extends SpanEncoderV0 {
+
+    static final byte ANNOTATION_STRING_REFERENCE = -1;
+
+    @Override
+    protected byte getSpanType() {
+        return TYPE_SPAN_V1;
+    }
+
+    @Override
+    protected byte getSpanChunkType() {
+        return TYPE_SPAN_CHUNK_V1;
+    }
+
+    @Override
+    public ByteBuffer encodeSpanColumnValue(SpanEncodingContext<SpanBo> encodingContext) {
+        final StringDictionary dictionary = new StringDictionary();
+        encodingContext.setStringDictionary(dictionary);
+
+        final ByteBuffer body = super.encodeSpanColumnValue(encodingContext);
+        return withDictionary(body, dictionary);
+    }
+
+    @Override
+    public ByteBuffer encodeSpanChunkColumnValue(SpanEncodingContext<SpanChunkBo> encodingContext) {
+        final StringDictionary dictionary = new StringDictionary();
+        encodingContext.setStringDictionary(dictionary);
+
+        final ByteBuffer body = super.encodeSpanChunkColumnValue(encodingContext);
+        return withDictionary(body, dictionary);
+    }
+
+    private ByteBuffer withDictionary(ByteBuffer body, StringDictionary dictionary) {
+        final Buffer header = new AutomaticBuffer(64);
+        // version
+        header.putByte(body.get());
+
+        final List<String> values = dictionary.getValues();
+        header.putVInt(values.size());
+        for (String value : values) {
+            header.putPrefixedString(value);
+        }
+        final ByteBuffer headerBuffer = header.wrapByteBuffer();
+
+        final ByteBuffer columnValue = ByteBuffer.allocate(headerBuffer.remaining() + body.remaining());
+        columnValue.put(headerBuffer);
+        columnValue.put(body);
+        columnValue.flip();
+        return columnValue;
+    }
+
+    @Override
+    protected void writeString(Buffer buffer, String value, SpanEncodingContext<?> encodingContext) {
+        final StringDictionary dictionary = encodingContext.getStringDictionary();
+        buffer.putVInt(dictionary.reference(value));
+    }
+
+    @Override
+    protected void writeAnnotationValue(Buffer buffer, Object value, SpanEncodingContext<?> encodingContext) {
+        if (value instanceof String stringValue) {
+            buffer.putByte(ANNOTATION_STRING_REFERENCE);
+            writeString(buffer, stringValue, encodingContext);
+            return;
+        }
+        super.writeAnnotationValue(buffer, value, encodingContext);
+    }
+}
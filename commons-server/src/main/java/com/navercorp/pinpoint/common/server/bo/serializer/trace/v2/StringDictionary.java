@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.bo.serializer.trace.v2;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-span string table used by {@link SpanEncoderV1}.
+ * Strings are numbered in order of first appearance.
+ */
+public class StringDictionary {
+
+    public static final int NULL_REFERENCE = 0;
+
+    private final Map<String, Integer> indexMap = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+
+    /**
+     * @return 1-based reference of the string, {@link #NULL_REFERENCE} for null
+     */
+    public int reference(String value) {
+        if (value == null) {
+            return NULL_REFERENCE;
+        }
+        final Integer index = indexMap.get(value);
+        if (index != null) {
+            return index;
+        }
+        values.add(value);
+        final int newIndex = values.size();
+        indexMap.put(value, newIndex);
+        return newIndex;
+    }
+
+    public List<String> getValues() {
+        return values;
+    }
+
+    public int size() {
+        return values.size();
+    }
+}
@@ -1,19 +1,26 @@
 package com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.config;
 
 import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanChunkSerializerV2;
-import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanDecoderV0;
+import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanDecoder;
+import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanDecoderV1;
 import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanEncoder;
 import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanEncoderV0;
+import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanEncoderV1;
 import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanSerializerV2;
 import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.TraceRowKeyDecoderV2;
 import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.TraceRowKeyEncoderV2;
 import com.sematext.hbase.wd.AbstractRowKeyDistributor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class SpanSerializeConfiguration {
+    private final Logger logger = LogManager.getLogger(SpanSerializeConfiguration.class);
+
     @Bean
     public SpanChunkSerializerV2 spanChunkSerializerV2(SpanEncoder spanEncoder) {
         return new SpanChunkSerializerV2(spanEncoder);
@@ -25,12 +32,20 @@ public class SpanSerializeConfiguration {
     }
 
     @Bean
-    public SpanDecoderV0 spanDecoderV0() {
-        return new SpanDecoderV0();
+    public SpanDecoder spanDecoder() {
+        // reads both v0 and v1(string dictionary) columns
+        return new SpanDecoderV1();
     }
 
+    /**
+     * Keep string dictionary encoding disabled until every web instance can read {@link SpanEncoderV1} columns.
+     */
     @Bean
-    public SpanEncoderV0 spanEncoderV0() {
+    public SpanEncoder spanEncoder(@Value("${collector.span.encoding.string-dictionary:false}") boolean stringDictionary) {
+        logger.info("collector.span.encoding.string-dictionary:{}", stringDictionary);
+        if (stringDictionary) {
+            return new SpanEncoderV1();
+        }
         return new SpanEncoderV0();
     }
 
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.common.server.scatter;
+
+import com.navercorp.pinpoint.common.buffer.AutomaticBuffer;
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.buffer.ByteArrayUtils;
+import com.navercorp.pinpoint.common.util.BytesUtils;
+import com.navercorp.pinpoint.common.util.TimeUtils;
+
+import java.util.Objects;
+
+/**
+ * Layout of the pre-aggregated heatmap grid.
+ * Each cell counts the transactions of one agent that were accepted in a time cell
+ * and finished in an elapsed-time cell, split by success/failure.
+ * <pre>
+ * rowkey format = APPNAMELEN(2bytes) + APPLICATIONNAME(str) + TIMESLOT(8bytes, reversed)
+ * columnName format = TIMECELL(1byte) + ELAPSEDCELL(1byte) + ERROR(1byte) + AGENTID(str)
+ * </pre>
+ */
+public final class HeatMapGridUtils {
+
+    public static final long ROW_TIME_SLOT = 60000; // 1min
+    public static final long TIME_CELL_SIZE = 5000;
+
+    public static final int ELAPSED_CELL_SIZE = 100;
+    // elapsed time of 10 sec or more
+    public static final int ELAPSED_CELL_OVERFLOW = 100;
+
+    private static final int COLUMN_PREFIX_LENGTH = 3;
+
+    private HeatMapGridUtils() {
+    }
+
+    public static long getRowTimeSlot(long time) {
+        return (time / ROW_TIME_SLOT) * ROW_TIME_SLOT;
+    }
+
+    public static int getTimeCell(long time) {
+        return (int) ((time % ROW_TIME_SLOT) / TIME_CELL_SIZE);
+    }
+
+    public static int getElapsedCell(int elapsed) {
+        if (elapsed <= 0) {
+            return 0;
+        }
+        return Math.min(elapsed / ELAPSED_CELL_SIZE, ELAPSED_CELL_OVERFLOW);
+    }
+
+    public static byte[] makeRowKey(String applicationName, long rowTimeSlot) {
+        Objects.requireNonNull(applicationName, "applicationName");
+
+        final byte[] applicationNameBytes = BytesUtils.toBytes(applicationName);
+
+        final Buffer buffer = new AutomaticBuffer(BytesUtils.SHORT_BYTE_LENGTH + applicationNameBytes.length + BytesUtils.LONG_BYTE_LENGTH);
+        buffer.putShort((short) applicationNameBytes.length);
+        buffer.putBytes(applicationNameBytes);
+        buffer.putLong(TimeUtils.reverseTimeMillis(rowTimeSlot));
+        return buffer.getBuffer();
+    }
+
+    public static long getRowTimeSlot(byte[] rowKey) {
+        Objects.requireNonNull(rowKey, "rowKey");
+
+        final short applicationNameLength = ByteArrayUtils.bytesToShort(rowKey, 0);
+        return TimeUtils.recoveryTimeMillis(ByteArrayUtils.bytesToLong(rowKey, BytesUtils.SHORT_BYTE_LENGTH + applicationNameLength));
+    }
+
+    public static byte[] makeColumnName(int timeCell, int elapsedCell, boolean error, String agentId) {
+        Objects.requireNonNull(agentId, "agentId");
+
+        final byte[] agentIdBytes = BytesUtils.toBytes(agentId);
+        final byte[] columnName = new byte[COLUMN_PREFIX_LENGTH + agentIdBytes.length];
+        columnName[0] = (byte) timeCell;
+        columnName[1] = (byte) elapsedCell;
+        columnName[2] = (byte) (error ? 1 : 0);
+        System.arraycopy(agentIdBytes, 0, columnName, COLUMN_PREFIX_LENGTH, agentIdBytes.length);
+        return columnName;
+    }
+
+    public static long getTime(long rowTimeSlot, byte[] columnName, int offset) {
+        return rowTimeSlot + columnName[offset] * TIME_CELL_SIZE;
+    }
+
+    public static int getElapsed(byte[] columnName, int offset) {
+        return columnName[offset + 1] * ELAPSED_CELL_SIZE;
+    }
+
+    public static boolean isError(byte[] columnName, int offset) {
+        return columnName[offset + 2] != 0;
+    }
+
+    public static String getAgentId(byte[] columnName, int offset, int length) {
+        return BytesUtils.toString(columnName, offset + COLUMN_PREFIX_LENGTH, length - COLUMN_PREFIX_LENGTH);
+    }
+}
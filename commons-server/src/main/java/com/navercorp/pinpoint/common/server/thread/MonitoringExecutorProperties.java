@@ -19,6 +19,7 @@ package com.navercorp.pinpoint.common.server.thread;
 
 import com.navercorp.pinpoint.common.server.executor.ExecutorProperties;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 
 public class MonitoringExecutorProperties extends ExecutorProperties {
 
@@ -27,6 +28,20 @@ public class MonitoringExecutorProperties extends ExecutorProperties {
     @Positive
     protected int logRate = 100;
 
+    /**
+     * virtual thread per task instead of a thread pool. requires java 21+
+     */
+    protected boolean virtualThread;
+
+    /**
+     * max running tasks of the virtual thread executor. 0: maxPoolSize.
+     * tasks over the limit wait in a queue of queueCapacity, like the thread pool.
+     * with the default the executor runs as many blocking tasks as the pool,
+     * raise it to run more of them at once
+     */
+    @PositiveOrZero
+    protected int maxConcurrency = 0;
+
     public boolean isMonitorEnable() {
         return monitorEnable;
     }
@@ -43,11 +58,32 @@ public class MonitoringExecutorProperties extends ExecutorProperties {
         this.logRate = logRate;
     }
 
+    public boolean isVirtualThread() {
+        return virtualThread;
+    }
+
+    public void setVirtualThread(boolean virtualThread) {
+        this.virtualThread = virtualThread;
+    }
+
+    public int getMaxConcurrency() {
+        if (maxConcurrency > 0) {
+            return maxConcurrency;
+        }
+        return maxPoolSize;
+    }
+
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
     @Override
     public String toString() {
         return "MonitoringExecutorProperties{" +
                 "monitorEnable=" + monitorEnable +
                 ", logRate=" + logRate +
+                ", virtualThread=" + virtualThread +
+                ", maxConcurrency=" + maxConcurrency +
                 ", corePoolSize=" + corePoolSize +
                 ", maxPoolSize=" + maxPoolSize +
                 ", keepAliveSeconds=" + keepAliveSeconds +
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.bo.serializer.trace.v2;
+
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.buffer.FixedBuffer;
+import com.navercorp.pinpoint.common.server.bo.AnnotationBo;
+import com.navercorp.pinpoint.common.server.bo.RandomTSpan;
+import com.navercorp.pinpoint.common.server.bo.SpanBo;
+import com.navercorp.pinpoint.common.server.bo.SpanChunkBo;
+import com.navercorp.pinpoint.common.server.bo.SpanEventBo;
+import com.navercorp.pinpoint.common.server.bo.filter.EmptySpanEventFilter;
+import com.navercorp.pinpoint.common.server.bo.grpc.BindAttribute;
+import com.navercorp.pinpoint.common.server.bo.grpc.CollectorGrpcSpanFactory;
+import com.navercorp.pinpoint.common.server.bo.grpc.GrpcSpanBinder;
+import com.navercorp.pinpoint.common.server.bo.grpc.GrpcSpanFactory;
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
+import com.navercorp.pinpoint.common.util.IntStringStringValue;
+import com.navercorp.pinpoint.grpc.trace.PSpan;
+import com.navercorp.pinpoint.grpc.trace.PSpanChunk;
+import com.navercorp.pinpoint.grpc.trace.PSpanEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class SpanEncoderV1Test {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private static final int REPEAT_COUNT = 10;
+
+    private final long spanAcceptedTime = System.currentTimeMillis();
+
+    private final RandomTSpan randomTSpan = new RandomTSpan();
+
+    private final BindAttribute attribute = new BindAttribute("agentId", "applicationName", 88, spanAcceptedTime);
+    private final GrpcSpanFactory grpcSpanFactory = new CollectorGrpcSpanFactory(new GrpcSpanBinder(), new EmptySpanEventFilter());
+
+    private final SpanEncoder spanEncoderV0 = new SpanEncoderV0();
+    private final SpanEncoder spanEncoderV1 = new SpanEncoderV1();
+    private final SpanDecoder spanDecoder = new SpanDecoderV1();
+
+    @RepeatedTest(REPEAT_COUNT)
+    public void encodeSpan() {
+        SpanBo spanBo = randomComplexSpan();
+
+        assertSpan(spanEncoderV1, spanBo);
+    }
+
+    @RepeatedTest(REPEAT_COUNT)
+    public void encodeSpanChunk() {
+        SpanChunkBo spanChunkBo = randomComplexSpanChunk();
+
+        assertSpanChunk(spanEncoderV1, spanChunkBo);
+    }
+
+    @Test
+    public void decodeV0() {
+        assertSpan(spanEncoderV0, randomComplexSpan());
+        assertSpanChunk(spanEncoderV0, randomComplexSpanChunk());
+    }
+
+    @Test
+    public void encodeSpan_nullString() {
+        SpanBo spanBo = randomComplexSpan();
+        spanBo.setRemoteAddr(null);
+        spanBo.getSpanEventBoList().get(1).setDestinationId(null);
+
+        assertSpan(spanEncoderV1, spanBo);
+    }
+
+    @Test
+    public void encodeSpan_repeatedString() {
+        SpanBo spanBo = jdbcSpan(500);
+
+        SpanEncodingContext<SpanBo> encodingContext = new SpanEncodingContext<>(spanBo);
+        int v0Size = spanEncoderV0.encodeSpanColumnValue(encodingContext).remaining();
+        int v1Size = spanEncoderV1.encodeSpanColumnValue(encodingContext).remaining();
+        logger.info("spanEvent:{} v0:{} v1:{}", spanBo.getSpanEventBoList().size(), v0Size, v1Size);
+
+        Assertions.assertThat(v1Size).isLessThan(v0Size / 2);
+
+        assertSpan(spanEncoderV1, spanBo);
+    }
+
+    @Disabled("benchmark")
+    @Test
+    public void benchmark_decode() {
+        List<SpanBo> corpus = realisticCorpus(new Random(1234), 200);
+        List<EncodedSpan> v0 = encode(spanEncoderV0, corpus);
+        List<EncodedSpan> v1 = encode(spanEncoderV1, corpus);
+
+        long spanEvents = corpus.stream().mapToLong(spanBo -> spanBo.getSpanEventBoList().size()).sum();
+        logger.info("spans:{} spanEvents:{} v0:{}KB v1:{}KB", corpus.size(), spanEvents, size(v0) / 1024, size(v1) / 1024);
+
+        for (int round = 0; round < 3; round++) {
+            measure("v0", v0);
+            measure("v1", v1);
+        }
+    }
+
+    private void measure(String name, List<EncodedSpan> encodedSpans) {
+        final int iterations = 50;
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long spanEvents = 0;
+        long startAllocated = threadMXBean.getThreadAllocatedBytes(threadId);
+        long startTime = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            for (EncodedSpan encodedSpan : encodedSpans) {
+                SpanDecodingContext decodingContext = new SpanDecodingContext();
+                decodingContext.setTransactionId(encodedSpan.spanBo().getTransactionId());
+                decodingContext.setCollectorAcceptedTime(encodedSpan.spanBo().getCollectorAcceptTime());
+                SpanBo decode = (SpanBo) spanDecoder.decode(new FixedBuffer(encodedSpan.qualifier()), new FixedBuffer(encodedSpan.column()), decodingContext);
+                spanEvents += decode.getSpanEventBoList().size();
+            }
+        }
+        long elapsed = System.nanoTime() - startTime;
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - startAllocated;
+        long decoded = (long) iterations * encodedSpans.size();
+        logger.info("{} avg:{}us/span allocated:{}KB/span spanEvents:{}", name, elapsed / decoded / 1000, allocated / decoded / 1024, spanEvents / iterations);
+    }
+
+    private List<EncodedSpan> encode(SpanEncoder spanEncoder, List<SpanBo> corpus) {
+        List<EncodedSpan> encodedSpans = new ArrayList<>(corpus.size());
+        for (SpanBo spanBo : corpus) {
+            SpanEncodingContext<SpanBo> encodingContext = new SpanEncodingContext<>(spanBo);
+            byte[] qualifier = toBytes(spanEncoder.encodeSpanQualifier(encodingContext));
+            byte[] column = toBytes(spanEncoder.encodeSpanColumnValue(encodingContext));
+            encodedSpans.add(new EncodedSpan(spanBo, qualifier, column));
+        }
+        return encodedSpans;
+    }
+
+    private long size(List<EncodedSpan> encodedSpans) {
+        return encodedSpans.stream().mapToLong(encodedSpan -> encodedSpan.qualifier().length + encodedSpan.column().length).sum();
+    }
+
+    private record EncodedSpan(SpanBo spanBo, byte[] qualifier, byte[] column) {
+    }
+
+    /**
+     * spans of a typical web application: mostly small, a few with hundreds of span events.
+     * span events are internal methods, jdbc calls sharing a few endpoints and sql ids, and http calls to a few hosts.
+     */
+    private List<SpanBo> realisticCorpus(Random random, int spanSize) {
+        final int[] spanEventSizes = {5, 10, 20, 20, 50, 50, 100, 300, 1000};
+        final String[] dbEndPoints = {"mysql-primary.db.internal:3306", "mysql-replica.db.internal:3306", "redis.cache.internal:6379"};
+        final String[] hosts = {"user-api.internal:8080", "payment-api.internal:8080", "search.internal:9200", "api.partner.example.com"};
+
+        List<SpanBo> corpus = new ArrayList<>(spanSize);
+        for (int i = 0; i < spanSize; i++) {
+            SpanBo spanBo = grpcSpanFactory.buildSpanBo(randomTSpan.randomPSpan().build(), attribute);
+            int spanEventSize = spanEventSizes[random.nextInt(spanEventSizes.length)];
+            int elapsed = 0;
+            for (int sequence = 0; sequence < spanEventSize; sequence++) {
+                SpanEventBo spanEvent = new SpanEventBo();
+                spanEvent.setSequence((short) sequence);
+                spanEvent.setDepth(1 + random.nextInt(6));
+                spanEvent.setStartElapsed(elapsed);
+                spanEvent.setEndElapsed(random.nextInt(20));
+                elapsed += random.nextInt(5);
+
+                int kind = random.nextInt(20);
+                if (kind < 10) {
+                    spanEvent.setServiceType((short) 5000);
+                    spanEvent.setApiId(100 + random.nextInt(40));
+                } else if (kind < 17) {
+                    int db = random.nextInt(dbEndPoints.length);
+                    spanEvent.setServiceType((short) 2101);
+                    spanEvent.setApiId(10 + random.nextInt(3));
+                    spanEvent.setEndPoint(dbEndPoints[db]);
+                    spanEvent.setDestinationId("service_db_" + db);
+                    String bindValue = random.nextInt(1_000_000) + ", 'ACTIVE'";
+                    spanEvent.setAnnotationBoList(List.of(AnnotationBo.of(AnnotationKey.SQL_ID.getCode(),
+                            new IntStringStringValue(random.nextInt(30), null, bindValue))));
+                } else {
+                    String host = hosts[random.nextInt(hosts.length)];
+                    spanEvent.setServiceType((short) 9052);
+                    spanEvent.setApiId(20);
+                    spanEvent.setEndPoint(host);
+                    spanEvent.setDestinationId(host);
+                    spanEvent.setNextSpanId(random.nextLong());
+                    spanEvent.setAnnotationBoList(List.of(
+                            AnnotationBo.of(AnnotationKey.HTTP_URL.getCode(), "http://" + host + "/v1/items/" + random.nextInt(10_000)),
+                            AnnotationBo.of(AnnotationKey.HTTP_STATUS_CODE.getCode(), 200)));
+                }
+                spanBo.addSpanEvent(spanEvent);
+            }
+            corpus.add(spanBo);
+        }
+        return corpus;
+    }
+
+    private SpanBo jdbcSpan(int spanEventSize) {
+        SpanBo spanBo = grpcSpanFactory.buildSpanBo(randomTSpan.randomPSpan().build(), attribute);
+        for (int i = 0; i < spanEventSize; i++) {
+            SpanEventBo spanEvent = new SpanEventBo();
+            spanEvent.setSequence((short) i);
+            spanEvent.setDepth(2);
+            spanEvent.setStartElapsed(i);
+            spanEvent.setEndElapsed(1);
+            spanEvent.setServiceType((short) 2101);
+            spanEvent.setApiId(10);
+            spanEvent.setEndPoint("mysql-primary.db.internal:3306");
+            spanEvent.setDestinationId("order_service_db");
+            spanEvent.setAnnotationBoList(List.of(AnnotationBo.of(41, "SELECT * FROM orders WHERE id = ?")));
+            spanBo.addSpanEvent(spanEvent);
+        }
+        return spanBo;
+    }
+
+    private SpanBo randomComplexSpan() {
+        PSpan.Builder pSpan = randomTSpan.randomPSpan();
+        pSpan.addAllSpanEvent(randomSpanEvents());
+        return grpcSpanFactory.buildSpanBo(pSpan.build(), attribute);
+    }
+
+    private SpanChunkBo randomComplexSpanChunk() {
+        PSpanChunk.Builder spanChunk = randomTSpan.randomTSpanChunk();
+        spanChunk.addAllSpanEvent(randomSpanEvents());
+        return grpcSpanFactory.buildSpanChunkBo(spanChunk.build(), attribute);
+    }
+
+    private List<PSpanEvent> randomSpanEvents() {
+        PSpanEvent spanEvent1 = randomTSpan.randomTSpanEvent((short) 1);
+        PSpanEvent spanEvent2 = randomTSpan.randomTSpanEvent((short) 2);
+        // same endPoint, destinationId
+        PSpanEvent spanEvent3 = spanEvent2.toBuilder().setSequence(3).build();
+        return List.of(spanEvent1, spanEvent2, spanEvent3);
+    }
+
+    private Buffer wrapBuffer(ByteBuffer byteBuffer) {
+        return new FixedBuffer(toBytes(byteBuffer));
+    }
+
+    private byte[] toBytes(ByteBuffer byteBuffer) {
+        byte[] buffer = new byte[byteBuffer.remaining()];
+        byteBuffer.get(buffer);
+        return buffer;
+    }
+
+    private void assertSpan(SpanEncoder spanEncoder, SpanBo spanBo) {
+        SpanEncodingContext<SpanBo> encodingContext = new SpanEncodingContext<>(spanBo);
+        Buffer qualifier = wrapBuffer(spanEncoder.encodeSpanQualifier(encodingContext));
+        Buffer column = wrapBuffer(spanEncoder.encodeSpanColumnValue(encodingContext));
+
+        SpanDecodingContext decodingContext = new SpanDecodingContext();
+        decodingContext.setTransactionId(spanBo.getTransactionId());
+        decodingContext.setCollectorAcceptedTime(spanBo.getCollectorAcceptTime());
+
+        SpanBo decode = (SpanBo) spanDecoder.decode(qualifier, column, decodingContext);
+
+        Assertions.assertThat(decode)
+                .usingRecursiveComparison()
+                .ignoringFields("parentApplicationId", "parentApplicationServiceType", "annotationBoList", "spanEventBoList")
+                .isEqualTo(spanBo);
+        Assertions.assertThat(decode.getAnnotationBoList())
+                .usingRecursiveComparison()
+                .isEqualTo(spanBo.getAnnotationBoList());
+        Assertions.assertThat(decode.getSpanEventBoList())
+                .usingRecursiveComparison()
+                .isEqualTo(spanBo.getSpanEventBoList());
+    }
+
+    private void assertSpanChunk(SpanEncoder spanEncoder, SpanChunkBo spanChunkBo) {
+        SpanEncodingContext<SpanChunkBo> encodingContext = new SpanEncodingContext<>(spanChunkBo);
+        Buffer qualifier = wrapBuffer(spanEncoder.encodeSpanChunkQualifier(encodingContext));
+        Buffer column = wrapBuffer(spanEncoder.encodeSpanChunkColumnValue(encodingContext));
+
+        SpanDecodingContext decodingContext = new SpanDecodingContext();
+        decodingContext.setTransactionId(spanChunkBo.getTransactionId());
+        decodingContext.setCollectorAcceptedTime(spanChunkBo.getCollectorAcceptTime());
+
+        SpanChunkBo decode = (SpanChunkBo) spanDecoder.decode(qualifier, column, decodingContext);
+
+        Assertions.assertThat(decode)
+                .usingRecursiveComparison()
+                .ignoringFields("endPoint", "serviceType", "applicationServiceType", "spanEventBoList", "localAsyncId")
+                .isEqualTo(spanChunkBo);
+        Assertions.assertThat(decode.getSpanEventBoList())
+                .usingRecursiveComparison()
+                .isEqualTo(spanChunkBo.getSpanEventBoList());
+    }
+}
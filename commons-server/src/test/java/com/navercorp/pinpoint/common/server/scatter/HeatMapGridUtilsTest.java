@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.scatter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+public class HeatMapGridUtilsTest {
+
+    @Test
+    public void rowKey() {
+        long time = 1700000012345L;
+        long rowTimeSlot = HeatMapGridUtils.getRowTimeSlot(time);
+
+        byte[] rowKey = HeatMapGridUtils.makeRowKey("applicationName", rowTimeSlot);
+        Assertions.assertEquals(rowTimeSlot, HeatMapGridUtils.getRowTimeSlot(rowKey));
+    }
+
+    @Test
+    public void rowKey_reversedTime() {
+        byte[] older = HeatMapGridUtils.makeRowKey("applicationName", 60000);
+        byte[] newer = HeatMapGridUtils.makeRowKey("applicationName", 120000);
+
+        Assertions.assertTrue(Arrays.compareUnsigned(newer, older) < 0);
+    }
+
+    @Test
+    public void columnName() {
+        long time = 1700000012345L;
+        long rowTimeSlot = HeatMapGridUtils.getRowTimeSlot(time);
+        int timeCell = HeatMapGridUtils.getTimeCell(time);
+
+        byte[] columnName = HeatMapGridUtils.makeColumnName(timeCell, HeatMapGridUtils.getElapsedCell(250), true, "agentId");
+
+        Assertions.assertEquals(1700000010000L, HeatMapGridUtils.getTime(rowTimeSlot, columnName, 0));
+        Assertions.assertEquals(200, HeatMapGridUtils.getElapsed(columnName, 0));
+        Assertions.assertTrue(HeatMapGridUtils.isError(columnName, 0));
+        Assertions.assertEquals("agentId", HeatMapGridUtils.getAgentId(columnName, 0, columnName.length));
+    }
+
+    @Test
+    public void elapsedCell() {
+        Assertions.assertEquals(0, HeatMapGridUtils.getElapsedCell(-1));
+        Assertions.assertEquals(0, HeatMapGridUtils.getElapsedCell(99));
+        Assertions.assertEquals(1, HeatMapGridUtils.getElapsedCell(100));
+        Assertions.assertEquals(HeatMapGridUtils.ELAPSED_CELL_OVERFLOW, HeatMapGridUtils.getElapsedCell(10000));
+        Assertions.assertEquals(HeatMapGridUtils.ELAPSED_CELL_OVERFLOW, HeatMapGridUtils.getElapsedCell(Integer.MAX_VALUE));
+    }
+}
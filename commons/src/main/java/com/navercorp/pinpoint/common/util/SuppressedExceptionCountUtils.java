@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.common.util;
+
+/**
+ * Carries the number of identical exception chains dropped by the agent in the message of the next chain it sends,
+ * the exception metadata message has no field for an occurrence count.
+ * e.g. {@code "Connection refused [+42 suppressed]"}
+ */
+public final class SuppressedExceptionCountUtils {
+
+    private static final String PREFIX = " [+";
+    private static final String SUFFIX = " suppressed]";
+
+    private SuppressedExceptionCountUtils() {
+    }
+
+    public static String appendSuppressedCount(String message, int suppressedCount) {
+        if (suppressedCount <= 0) {
+            return message;
+        }
+        final String nonNullMessage = message == null ? "" : message;
+        return nonNullMessage + PREFIX + suppressedCount + SUFFIX;
+    }
+
+    /**
+     * @return the number of chains suppressed before the one carrying this message, 0 if there is none
+     */
+    public static int getSuppressedCount(String message) {
+        final int index = indexOf(message);
+        if (index == -1) {
+            return 0;
+        }
+        return Integer.parseInt(message.substring(index + PREFIX.length(), message.length() - SUFFIX.length()));
+    }
+
+    public static String removeSuppressedCount(String message) {
+        final int index = indexOf(message);
+        if (index == -1) {
+            return message;
+        }
+        return message.substring(0, index);
+    }
+
+    private static int indexOf(String message) {
+        if (message == null || !message.endsWith(SUFFIX)) {
+            return -1;
+        }
+        final int index = message.lastIndexOf(PREFIX);
+        if (index == -1) {
+            return -1;
+        }
+        final int numberStart = index + PREFIX.length();
+        final int numberEnd = message.length() - SUFFIX.length();
+        if (numberStart >= numberEnd || numberEnd - numberStart > 9) {
+            return -1;
+        }
+        for (int i = numberStart; i < numberEnd; i++) {
+            final char c = message.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+        }
+        return index;
+    }
+}
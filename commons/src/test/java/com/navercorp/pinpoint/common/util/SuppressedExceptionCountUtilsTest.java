@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.common.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class SuppressedExceptionCountUtilsTest {
+
+    @Test
+    void appendAndParse() {
+        String message = SuppressedExceptionCountUtils.appendSuppressedCount("Connection refused", 42);
+
+        Assertions.assertEquals("Connection refused [+42 suppressed]", message);
+        Assertions.assertEquals(42, SuppressedExceptionCountUtils.getSuppressedCount(message));
+        Assertions.assertEquals("Connection refused", SuppressedExceptionCountUtils.removeSuppressedCount(message));
+    }
+
+    @Test
+    void noSuppressedCount() {
+        Assertions.assertEquals("message", SuppressedExceptionCountUtils.appendSuppressedCount("message", 0));
+        Assertions.assertEquals(0, SuppressedExceptionCountUtils.getSuppressedCount("message"));
+        Assertions.assertEquals(0, SuppressedExceptionCountUtils.getSuppressedCount(null));
+        Assertions.assertEquals(0, SuppressedExceptionCountUtils.getSuppressedCount("value [+ suppressed]"));
+        Assertions.assertEquals(0, SuppressedExceptionCountUtils.getSuppressedCount("value [+1x suppressed]"));
+        Assertions.assertEquals("value [+1x suppressed]", SuppressedExceptionCountUtils.removeSuppressedCount("value [+1x suppressed]"));
+    }
+}
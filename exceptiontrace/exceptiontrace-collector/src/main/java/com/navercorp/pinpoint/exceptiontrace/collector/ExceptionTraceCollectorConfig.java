@@ -17,6 +17,7 @@
 package com.navercorp.pinpoint.exceptiontrace.collector;
 
 import com.navercorp.pinpoint.exceptiontrace.collector.config.ExceptionMetricKafkaConfiguration;
+import com.navercorp.pinpoint.exceptiontrace.collector.config.ExceptionTraceRollupConfiguration;
 import com.navercorp.pinpoint.pinot.config.PinotConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.ComponentScan;
@@ -28,7 +29,7 @@ import org.springframework.context.annotation.PropertySource;
  * @author intr3p1d
  */
 @Configuration
-@Import({PinotConfiguration.class, ExceptionMetricKafkaConfiguration.class, ExceptionTraceCollectorPropertySources.class})
+@Import({PinotConfiguration.class, ExceptionMetricKafkaConfiguration.class, ExceptionTraceRollupConfiguration.class, ExceptionTraceCollectorPropertySources.class})
 @ComponentScan({
         "com.navercorp.pinpoint.common.server.mapper",
         "com.navercorp.pinpoint.exceptiontrace.collector.service",
@@ -16,6 +16,7 @@
 package com.navercorp.pinpoint.exceptiontrace.collector.config;
 
 import com.navercorp.pinpoint.exceptiontrace.collector.entity.ExceptionMetaDataEntity;
+import com.navercorp.pinpoint.exceptiontrace.collector.entity.ExceptionTraceRollupEntity;
 import com.navercorp.pinpoint.pinot.kafka.KafkaConfiguration;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
@@ -31,10 +32,18 @@ import org.springframework.kafka.core.ProducerFactory;
 @Import({KafkaConfiguration.class})
 public class ExceptionMetricKafkaConfiguration {
 
+    // stays on json: the exceptionTrace table decodes with CLPLogMessageDecoder, which reads json only
     @Bean
     public KafkaTemplate<String, ExceptionMetaDataEntity> kafkaExceptionMetaDataTemplate(
             @Qualifier("kafkaProducerFactory") ProducerFactory producerFactory
     ) {
         return new KafkaTemplate<String, ExceptionMetaDataEntity>(producerFactory);
     }
+
+    @Bean
+    public KafkaTemplate<String, ExceptionTraceRollupEntity> kafkaExceptionTraceRollupTemplate(
+            @Qualifier("kafkaProducerFactory") ProducerFactory producerFactory
+    ) {
+        return new KafkaTemplate<String, ExceptionTraceRollupEntity>(producerFactory);
+    }
 }
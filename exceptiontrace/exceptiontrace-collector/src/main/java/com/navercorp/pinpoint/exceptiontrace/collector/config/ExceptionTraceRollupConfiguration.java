@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.exceptiontrace.collector.config;
+
+import com.navercorp.pinpoint.exceptiontrace.collector.dao.ExceptionTraceRollupAggregator;
+import com.navercorp.pinpoint.exceptiontrace.collector.dao.ExceptionTraceRollupScheduler;
+import com.navercorp.pinpoint.exceptiontrace.collector.entity.ExceptionTraceRollupEntity;
+import com.navercorp.pinpoint.exceptiontrace.collector.mapper.ErrorMessageMapper;
+import com.navercorp.pinpoint.pinot.kafka.util.KafkaCallbacks;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * @see ExceptionTraceRollupAggregator
+ */
+@Configuration
+@ConditionalOnProperty(name = "collector.exceptiontrace.rollup.enable", havingValue = "true")
+public class ExceptionTraceRollupConfiguration {
+
+    // the web reads the rollup table at a one minute resolution
+    private static final long ROLLUP_WINDOW_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final Logger logger = LogManager.getLogger(ExceptionTraceRollupConfiguration.class);
+
+    @Bean
+    public ExceptionTraceRollupAggregator exceptionTraceRollupAggregator(
+            @Qualifier("kafkaExceptionTraceRollupTemplate") KafkaTemplate<String, ExceptionTraceRollupEntity> kafkaTemplate,
+            @Value("${kafka.exception.rollup.topic}") String topic,
+            @Value("${collector.exceptiontrace.rollup.flush-delay-millis:60000}") long flushDelayMillis,
+            ErrorMessageMapper errorMessageMapper
+    ) {
+        logger.info("ExceptionTraceRollup topic:{} window:{}ms flushDelay:{}ms", topic, ROLLUP_WINDOW_MILLIS, flushDelayMillis);
+
+        final BiConsumer<SendResult<String, ExceptionTraceRollupEntity>, Throwable> callback
+                = KafkaCallbacks.loggingCallback("Kafka(ExceptionTraceRollupEntity)", logger);
+        return new ExceptionTraceRollupAggregator(ROLLUP_WINDOW_MILLIS, flushDelayMillis, rollup -> {
+            rollup.setErrorMessage(errorMessageMapper.replaceCharacters(rollup.getErrorMessage()));
+            kafkaTemplate.send(topic, rollup.getApplicationName(), rollup).whenComplete(callback);
+        });
+    }
+
+    @Bean(destroyMethod = "close")
+    public ExceptionTraceRollupScheduler exceptionTraceRollupScheduler(
+            ExceptionTraceRollupAggregator exceptionTraceRollupAggregator,
+            @Qualifier("kafkaExceptionTraceRollupTemplate") KafkaTemplate<String, ExceptionTraceRollupEntity> kafkaTemplate,
+            @Value("${collector.exceptiontrace.rollup.flush-interval-millis:10000}") long flushIntervalMillis
+    ) {
+        return new ExceptionTraceRollupScheduler(exceptionTraceRollupAggregator, kafkaTemplate, flushIntervalMillis);
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.exceptiontrace.collector.dao;
+
+import com.navercorp.pinpoint.common.util.LRUCache;
+import com.navercorp.pinpoint.common.util.SuppressedExceptionCountUtils;
+import com.navercorp.pinpoint.exceptiontrace.collector.entity.ExceptionTraceRollupEntity;
+import com.navercorp.pinpoint.exceptiontrace.common.model.ExceptionMetaData;
+import com.navercorp.pinpoint.exceptiontrace.common.model.StackTraceElementWrapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongPredicate;
+
+/**
+ * Counts exceptions per application, error class, stack trace fingerprint and time window in memory,
+ * and emits one {@link ExceptionTraceRollupEntity} per window, so that group summaries and charts
+ * do not have to scan every exception row.
+ * <p>
+ * A window is emitted once {@code flushDelay} has passed after its end, to wait for the agents sending their batch late.
+ * An exception arriving after its window was emitted opens the window again and is emitted by a later flush.
+ * Every exception is counted exactly once, and queries sum the rollups of the same window,
+ * whichever collector or flush they come from.
+ * Open windows are emitted on shutdown, only the counts of a crashed collector are lost.
+ * <p>
+ * The agent sends repeated chains without a stack trace, they are counted under the fingerprint of the last full
+ * chain of the same agent, error class and depth. Those arriving before any full chain have no fingerprint and are not rolled up.
+ * Chains dropped by the agent are counted with the next chain it sends, see {@link SuppressedExceptionCountUtils}.
+ */
+public class ExceptionTraceRollupAggregator {
+
+    private static final int MAX_CHAIN_FINGERPRINTS = 65536;
+
+    private final Logger logger = LogManager.getLogger(ExceptionTraceRollupAggregator.class);
+
+    private final long windowSize;
+    private final long flushDelay;
+    private final Consumer<ExceptionTraceRollupEntity> rollupConsumer;
+
+    private final ConcurrentMap<WindowKey, Accumulator> windows = new ConcurrentHashMap<>();
+    private final Map<ChainKey, String> lastFingerprints = Collections.synchronizedMap(new LRUCache<>(MAX_CHAIN_FINGERPRINTS));
+
+    private final LongAdder exceptionCount = new LongAdder();
+    private final LongAdder rollupCount = new LongAdder();
+    private final LongAdder emptyStackTraceCount = new LongAdder();
+    private final LongAdder compactCount = new LongAdder();
+    private final LongAdder suppressedCount = new LongAdder();
+
+    public ExceptionTraceRollupAggregator(long windowSize, long flushDelay, Consumer<ExceptionTraceRollupEntity> rollupConsumer) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize must be positive");
+        }
+        if (flushDelay < 0) {
+            throw new IllegalArgumentException("flushDelay must not be negative");
+        }
+        this.windowSize = windowSize;
+        this.flushDelay = flushDelay;
+        this.rollupConsumer = Objects.requireNonNull(rollupConsumer, "rollupConsumer");
+    }
+
+    public void add(List<ExceptionMetaData> exceptionMetaDataList) {
+        for (ExceptionMetaData exceptionMetaData : exceptionMetaDataList) {
+            add(exceptionMetaData);
+        }
+    }
+
+    private void add(ExceptionMetaData exceptionMetaData) {
+        final String fingerprint = getFingerprint(exceptionMetaData);
+        if (fingerprint == null) {
+            // no full chain of this exception seen yet, the raw exceptionTrace row is kept
+            emptyStackTraceCount.increment();
+            return;
+        }
+        final int suppressed = SuppressedExceptionCountUtils.getSuppressedCount(exceptionMetaData.getErrorMessage());
+        final long timestamp = exceptionMetaData.getTimestamp();
+        final long windowStart = timestamp - Math.floorMod(timestamp, windowSize);
+        final WindowKey key = new WindowKey(exceptionMetaData.getTenantId(), exceptionMetaData.getApplicationName(),
+                exceptionMetaData.getErrorClassName(), fingerprint, windowStart);
+        windows.compute(key, (k, accumulator) -> {
+            if (accumulator == null) {
+                accumulator = new Accumulator();
+            }
+            accumulator.add(exceptionMetaData, 1 + suppressed);
+            return accumulator;
+        });
+        exceptionCount.increment();
+        suppressedCount.add(suppressed);
+    }
+
+    private String getFingerprint(ExceptionMetaData exceptionMetaData) {
+        final ChainKey chainKey = new ChainKey(exceptionMetaData.getTenantId(), exceptionMetaData.getApplicationName(),
+                exceptionMetaData.getAgentId(), exceptionMetaData.getErrorClassName(), exceptionMetaData.getExceptionDepth());
+        final String fingerprint = exceptionMetaData.getStackTraceFingerprint();
+        if (fingerprint != null) {
+            lastFingerprints.put(chainKey, fingerprint);
+            return fingerprint;
+        }
+        final String lastFingerprint = lastFingerprints.get(chainKey);
+        if (lastFingerprint != null) {
+            compactCount.increment();
+        }
+        return lastFingerprint;
+    }
+
+    /**
+     * emits the windows ended before {@code now - flushDelay}
+     */
+    public void flush(long now) {
+        final long closeBefore = now - flushDelay;
+        emit(windowStart -> windowStart + windowSize <= closeBefore);
+    }
+
+    public void flushAll() {
+        emit(windowStart -> true);
+    }
+
+    private void emit(LongPredicate closed) {
+        int emitted = 0;
+        Iterator<Map.Entry<WindowKey, Accumulator>> iterator = windows.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<WindowKey, Accumulator> entry = iterator.next();
+            final WindowKey key = entry.getKey();
+            if (!closed.test(key.windowStart())) {
+                continue;
+            }
+            // remove(key) instead of iterator.remove() : an exception added after the entry was read must not be dropped
+            final Accumulator accumulator = windows.remove(key);
+            if (accumulator == null) {
+                continue;
+            }
+            rollupConsumer.accept(accumulator.toEntity(key));
+            emitted++;
+        }
+        rollupCount.add(emitted);
+        if (logger.isDebugEnabled()) {
+            logger.debug("emit rollup:{} open window:{}", emitted, windows.size());
+        }
+    }
+
+    public long getExceptionCount() {
+        return exceptionCount.sum();
+    }
+
+    public long getRollupCount() {
+        return rollupCount.sum();
+    }
+
+    public long getEmptyStackTraceCount() {
+        return emptyStackTraceCount.sum();
+    }
+
+    public long getCompactCount() {
+        return compactCount.sum();
+    }
+
+    public long getSuppressedCount() {
+        return suppressedCount.sum();
+    }
+
+    public int getOpenWindowCount() {
+        return windows.size();
+    }
+
+    private record ChainKey(String tenantId, String applicationName, String agentId, String errorClassName,
+                            int exceptionDepth) {
+    }
+
+    private record WindowKey(String tenantId, String applicationName, String errorClassName,
+                             String stackTraceFingerprint, long windowStart) {
+    }
+
+    // guarded by ConcurrentHashMap.compute() and remove()
+    private static class Accumulator {
+        private long count;
+        private long firstOccurred = Long.MAX_VALUE;
+        private ExceptionMetaData latest;
+
+        void add(ExceptionMetaData exceptionMetaData, long occurrences) {
+            count += occurrences;
+            firstOccurred = Math.min(firstOccurred, exceptionMetaData.getTimestamp());
+            if (latest == null || latest.getTimestamp() <= exceptionMetaData.getTimestamp()) {
+                latest = exceptionMetaData;
+            }
+        }
+
+        ExceptionTraceRollupEntity toEntity(WindowKey key) {
+            ExceptionTraceRollupEntity entity = new ExceptionTraceRollupEntity();
+            entity.setTenantId(key.tenantId());
+            entity.setTimestamp(key.windowStart());
+            entity.setApplicationName(key.applicationName());
+            entity.setErrorClassName(key.errorClassName());
+            entity.setStackTraceFingerprint(key.stackTraceFingerprint());
+            entity.setExceptionCount(count);
+            entity.setFirstOccurred(firstOccurred);
+            entity.setLastOccurred(latest.getTimestamp());
+
+            entity.setErrorMessage(SuppressedExceptionCountUtils.removeSuppressedCount(latest.getErrorMessage()));
+            entity.setAgentId(latest.getAgentId());
+            entity.setTransactionId(latest.getTransactionId());
+            entity.setSpanId(latest.getSpanId());
+            entity.setExceptionId(latest.getExceptionId());
+            final List<StackTraceElementWrapper> stackTrace = latest.getStackTrace();
+            if (stackTrace != null && !stackTrace.isEmpty()) {
+                entity.setFirstLineOfClassName(stackTrace.get(0).getClassName());
+                entity.setFirstLineOfMethodName(stackTrace.get(0).getMethodName());
+            }
+            return entity;
+        }
+    }
+}
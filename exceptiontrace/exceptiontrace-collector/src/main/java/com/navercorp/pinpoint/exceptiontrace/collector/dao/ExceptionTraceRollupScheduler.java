@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.exceptiontrace.collector.dao;
+
+import com.navercorp.pinpoint.common.profiler.concurrent.PinpointThreadFactory;
+import com.navercorp.pinpoint.exceptiontrace.collector.entity.ExceptionTraceRollupEntity;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emits the closed windows of {@link ExceptionTraceRollupAggregator} periodically, and all open windows on shutdown.
+ */
+public class ExceptionTraceRollupScheduler implements AutoCloseable {
+
+    private final Logger logger = LogManager.getLogger(ExceptionTraceRollupScheduler.class);
+
+    private final ExceptionTraceRollupAggregator aggregator;
+    private final KafkaTemplate<String, ExceptionTraceRollupEntity> kafkaTemplate;
+    private final ScheduledExecutorService scheduler;
+
+    public ExceptionTraceRollupScheduler(ExceptionTraceRollupAggregator aggregator,
+                                         KafkaTemplate<String, ExceptionTraceRollupEntity> kafkaTemplate,
+                                         long flushIntervalMillis) {
+        this.aggregator = Objects.requireNonNull(aggregator, "aggregator");
+        this.kafkaTemplate = Objects.requireNonNull(kafkaTemplate, "kafkaTemplate");
+
+        ThreadFactory threadFactory = PinpointThreadFactory.createThreadFactory("ExceptionTraceRollup", true);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        this.scheduler.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void flush() {
+        try {
+            aggregator.flush(System.currentTimeMillis());
+        } catch (Throwable th) {
+            logger.warn("ExceptionTraceRollup flush failed. Caused:{}", th.getMessage(), th);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(3000, TimeUnit.MILLISECONDS)) {
+                logger.warn("ExceptionTraceRollup scheduler did not terminate");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        aggregator.flushAll();
+        kafkaTemplate.flush();
+        logger.info("ExceptionTraceRollup closed. exception:{} compact:{} suppressed:{} rollup:{}", aggregator.getExceptionCount(),
+                aggregator.getCompactCount(), aggregator.getSuppressedCount(), aggregator.getRollupCount());
+    }
+}
@@ -42,6 +42,7 @@ public class ExceptionMetaDataEntity {
     private List<Integer> stackTraceLineNumber;
     private List<String> stackTraceMethodName;
     private String stackTraceHash;
+    private String stackTraceFingerprint;
 
     public ExceptionMetaDataEntity() {
     }
@@ -182,6 +183,14 @@ public class ExceptionMetaDataEntity {
         this.stackTraceHash = stackTraceHash;
     }
 
+    public String getStackTraceFingerprint() {
+        return stackTraceFingerprint;
+    }
+
+    public void setStackTraceFingerprint(String stackTraceFingerprint) {
+        this.stackTraceFingerprint = stackTraceFingerprint;
+    }
+
     @Override
     public String toString() {
         return "ExceptionMetaDataEntity{" +
@@ -202,6 +211,7 @@ public class ExceptionMetaDataEntity {
                 ", stackTraceLineNumber=" + stackTraceLineNumber +
                 ", stackTraceMethodName=" + stackTraceMethodName +
                 ", stackTraceHash='" + stackTraceHash + '\'' +
+                ", stackTraceFingerprint='" + stackTraceFingerprint + '\'' +
                 '}';
     }
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.exceptiontrace.collector.entity;
+
+/**
+ * Number of exceptions per application, error class and stack trace fingerprint in a one minute window,
+ * with the fields of the latest exception as a sample.
+ */
+public class ExceptionTraceRollupEntity {
+
+    private String tenantId;
+    private long timestamp;
+    private String applicationName;
+    private String errorClassName;
+    private String stackTraceFingerprint;
+    private long exceptionCount;
+    private String errorMessage;
+    private String firstLineOfClassName;
+    private String firstLineOfMethodName;
+    private String agentId;
+    private String transactionId;
+    private long spanId;
+    private long exceptionId;
+    private long firstOccurred;
+    private long lastOccurred;
+
+    public ExceptionTraceRollupEntity() {
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public String getApplicationName() {
+        return applicationName;
+    }
+
+    public void setApplicationName(String applicationName) {
+        this.applicationName = applicationName;
+    }
+
+    public String getErrorClassName() {
+        return errorClassName;
+    }
+
+    public void setErrorClassName(String errorClassName) {
+        this.errorClassName = errorClassName;
+    }
+
+    public String getStackTraceFingerprint() {
+        return stackTraceFingerprint;
+    }
+
+    public void setStackTraceFingerprint(String stackTraceFingerprint) {
+        this.stackTraceFingerprint = stackTraceFingerprint;
+    }
+
+    public long getExceptionCount() {
+        return exceptionCount;
+    }
+
+    public void setExceptionCount(long exceptionCount) {
+        this.exceptionCount = exceptionCount;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public String getFirstLineOfClassName() {
+        return firstLineOfClassName;
+    }
+
+    public void setFirstLineOfClassName(String firstLineOfClassName) {
+        this.firstLineOfClassName = firstLineOfClassName;
+    }
+
+    public String getFirstLineOfMethodName() {
+        return firstLineOfMethodName;
+    }
+
+    public void setFirstLineOfMethodName(String firstLineOfMethodName) {
+        this.firstLineOfMethodName = firstLineOfMethodName;
+    }
+
+    public String getAgentId() {
+        return agentId;
+    }
+
+    public void setAgentId(String agentId) {
+        this.agentId = agentId;
+    }
+
+    public String getTransactionId() {
+        return transactionId;
+    }
+
+    public void setTransactionId(String transactionId) {
+        this.transactionId = transactionId;
+    }
+
+    public long getSpanId() {
+        return spanId;
+    }
+
+    public void setSpanId(long spanId) {
+        this.spanId = spanId;
+    }
+
+    public long getExceptionId() {
+        return exceptionId;
+    }
+
+    public void setExceptionId(long exceptionId) {
+        this.exceptionId = exceptionId;
+    }
+
+    public long getFirstOccurred() {
+        return firstOccurred;
+    }
+
+    public void setFirstOccurred(long firstOccurred) {
+        this.firstOccurred = firstOccurred;
+    }
+
+    public long getLastOccurred() {
+        return lastOccurred;
+    }
+
+    public void setLastOccurred(long lastOccurred) {
+        this.lastOccurred = lastOccurred;
+    }
+
+    @Override
+    public String toString() {
+        return "ExceptionTraceRollupEntity{" +
+                "tenantId='" + tenantId + '\'' +
+                ", timestamp=" + timestamp +
+                ", applicationName='" + applicationName + '\'' +
+                ", errorClassName='" + errorClassName + '\'' +
+                ", stackTraceFingerprint='" + stackTraceFingerprint + '\'' +
+                ", exceptionCount=" + exceptionCount +
+                ", errorMessage='" + errorMessage + '\'' +
+                ", firstLineOfClassName='" + firstLineOfClassName + '\'' +
+                ", firstLineOfMethodName='" + firstLineOfMethodName + '\'' +
+                ", agentId='" + agentId + '\'' +
+                ", transactionId='" + transactionId + '\'' +
+                ", spanId=" + spanId +
+                ", exceptionId=" + exceptionId +
+                ", firstOccurred=" + firstOccurred +
+                ", lastOccurred=" + lastOccurred +
+                '}';
+    }
+}
@@ -22,6 +22,7 @@ import com.navercorp.pinpoint.common.server.bo.exception.ExceptionWrapperBo;
 import com.navercorp.pinpoint.common.server.bo.exception.StackTraceElementWrapperBo;
 import com.navercorp.pinpoint.common.trace.ServiceType;
 import com.navercorp.pinpoint.exceptiontrace.collector.dao.ExceptionTraceDao;
+import com.navercorp.pinpoint.exceptiontrace.collector.dao.ExceptionTraceRollupAggregator;
 import com.navercorp.pinpoint.exceptiontrace.common.model.ExceptionMetaData;
 import com.navercorp.pinpoint.exceptiontrace.common.model.StackTraceElementWrapper;
 import com.navercorp.pinpoint.loader.service.ServiceTypeRegistryService;
@@ -34,6 +35,7 @@ import org.springframework.validation.annotation.Validated;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -46,22 +48,28 @@ public class PinotExceptionMetaDataService implements ExceptionMetaDataService {
     private final ExceptionTraceDao exceptionTraceDao;
     private final ServiceTypeRegistryService registry;
     private final TenantProvider tenantProvider;
+    private final ExceptionTraceRollupAggregator rollupAggregator;
 
 
     public PinotExceptionMetaDataService(
             ExceptionTraceDao exceptionTraceDao,
             ServiceTypeRegistryService registry,
-            TenantProvider tenantProvider
+            TenantProvider tenantProvider,
+            Optional<ExceptionTraceRollupAggregator> rollupAggregator
     ) {
         this.exceptionTraceDao = Objects.requireNonNull(exceptionTraceDao, "exceptionTraceDao");
         this.registry = Objects.requireNonNull(registry, "serviceTypeRegistryService");
         this.tenantProvider = Objects.requireNonNull(tenantProvider, "tenantProvider");
+        this.rollupAggregator = Objects.requireNonNull(rollupAggregator, "rollupAggregator").orElse(null);
     }
 
     @Override
     public void save(@Valid ExceptionMetaDataBo exceptionMetaDataBo) {
         List<ExceptionMetaData> exceptionMetaData = toExceptionMetaData(exceptionMetaDataBo);
         exceptionTraceDao.insert(exceptionMetaData);
+        if (rollupAggregator != null) {
+            rollupAggregator.add(exceptionMetaData);
+        }
     }
 
     private List<ExceptionMetaData> toExceptionMetaData(
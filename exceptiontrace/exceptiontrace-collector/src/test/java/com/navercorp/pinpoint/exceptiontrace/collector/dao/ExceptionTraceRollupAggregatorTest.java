@@ -0,0 +1,148 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.exceptiontrace.collector.dao;
+
+import com.navercorp.pinpoint.common.util.SuppressedExceptionCountUtils;
+import com.navercorp.pinpoint.exceptiontrace.collector.entity.ExceptionTraceRollupEntity;
+import com.navercorp.pinpoint.exceptiontrace.common.model.ExceptionMetaData;
+import com.navercorp.pinpoint.exceptiontrace.common.model.StackTraceElementWrapper;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+class ExceptionTraceRollupAggregatorTest {
+
+    private static final long WINDOW = 60_000;
+    private static final long FLUSH_DELAY = 10_000;
+
+    private final List<ExceptionTraceRollupEntity> rollups = new ArrayList<>();
+    private final ExceptionTraceRollupAggregator aggregator = new ExceptionTraceRollupAggregator(WINDOW, FLUSH_DELAY, rollups::add);
+
+    @Test
+    void rollup() {
+        aggregator.add(List.of(
+                exception("java.lang.IllegalStateException", "order", 60_000, 41),
+                exception("java.lang.IllegalStateException", "order", 65_000, 42),
+                exception("java.lang.IllegalStateException", "order", 119_999, 43),
+                exception("java.lang.NullPointerException", "order", 70_000, 10),
+                exception("java.lang.IllegalStateException", "order", 120_000, 44)));
+
+        // window [60000, 120000) closes at 130000
+        aggregator.flush(129_999);
+        Assertions.assertThat(rollups).isEmpty();
+
+        aggregator.flush(130_000);
+        rollups.sort(Comparator.comparing(ExceptionTraceRollupEntity::getErrorClassName));
+        Assertions.assertThat(rollups).hasSize(2);
+
+        ExceptionTraceRollupEntity illegalState = rollups.get(0);
+        Assertions.assertThat(illegalState.getTimestamp()).isEqualTo(60_000);
+        Assertions.assertThat(illegalState.getExceptionCount()).isEqualTo(3);
+        Assertions.assertThat(illegalState.getFirstOccurred()).isEqualTo(60_000);
+        Assertions.assertThat(illegalState.getLastOccurred()).isEqualTo(119_999);
+        Assertions.assertThat(illegalState.getExceptionId()).isEqualTo(43);
+        Assertions.assertThat(illegalState.getFirstLineOfClassName()).isEqualTo("com.example.OrderService");
+        Assertions.assertThat(illegalState.getFirstLineOfMethodName()).isEqualTo("order");
+
+        ExceptionTraceRollupEntity nullPointer = rollups.get(1);
+        Assertions.assertThat(nullPointer.getExceptionCount()).isEqualTo(1);
+
+        Assertions.assertThat(aggregator.getOpenWindowCount()).isEqualTo(1);
+    }
+
+    @Test
+    void groupByFingerprint() {
+        aggregator.add(List.of(
+                exception("java.lang.IllegalStateException", "order", 60_000, 1),
+                exception("java.lang.IllegalStateException", "cancel", 60_000, 2)));
+        aggregator.flushAll();
+
+        Assertions.assertThat(rollups).hasSize(2);
+        Assertions.assertThat(rollups).extracting(ExceptionTraceRollupEntity::getStackTraceFingerprint).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void lateException() {
+        aggregator.add(List.of(exception("java.lang.IllegalStateException", "order", 60_000, 1)));
+        aggregator.flush(130_000);
+        aggregator.add(List.of(exception("java.lang.IllegalStateException", "order", 61_000, 2)));
+        aggregator.flush(130_000);
+
+        // emitted separately, the web sums the two rollups of the same window
+        Assertions.assertThat(rollups).extracting(ExceptionTraceRollupEntity::getTimestamp).containsExactly(60_000L, 60_000L);
+        Assertions.assertThat(rollups).extracting(ExceptionTraceRollupEntity::getExceptionCount).containsExactly(1L, 1L);
+        Assertions.assertThat(aggregator.getExceptionCount()).isEqualTo(2);
+        Assertions.assertThat(aggregator.getRollupCount()).isEqualTo(2);
+    }
+
+    @Test
+    void skipEmptyStackTrace() {
+        aggregator.add(List.of(
+                compact("java.lang.IllegalStateException", 60_000, 1, "message"),
+                exception("java.lang.IllegalStateException", "order", 60_000, 2)));
+        aggregator.flushAll();
+
+        Assertions.assertThat(rollups).hasSize(1);
+        Assertions.assertThat(rollups.get(0).getExceptionCount()).isEqualTo(1);
+        Assertions.assertThat(aggregator.getEmptyStackTraceCount()).isEqualTo(1);
+    }
+
+    @Test
+    void compactChainUsesLastFullFingerprint() {
+        aggregator.add(List.of(
+                exception("java.lang.IllegalStateException", "order", 60_000, 1),
+                compact("java.lang.IllegalStateException", 61_000, 2, "message"),
+                compact("java.lang.IllegalStateException", 62_000, 3, "message")));
+        aggregator.flushAll();
+
+        Assertions.assertThat(rollups).hasSize(1);
+        Assertions.assertThat(rollups.get(0).getExceptionCount()).isEqualTo(3);
+        Assertions.assertThat(rollups.get(0).getLastOccurred()).isEqualTo(62_000);
+        Assertions.assertThat(aggregator.getCompactCount()).isEqualTo(2);
+        Assertions.assertThat(aggregator.getEmptyStackTraceCount()).isZero();
+    }
+
+    @Test
+    void suppressedCount() {
+        aggregator.add(List.of(
+                exception("java.lang.IllegalStateException", "order", 60_000, 1),
+                compact("java.lang.IllegalStateException", 61_000, 2,
+                        SuppressedExceptionCountUtils.appendSuppressedCount("message", 40))));
+        aggregator.flushAll();
+
+        Assertions.assertThat(rollups).hasSize(1);
+        Assertions.assertThat(rollups.get(0).getExceptionCount()).isEqualTo(42);
+        Assertions.assertThat(rollups.get(0).getErrorMessage()).isEqualTo("message");
+        Assertions.assertThat(aggregator.getSuppressedCount()).isEqualTo(40);
+    }
+
+    private ExceptionMetaData compact(String errorClassName, long timestamp, long exceptionId, String message) {
+        return ExceptionMetaData.valueOf("tenant", timestamp, "agent^1^" + exceptionId, 1, exceptionId,
+                "SPRING_BOOT", "app", "agent", "/order", errorClassName, message, 0, List.of());
+    }
+
+    private ExceptionMetaData exception(String errorClassName, String methodName, long timestamp, long exceptionId) {
+        List<StackTraceElementWrapper> stackTrace = List.of(
+                new StackTraceElementWrapper("com.example.OrderService", "OrderService.java", 42, methodName),
+                new StackTraceElementWrapper("com.example.OrderController", "OrderController.java", 10, "post"));
+        return ExceptionMetaData.valueOf("tenant", timestamp, "agent^1^" + exceptionId, 1, exceptionId,
+                "SPRING_BOOT", "app", "agent", "/order", errorClassName, "message", 0, stackTrace);
+    }
+}
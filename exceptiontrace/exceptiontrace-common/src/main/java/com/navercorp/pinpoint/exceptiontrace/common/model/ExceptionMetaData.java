@@ -19,6 +19,7 @@ package com.navercorp.pinpoint.exceptiontrace.common.model;
 import com.navercorp.pinpoint.common.server.util.StringPrecondition;
 import com.navercorp.pinpoint.common.util.StringUtils;
 import com.navercorp.pinpoint.exceptiontrace.common.util.HashUtils;
+import com.navercorp.pinpoint.exceptiontrace.common.util.StackTraceFingerprints;
 
 
 import java.util.List;
@@ -49,6 +50,7 @@ public class ExceptionMetaData {
     private List<StackTraceElementWrapper> stackTrace;
 
     private String stackTraceHash;
+    private String stackTraceFingerprint;
 
     public ExceptionMetaData() {
     }
@@ -93,7 +95,7 @@ public class ExceptionMetaData {
             String errorClassName, String errorMessage, int exceptionDepth,
             List<StackTraceElementWrapper> wrappers
     ) {
-        return new ExceptionMetaData(
+        ExceptionMetaData exceptionMetaData = new ExceptionMetaData(
                 tenantId,
                 timestamp,
                 transactionId,
@@ -109,6 +111,8 @@ public class ExceptionMetaData {
                 wrappers,
                 HashUtils.objectsToHashString(wrappers, StackTraceElementWrapper.funnel())
         );
+        exceptionMetaData.setStackTraceFingerprint(StackTraceFingerprints.fingerprint(wrappers));
+        return exceptionMetaData;
     }
 
     public String getTenantId() {
@@ -223,6 +227,14 @@ public class ExceptionMetaData {
         this.stackTraceHash = stackTraceHash;
     }
 
+    public String getStackTraceFingerprint() {
+        return stackTraceFingerprint;
+    }
+
+    public void setStackTraceFingerprint(String stackTraceFingerprint) {
+        this.stackTraceFingerprint = stackTraceFingerprint;
+    }
+
     @Override
     public String toString() {
         return "ExceptionMetaData{" +
@@ -240,6 +252,7 @@ public class ExceptionMetaData {
                 ", exceptionDepth=" + exceptionDepth +
                 ", stackTrace=" + stackTrace +
                 ", stackTraceHash='" + stackTraceHash + '\'' +
+                ", stackTraceFingerprint='" + stackTraceFingerprint + '\'' +
                 '}';
     }
 }
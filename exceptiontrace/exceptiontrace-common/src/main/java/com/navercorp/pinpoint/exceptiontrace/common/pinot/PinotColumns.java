@@ -39,7 +39,8 @@ public enum PinotColumns {
     STACK_TRACE_FILE_NAME("stackTraceFileName"),
     STACK_TRACE_LINE_NUMBER("stackTraceLineNumber"),
     STACK_TRACE_METHOD_NAME("stackTraceMethodName"),
-    STACK_TRACE_HASH("stackTraceHash");
+    STACK_TRACE_HASH("stackTraceHash"),
+    STACK_TRACE_FINGERPRINT("stackTraceFingerprint");
 
     private final String name;
 
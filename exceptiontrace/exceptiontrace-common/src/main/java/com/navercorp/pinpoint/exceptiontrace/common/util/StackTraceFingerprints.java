@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.exceptiontrace.common.util;
+
+import com.google.common.hash.Hasher;
+import com.navercorp.pinpoint.exceptiontrace.common.model.StackTraceElementWrapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Hashes a stack trace into a fingerprint that stays the same across builds and JVM runs.
+ * <p>
+ * Unlike {@code stackTraceHash}, file names and line numbers are ignored,
+ * the names of generated classes and lambdas are normalized,
+ * and consecutive identical frames (recursion) are counted once.
+ */
+public final class StackTraceFingerprints {
+
+    private static final String GENERATED_CLASS_SEPARATOR = "$$";
+    private static final Pattern PROXY_PACKAGE = Pattern.compile("^jdk\\.proxy\\d+\\.");
+    private static final Pattern GENERATED_SUFFIX = Pattern.compile("(\\$Proxy|Generated\\w*Accessor)\\d+$");
+    private static final Pattern LAMBDA_METHOD_SUFFIX = Pattern.compile("^(lambda\\$.*?)\\$\\d+$");
+
+    private StackTraceFingerprints() {
+    }
+
+    /**
+     * @return {@code null} for an empty stack trace, e.g. a repeated exception sent without its stack trace by the agent
+     */
+    public static String fingerprint(List<StackTraceElementWrapper> stackTrace) {
+        if (stackTrace == null || stackTrace.isEmpty()) {
+            return null;
+        }
+        Hasher hasher = HashUtils.newHasher();
+        String lastClassName = null;
+        String lastMethodName = null;
+        for (StackTraceElementWrapper element : stackTrace) {
+            final String className = normalizeClassName(element.getClassName());
+            final String methodName = normalizeMethodName(element.getMethodName());
+            if (className.equals(lastClassName) && methodName.equals(lastMethodName)) {
+                continue;
+            }
+            // length prefixed, so that "a.B" + "cd" and "a.Bc" + "d" differ
+            hasher.putInt(className.length())
+                    .putString(className, StandardCharsets.UTF_8)
+                    .putInt(methodName.length())
+                    .putString(methodName, StandardCharsets.UTF_8);
+            lastClassName = className;
+            lastMethodName = methodName;
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * {@code Foo$$Lambda$12/0x0000000800c0b000}, {@code Foo$$SpringCGLIB$$0} -> {@code Foo},
+     * {@code jdk.proxy2.$Proxy123} -> {@code jdk.proxy.$Proxy},
+     * {@code GeneratedMethodAccessor45} -> {@code GeneratedMethodAccessor}
+     */
+    static String normalizeClassName(String className) {
+        final int generated = className.indexOf(GENERATED_CLASS_SEPARATOR);
+        if (generated > 0) {
+            className = className.substring(0, generated);
+        }
+        className = PROXY_PACKAGE.matcher(className).replaceFirst("jdk.proxy.");
+        return GENERATED_SUFFIX.matcher(className).replaceFirst("$1");
+    }
+
+    /**
+     * {@code lambda$handle$3} -> {@code lambda$handle}
+     */
+    static String normalizeMethodName(String methodName) {
+        return LAMBDA_METHOD_SUFFIX.matcher(methodName).replaceFirst("$1");
+    }
+}
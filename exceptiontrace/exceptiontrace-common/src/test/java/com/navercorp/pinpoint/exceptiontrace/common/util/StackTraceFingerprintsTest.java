@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.exceptiontrace.common.util;
+
+import com.navercorp.pinpoint.exceptiontrace.common.model.StackTraceElementWrapper;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class StackTraceFingerprintsTest {
+
+    @Test
+    void ignoreFileNameAndLineNumber() {
+        List<StackTraceElementWrapper> build1 = List.of(
+                frame("com.example.OrderService", "OrderService.java", 42, "order"),
+                frame("com.example.OrderController", "OrderController.java", 10, "post"));
+        List<StackTraceElementWrapper> build2 = List.of(
+                frame("com.example.OrderService", "OrderService.java", 57, "order"),
+                frame("com.example.OrderController", "Unknown Source", -1, "post"));
+
+        Assertions.assertThat(StackTraceFingerprints.fingerprint(build1))
+                .isEqualTo(StackTraceFingerprints.fingerprint(build2));
+    }
+
+    @Test
+    void differentMethod() {
+        List<StackTraceElementWrapper> order = List.of(frame("com.example.OrderService", "OrderService.java", 42, "order"));
+        List<StackTraceElementWrapper> cancel = List.of(frame("com.example.OrderService", "OrderService.java", 42, "cancel"));
+
+        Assertions.assertThat(StackTraceFingerprints.fingerprint(order))
+                .isNotEqualTo(StackTraceFingerprints.fingerprint(cancel));
+    }
+
+    @Test
+    void frameBoundary() {
+        List<StackTraceElementWrapper> frame1 = List.of(frame("com.example.Order", "Order.java", 1, "Service"));
+        List<StackTraceElementWrapper> frame2 = List.of(frame("com.example.OrderService", "OrderService.java", 1, ""));
+
+        Assertions.assertThat(StackTraceFingerprints.fingerprint(frame1))
+                .isNotEqualTo(StackTraceFingerprints.fingerprint(frame2));
+    }
+
+    @Test
+    void collapseRecursion() {
+        StackTraceElementWrapper recursive = frame("com.example.Tree", "Tree.java", 12, "visit");
+        StackTraceElementWrapper caller = frame("com.example.Main", "Main.java", 3, "main");
+
+        Assertions.assertThat(StackTraceFingerprints.fingerprint(List.of(recursive, recursive, recursive, caller)))
+                .isEqualTo(StackTraceFingerprints.fingerprint(List.of(recursive, caller)));
+    }
+
+    @Test
+    void emptyStackTrace() {
+        Assertions.assertThat(StackTraceFingerprints.fingerprint(List.of())).isNull();
+    }
+
+    @Test
+    void normalizeClassName() {
+        Assertions.assertThat(StackTraceFingerprints.normalizeClassName("com.example.Foo$$Lambda$12/0x0000000800c0b000"))
+                .isEqualTo("com.example.Foo");
+        Assertions.assertThat(StackTraceFingerprints.normalizeClassName("com.example.Foo$$SpringCGLIB$$0"))
+                .isEqualTo("com.example.Foo");
+        Assertions.assertThat(StackTraceFingerprints.normalizeClassName("jdk.proxy2.$Proxy123"))
+                .isEqualTo("jdk.proxy.$Proxy");
+        Assertions.assertThat(StackTraceFingerprints.normalizeClassName("jdk.internal.reflect.GeneratedMethodAccessor45"))
+                .isEqualTo("jdk.internal.reflect.GeneratedMethodAccessor");
+        Assertions.assertThat(StackTraceFingerprints.normalizeClassName("com.example.Foo$Inner"))
+                .isEqualTo("com.example.Foo$Inner");
+    }
+
+    @Test
+    void normalizeMethodName() {
+        Assertions.assertThat(StackTraceFingerprints.normalizeMethodName("lambda$handle$3")).isEqualTo("lambda$handle");
+        Assertions.assertThat(StackTraceFingerprints.normalizeMethodName("handle")).isEqualTo("handle");
+    }
+
+    private StackTraceElementWrapper frame(String className, String fileName, int lineNumber, String methodName) {
+        return new StackTraceElementWrapper(className, fileName, lineNumber, methodName);
+    }
+}
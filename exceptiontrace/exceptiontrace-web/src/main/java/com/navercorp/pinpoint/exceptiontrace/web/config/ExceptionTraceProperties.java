@@ -38,6 +38,12 @@ public class ExceptionTraceProperties {
     @Value("${web.exceptiontrace.api.period.interval:5m,20m,1h,3h,6h,12h,1d,2d,1w}")
     private List<String> exceptionTracePeriodInteval;
 
+    @Value("${web.exceptiontrace.rollup.enable:false}")
+    private boolean rollupEnable;
+
+    @Value("${web.exceptiontrace.rollup.ingest-delay-millis:70000}")
+    private long rollupIngestDelayMillis;
+
     public int getExceptionTracePeriodMax() {
         return exceptionTracePeriodMax;
     }
@@ -46,6 +52,14 @@ public class ExceptionTraceProperties {
         return exceptionTracePeriodInteval;
     }
 
+    public boolean isRollupEnable() {
+        return rollupEnable;
+    }
+
+    public long getRollupIngestDelayMillis() {
+        return rollupIngestDelayMillis;
+    }
+
     @PostConstruct
     public void log() {
         logger.info("{}", this);
@@ -58,6 +72,8 @@ public class ExceptionTraceProperties {
         return "ExceptionTraceProperties{" +
                 "exceptionTracePeriodInteval=" + exceptionTracePeriodInteval +
                 ", exceptionTracePeriodMax=" + exceptionTracePeriodMax +
+                ", rollupEnable=" + rollupEnable +
+                ", rollupIngestDelayMillis=" + rollupIngestDelayMillis +
                 '}';
     }
 }
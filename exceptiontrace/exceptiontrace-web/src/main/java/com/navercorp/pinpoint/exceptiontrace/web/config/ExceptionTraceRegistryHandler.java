@@ -18,8 +18,10 @@ package com.navercorp.pinpoint.exceptiontrace.web.config;
 import com.navercorp.pinpoint.exceptiontrace.web.entity.ExceptionChartValueViewEntity;
 import com.navercorp.pinpoint.exceptiontrace.web.entity.ExceptionGroupSummaryEntity;
 import com.navercorp.pinpoint.exceptiontrace.web.entity.ExceptionMetaDataEntity;
+import com.navercorp.pinpoint.exceptiontrace.web.entity.ExceptionRollupBinEntity;
 import com.navercorp.pinpoint.exceptiontrace.web.entity.GroupedFieldNameEntity;
 import com.navercorp.pinpoint.exceptiontrace.web.util.ExceptionTraceQueryParameter;
+import com.navercorp.pinpoint.exceptiontrace.web.util.ExceptionTraceRollupHistogramParameter;
 import com.navercorp.pinpoint.mybatis.MyBatisRegistryHandler;
 import org.apache.ibatis.type.TypeAliasRegistry;
 import org.apache.ibatis.type.TypeHandlerRegistry;
@@ -34,7 +36,9 @@ public class ExceptionTraceRegistryHandler implements MyBatisRegistryHandler {
         typeAliasRegistry.registerAlias(GroupedFieldNameEntity.class);
         typeAliasRegistry.registerAlias(ExceptionGroupSummaryEntity.class);
         typeAliasRegistry.registerAlias(ExceptionChartValueViewEntity.class);
+        typeAliasRegistry.registerAlias(ExceptionRollupBinEntity.class);
         typeAliasRegistry.registerAlias(ExceptionTraceQueryParameter.class);
+        typeAliasRegistry.registerAlias(ExceptionTraceRollupHistogramParameter.class);
     }
 
     @Override
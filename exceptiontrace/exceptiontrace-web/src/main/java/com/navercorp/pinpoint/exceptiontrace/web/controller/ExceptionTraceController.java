@@ -74,6 +74,9 @@ public class ExceptionTraceController {
     @Value("${pinpoint.modules.web.exceptiontrace.table:exceptionTrace}")
     private String tableName;
 
+    @Value("${pinpoint.modules.web.exceptiontrace.rollup.table:exceptionTraceRollup}")
+    private String rollupTableName;
+
     private final ExceptionModelMapper mapper;
 
 
@@ -159,6 +162,7 @@ public class ExceptionTraceController {
 
         ExceptionTraceQueryParameter queryParameter = new ExceptionTraceQueryParameter.Builder()
                 .setTableName(tableName)
+                .setRollupTableName(rollupTableName)
                 .setTenantId(tenantProvider.getTenantId())
                 .setApplicationName(applicationName)
                 .setAgentId(agentId)
@@ -191,6 +195,7 @@ public class ExceptionTraceController {
 
         ExceptionTraceQueryParameter queryParameter = new ExceptionTraceQueryParameter.Builder()
                 .setTableName(tableName)
+                .setRollupTableName(rollupTableName)
                 .setTenantId(tenantProvider.getTenantId())
                 .setApplicationName(applicationName)
                 .setAgentId(agentId)
@@ -210,7 +215,8 @@ public class ExceptionTraceController {
     public List<String> getGroups() {
         return Arrays.stream(new GroupByAttributes[]{
                         GroupByAttributes.ERROR_MESSAGE_LOG_TYPE, GroupByAttributes.ERROR_CLASS_NAME,
-                        GroupByAttributes.STACK_TRACE, GroupByAttributes.URI_TEMPLATE
+                        GroupByAttributes.STACK_TRACE, GroupByAttributes.STACK_TRACE_FINGERPRINT,
+                        GroupByAttributes.URI_TEMPLATE
                 }).map(GroupByAttributes::getName)
                 .collect(Collectors.toList());
     }
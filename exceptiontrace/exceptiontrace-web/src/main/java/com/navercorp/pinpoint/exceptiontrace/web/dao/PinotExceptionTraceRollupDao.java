@@ -0,0 +1,233 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.exceptiontrace.web.dao;
+
+import com.navercorp.pinpoint.common.server.mapper.MapStructUtils;
+import com.navercorp.pinpoint.common.server.util.time.Range;
+import com.navercorp.pinpoint.exceptiontrace.web.entity.ExceptionChartValueViewEntity;
+import com.navercorp.pinpoint.exceptiontrace.web.entity.ExceptionGroupSummaryEntity;
+import com.navercorp.pinpoint.exceptiontrace.web.entity.ExceptionRollupBinEntity;
+import com.navercorp.pinpoint.exceptiontrace.web.entity.GroupedFieldNameEntity;
+import com.navercorp.pinpoint.exceptiontrace.web.mapper.ExceptionEntityMapper;
+import com.navercorp.pinpoint.exceptiontrace.web.model.ExceptionGroupSummary;
+import com.navercorp.pinpoint.exceptiontrace.web.util.ExceptionTraceQueryParameter;
+import com.navercorp.pinpoint.exceptiontrace.web.util.ExceptionTraceRollupHistogramParameter;
+import com.navercorp.pinpoint.exceptiontrace.web.util.GroupByAttributes;
+import com.navercorp.pinpoint.exceptiontrace.web.view.ExceptionChartValueView;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Selects the top groups first, then the histograms of those groups only.
+ * Exceptions are counted at a one minute resolution, by the window they occurred in.
+ * The unsettled tail of the range is read from the exception rows and added to the same bins.
+ */
+@Repository
+public class PinotExceptionTraceRollupDao implements ExceptionTraceRollupDao {
+
+    private static final String NAMESPACE = PinotExceptionTraceRollupDao.class.getName() + ".";
+
+    private static final String SELECT_GROUP_SUMMARIES_QUERY = "selectRollupGroupSummaries";
+    private static final String SELECT_HISTOGRAMS_QUERY = "selectRollupHistograms";
+    private static final String SELECT_RAW_GROUP_SUMMARIES_QUERY = "selectRawGroupSummaries";
+    private static final String SELECT_RAW_HISTOGRAMS_QUERY = "selectRawHistograms";
+    // LIMIT of the group summary statements
+    private static final int GROUP_LIMIT = 10;
+
+    private final SqlSessionTemplate sqlPinotSessionTemplate;
+
+    private final ExceptionEntityMapper mapper;
+    private final MapStructUtils mapStructUtils;
+
+    public PinotExceptionTraceRollupDao(
+            @Qualifier("exceptionTracePinotSessionTemplate") SqlSessionTemplate sqlPinotSessionTemplate,
+            ExceptionEntityMapper mapper,
+            MapStructUtils mapStructUtils
+    ) {
+        this.sqlPinotSessionTemplate = Objects.requireNonNull(sqlPinotSessionTemplate, "sqlPinotSessionTemplate");
+        this.mapper = Objects.requireNonNull(mapper, "mapper");
+        this.mapStructUtils = Objects.requireNonNull(mapStructUtils, "mapStructUtils");
+    }
+
+    @Override
+    public List<ExceptionGroupSummary> getGroupSummaries(ExceptionTraceQueryParameter exceptionTraceQueryParameter, long rawFrom) {
+        final List<GroupByAttributes> groupByAttributes = exceptionTraceQueryParameter.getGroupByAttributes();
+        List<ExceptionGroupSummaryEntity> entities = selectGroupSummaries(exceptionTraceQueryParameter, rawFrom);
+        Map<List<String>, long[]> histograms = selectHistograms(exceptionTraceQueryParameter, rawFrom, entities);
+        entities = rankByHistogram(exceptionTraceQueryParameter, rawFrom, entities, histograms);
+
+        List<ExceptionGroupSummary> result = new ArrayList<>(entities.size());
+        for (ExceptionGroupSummaryEntity entity : entities) {
+            entity.setValues(toValues(histograms, entity, exceptionTraceQueryParameter));
+            result.add(mapper.toSummary(entity, groupByAttributes));
+        }
+        return result;
+    }
+
+    @Override
+    public List<ExceptionChartValueView> getChartValueViews(ExceptionTraceQueryParameter exceptionTraceQueryParameter, long rawFrom) {
+        final List<GroupByAttributes> groupByAttributes = exceptionTraceQueryParameter.getGroupByAttributes();
+        List<ExceptionGroupSummaryEntity> groups = selectGroupSummaries(exceptionTraceQueryParameter, rawFrom);
+        Map<List<String>, long[]> histograms = selectHistograms(exceptionTraceQueryParameter, rawFrom, groups);
+        groups = rankByHistogram(exceptionTraceQueryParameter, rawFrom, groups, histograms);
+
+        List<ExceptionChartValueView> result = new ArrayList<>(groups.size());
+        for (int i = 0; i < groups.size(); i++) {
+            ExceptionGroupSummaryEntity group = groups.get(i);
+            ExceptionChartValueViewEntity view = new ExceptionChartValueViewEntity();
+            view.setErrorClassName(group.getErrorClassName());
+            view.setStackTraceFingerprint(group.getStackTraceFingerprint());
+            view.setValues(toValues(histograms, group, exceptionTraceQueryParameter));
+            view.setRowNum(i + 1);
+            result.add(mapper.toChartView(view, groupByAttributes));
+        }
+        return result;
+    }
+
+    private List<ExceptionGroupSummaryEntity> selectGroupSummaries(ExceptionTraceQueryParameter exceptionTraceQueryParameter, long rawFrom) {
+        final Range rollupRange = rollupRange(exceptionTraceQueryParameter.getRange(), rawFrom);
+        final Range rawRange = rawRange(exceptionTraceQueryParameter.getRange(), rawFrom);
+        if (rawRange == null) {
+            return this.sqlPinotSessionTemplate.selectList(NAMESPACE + SELECT_GROUP_SUMMARIES_QUERY, exceptionTraceQueryParameter);
+        }
+        List<ExceptionGroupSummaryEntity> raw = this.sqlPinotSessionTemplate.selectList(NAMESPACE + SELECT_RAW_GROUP_SUMMARIES_QUERY,
+                exceptionTraceQueryParameter.withRange(rawRange));
+        if (rollupRange == null) {
+            return raw;
+        }
+        List<ExceptionGroupSummaryEntity> rollup = this.sqlPinotSessionTemplate.selectList(NAMESPACE + SELECT_GROUP_SUMMARIES_QUERY,
+                exceptionTraceQueryParameter.withRange(rollupRange));
+
+        final List<GroupByAttributes> groupByAttributes = exceptionTraceQueryParameter.getGroupByAttributes();
+        Map<List<String>, ExceptionGroupSummaryEntity> merged = new LinkedHashMap<>();
+        for (ExceptionGroupSummaryEntity entity : rollup) {
+            merged.put(groupKey(entity, groupByAttributes), entity);
+        }
+        for (ExceptionGroupSummaryEntity entity : raw) {
+            merged.merge(groupKey(entity, groupByAttributes), entity, PinotExceptionTraceRollupDao::merge);
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    static ExceptionGroupSummaryEntity merge(ExceptionGroupSummaryEntity older, ExceptionGroupSummaryEntity newer) {
+        // the most recent fields and the last transaction come from the newer part
+        newer.setCount(older.getCount() + newer.getCount());
+        newer.setFirstOccurred(Math.min(older.getFirstOccurred(), newer.getFirstOccurred()));
+        newer.setLastOccurred(Math.max(older.getLastOccurred(), newer.getLastOccurred()));
+        return newer;
+    }
+
+    /**
+     * Each part only returns its own top groups, so the union is ranked again by the counts of the whole range
+     */
+    private List<ExceptionGroupSummaryEntity> rankByHistogram(ExceptionTraceQueryParameter exceptionTraceQueryParameter, long rawFrom,
+                                                              List<ExceptionGroupSummaryEntity> groups, Map<List<String>, long[]> histograms) {
+        final Range range = exceptionTraceQueryParameter.getRange();
+        if (rollupRange(range, rawFrom) == null || rawRange(range, rawFrom) == null) {
+            return groups;
+        }
+        final List<GroupByAttributes> groupByAttributes = exceptionTraceQueryParameter.getGroupByAttributes();
+        for (ExceptionGroupSummaryEntity group : groups) {
+            long[] histogram = histograms.get(groupKey(group, groupByAttributes));
+            if (histogram != null) {
+                group.setCount(Arrays.stream(histogram).sum());
+            }
+        }
+        return groups.stream()
+                .sorted(Comparator.comparingLong(ExceptionGroupSummaryEntity::getCount).reversed())
+                .limit(GROUP_LIMIT)
+                .toList();
+    }
+
+    private Map<List<String>, long[]> selectHistograms(ExceptionTraceQueryParameter exceptionTraceQueryParameter, long rawFrom,
+                                                        List<? extends GroupedFieldNameEntity> groups) {
+        if (groups.isEmpty()) {
+            return Map.of();
+        }
+        final int binCount = Math.toIntExact(exceptionTraceQueryParameter.getTimeWindowRangeCount());
+        final List<GroupByAttributes> groupByAttributes = exceptionTraceQueryParameter.getGroupByAttributes();
+        Map<List<String>, long[]> histograms = new HashMap<>();
+
+        final Range rollupRange = rollupRange(exceptionTraceQueryParameter.getRange(), rawFrom);
+        if (rollupRange != null) {
+            ExceptionTraceRollupHistogramParameter parameter = new ExceptionTraceRollupHistogramParameter(exceptionTraceQueryParameter, rollupRange, groups);
+            addBins(histograms, this.sqlPinotSessionTemplate.selectList(NAMESPACE + SELECT_HISTOGRAMS_QUERY, parameter), binCount, groupByAttributes);
+        }
+        final Range rawRange = rawRange(exceptionTraceQueryParameter.getRange(), rawFrom);
+        if (rawRange != null) {
+            ExceptionTraceRollupHistogramParameter parameter = new ExceptionTraceRollupHistogramParameter(exceptionTraceQueryParameter, rawRange, groups);
+            addBins(histograms, this.sqlPinotSessionTemplate.selectList(NAMESPACE + SELECT_RAW_HISTOGRAMS_QUERY, parameter), binCount, groupByAttributes);
+        }
+        return histograms;
+    }
+
+    private void addBins(Map<List<String>, long[]> histograms, List<ExceptionRollupBinEntity> bins,
+                         int binCount, List<GroupByAttributes> groupByAttributes) {
+        for (ExceptionRollupBinEntity bin : bins) {
+            long[] histogram = histograms.computeIfAbsent(groupKey(bin, groupByAttributes), k -> new long[binCount]);
+            // "timestamp" == range.to is counted in the last bin, as HISTOGRAM() does
+            final int index = (int) Math.min(Math.max(bin.getBin(), 0), binCount - 1);
+            histogram[index] += bin.getCount();
+        }
+    }
+
+    private static Range rollupRange(Range range, long rawFrom) {
+        if (rawFrom <= range.getFrom()) {
+            return null;
+        }
+        return Range.between(range.getFrom(), Math.min(rawFrom - 1, range.getTo()));
+    }
+
+    private static Range rawRange(Range range, long rawFrom) {
+        if (rawFrom > range.getTo()) {
+            return null;
+        }
+        return Range.between(Math.max(rawFrom, range.getFrom()), range.getTo());
+    }
+
+    private String toValues(Map<List<String>, long[]> histograms, GroupedFieldNameEntity group,
+                            ExceptionTraceQueryParameter exceptionTraceQueryParameter) {
+        long[] histogram = histograms.get(groupKey(group, exceptionTraceQueryParameter.getGroupByAttributes()));
+        if (histogram == null) {
+            histogram = new long[Math.toIntExact(exceptionTraceQueryParameter.getTimeWindowRangeCount())];
+        }
+        return mapStructUtils.listToJsonStr(Arrays.stream(histogram).boxed().toList());
+    }
+
+    private List<String> groupKey(GroupedFieldNameEntity entity, List<GroupByAttributes> groupByAttributes) {
+        List<String> key = new ArrayList<>(groupByAttributes.size());
+        for (GroupByAttributes attributes : groupByAttributes) {
+            switch (attributes) {
+                case ERROR_CLASS_NAME -> key.add(entity.getErrorClassName());
+                case STACK_TRACE_FINGERPRINT -> key.add(entity.getStackTraceFingerprint());
+                default -> throw new IllegalArgumentException("Not supported by the rollup table : " + attributes);
+            }
+        }
+        return key;
+    }
+}
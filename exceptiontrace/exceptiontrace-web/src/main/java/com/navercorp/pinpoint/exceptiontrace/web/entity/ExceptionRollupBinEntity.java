@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.exceptiontrace.web.entity;
+
+/**
+ * Exception count of a group in one histogram bin, read from the rollup table
+ */
+public class ExceptionRollupBinEntity extends GroupedFieldNameEntity {
+    private long bin;
+    private long count;
+
+    public ExceptionRollupBinEntity() {
+    }
+
+    public long getBin() {
+        return bin;
+    }
+
+    public void setBin(long bin) {
+        this.bin = bin;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
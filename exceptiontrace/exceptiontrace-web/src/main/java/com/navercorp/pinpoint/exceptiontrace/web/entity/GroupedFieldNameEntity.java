@@ -24,6 +24,7 @@ public class GroupedFieldNameEntity {
     private String errorMessage;
     private String errorMessage_logtype;
     private String stackTraceHash;
+    private String stackTraceFingerprint;
 
     public GroupedFieldNameEntity() {
     }
@@ -67,4 +68,12 @@ public class GroupedFieldNameEntity {
     public void setStackTraceHash(String stackTraceHash) {
         this.stackTraceHash = stackTraceHash;
     }
+
+    public String getStackTraceFingerprint() {
+        return stackTraceFingerprint;
+    }
+
+    public void setStackTraceFingerprint(String stackTraceFingerprint) {
+        this.stackTraceFingerprint = stackTraceFingerprint;
+    }
 }
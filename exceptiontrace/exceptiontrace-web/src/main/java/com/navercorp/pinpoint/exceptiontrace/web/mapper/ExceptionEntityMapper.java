@@ -59,6 +59,7 @@ import static com.navercorp.pinpoint.exceptiontrace.web.mapper.CLPMapper.replace
 public interface ExceptionEntityMapper {
 
     @Mapping(source = ".", target = "stackTrace", qualifiedBy = StackTraceMapper.StringsToStackTrace.class)
+    @Mapping(target = "stackTraceFingerprint", ignore = true)
     ExceptionMetaData toModel(ExceptionMetaDataEntity entity);
 
     @Mapping(source = ".", target = "stackTrace", qualifiedBy = StackTraceMapper.StringsToStackTrace.class)
@@ -95,6 +96,7 @@ public interface ExceptionEntityMapper {
         for (GroupByAttributes attributes : attributesList) {
             switch (attributes) {
                 case STACK_TRACE -> params.setStackTraceHash(checkIfNull(entity.getStackTraceHash()));
+                case STACK_TRACE_FINGERPRINT -> params.setStackTraceFingerprint(checkIfNull(entity.getStackTraceFingerprint()));
                 case URI_TEMPLATE -> params.setUriTemplate(checkIfNull(entity.getUriTemplate()));
                 case ERROR_CLASS_NAME -> params.setErrorClassName(checkIfNull(entity.getErrorClassName()));
                 case ERROR_MESSAGE_LOG_TYPE ->
@@ -114,6 +116,8 @@ public interface ExceptionEntityMapper {
         for (GroupByAttributes attributes : attributesList) {
             switch (attributes) {
                 case STACK_TRACE -> groupedFieldName.setStackTraceHash(checkIfNull(entity.getStackTraceHash()));
+                case STACK_TRACE_FINGERPRINT ->
+                        groupedFieldName.setStackTraceFingerprint(checkIfNull(entity.getStackTraceFingerprint()));
                 case URI_TEMPLATE -> groupedFieldName.setUriTemplate(checkIfNull(entity.getUriTemplate()));
                 case ERROR_CLASS_NAME -> groupedFieldName.setErrorClassName(checkIfNull(entity.getErrorClassName()));
                 case ERROR_MESSAGE_LOG_TYPE ->
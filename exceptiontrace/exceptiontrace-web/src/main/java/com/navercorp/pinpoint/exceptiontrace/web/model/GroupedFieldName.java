@@ -35,12 +35,13 @@ public class GroupedFieldName {
     private String errorClassName;
     private String errorMessage;
     private String stackTraceHash;
+    private String stackTraceFingerprint;
 
     public GroupedFieldName() {
     }
 
     public String inAString(int rowNum) {
-        if (uriTemplate == null && errorClassName == null && errorMessage == null && stackTraceHash == null) {
+        if (uriTemplate == null && errorClassName == null && errorMessage == null && stackTraceHash == null && stackTraceFingerprint == null) {
             return null;
         }
         return rowNum + ") " + StringUtils.abbreviate(
@@ -48,7 +49,8 @@ public class GroupedFieldName {
                                 uriTemplate,
                                 errorClassName,
                                 errorMessage,
-                                stackTraceHash
+                                stackTraceHash,
+                                stackTraceFingerprint
                         )
                         .filter(StringUtils::hasLength)
                         .collect(Collectors.joining(", ")),
@@ -88,6 +90,14 @@ public class GroupedFieldName {
         this.stackTraceHash = stackTraceHash;
     }
 
+    public String getStackTraceFingerprint() {
+        return stackTraceFingerprint;
+    }
+
+    public void setStackTraceFingerprint(String stackTraceFingerprint) {
+        this.stackTraceFingerprint = stackTraceFingerprint;
+    }
+
     @Override
     public String toString() {
         return "GroupedFieldName{" +
@@ -95,6 +105,7 @@ public class GroupedFieldName {
                 ", errorClassName='" + errorClassName + '\'' +
                 ", errorMessage='" + errorMessage + '\'' +
                 ", stackTraceHash='" + stackTraceHash + '\'' +
+                ", stackTraceFingerprint='" + stackTraceFingerprint + '\'' +
                 '}';
     }
 }
@@ -26,6 +26,7 @@ public class GroupFilterParams implements Params {
     private String errorClassName;
     private String errorMessage_logtype;
     private String stackTraceHash;
+    private String stackTraceFingerprint;
 
     public GroupFilterParams() {
     }
@@ -62,6 +63,14 @@ public class GroupFilterParams implements Params {
         this.stackTraceHash = stackTraceHash;
     }
 
+    public String getStackTraceFingerprint() {
+        return stackTraceFingerprint;
+    }
+
+    public void setStackTraceFingerprint(String stackTraceFingerprint) {
+        this.stackTraceFingerprint = stackTraceFingerprint;
+    }
+
 
     @Override
     public String toString() {
@@ -70,6 +79,7 @@ public class GroupFilterParams implements Params {
                 ", errorClassName='" + errorClassName + '\'' +
                 ", errorMessage_logtype='" + errorMessage_logtype + '\'' +
                 ", stackTraceHash='" + stackTraceHash + '\'' +
+                ", stackTraceFingerprint='" + stackTraceFingerprint + '\'' +
                 '}';
     }
 }
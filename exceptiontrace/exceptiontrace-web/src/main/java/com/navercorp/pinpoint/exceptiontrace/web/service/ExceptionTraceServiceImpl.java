@@ -16,17 +16,25 @@
 
 package com.navercorp.pinpoint.exceptiontrace.web.service;
 
+import com.navercorp.pinpoint.exceptiontrace.web.config.ExceptionTraceProperties;
 import com.navercorp.pinpoint.exceptiontrace.web.dao.ExceptionTraceDao;
+import com.navercorp.pinpoint.exceptiontrace.web.dao.ExceptionTraceRollupDao;
 import com.navercorp.pinpoint.exceptiontrace.web.model.ExceptionGroupSummary;
 import com.navercorp.pinpoint.exceptiontrace.web.util.ExceptionTraceQueryParameter;
+import com.navercorp.pinpoint.exceptiontrace.web.util.GroupByAttributes;
 import com.navercorp.pinpoint.exceptiontrace.web.view.ExceptionDetailView;
 import com.navercorp.pinpoint.exceptiontrace.web.view.ExceptionChartValueView;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author intr3p1d
@@ -36,10 +44,34 @@ public class ExceptionTraceServiceImpl implements ExceptionTraceService {
 
     private final Logger logger = LogManager.getLogger(this.getClass());
 
+    // the columns kept by the rollup table, and its time resolution
+    private static final Set<GroupByAttributes> ROLLUP_GROUP_BY_ATTRIBUTES = EnumSet.of(
+            GroupByAttributes.ERROR_CLASS_NAME, GroupByAttributes.STACK_TRACE_FINGERPRINT
+    );
+    private static final long ROLLUP_WINDOW_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
     private final ExceptionTraceDao exceptionTraceDao;
+    private final ExceptionTraceRollupDao exceptionTraceRollupDao;
+    private final boolean rollupEnable;
+    private final long rollupIngestDelayMillis;
+    private final Clock clock;
+
+    @Autowired
+    public ExceptionTraceServiceImpl(ExceptionTraceDao exceptionTraceDao,
+                                     ExceptionTraceRollupDao exceptionTraceRollupDao,
+                                     ExceptionTraceProperties exceptionTraceProperties) {
+        this(exceptionTraceDao, exceptionTraceRollupDao, exceptionTraceProperties, Clock.systemUTC());
+    }
 
-    public ExceptionTraceServiceImpl(ExceptionTraceDao exceptionTraceDao) {
+    ExceptionTraceServiceImpl(ExceptionTraceDao exceptionTraceDao,
+                              ExceptionTraceRollupDao exceptionTraceRollupDao,
+                              ExceptionTraceProperties exceptionTraceProperties,
+                              Clock clock) {
         this.exceptionTraceDao = Objects.requireNonNull(exceptionTraceDao, "exceptionTraceDao");
+        this.exceptionTraceRollupDao = Objects.requireNonNull(exceptionTraceRollupDao, "exceptionTraceRollupDao");
+        this.rollupEnable = exceptionTraceProperties.isRollupEnable();
+        this.rollupIngestDelayMillis = exceptionTraceProperties.getRollupIngestDelayMillis();
+        this.clock = Objects.requireNonNull(clock, "clock");
     }
 
     @Override
@@ -54,12 +86,45 @@ public class ExceptionTraceServiceImpl implements ExceptionTraceService {
 
     @Override
     public List<ExceptionGroupSummary> getGroupSummaries(ExceptionTraceQueryParameter queryParameter) {
+        final long rollupIngestedTo = rollupIngestedTo();
+        if (isRollupApplicable(queryParameter, rollupIngestedTo)) {
+            return exceptionTraceRollupDao.getGroupSummaries(queryParameter, rollupIngestedTo);
+        }
         return exceptionTraceDao.getGroupSummaries(queryParameter);
     }
 
     @Override
     public List<ExceptionChartValueView> getChartViews(ExceptionTraceQueryParameter queryParameter) {
+        final long rollupIngestedTo = rollupIngestedTo();
+        if (isRollupApplicable(queryParameter, rollupIngestedTo)) {
+            return exceptionTraceRollupDao.getChartValueViews(queryParameter, rollupIngestedTo);
+        }
         return exceptionTraceDao.getChartValueViews(queryParameter);
     }
 
+    /**
+     * The rollup table is counted per application, error class and stack trace fingerprint per minute.
+     * Queries by agent, filter, other group by attributes or bins shorter than a minute still read the exception rows.
+     * So do ranges that lie entirely in the last minutes, whose windows the collector has not emitted yet.
+     * Ranges that only end in those minutes read the rollup table up to them, and the exception rows after.
+     */
+    private boolean isRollupApplicable(ExceptionTraceQueryParameter queryParameter, long rollupIngestedTo) {
+        if (!rollupEnable || queryParameter.getRollupTableName() == null) {
+            return false;
+        }
+        return queryParameter.getAgentId() == null
+                && queryParameter.getFilterByAttributes().getMap().isEmpty()
+                && ROLLUP_GROUP_BY_ATTRIBUTES.containsAll(queryParameter.getGroupByAttributes())
+                && queryParameter.getTimeWindowRangeCount() > 0
+                && queryParameter.getTimePrecision().getInterval() >= ROLLUP_WINDOW_MILLIS
+                && queryParameter.getRange().getFrom() < rollupIngestedTo;
+    }
+
+    /**
+     * @return end of the last window that is emitted and ingested, windows end ROLLUP_WINDOW_MILLIS after their start
+     */
+    private long rollupIngestedTo() {
+        return Math.floorDiv(clock.millis() - rollupIngestDelayMillis, ROLLUP_WINDOW_MILLIS) * ROLLUP_WINDOW_MILLIS;
+    }
+
 }
@@ -16,6 +16,7 @@
 
 package com.navercorp.pinpoint.exceptiontrace.web.util;
 
+import com.navercorp.pinpoint.common.server.util.time.Range;
 import com.navercorp.pinpoint.common.util.StringUtils;
 import com.navercorp.pinpoint.exceptiontrace.web.ExceptionTraceWebConfig;
 import com.navercorp.pinpoint.metric.web.util.QueryParameter;
@@ -36,6 +37,7 @@ import java.util.stream.Collectors;
 public class ExceptionTraceQueryParameter extends QueryParameter {
 
     private final String tableName;
+    private final String rollupTableName;
 
     private final String tenantId;
     private final String applicationName;
@@ -58,6 +60,7 @@ public class ExceptionTraceQueryParameter extends QueryParameter {
     ) {
         super(builder.getRange(), builder.getTimePrecision(), builder.getLimit());
         this.tableName = builder.tableName;
+        this.rollupTableName = builder.rollupTableName;
         this.tenantId = builder.tenantId;
         this.applicationName = builder.applicationName;
         this.agentId = builder.agentId;
@@ -72,16 +75,70 @@ public class ExceptionTraceQueryParameter extends QueryParameter {
         this.timeWindowRangeCount = builder.timeWindowRangeCount;
     }
 
+    private ExceptionTraceQueryParameter(ExceptionTraceQueryParameter source, Range range) {
+        super(range, source.getTimePrecision(), source.getLimit());
+        this.tableName = source.tableName;
+        this.rollupTableName = source.rollupTableName;
+        this.tenantId = source.tenantId;
+        this.applicationName = source.applicationName;
+        this.agentId = source.agentId;
+        this.transactionId = source.transactionId;
+        this.spanId = source.spanId;
+        this.exceptionId = source.exceptionId;
+        this.exceptionDepth = source.exceptionDepth;
+        this.orderBy = source.orderBy;
+        this.isDesc = source.isDesc;
+        this.groupByAttributes = source.groupByAttributes;
+        this.filterByAttributes = source.filterByAttributes;
+        this.timeWindowRangeCount = source.timeWindowRangeCount;
+    }
+
+    /**
+     * @return same query over a part of the range, for the statements without histograms
+     */
+    public ExceptionTraceQueryParameter withRange(Range range) {
+        return new ExceptionTraceQueryParameter(this, Objects.requireNonNull(range, "range"));
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public String getRollupTableName() {
+        return rollupTableName;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public String getApplicationName() {
+        return applicationName;
+    }
+
+    public String getAgentId() {
+        return agentId;
+    }
+
     public List<GroupByAttributes> getGroupByAttributes() {
         return groupByAttributes;
     }
 
+    public FilterByAttributes getFilterByAttributes() {
+        return filterByAttributes;
+    }
+
+    public long getTimeWindowRangeCount() {
+        return timeWindowRangeCount;
+    }
+
     public static class Builder extends QueryParameter.Builder<Builder> {
 
         private static final int MAX_LIMIT = 65536;
         private Integer hardLimit = null;
 
         private String tableName;
+        private String rollupTableName;
 
         private String tenantId;
         private String applicationName;
@@ -110,6 +167,11 @@ public class ExceptionTraceQueryParameter extends QueryParameter {
             return self();
         }
 
+        public Builder setRollupTableName(String rollupTableName) {
+            this.rollupTableName = rollupTableName;
+            return self();
+        }
+
         public Builder setTenantId(String tenantId) {
             this.tenantId = tenantId;
             return self();
@@ -236,6 +298,7 @@ public class ExceptionTraceQueryParameter extends QueryParameter {
     public String toString() {
         return "ExceptionTraceQueryParameter{" +
                 "tableName='" + tableName + '\'' +
+                ", rollupTableName='" + rollupTableName + '\'' +
                 ", tenantId='" + tenantId + '\'' +
                 ", applicationName='" + applicationName + '\'' +
                 ", agentId='" + agentId + '\'' +
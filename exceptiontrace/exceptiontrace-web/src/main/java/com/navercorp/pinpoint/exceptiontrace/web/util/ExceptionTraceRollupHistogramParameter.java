@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.exceptiontrace.web.util;
+
+import com.navercorp.pinpoint.common.server.util.time.Range;
+import com.navercorp.pinpoint.exceptiontrace.web.entity.GroupedFieldNameEntity;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Selects the histograms of the given groups only, from the rollup table or the exception rows.
+ * Rows of scanRange are counted in the bins of the whole query range.
+ */
+public class ExceptionTraceRollupHistogramParameter {
+
+    private final String tableName;
+    private final String rollupTableName;
+    private final String tenantId;
+    private final String applicationName;
+    private final Range range;
+    private final Range scanRange;
+    private final long timeWindowRangeCount;
+    private final List<GroupByAttributes> groupByAttributes;
+    private final List<? extends GroupedFieldNameEntity> groups;
+    private final long limit;
+
+    public ExceptionTraceRollupHistogramParameter(ExceptionTraceQueryParameter queryParameter, Range scanRange,
+                                                  List<? extends GroupedFieldNameEntity> groups) {
+        Objects.requireNonNull(queryParameter, "queryParameter");
+        this.tableName = queryParameter.getTableName();
+        this.rollupTableName = queryParameter.getRollupTableName();
+        this.tenantId = queryParameter.getTenantId();
+        this.applicationName = queryParameter.getApplicationName();
+        this.range = queryParameter.getRange();
+        this.scanRange = Objects.requireNonNull(scanRange, "scanRange");
+        this.timeWindowRangeCount = queryParameter.getTimeWindowRangeCount();
+        this.groupByAttributes = queryParameter.getGroupByAttributes();
+        this.groups = Objects.requireNonNull(groups, "groups");
+        // "timestamp" == range.to falls into an extra bin
+        this.limit = groups.size() * (timeWindowRangeCount + 1);
+    }
+
+    public List<GroupByAttributes> getGroupByAttributes() {
+        return groupByAttributes;
+    }
+
+    public long getTimeWindowRangeCount() {
+        return timeWindowRangeCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ExceptionTraceRollupHistogramParameter{" +
+                "tableName='" + tableName + '\'' +
+                ", rollupTableName='" + rollupTableName + '\'' +
+                ", tenantId='" + tenantId + '\'' +
+                ", applicationName='" + applicationName + '\'' +
+                ", range=" + range +
+                ", scanRange=" + scanRange +
+                ", timeWindowRangeCount=" + timeWindowRangeCount +
+                ", groupByAttributes=" + groupByAttributes +
+                ", groups=" + groups.size() +
+                ", limit=" + limit +
+                '}';
+    }
+}
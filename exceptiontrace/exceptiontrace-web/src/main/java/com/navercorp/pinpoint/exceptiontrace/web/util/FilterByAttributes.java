@@ -30,7 +30,8 @@ public class FilterByAttributes {
         URI_TEMPLATE(PinotColumns.URI_TEMPLATE),
         ERROR_MESSAGE_LOG_TYPE(PinotColumns.ERROR_MESSAGE_LOG_TYPE),
         ERROR_CLASS_NAME(PinotColumns.ERROR_CLASS_NAME),
-        STACK_TRACE(PinotColumns.STACK_TRACE_HASH);
+        STACK_TRACE(PinotColumns.STACK_TRACE_HASH),
+        STACK_TRACE_FINGERPRINT(PinotColumns.STACK_TRACE_FINGERPRINT);
 
         private static final EnumGetter<FilterByColumn> GETTER = new EnumGetter<>(FilterByColumn.class);
 
@@ -27,7 +27,8 @@ public enum GroupByAttributes {
     URI_TEMPLATE("Path", PinotColumns.URI_TEMPLATE),
     ERROR_MESSAGE_LOG_TYPE("Error Message", PinotColumns.ERROR_MESSAGE_LOG_TYPE),
     ERROR_CLASS_NAME("Error Class Name", PinotColumns.ERROR_CLASS_NAME),
-    STACK_TRACE("Stack Trace", PinotColumns.STACK_TRACE_HASH);
+    STACK_TRACE("Stack Trace", PinotColumns.STACK_TRACE_HASH),
+    STACK_TRACE_FINGERPRINT("Stack Fingerprint", PinotColumns.STACK_TRACE_FINGERPRINT);
 
     private static final EnumGetter<GroupByAttributes> GETTER = new EnumGetter<>(GroupByAttributes.class);
     private final String name;
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.exceptiontrace.web.dao;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.navercorp.pinpoint.common.server.mapper.MapStructUtils;
+import com.navercorp.pinpoint.common.server.util.time.Range;
+import com.navercorp.pinpoint.exceptiontrace.web.entity.ExceptionChartValueViewEntity;
+import com.navercorp.pinpoint.exceptiontrace.web.entity.ExceptionGroupSummaryEntity;
+import com.navercorp.pinpoint.exceptiontrace.web.entity.ExceptionRollupBinEntity;
+import com.navercorp.pinpoint.exceptiontrace.web.mapper.ExceptionEntityMapper;
+import com.navercorp.pinpoint.exceptiontrace.web.util.ExceptionTraceQueryParameter;
+import com.navercorp.pinpoint.exceptiontrace.web.util.ExceptionTraceRollupHistogramParameter;
+import com.navercorp.pinpoint.exceptiontrace.web.util.GroupByAttributes;
+import com.navercorp.pinpoint.metric.web.util.TimePrecision;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mybatis.spring.SqlSessionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PinotExceptionTraceRollupDaoTest {
+
+    private static final String NAMESPACE = PinotExceptionTraceRollupDao.class.getName() + ".";
+    private static final long MINUTE = TimeUnit.MINUTES.toMillis(1);
+    private static final long TO = 60 * MINUTE;
+    private static final long RAW_FROM = 59 * MINUTE;
+
+    private final ExceptionTraceQueryParameter queryParameter = new ExceptionTraceQueryParameter.Builder()
+            .setTableName("exceptionTrace")
+            .setRollupTableName("exceptionTraceRollup")
+            .setTenantId("tenant")
+            .setApplicationName("app")
+            .setRange(Range.between(0, TO))
+            .setTimePrecision(TimePrecision.newTimePrecision(TimeUnit.MILLISECONDS, 60000))
+            .setTimeWindowRangeCount(60)
+            .setGroupByAttributes(List.of(GroupByAttributes.ERROR_CLASS_NAME))
+            .build();
+
+    private SqlSessionTemplate sqlSessionTemplate;
+    private ExceptionEntityMapper mapper;
+    private PinotExceptionTraceRollupDao dao;
+
+    @BeforeEach
+    void setUp() {
+        sqlSessionTemplate = mock(SqlSessionTemplate.class);
+        mapper = mock(ExceptionEntityMapper.class);
+        dao = new PinotExceptionTraceRollupDao(sqlSessionTemplate, mapper, new MapStructUtils(new ObjectMapper()));
+    }
+
+    @Test
+    void rollupOnly() {
+        when(sqlSessionTemplate.selectList(eq(NAMESPACE + "selectRollupGroupSummaries"), any()))
+                .thenReturn(List.of(summary("A", 5)));
+        when(sqlSessionTemplate.selectList(eq(NAMESPACE + "selectRollupHistograms"), any()))
+                .thenReturn(List.of(bin("A", 0, 5)));
+
+        dao.getChartValueViews(queryParameter, TO + 1);
+
+        verify(sqlSessionTemplate, never()).selectList(eq(NAMESPACE + "selectRawGroupSummaries"), any());
+        verify(sqlSessionTemplate, never()).selectList(eq(NAMESPACE + "selectRawHistograms"), any());
+        ArgumentCaptor<ExceptionChartValueViewEntity> views = ArgumentCaptor.forClass(ExceptionChartValueViewEntity.class);
+        verify(mapper).toChartView(views.capture(), anyList());
+        assertThat(views.getValue().getValues()).startsWith("[5,0,");
+    }
+
+    @Test
+    void unsettledTailFromExceptionRows() {
+        when(sqlSessionTemplate.selectList(eq(NAMESPACE + "selectRollupGroupSummaries"), any()))
+                .thenReturn(List.of(summary("A", 5)));
+        when(sqlSessionTemplate.selectList(eq(NAMESPACE + "selectRawGroupSummaries"), any()))
+                .thenReturn(List.of(summary("B", 7)));
+        when(sqlSessionTemplate.selectList(eq(NAMESPACE + "selectRollupHistograms"), any()))
+                .thenReturn(List.of(bin("A", 0, 5)));
+        // A is not in the top groups of the tail, but its bins are read for the groups of both parts
+        when(sqlSessionTemplate.selectList(eq(NAMESPACE + "selectRawHistograms"), any()))
+                .thenReturn(List.of(bin("A", 59, 4), bin("B", 59, 7)));
+
+        dao.getChartValueViews(queryParameter, RAW_FROM);
+
+        ArgumentCaptor<ExceptionTraceQueryParameter> summaryParameters = ArgumentCaptor.forClass(ExceptionTraceQueryParameter.class);
+        verify(sqlSessionTemplate).selectList(eq(NAMESPACE + "selectRollupGroupSummaries"), summaryParameters.capture());
+        verify(sqlSessionTemplate).selectList(eq(NAMESPACE + "selectRawGroupSummaries"), summaryParameters.capture());
+        assertThat(summaryParameters.getAllValues().get(0).getRange()).isEqualTo(Range.between(0, RAW_FROM - 1));
+        assertThat(summaryParameters.getAllValues().get(1).getRange()).isEqualTo(Range.between(RAW_FROM, TO));
+
+        ArgumentCaptor<ExceptionTraceRollupHistogramParameter> histogramParameter = ArgumentCaptor.forClass(ExceptionTraceRollupHistogramParameter.class);
+        verify(sqlSessionTemplate).selectList(eq(NAMESPACE + "selectRawHistograms"), histogramParameter.capture());
+        assertThat(histogramParameter.getValue().toString()).contains("scanRange=" + Range.between(RAW_FROM, TO));
+
+        ArgumentCaptor<ExceptionChartValueViewEntity> views = ArgumentCaptor.forClass(ExceptionChartValueViewEntity.class);
+        verify(mapper, times(2)).toChartView(views.capture(), anyList());
+        // A: 5 + 4, B: 7
+        assertThat(views.getAllValues().get(0).getErrorClassName()).isEqualTo("A");
+        assertThat(views.getAllValues().get(0).getValues()).startsWith("[5,").endsWith(",4]");
+        assertThat(views.getAllValues().get(1).getErrorClassName()).isEqualTo("B");
+        assertThat(views.getAllValues().get(1).getValues()).startsWith("[0,").endsWith(",7]");
+    }
+
+    @Test
+    void mergeSummaries() {
+        ExceptionGroupSummaryEntity older = summary("A", 5);
+        older.setFirstOccurred(10);
+        older.setLastOccurred(20);
+        older.setMostRecentErrorMessage("older");
+        ExceptionGroupSummaryEntity newer = summary("A", 3);
+        newer.setFirstOccurred(30);
+        newer.setLastOccurred(40);
+        newer.setMostRecentErrorMessage("newer");
+
+        ExceptionGroupSummaryEntity merged = PinotExceptionTraceRollupDao.merge(older, newer);
+
+        assertThat(merged.getCount()).isEqualTo(8);
+        assertThat(merged.getFirstOccurred()).isEqualTo(10);
+        assertThat(merged.getLastOccurred()).isEqualTo(40);
+        assertThat(merged.getMostRecentErrorMessage()).isEqualTo("newer");
+    }
+
+    private ExceptionGroupSummaryEntity summary(String errorClassName, long count) {
+        ExceptionGroupSummaryEntity entity = new ExceptionGroupSummaryEntity();
+        entity.setErrorClassName(errorClassName);
+        entity.setCount(count);
+        return entity;
+    }
+
+    private ExceptionRollupBinEntity bin(String errorClassName, long bin, long count) {
+        ExceptionRollupBinEntity entity = new ExceptionRollupBinEntity();
+        entity.setErrorClassName(errorClassName);
+        entity.setBin(bin);
+        entity.setCount(count);
+        return entity;
+    }
+}
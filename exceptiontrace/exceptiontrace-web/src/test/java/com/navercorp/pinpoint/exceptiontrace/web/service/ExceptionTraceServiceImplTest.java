@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.exceptiontrace.web.service;
+
+import com.navercorp.pinpoint.common.server.util.time.Range;
+import com.navercorp.pinpoint.exceptiontrace.web.config.ExceptionTraceProperties;
+import com.navercorp.pinpoint.exceptiontrace.web.dao.ExceptionTraceDao;
+import com.navercorp.pinpoint.exceptiontrace.web.dao.ExceptionTraceRollupDao;
+import com.navercorp.pinpoint.exceptiontrace.web.util.ExceptionTraceQueryParameter;
+import com.navercorp.pinpoint.metric.web.util.TimePrecision;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ExceptionTraceServiceImplTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final long INGEST_DELAY = 70_000;
+
+    private ExceptionTraceDao exceptionTraceDao;
+    private ExceptionTraceRollupDao exceptionTraceRollupDao;
+    private ExceptionTraceService service;
+
+    @BeforeEach
+    void setUp() {
+        exceptionTraceDao = mock(ExceptionTraceDao.class);
+        exceptionTraceRollupDao = mock(ExceptionTraceRollupDao.class);
+        ExceptionTraceProperties properties = mock(ExceptionTraceProperties.class);
+        when(properties.isRollupEnable()).thenReturn(true);
+        when(properties.getRollupIngestDelayMillis()).thenReturn(INGEST_DELAY);
+
+        Clock clock = Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC);
+        service = new ExceptionTraceServiceImpl(exceptionTraceDao, exceptionTraceRollupDao, properties, clock);
+    }
+
+    // windows before it are emitted and ingested
+    private static final long INGESTED_TO = Math.floorDiv(NOW - INGEST_DELAY, TimeUnit.MINUTES.toMillis(1)) * TimeUnit.MINUTES.toMillis(1);
+
+    @Test
+    void ingestedRangeReadsRollup() {
+        long to = NOW - TimeUnit.MINUTES.toMillis(1) - INGEST_DELAY;
+        service.getChartViews(queryParameter(to));
+
+        verify(exceptionTraceRollupDao).getChartValueViews(any(), eq(INGESTED_TO));
+        verify(exceptionTraceDao, never()).getChartValueViews(any());
+    }
+
+    @Test
+    void recentRangeReadsRollupUpToIngestedWindows() {
+        long to = NOW - TimeUnit.MINUTES.toMillis(1);
+        service.getGroupSummaries(queryParameter(to));
+
+        // the rollup dao reads the exception rows from INGESTED_TO on
+        verify(exceptionTraceRollupDao).getGroupSummaries(any(), eq(INGESTED_TO));
+        verify(exceptionTraceDao, never()).getGroupSummaries(any());
+    }
+
+    @Test
+    void notIngestedRangeReadsExceptionRows() {
+        long to = NOW;
+        service.getChartViews(queryParameter(INGESTED_TO, to));
+
+        verify(exceptionTraceDao).getChartValueViews(any());
+        verify(exceptionTraceRollupDao, never()).getChartValueViews(any(), anyLong());
+    }
+
+    private ExceptionTraceQueryParameter queryParameter(long to) {
+        return queryParameter(to - TimeUnit.HOURS.toMillis(1), to);
+    }
+
+    private ExceptionTraceQueryParameter queryParameter(long from, long to) {
+        return new ExceptionTraceQueryParameter.Builder()
+                .setTableName("exceptionTrace")
+                .setRollupTableName("exceptionTraceRollup")
+                .setTenantId("tenant")
+                .setApplicationName("app")
+                .setRange(Range.between(from, to))
+                .setTimePrecision(TimePrecision.newTimePrecision(TimeUnit.MILLISECONDS, 60000))
+                .setTimeWindowRangeCount(60)
+                .setGroupByAttributes(List.of())
+                .build();
+    }
+}
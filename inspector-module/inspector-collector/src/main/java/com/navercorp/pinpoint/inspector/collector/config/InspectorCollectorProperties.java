@@ -33,6 +33,18 @@ public class InspectorCollectorProperties {
     private int agentStatTopicPaddingLength;
     @Value("${kafka.inspector.application.topic.name}")
     private String applicationStatTopicName;
+    @Value("${kafka.inspector.application.rollup.topic.name:inspector-stat-app-rollup}")
+    private String applicationStatRollupTopicName;
+    // must match the roundedEventTime granularity of the pinot table
+    @Value("${collector.inspector.application.rollup.window-millis:30000}")
+    private long applicationStatRollupWindowMillis;
+    @Value("${collector.inspector.application.rollup.flush-delay-millis:60000}")
+    private long applicationStatRollupFlushDelayMillis;
+    @Value("${collector.inspector.application.rollup.flush-interval-millis:5000}")
+    private long applicationStatRollupFlushIntervalMillis;
+    // agent stats older than 10 minutes are rejected by DefaultAgentStatDao
+    @Value("${collector.inspector.application.rollup.max-lateness-millis:600000}")
+    private long applicationStatRollupMaxLatenessMillis;
 
     public int getAgentStatTopicCount() {
         return agentStatTopicCount;
@@ -42,6 +54,26 @@ public class InspectorCollectorProperties {
         return applicationStatTopicName;
     }
 
+    public String getApplicationStatRollupTopicName() {
+        return applicationStatRollupTopicName;
+    }
+
+    public long getApplicationStatRollupWindowMillis() {
+        return applicationStatRollupWindowMillis;
+    }
+
+    public long getApplicationStatRollupFlushDelayMillis() {
+        return applicationStatRollupFlushDelayMillis;
+    }
+
+    public long getApplicationStatRollupFlushIntervalMillis() {
+        return applicationStatRollupFlushIntervalMillis;
+    }
+
+    public long getApplicationStatRollupMaxLatenessMillis() {
+        return applicationStatRollupMaxLatenessMillis;
+    }
+
     public String getAgentStatTopicPrefix() {
         return agentStatTopicPrefix;
     }
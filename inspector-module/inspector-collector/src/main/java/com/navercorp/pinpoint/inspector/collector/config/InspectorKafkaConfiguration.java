@@ -17,14 +17,21 @@
 package com.navercorp.pinpoint.inspector.collector.config;
 
 import com.navercorp.pinpoint.inspector.collector.model.kafka.AgentStat;
+import com.navercorp.pinpoint.inspector.collector.model.kafka.AgentStatAvroWriter;
 import com.navercorp.pinpoint.inspector.collector.model.kafka.ApplicationStat;
+import com.navercorp.pinpoint.inspector.collector.model.kafka.ApplicationStatAvroWriter;
+import com.navercorp.pinpoint.inspector.collector.model.kafka.ApplicationStatRollup;
+import com.navercorp.pinpoint.inspector.collector.model.kafka.ApplicationStatRollupAvroWriter;
+import com.navercorp.pinpoint.inspector.collector.model.kafka.CompactAgentStat;
+import com.navercorp.pinpoint.inspector.collector.model.kafka.CompactAgentStatAvroWriter;
 import com.navercorp.pinpoint.pinot.kafka.KafkaConfiguration;
-import org.springframework.beans.factory.annotation.Qualifier;
+import com.navercorp.pinpoint.pinot.kafka.KafkaTemplateFactory;
+import com.navercorp.pinpoint.pinot.kafka.KafkaValueFormat;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.core.ProducerFactory;
 
 /**
  * @author minwoo.jung
@@ -34,12 +41,26 @@ import org.springframework.kafka.core.ProducerFactory;
 public class InspectorKafkaConfiguration {
 
     @Bean
-    public KafkaTemplate<String, AgentStat> kafkaAgentStatTemplate(@Qualifier("kafkaProducerFactory") ProducerFactory producerFactory) {
-        return new KafkaTemplate<>(producerFactory);
+    public KafkaTemplate<String, AgentStat> kafkaAgentStatTemplate(KafkaTemplateFactory kafkaTemplateFactory,
+                                                                   @Value("${kafka.inspector.agent.value.format:json}") String format) {
+        return kafkaTemplateFactory.newTemplate(KafkaValueFormat.of(format), new AgentStatAvroWriter());
     }
 
     @Bean
-    public KafkaTemplate<String, ApplicationStat> kafkaApplicationStatTemplate(@Qualifier("kafkaProducerFactory") ProducerFactory producerFactory) {
-        return new KafkaTemplate<>(producerFactory);
+    public KafkaTemplate<String, CompactAgentStat> kafkaCompactAgentStatTemplate(KafkaTemplateFactory kafkaTemplateFactory,
+                                                                                 @Value("${kafka.inspector.agent.value.format:json}") String format) {
+        return kafkaTemplateFactory.newTemplate(KafkaValueFormat.of(format), new CompactAgentStatAvroWriter());
+    }
+
+    @Bean
+    public KafkaTemplate<String, ApplicationStat> kafkaApplicationStatTemplate(KafkaTemplateFactory kafkaTemplateFactory,
+                                                                               @Value("${kafka.inspector.application.value.format:json}") String format) {
+        return kafkaTemplateFactory.newTemplate(KafkaValueFormat.of(format), new ApplicationStatAvroWriter());
+    }
+
+    @Bean
+    public KafkaTemplate<String, ApplicationStatRollup> kafkaApplicationStatRollupTemplate(KafkaTemplateFactory kafkaTemplateFactory,
+                                                                                           @Value("${kafka.inspector.application.rollup.value.format:json}") String format) {
+        return kafkaTemplateFactory.newTemplate(KafkaValueFormat.of(format), new ApplicationStatRollupAvroWriter());
     }
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.inspector.collector.dao.pinot;
+
+import com.navercorp.pinpoint.inspector.collector.model.kafka.AgentStat;
+import com.navercorp.pinpoint.inspector.collector.model.kafka.CompactAgentStat;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaTemplate;
+
+/**
+ * @see CompactKafkaAgentStatWriter
+ */
+@Configuration
+public class AgentStatWriterConfiguration {
+
+    private static final String COMPACT_ENABLE = "collector.inspector.agent.compact.enable";
+
+    @Bean
+    @ConditionalOnProperty(name = COMPACT_ENABLE, havingValue = "false", matchIfMissing = true)
+    public AgentStatWriter kafkaAgentStatWriter(KafkaTemplate<String, AgentStat> kafkaAgentStatTemplate) {
+        return new KafkaAgentStatWriter(kafkaAgentStatTemplate);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = COMPACT_ENABLE, havingValue = "true")
+    public AgentStatWriter compactKafkaAgentStatWriter(KafkaTemplate<String, CompactAgentStat> kafkaCompactAgentStatTemplate) {
+        return new CompactKafkaAgentStatWriter(kafkaCompactAgentStatTemplate);
+    }
+}
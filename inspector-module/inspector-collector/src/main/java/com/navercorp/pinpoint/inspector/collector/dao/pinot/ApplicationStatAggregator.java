@@ -0,0 +1,202 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.inspector.collector.dao.pinot;
+
+import com.navercorp.pinpoint.common.server.util.StringPrecondition;
+import com.navercorp.pinpoint.inspector.collector.model.kafka.ApplicationStat;
+import com.navercorp.pinpoint.inspector.collector.model.kafka.ApplicationStatRollup;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Rolls up {@link ApplicationStat}s per application field and time window in memory,
+ * and emits one {@link ApplicationStatRollup} per window instead of one record per agent sample.
+ * <p>
+ * A window is emitted once {@code flushDelay} has passed after its end, to wait for the agents sending their batch late.
+ * The window is kept until {@code maxLateness} has passed after its end: a late sample updates it and the next flush emits
+ * the cumulative values again with a higher revision. Samples of a window older than that are dropped and counted.
+ * <p>
+ * Every emission of a window carries the same rollupKey, which includes {@code emitterId}, and the Pinot upsert table keeps
+ * only its last revision, so retried or repeated sends are not counted twice.
+ * {@code emitterId} must be unique per collector process: the windows of a crashed collector are not emitted again,
+ * and a restarted collector must not overwrite the rollups its previous process has already sent.
+ */
+public class ApplicationStatAggregator implements ApplicationStatWriter {
+
+    private final Logger logger = LogManager.getLogger(ApplicationStatAggregator.class);
+
+    private final long windowSize;
+    private final long flushDelay;
+    private final long maxLateness;
+    private final String emitterId;
+    private final Consumer<ApplicationStatRollup> rollupConsumer;
+
+    private final ConcurrentMap<WindowKey, Accumulator> windows = new ConcurrentHashMap<>();
+    // windows starting before this were evicted, their samples can no longer be emitted
+    private volatile long evictedBefore = Long.MIN_VALUE;
+
+    private final LongAdder sampleCount = new LongAdder();
+    private final LongAdder rollupCount = new LongAdder();
+    private final LongAdder droppedSampleCount = new LongAdder();
+
+    public ApplicationStatAggregator(long windowSize, long flushDelay, long maxLateness, String emitterId,
+                                     Consumer<ApplicationStatRollup> rollupConsumer) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize must be positive");
+        }
+        if (flushDelay < 0) {
+            throw new IllegalArgumentException("flushDelay must not be negative");
+        }
+        if (maxLateness < flushDelay) {
+            throw new IllegalArgumentException("maxLateness must not be less than flushDelay");
+        }
+        this.windowSize = windowSize;
+        this.flushDelay = flushDelay;
+        this.maxLateness = maxLateness;
+        this.emitterId = StringPrecondition.requireHasLength(emitterId, "emitterId");
+        this.rollupConsumer = Objects.requireNonNull(rollupConsumer, "rollupConsumer");
+    }
+
+    @Override
+    public void write(List<ApplicationStat> applicationStatList) {
+        for (ApplicationStat applicationStat : applicationStatList) {
+            add(applicationStat);
+        }
+    }
+
+    private void add(ApplicationStat stat) {
+        final long windowStart = stat.getEventTime() - Math.floorMod(stat.getEventTime(), windowSize);
+        final WindowKey key = new WindowKey(stat.getTenantId(), stat.getApplicationName(), stat.getMetricName(),
+                stat.getFieldName(), stat.getPrimaryTag(), windowStart);
+        final double value = stat.getFieldValue();
+        final Accumulator added = windows.compute(key, (k, accumulator) -> {
+            if (accumulator == null) {
+                // checked under compute() : a new revision 0 would overwrite the rollup of an evicted window
+                if (windowStart < evictedBefore) {
+                    return null;
+                }
+                accumulator = new Accumulator();
+            }
+            accumulator.add(value);
+            return accumulator;
+        });
+        if (added == null) {
+            droppedSampleCount.increment();
+            return;
+        }
+        sampleCount.increment();
+    }
+
+    /**
+     * emits the updated windows ended before {@code now - flushDelay}, and evicts the windows ended before {@code now - maxLateness}
+     */
+    public void flush(long now) {
+        final long evictBefore = now - maxLateness - windowSize;
+        if (evictBefore > evictedBefore) {
+            this.evictedBefore = evictBefore;
+        }
+        emit(now - flushDelay, evictBefore);
+    }
+
+    /**
+     * emits every updated window and evicts all windows, on shutdown
+     */
+    public void flushAll() {
+        emit(Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    private void emit(long closeBefore, long evictBefore) {
+        int emitted = 0;
+        for (WindowKey key : windows.keySet()) {
+            if (key.windowStart() + windowSize > closeBefore) {
+                continue;
+            }
+            final boolean evict = key.windowStart() < evictBefore;
+            final ApplicationStatRollup[] rollup = new ApplicationStatRollup[1];
+            // snapshot under compute() : a sample added concurrently goes either to this revision or to the next one
+            windows.computeIfPresent(key, (k, accumulator) -> {
+                if (accumulator.isUpdated()) {
+                    rollup[0] = accumulator.nextRevision(k, emitterId);
+                }
+                return evict ? null : accumulator;
+            });
+            if (rollup[0] != null) {
+                rollupConsumer.accept(rollup[0]);
+                emitted++;
+            }
+        }
+        rollupCount.add(emitted);
+        if (logger.isDebugEnabled()) {
+            logger.debug("emit rollup:{} open window:{}", emitted, windows.size());
+        }
+    }
+
+    public long getSampleCount() {
+        return sampleCount.sum();
+    }
+
+    public long getRollupCount() {
+        return rollupCount.sum();
+    }
+
+    public long getDroppedSampleCount() {
+        return droppedSampleCount.sum();
+    }
+
+    public int getOpenWindowCount() {
+        return windows.size();
+    }
+
+    private record WindowKey(String tenantId, String applicationName, String metricName,
+                             String fieldName, String primaryTag, long windowStart) {
+    }
+
+    // guarded by ConcurrentHashMap.compute() and computeIfPresent()
+    private static class Accumulator {
+        private double sum;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+        private long count;
+        private long emittedCount;
+        private long revision;
+
+        void add(double value) {
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            count++;
+        }
+
+        boolean isUpdated() {
+            return count != emittedCount;
+        }
+
+        ApplicationStatRollup nextRevision(WindowKey key, String emitterId) {
+            emittedCount = count;
+            return new ApplicationStatRollup(key.tenantId(), key.applicationName(), key.metricName(), key.fieldName(),
+                    key.primaryTag(), emitterId, sum, min, max, count, revision++, key.windowStart());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.inspector.collector.dao.pinot;
+
+import com.navercorp.pinpoint.common.profiler.concurrent.PinpointThreadFactory;
+import com.navercorp.pinpoint.inspector.collector.model.kafka.ApplicationStatRollup;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emits the closed windows of {@link ApplicationStatAggregator} periodically, and all open windows on shutdown.
+ */
+public class ApplicationStatRollupScheduler implements AutoCloseable {
+
+    private final Logger logger = LogManager.getLogger(ApplicationStatRollupScheduler.class);
+
+    private final ApplicationStatAggregator aggregator;
+    private final KafkaTemplate<String, ApplicationStatRollup> kafkaTemplate;
+    private final ScheduledExecutorService scheduler;
+
+    public ApplicationStatRollupScheduler(ApplicationStatAggregator aggregator,
+                                          KafkaTemplate<String, ApplicationStatRollup> kafkaTemplate,
+                                          long flushIntervalMillis) {
+        this.aggregator = Objects.requireNonNull(aggregator, "aggregator");
+        this.kafkaTemplate = Objects.requireNonNull(kafkaTemplate, "kafkaTemplate");
+
+        ThreadFactory threadFactory = PinpointThreadFactory.createThreadFactory("ApplicationStatRollup", true);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        this.scheduler.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void flush() {
+        try {
+            aggregator.flush(System.currentTimeMillis());
+        } catch (Throwable th) {
+            logger.warn("ApplicationStatRollup flush failed. Caused:{}", th.getMessage(), th);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(3000, TimeUnit.MILLISECONDS)) {
+                logger.warn("ApplicationStatRollup scheduler did not terminate");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        aggregator.flushAll();
+        kafkaTemplate.flush();
+        logger.info("ApplicationStatRollup closed. sample:{} rollup:{} dropped:{}", aggregator.getSampleCount(), aggregator.getRollupCount(), aggregator.getDroppedSampleCount());
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.inspector.collector.dao.pinot;
+
+import com.navercorp.pinpoint.collector.util.CollectorUtils;
+import com.navercorp.pinpoint.inspector.collector.config.InspectorCollectorProperties;
+import com.navercorp.pinpoint.inspector.collector.model.kafka.ApplicationStat;
+import com.navercorp.pinpoint.inspector.collector.model.kafka.ApplicationStatRollup;
+import com.navercorp.pinpoint.pinot.kafka.util.KafkaCallbacks;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.function.BiConsumer;
+
+/**
+ * @see ApplicationStatAggregator
+ */
+@Configuration
+public class ApplicationStatWriterConfiguration {
+
+    private static final String RAW_ENABLE = "collector.inspector.application.raw.enable";
+    private static final String ROLLUP_ENABLE = "collector.inspector.application.rollup.enable";
+
+    private final Logger logger = LogManager.getLogger(ApplicationStatWriterConfiguration.class);
+
+    @Bean
+    @ConditionalOnProperty(name = RAW_ENABLE, havingValue = "true", matchIfMissing = true)
+    public ApplicationStatWriter kafkaApplicationStatWriter(KafkaTemplate<String, ApplicationStat> kafkaApplicationStatTemplate,
+                                                            InspectorCollectorProperties properties) {
+        return new KafkaApplicationStatWriter(kafkaApplicationStatTemplate, properties.getApplicationStatTopicName());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = ROLLUP_ENABLE, havingValue = "true")
+    public ApplicationStatAggregator applicationStatAggregator(KafkaTemplate<String, ApplicationStatRollup> kafkaApplicationStatRollupTemplate,
+                                                               InspectorCollectorProperties properties) {
+        // the process start time tells a restarted collector apart from its previous process on the same host and pid
+        final String emitterId = CollectorUtils.getHumanFriendlyServerIdentifier() + "@" + System.currentTimeMillis();
+        logger.info("ApplicationStatRollup topic:{} window:{}ms flushDelay:{}ms maxLateness:{}ms emitterId:{}", properties.getApplicationStatRollupTopicName(),
+                properties.getApplicationStatRollupWindowMillis(), properties.getApplicationStatRollupFlushDelayMillis(),
+                properties.getApplicationStatRollupMaxLatenessMillis(), emitterId);
+
+        final String topic = properties.getApplicationStatRollupTopicName();
+        final BiConsumer<SendResult<String, ApplicationStatRollup>, Throwable> callback
+                = KafkaCallbacks.loggingCallback("Kafka(ApplicationStatRollup)", logger);
+        // keyed by rollupKey : the upsert table needs every revision of a window in the same partition
+        return new ApplicationStatAggregator(properties.getApplicationStatRollupWindowMillis(), properties.getApplicationStatRollupFlushDelayMillis(),
+                properties.getApplicationStatRollupMaxLatenessMillis(), emitterId,
+                rollup -> kafkaApplicationStatRollupTemplate.send(topic, rollup.getRollupKey(), rollup).whenComplete(callback));
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = ROLLUP_ENABLE, havingValue = "true")
+    public ApplicationStatRollupScheduler applicationStatRollupScheduler(ApplicationStatAggregator applicationStatAggregator,
+                                                                         KafkaTemplate<String, ApplicationStatRollup> kafkaApplicationStatRollupTemplate,
+                                                                         InspectorCollectorProperties properties) {
+        return new ApplicationStatRollupScheduler(applicationStatAggregator, kafkaApplicationStatRollupTemplate,
+                properties.getApplicationStatRollupFlushIntervalMillis());
+    }
+}
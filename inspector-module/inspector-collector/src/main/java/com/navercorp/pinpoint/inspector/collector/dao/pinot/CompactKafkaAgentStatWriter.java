@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.inspector.collector.dao.pinot;
+
+import com.navercorp.pinpoint.inspector.collector.model.kafka.AgentStat;
+import com.navercorp.pinpoint.inspector.collector.model.kafka.AgentStatModelConverter;
+import com.navercorp.pinpoint.inspector.collector.model.kafka.CompactAgentStat;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Sends one record per data point with all of its fields, Pinot unnests them into one row per field.
+ * needs pinot-inspector-stat-agent-compact-realtime-table.json
+ */
+public class CompactKafkaAgentStatWriter implements AgentStatWriter {
+
+    private final KafkaTemplate<String, CompactAgentStat> kafkaCompactAgentStatTemplate;
+
+    public CompactKafkaAgentStatWriter(KafkaTemplate<String, CompactAgentStat> kafkaCompactAgentStatTemplate) {
+        this.kafkaCompactAgentStatTemplate = Objects.requireNonNull(kafkaCompactAgentStatTemplate, "kafkaCompactAgentStatTemplate");
+    }
+
+    @Override
+    public void write(String topic, List<AgentStat> agentStatList) {
+        for (CompactAgentStat agentStat : AgentStatModelConverter.compact(agentStatList)) {
+            kafkaCompactAgentStatTemplate.send(topic, agentStat.getSortKey(), agentStat);
+        }
+    }
+}
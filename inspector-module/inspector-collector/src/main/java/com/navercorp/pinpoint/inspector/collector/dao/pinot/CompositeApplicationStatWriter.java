@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.inspector.collector.dao.pinot;
+
+import com.navercorp.pinpoint.inspector.collector.model.kafka.ApplicationStat;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Hands every batch to each of the given writers.
+ */
+public class CompositeApplicationStatWriter implements ApplicationStatWriter {
+
+    private final List<ApplicationStatWriter> writers;
+
+    public CompositeApplicationStatWriter(List<ApplicationStatWriter> writers) {
+        Objects.requireNonNull(writers, "writers");
+        if (writers.isEmpty()) {
+            throw new IllegalArgumentException("writers must not be empty, enable the raw application stat or the rollup");
+        }
+        this.writers = List.copyOf(writers);
+    }
+
+    @Override
+    public void write(List<ApplicationStat> applicationStatList) {
+        for (ApplicationStatWriter writer : writers) {
+            writer.write(applicationStatList);
+        }
+    }
+}
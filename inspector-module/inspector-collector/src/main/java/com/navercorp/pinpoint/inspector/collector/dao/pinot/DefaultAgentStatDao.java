@@ -26,7 +26,6 @@ import com.navercorp.pinpoint.inspector.collector.model.kafka.ApplicationStat;
 import com.navercorp.pinpoint.pinot.tenant.TenantProvider;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.springframework.kafka.core.KafkaTemplate;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -46,27 +45,25 @@ public class DefaultAgentStatDao <T extends AgentStatDataPoint> implements Agent
     private final Function<AgentStatBo, List<T>> dataPointFunction;
     private final BiFunction<List<T>, String, List<AgentStat>> convertToKafkaAgentStatModelFunction;
     private final Function<List<AgentStat>, List<ApplicationStat>> convertToKafkaApplicationStatModelFunction;
-    private final KafkaTemplate<String, AgentStat> kafkaAgentStatTemplate;
-    private final KafkaTemplate<String, ApplicationStat> kafkaApplicationStatTemplate;
-    private final String applicationStatTopicName;
+    private final AgentStatWriter agentStatWriter;
+    private final ApplicationStatWriter applicationStatWriter;
     private final TenantProvider tenantProvider;
     private final TopicNameManager topicNameManager;
 
     public DefaultAgentStatDao(Function<AgentStatBo,
                                List<T>> dataPointFunction,
-                               KafkaTemplate<String, AgentStat> kafkaAgentStatTemplate,
-                               KafkaTemplate<String, ApplicationStat> kafkaApplicationStatTemplate,
+                               AgentStatWriter agentStatWriter,
+                               ApplicationStatWriter applicationStatWriter,
                                BiFunction<List<T>, String, List<AgentStat>> convertToKafkaAgentStatModelFunction,
                                Function<List<AgentStat>, List<ApplicationStat>> convertToKafkaApplicationStatModelFunction,
                                InspectorCollectorProperties inspectorCollectorProperties,
                                TenantProvider tenantProvider) {
         this.dataPointFunction = Objects.requireNonNull(dataPointFunction, "dataPointFunction");
-        this.kafkaAgentStatTemplate = Objects.requireNonNull(kafkaAgentStatTemplate, "kafkaAgentStatTemplate");
-        this.kafkaApplicationStatTemplate = Objects.requireNonNull(kafkaApplicationStatTemplate, "kafkaApplicationStatTemplate");
+        this.agentStatWriter = Objects.requireNonNull(agentStatWriter, "agentStatWriter");
+        this.applicationStatWriter = Objects.requireNonNull(applicationStatWriter, "applicationStatWriter");
         this.convertToKafkaAgentStatModelFunction = Objects.requireNonNull(convertToKafkaAgentStatModelFunction, "convertToKafkaAgentStatModelFunction");
         this.convertToKafkaApplicationStatModelFunction = Objects.requireNonNull(convertToKafkaApplicationStatModelFunction, "convertToKafkaApplicationStatModelFunction");
         Objects.requireNonNull(inspectorCollectorProperties, "inspectorCollectorProperties");
-        this.applicationStatTopicName = inspectorCollectorProperties.getApplicationStatTopicName();
         this.topicNameManager = new TopicNameManager(inspectorCollectorProperties.getAgentStatTopicPrefix(), inspectorCollectorProperties.getAgentStatTopicPaddingLength(), inspectorCollectorProperties.getAgentStatTopicCount());
         this.tenantProvider = Objects.requireNonNull(tenantProvider, "tenantProvider");
     }
@@ -79,15 +76,10 @@ public class DefaultAgentStatDao <T extends AgentStatDataPoint> implements Agent
 
         List<AgentStat> agentStatList = convertToKafkaAgentStatModel(agentStatData);
         String topicName = topicNameManager.getTopicName(applicationName);
-
-        for (AgentStat agentStat : agentStatList) {
-            kafkaAgentStatTemplate.send(topicName, agentStat.getSortKey(), agentStat);
-        }
+        agentStatWriter.write(topicName, agentStatList);
 
         List<ApplicationStat> applicationStatList = convertToKafkaApplicationStatModel(agentStatList);
-        for (ApplicationStat applicationStat : applicationStatList) {
-            kafkaApplicationStatTemplate.send(applicationStatTopicName, applicationStat.getSortKey(), applicationStat);
-        }
+        applicationStatWriter.write(applicationStatList);
 
     }
 
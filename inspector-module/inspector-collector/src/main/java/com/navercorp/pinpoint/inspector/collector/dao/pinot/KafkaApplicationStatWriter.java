@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.inspector.collector.dao.pinot;
+
+import com.navercorp.pinpoint.common.server.util.StringPrecondition;
+import com.navercorp.pinpoint.inspector.collector.model.kafka.ApplicationStat;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Sends every {@link ApplicationStat} as is, Pinot aggregates them at ingestion time.
+ */
+public class KafkaApplicationStatWriter implements ApplicationStatWriter {
+
+    private final KafkaTemplate<String, ApplicationStat> kafkaApplicationStatTemplate;
+    private final String topic;
+
+    public KafkaApplicationStatWriter(KafkaTemplate<String, ApplicationStat> kafkaApplicationStatTemplate, String topic) {
+        this.kafkaApplicationStatTemplate = Objects.requireNonNull(kafkaApplicationStatTemplate, "kafkaApplicationStatTemplate");
+        this.topic = StringPrecondition.requireHasLength(topic, "topic");
+    }
+
+    @Override
+    public void write(List<ApplicationStat> applicationStatList) {
+        for (ApplicationStat applicationStat : applicationStatList) {
+            kafkaApplicationStatTemplate.send(topic, applicationStat.getSortKey(), applicationStat);
+        }
+    }
+}
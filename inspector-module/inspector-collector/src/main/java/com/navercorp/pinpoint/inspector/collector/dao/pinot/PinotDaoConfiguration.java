@@ -25,9 +25,9 @@ import com.navercorp.pinpoint.inspector.collector.model.kafka.AgentStatModelConv
 import com.navercorp.pinpoint.inspector.collector.model.kafka.ApplicationStat;
 import com.navercorp.pinpoint.inspector.collector.model.kafka.ApplicationStatModelConverter;
 import com.navercorp.pinpoint.pinot.tenant.TenantProvider;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.kafka.core.KafkaTemplate;
 
 import java.util.List;
 import java.util.Objects;
@@ -40,20 +40,21 @@ import java.util.function.Function;
 @Configuration
 public class PinotDaoConfiguration {
 
-    private final KafkaTemplate<String, AgentStat> kafkaAgentStatTemplate;
-    private final KafkaTemplate<String, ApplicationStat> kafkaApplicationStatTemplate;
+    private final AgentStatWriter agentStatWriter;
+    private final ApplicationStatWriter applicationStatWriter;
     InspectorCollectorProperties inspectorCollectorProperties;
     private final TenantProvider tenantProvider;
 
-    public PinotDaoConfiguration(KafkaTemplate<String, AgentStat> kafkaAgentStatTemplate, KafkaTemplate<String, ApplicationStat> kafkaApplicationStatTemplate, InspectorCollectorProperties inspectorCollectorProperties, TenantProvider tenantProvider) {
-        this.kafkaAgentStatTemplate = Objects.requireNonNull(kafkaAgentStatTemplate, "kafkaAgentStatTemplate");
-        this.kafkaApplicationStatTemplate = Objects.requireNonNull(kafkaApplicationStatTemplate, "kafkaApplicationStatTemplate");
+    public PinotDaoConfiguration(AgentStatWriter agentStatWriter, ObjectProvider<ApplicationStatWriter> applicationStatWriters, InspectorCollectorProperties inspectorCollectorProperties, TenantProvider tenantProvider) {
+        this.agentStatWriter = Objects.requireNonNull(agentStatWriter, "agentStatWriter");
+        // raw application stat topic and/or rollup, at least one of them must be enabled
+        this.applicationStatWriter = new CompositeApplicationStatWriter(applicationStatWriters.orderedStream().toList());
         this.inspectorCollectorProperties = Objects.requireNonNull(inspectorCollectorProperties, "inspectorCollectorProperties");
         this.tenantProvider = Objects.requireNonNull(tenantProvider, "tenantProvider");
     }
 
     private <T extends AgentStatDataPoint> AgentStatDao<T> newAgentStatDao(Function<AgentStatBo, List<T>> dataPointFunction, BiFunction<List<T>, String, List<AgentStat>> convertToAgentStat, Function<List<AgentStat>, List<ApplicationStat>> convertToKafkaApplicationStat) {
-        return new DefaultAgentStatDao(dataPointFunction, kafkaAgentStatTemplate, kafkaApplicationStatTemplate, convertToAgentStat, convertToKafkaApplicationStat, inspectorCollectorProperties, tenantProvider);
+        return new DefaultAgentStatDao(dataPointFunction, agentStatWriter, applicationStatWriter, convertToAgentStat, convertToKafkaApplicationStat, inspectorCollectorProperties, tenantProvider);
     }
 
     @Bean
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.inspector.collector.model.kafka;
+
+import com.navercorp.pinpoint.pinot.kafka.avro.AvroEncoders;
+import com.navercorp.pinpoint.pinot.kafka.avro.AvroWriter;
+import org.apache.avro.io.Encoder;
+
+import java.io.IOException;
+
+/**
+ * schema : inspector/collector/avro/inspector-stat-agent.avsc
+ */
+public class AgentStatAvroWriter implements AvroWriter<AgentStat> {
+
+    @Override
+    public void write(AgentStat agentStat, Encoder encoder) throws IOException {
+        AvroEncoders.writeNullableString(encoder, agentStat.getTenantId());
+        AvroEncoders.writeNullableString(encoder, agentStat.getSortKey());
+        AvroEncoders.writeNullableString(encoder, agentStat.getApplicationName());
+        AvroEncoders.writeNullableString(encoder, agentStat.getAgentId());
+        AvroEncoders.writeNullableString(encoder, agentStat.getMetricName());
+        AvroEncoders.writeNullableString(encoder, agentStat.getFieldName());
+        encoder.writeDouble(agentStat.getFieldValue());
+        AvroEncoders.writeStringArray(encoder, agentStat.getTags());
+        encoder.writeLong(agentStat.getEventTime());
+    }
+}
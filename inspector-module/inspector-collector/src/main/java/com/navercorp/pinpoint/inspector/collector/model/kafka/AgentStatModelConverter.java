@@ -35,7 +35,9 @@ import com.navercorp.pinpoint.common.server.bo.stat.TransactionBo;
 import com.navercorp.pinpoint.metric.common.model.Tag;
 import org.apache.commons.math3.util.Precision;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -362,7 +364,38 @@ public class AgentStatModelConverter<T extends AgentStatDataPoint> {
         return agentStatList;
     }
 
+    /**
+     * Merges the fields of each data point into one {@link CompactAgentStat}.
+     * The convert methods above emit the fields of a data point next to each other.
+     */
+    public static List<CompactAgentStat> compact(List<AgentStat> agentStatList) {
+        List<CompactAgentStat> compactList = new ArrayList<>();
+        AgentStat first = null;
+        List<CompactAgentStat.Field> fields = null;
+        for (AgentStat agentStat : agentStatList) {
+            if (first == null || !isSameDataPoint(first, agentStat)) {
+                if (first != null) {
+                    compactList.add(newCompactAgentStat(first, fields));
+                }
+                first = agentStat;
+                fields = new ArrayList<>();
+            }
+            fields.add(new CompactAgentStat.Field(agentStat.getFieldName(), agentStat.getFieldValue()));
+        }
+        if (first != null) {
+            compactList.add(newCompactAgentStat(first, fields));
+        }
+        return compactList;
+    }
 
+    private static boolean isSameDataPoint(AgentStat first, AgentStat agentStat) {
+        return first.getEventTime() == agentStat.getEventTime()
+                && Objects.equals(first.getSortKey(), agentStat.getSortKey())
+                && Objects.equals(first.getTags(), agentStat.getTags());
+    }
 
-
+    private static CompactAgentStat newCompactAgentStat(AgentStat first, List<CompactAgentStat.Field> fields) {
+        return new CompactAgentStat(first.getTenantId(), first.getSortKey(), first.getApplicationName(), first.getAgentId(),
+                first.getMetricName(), fields, first.getTags(), first.getEventTime());
+    }
 }
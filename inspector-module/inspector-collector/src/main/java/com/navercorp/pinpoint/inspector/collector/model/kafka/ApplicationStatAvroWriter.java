@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.inspector.collector.model.kafka;
+
+import com.navercorp.pinpoint.pinot.kafka.avro.AvroEncoders;
+import com.navercorp.pinpoint.pinot.kafka.avro.AvroWriter;
+import org.apache.avro.io.Encoder;
+
+import java.io.IOException;
+
+/**
+ * schema : inspector/collector/avro/inspector-stat-application.avsc
+ */
+public class ApplicationStatAvroWriter implements AvroWriter<ApplicationStat> {
+
+    @Override
+    public void write(ApplicationStat applicationStat, Encoder encoder) throws IOException {
+        AvroEncoders.writeNullableString(encoder, applicationStat.getTenantId());
+        AvroEncoders.writeNullableString(encoder, applicationStat.getSortKey());
+        AvroEncoders.writeNullableString(encoder, applicationStat.getApplicationName());
+        AvroEncoders.writeNullableString(encoder, applicationStat.getMetricName());
+        AvroEncoders.writeNullableString(encoder, applicationStat.getFieldName());
+        AvroEncoders.writeNullableString(encoder, applicationStat.getPrimaryTag());
+        encoder.writeDouble(applicationStat.getFieldValue());
+        encoder.writeLong(applicationStat.getEventTime());
+    }
+}
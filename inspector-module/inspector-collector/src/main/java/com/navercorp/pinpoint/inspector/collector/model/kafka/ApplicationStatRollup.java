@@ -0,0 +1,145 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.inspector.collector.model.kafka;
+
+import com.navercorp.pinpoint.common.model.SortKeyUtils;
+
+/**
+ * {@link ApplicationStat}s of one application field, rolled up over a time window by one collector.
+ * <p>
+ * {@code rollupKey} identifies the window of the emitting collector. A window is emitted again with its cumulative values
+ * and a higher {@code revision} when late samples arrive, and the Pinot upsert table keeps only the last revision of a rollupKey,
+ * so a window is counted once however often it is sent.
+ * The column names are the ones of the raw application stat table, so the same queries read both tables.
+ */
+public class ApplicationStatRollup {
+
+    private final String tenantId;
+    private final String sortKey;
+    private final String rollupKey;
+    private final String applicationName;
+    private final String metricName;
+    private final String fieldName;
+    private final String primaryTag;
+    private final String emitterId;
+    private final double sumFieldValue;
+    private final double minFieldValue;
+    private final double maxFieldValue;
+    private final long countFieldValue;
+    private final long revision;
+    private final long eventTime;
+
+    public ApplicationStatRollup(String tenantId, String applicationName, String metricName, String fieldName, String primaryTag,
+                                 String emitterId, double sumFieldValue, double minFieldValue, double maxFieldValue, long countFieldValue,
+                                 long revision, long eventTime) {
+        this.tenantId = tenantId;
+        this.applicationName = applicationName;
+        this.metricName = metricName;
+        this.sortKey = SortKeyUtils.generateKeyForApplicationStat(applicationName, metricName);
+        this.fieldName = fieldName;
+        this.primaryTag = primaryTag;
+        this.emitterId = emitterId;
+        this.rollupKey = tenantId + "#" + sortKey + "#" + fieldName + "#" + primaryTag + "#" + eventTime + "#" + emitterId;
+        this.sumFieldValue = sumFieldValue;
+        this.minFieldValue = minFieldValue;
+        this.maxFieldValue = maxFieldValue;
+        this.countFieldValue = countFieldValue;
+        this.revision = revision;
+        this.eventTime = eventTime;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public String getSortKey() {
+        return sortKey;
+    }
+
+    /**
+     * @return primary key of the upsert table, also used as the kafka key so every revision goes to the same partition
+     */
+    public String getRollupKey() {
+        return rollupKey;
+    }
+
+    public String getApplicationName() {
+        return applicationName;
+    }
+
+    public String getMetricName() {
+        return metricName;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public String getPrimaryTag() {
+        return primaryTag;
+    }
+
+    public String getEmitterId() {
+        return emitterId;
+    }
+
+    public double getSumFieldValue() {
+        return sumFieldValue;
+    }
+
+    public double getMinFieldValue() {
+        return minFieldValue;
+    }
+
+    public double getMaxFieldValue() {
+        return maxFieldValue;
+    }
+
+    public long getCountFieldValue() {
+        return countFieldValue;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * @return start of the window
+     */
+    public long getEventTime() {
+        return eventTime;
+    }
+
+    @Override
+    public String toString() {
+        return "ApplicationStatRollup{" +
+                "tenantId='" + tenantId + '\'' +
+                ", applicationName='" + applicationName + '\'' +
+                ", metricName='" + metricName + '\'' +
+                ", fieldName='" + fieldName + '\'' +
+                ", primaryTag='" + primaryTag + '\'' +
+                ", emitterId='" + emitterId + '\'' +
+                ", sumFieldValue=" + sumFieldValue +
+                ", minFieldValue=" + minFieldValue +
+                ", maxFieldValue=" + maxFieldValue +
+                ", countFieldValue=" + countFieldValue +
+                ", revision=" + revision +
+                ", eventTime=" + eventTime +
+                '}';
+    }
+}
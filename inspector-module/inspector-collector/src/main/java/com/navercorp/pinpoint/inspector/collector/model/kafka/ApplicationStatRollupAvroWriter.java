@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.inspector.collector.model.kafka;
+
+import com.navercorp.pinpoint.pinot.kafka.avro.AvroEncoders;
+import com.navercorp.pinpoint.pinot.kafka.avro.AvroWriter;
+import org.apache.avro.io.Encoder;
+
+import java.io.IOException;
+
+/**
+ * schema : inspector/collector/avro/inspector-stat-application-rollup.avsc
+ */
+public class ApplicationStatRollupAvroWriter implements AvroWriter<ApplicationStatRollup> {
+
+    @Override
+    public void write(ApplicationStatRollup rollup, Encoder encoder) throws IOException {
+        AvroEncoders.writeNullableString(encoder, rollup.getTenantId());
+        AvroEncoders.writeNullableString(encoder, rollup.getSortKey());
+        AvroEncoders.writeNullableString(encoder, rollup.getRollupKey());
+        AvroEncoders.writeNullableString(encoder, rollup.getApplicationName());
+        AvroEncoders.writeNullableString(encoder, rollup.getMetricName());
+        AvroEncoders.writeNullableString(encoder, rollup.getFieldName());
+        AvroEncoders.writeNullableString(encoder, rollup.getPrimaryTag());
+        AvroEncoders.writeNullableString(encoder, rollup.getEmitterId());
+        encoder.writeDouble(rollup.getSumFieldValue());
+        encoder.writeDouble(rollup.getMinFieldValue());
+        encoder.writeDouble(rollup.getMaxFieldValue());
+        encoder.writeLong(rollup.getCountFieldValue());
+        encoder.writeLong(rollup.getRevision());
+        encoder.writeLong(rollup.getEventTime());
+    }
+}
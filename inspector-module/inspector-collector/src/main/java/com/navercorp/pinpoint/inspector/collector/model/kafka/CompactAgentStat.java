@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.inspector.collector.model.kafka;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.navercorp.pinpoint.metric.common.model.Tag;
+
+import java.util.List;
+
+/**
+ * All fields of one agent stat data point in a single record, instead of one {@link AgentStat} per field.
+ * Pinot unnests {@code fields} back to one row per field at ingestion time,
+ * see pinot-inspector-stat-agent-compact-realtime-table.json
+ */
+public class CompactAgentStat {
+
+    private final String tenantId;
+    private final String sortKey;
+    private final String applicationName;
+    private final String agentId;
+    private final String metricName;
+    private final List<Field> fields;
+    private final List<Tag> tags;
+    private final long eventTime;
+
+    public CompactAgentStat(String tenantId, String sortKey, String applicationName, String agentId, String metricName,
+                            List<Field> fields, List<Tag> tags, long eventTime) {
+        this.tenantId = tenantId;
+        this.sortKey = sortKey;
+        this.applicationName = applicationName;
+        this.agentId = agentId;
+        this.metricName = metricName;
+        this.fields = fields;
+        this.tags = tags;
+        this.eventTime = eventTime;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public String getSortKey() {
+        return sortKey;
+    }
+
+    public String getApplicationName() {
+        return applicationName;
+    }
+
+    public String getAgentId() {
+        return agentId;
+    }
+
+    public String getMetricName() {
+        return metricName;
+    }
+
+    public List<Field> getFields() {
+        return fields;
+    }
+
+    @JsonSerialize(contentUsing = ToStringSerializer.class)
+    public List<Tag> getTags() {
+        return tags;
+    }
+
+    public long getEventTime() {
+        return eventTime;
+    }
+
+    @Override
+    public String toString() {
+        return "CompactAgentStat{" +
+                "tenantId='" + tenantId + '\'' +
+                ", sortKey='" + sortKey + '\'' +
+                ", applicationName='" + applicationName + '\'' +
+                ", agentId='" + agentId + '\'' +
+                ", metricName='" + metricName + '\'' +
+                ", fields=" + fields +
+                ", tags=" + tags +
+                ", eventTime=" + eventTime +
+                '}';
+    }
+
+    public record Field(String fieldName, double fieldValue) {
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.inspector.collector.model.kafka;
+
+import com.navercorp.pinpoint.pinot.kafka.avro.AvroEncoders;
+import com.navercorp.pinpoint.pinot.kafka.avro.AvroWriter;
+import org.apache.avro.io.Encoder;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * schema : inspector/collector/avro/inspector-stat-agent-compact.avsc
+ */
+public class CompactAgentStatAvroWriter implements AvroWriter<CompactAgentStat> {
+
+    @Override
+    public void write(CompactAgentStat agentStat, Encoder encoder) throws IOException {
+        AvroEncoders.writeNullableString(encoder, agentStat.getTenantId());
+        AvroEncoders.writeNullableString(encoder, agentStat.getSortKey());
+        AvroEncoders.writeNullableString(encoder, agentStat.getApplicationName());
+        AvroEncoders.writeNullableString(encoder, agentStat.getAgentId());
+        AvroEncoders.writeNullableString(encoder, agentStat.getMetricName());
+        writeFields(encoder, agentStat.getFields());
+        AvroEncoders.writeStringArray(encoder, agentStat.getTags());
+        encoder.writeLong(agentStat.getEventTime());
+    }
+
+    private void writeFields(Encoder encoder, List<CompactAgentStat.Field> fields) throws IOException {
+        encoder.writeArrayStart();
+        encoder.setItemCount(fields.size());
+        for (CompactAgentStat.Field field : fields) {
+            encoder.startItem();
+            AvroEncoders.writeNullableString(encoder, field.fieldName());
+            encoder.writeDouble(field.fieldValue());
+        }
+        encoder.writeArrayEnd();
+    }
+}
@@ -0,0 +1,120 @@
+package com.navercorp.pinpoint.inspector.collector.dao.pinot;
+
+import com.navercorp.pinpoint.inspector.collector.model.kafka.ApplicationStat;
+import com.navercorp.pinpoint.inspector.collector.model.kafka.ApplicationStatRollup;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+class ApplicationStatAggregatorTest {
+
+    private static final long WINDOW = 30_000;
+    private static final long FLUSH_DELAY = 10_000;
+    private static final long MAX_LATENESS = 60_000;
+
+    private final List<ApplicationStatRollup> rollups = new ArrayList<>();
+    private final ApplicationStatAggregator aggregator = new ApplicationStatAggregator(WINDOW, FLUSH_DELAY, MAX_LATENESS, "emitter", rollups::add);
+
+    @Test
+    void rollup() {
+        aggregator.write(List.of(
+                stat("cpuLoad", "system", 0.2, 60_000),
+                stat("cpuLoad", "system", 0.6, 65_000),
+                stat("cpuLoad", "system", 0.4, 89_999),
+                stat("cpuLoad", "jvm", 0.1, 70_000),
+                stat("cpuLoad", "system", 0.9, 90_000)));
+
+        // window [60000, 90000) closes at 100000
+        aggregator.flush(99_999);
+        Assertions.assertThat(rollups).isEmpty();
+
+        aggregator.flush(100_000);
+        rollups.sort(Comparator.comparing(ApplicationStatRollup::getFieldName));
+        Assertions.assertThat(rollups).hasSize(2);
+
+        ApplicationStatRollup jvm = rollups.get(0);
+        Assertions.assertThat(jvm.getFieldName()).isEqualTo("jvm");
+        Assertions.assertThat(jvm.getCountFieldValue()).isEqualTo(1);
+
+        ApplicationStatRollup system = rollups.get(1);
+        Assertions.assertThat(system.getEventTime()).isEqualTo(60_000);
+        Assertions.assertThat(system.getSumFieldValue()).isCloseTo(1.2, Assertions.within(0.0001));
+        Assertions.assertThat(system.getMinFieldValue()).isEqualTo(0.2);
+        Assertions.assertThat(system.getMaxFieldValue()).isEqualTo(0.6);
+        Assertions.assertThat(system.getCountFieldValue()).isEqualTo(3);
+        Assertions.assertThat(system.getSortKey()).isEqualTo(stat("cpuLoad", "system", 0, 0).getSortKey());
+
+        Assertions.assertThat(system.getRevision()).isZero();
+        Assertions.assertThat(system.getEmitterId()).isEqualTo("emitter");
+
+        // emitted windows are kept for late samples, an unchanged window is not emitted again
+        Assertions.assertThat(aggregator.getOpenWindowCount()).isEqualTo(3);
+        aggregator.flush(100_000);
+        Assertions.assertThat(rollups).hasSize(2);
+    }
+
+    @Test
+    void lateSample() {
+        aggregator.write(List.of(stat("cpuLoad", "system", 0.2, 60_000)));
+        aggregator.flush(100_000);
+        aggregator.write(List.of(stat("cpuLoad", "system", 0.4, 61_000)));
+        aggregator.flush(100_000);
+
+        // emitted again with the cumulative values, the upsert table keeps the last revision of the rollupKey
+        Assertions.assertThat(rollups).extracting(ApplicationStatRollup::getRollupKey).containsOnly(rollups.get(0).getRollupKey());
+        Assertions.assertThat(rollups).extracting(ApplicationStatRollup::getRevision).containsExactly(0L, 1L);
+        Assertions.assertThat(rollups).extracting(ApplicationStatRollup::getCountFieldValue).containsExactly(1L, 2L);
+        Assertions.assertThat(rollups.get(1).getSumFieldValue()).isCloseTo(0.6, Assertions.within(0.0001));
+    }
+
+    @Test
+    void evict() {
+        aggregator.write(List.of(stat("cpuLoad", "system", 0.2, 60_000)));
+        // window [60000, 90000) is kept until 150000
+        aggregator.flush(150_000);
+        Assertions.assertThat(aggregator.getOpenWindowCount()).isEqualTo(1);
+
+        aggregator.flush(150_001);
+        Assertions.assertThat(aggregator.getOpenWindowCount()).isZero();
+
+        // a new revision 0 would overwrite the emitted rollup
+        aggregator.write(List.of(stat("cpuLoad", "system", 0.4, 61_000)));
+        aggregator.flush(150_001);
+        Assertions.assertThat(rollups).hasSize(1);
+        Assertions.assertThat(aggregator.getOpenWindowCount()).isZero();
+        Assertions.assertThat(aggregator.getDroppedSampleCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rollupKey() {
+        ApplicationStatAggregator other = new ApplicationStatAggregator(WINDOW, FLUSH_DELAY, MAX_LATENESS, "other", rollups::add);
+        aggregator.write(List.of(stat("cpuLoad", "system", 0.2, 60_000)));
+        other.write(List.of(stat("cpuLoad", "system", 0.4, 60_000)));
+        aggregator.flushAll();
+        other.flushAll();
+
+        // rollups of the same window from two collectors are both kept
+        Assertions.assertThat(rollups).extracting(ApplicationStatRollup::getRollupKey).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void flushAll() {
+        aggregator.write(List.of(
+                stat("cpuLoad", "system", 0.2, 60_000),
+                stat("cpuLoad", "system", 0.4, 90_000)));
+
+        aggregator.flushAll();
+
+        Assertions.assertThat(rollups).hasSize(2);
+        Assertions.assertThat(aggregator.getOpenWindowCount()).isZero();
+        Assertions.assertThat(aggregator.getSampleCount()).isEqualTo(2);
+        Assertions.assertThat(aggregator.getRollupCount()).isEqualTo(2);
+    }
+
+    private ApplicationStat stat(String metricName, String fieldName, double value, long eventTime) {
+        return new ApplicationStat("tenant", "app", metricName, fieldName, value, eventTime);
+    }
+}
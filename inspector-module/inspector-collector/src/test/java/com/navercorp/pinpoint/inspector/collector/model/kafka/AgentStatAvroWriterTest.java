@@ -0,0 +1,170 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.inspector.collector.model.kafka;
+
+import com.navercorp.pinpoint.metric.common.model.Tag;
+import com.navercorp.pinpoint.pinot.kafka.avro.AvroSerializer;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Function;
+
+class AgentStatAvroWriterTest {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    @Test
+    void agentStat() throws IOException {
+        Schema schema = loadSchema("/inspector/collector/avro/inspector-stat-agent.avsc");
+        AgentStat agentStat = new AgentStat("tenant", "app#agent#dataSource", "app", "agent", "dataSource", "activeConnectionSize", 10,
+                1700000000000L, List.of(new Tag("id", "1"), new Tag("jdbcUrl", "jdbc:mysql://localhost:3306/pinpoint")));
+
+        byte[] avro = new AvroSerializer<>(new AgentStatAvroWriter()).serialize("topic", agentStat);
+        GenericRecord record = decode(schema, avro);
+
+        Assertions.assertThat(record.get("tenantId")).hasToString("tenant");
+        Assertions.assertThat(record.get("sortKey")).hasToString("app#agent#dataSource");
+        Assertions.assertThat(record.get("applicationName")).hasToString("app");
+        Assertions.assertThat(record.get("agentId")).hasToString("agent");
+        Assertions.assertThat(record.get("metricName")).hasToString("dataSource");
+        Assertions.assertThat(record.get("fieldName")).hasToString("activeConnectionSize");
+        Assertions.assertThat(record.get("fieldValue")).isEqualTo(10.0);
+        Assertions.assertThat((List<?>) record.get("tags")).map(Object::toString)
+                .containsExactly("id:1", "jdbcUrl:jdbc:mysql://localhost:3306/pinpoint");
+        Assertions.assertThat(record.get("eventTime")).isEqualTo(1700000000000L);
+
+        try (JsonSerializer<AgentStat> jsonSerializer = new JsonSerializer<>()) {
+            byte[] json = jsonSerializer.serialize("topic", agentStat);
+            logger.info("AgentStat json:{} avro:{}", json.length, avro.length);
+            Assertions.assertThat(avro.length).isLessThan(json.length * 2 / 3);
+        }
+    }
+
+    @Test
+    void applicationStat() throws IOException {
+        Schema schema = loadSchema("/inspector/collector/avro/inspector-stat-application.avsc");
+        ApplicationStat applicationStat = new ApplicationStat("tenant", "app", "cpuLoad", "system", 0.5, 1700000000000L);
+
+        byte[] avro = new AvroSerializer<>(new ApplicationStatAvroWriter()).serialize("topic", applicationStat);
+        GenericRecord record = decode(schema, avro);
+
+        Assertions.assertThat(record.get("sortKey")).hasToString(applicationStat.getSortKey());
+        Assertions.assertThat(record.get("primaryTag")).hasToString("null");
+        Assertions.assertThat(record.get("fieldValue")).isEqualTo(0.5);
+        Assertions.assertThat(record.get("eventTime")).isEqualTo(1700000000000L);
+    }
+
+    @Test
+    void compactAgentStat() throws IOException {
+        Schema schema = loadSchema("/inspector/collector/avro/inspector-stat-agent-compact.avsc");
+        List<Tag> tags = List.of(new Tag("id", "1"));
+        List<AgentStat> agentStatList = List.of(
+                new AgentStat("tenant", "app#agent#dataSource", "app", "agent", "dataSource", "activeConnectionSize", 10, 1700000000000L, tags),
+                new AgentStat("tenant", "app#agent#dataSource", "app", "agent", "dataSource", "maxConnectionSize", 20, 1700000000000L, tags),
+                new AgentStat("tenant", "app#agent#dataSource", "app", "agent", "dataSource", "activeConnectionSize", 11, 1700000000000L, List.of(new Tag("id", "2"))),
+                new AgentStat("tenant", "app#agent#dataSource", "app", "agent", "dataSource", "activeConnectionSize", 12, 1700000005000L, tags));
+
+        List<CompactAgentStat> compactList = AgentStatModelConverter.compact(agentStatList);
+        Assertions.assertThat(compactList).hasSize(3);
+        Assertions.assertThat(compactList.get(0).getFields()).containsExactly(
+                new CompactAgentStat.Field("activeConnectionSize", 10), new CompactAgentStat.Field("maxConnectionSize", 20));
+
+        byte[] avro = new AvroSerializer<>(new CompactAgentStatAvroWriter()).serialize("topic", compactList.get(0));
+        GenericRecord record = decode(schema, avro);
+
+        Assertions.assertThat(record.get("sortKey")).hasToString("app#agent#dataSource");
+        Assertions.assertThat(record.get("metricName")).hasToString("dataSource");
+        List<?> fields = (List<?>) record.get("fields");
+        Assertions.assertThat(fields).hasSize(2);
+        GenericRecord field = (GenericRecord) fields.get(1);
+        Assertions.assertThat(field.get("fieldName")).hasToString("maxConnectionSize");
+        Assertions.assertThat(field.get("fieldValue")).isEqualTo(20.0);
+        Assertions.assertThat((List<?>) record.get("tags")).map(Object::toString).containsExactly("id:1");
+        Assertions.assertThat(record.get("eventTime")).isEqualTo(1700000000000L);
+    }
+
+    @Test
+    void applicationStatRollup() throws IOException {
+        Schema schema = loadSchema("/inspector/collector/avro/inspector-stat-application-rollup.avsc");
+        ApplicationStatRollup rollup = new ApplicationStatRollup("tenant", "app", "cpuLoad", "system", "null", "emitter",
+                1.5, 0.2, 0.9, 3, 1, 1700000000000L);
+
+        byte[] avro = new AvroSerializer<>(new ApplicationStatRollupAvroWriter()).serialize("topic", rollup);
+        GenericRecord record = decode(schema, avro);
+
+        Assertions.assertThat(record.get("rollupKey")).hasToString(rollup.getRollupKey());
+        Assertions.assertThat(record.get("emitterId")).hasToString("emitter");
+        Assertions.assertThat(record.get("sumFieldValue")).isEqualTo(1.5);
+        Assertions.assertThat(record.get("countFieldValue")).isEqualTo(3L);
+        Assertions.assertThat(record.get("revision")).isEqualTo(1L);
+        Assertions.assertThat(record.get("eventTime")).isEqualTo(1700000000000L);
+    }
+
+    @Disabled("benchmark")
+    @Test
+    void benchmark_serialize() {
+        AgentStat agentStat = new AgentStat("tenant", "app#agent#dataSource", "app", "agent", "dataSource", "activeConnectionSize", 10,
+                1700000000000L, List.of(new Tag("id", "1"), new Tag("jdbcUrl", "jdbc:mysql://localhost:3306/pinpoint")));
+        AvroSerializer<AgentStat> avroSerializer = new AvroSerializer<>(new AgentStatAvroWriter());
+        try (JsonSerializer<AgentStat> jsonSerializer = new JsonSerializer<>()) {
+            for (int round = 0; round < 3; round++) {
+                measure("json", stat -> jsonSerializer.serialize("topic", stat), agentStat);
+                measure("avro", stat -> avroSerializer.serialize("topic", stat), agentStat);
+            }
+        }
+    }
+
+    private void measure(String name, Function<AgentStat, byte[]> serializer, AgentStat agentStat) {
+        final int iterations = 1_000_000;
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long bytes = 0;
+        long startAllocated = threadMXBean.getThreadAllocatedBytes(threadId);
+        long startCpu = threadMXBean.getCurrentThreadCpuTime();
+        for (int i = 0; i < iterations; i++) {
+            bytes += serializer.apply(agentStat).length;
+        }
+        long cpu = threadMXBean.getCurrentThreadCpuTime() - startCpu;
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - startAllocated;
+        logger.info("{} cpu:{}ns/record size:{}B/record allocated:{}B/record",
+                name, cpu / iterations, bytes / iterations, allocated / iterations);
+    }
+
+    private Schema loadSchema(String resource) throws IOException {
+        try (InputStream inputStream = getClass().getResourceAsStream(resource)) {
+            return new Schema.Parser().parse(inputStream);
+        }
+    }
+
+    private GenericRecord decode(Schema schema, byte[] bytes) throws IOException {
+        GenericDatumReader<GenericRecord> reader = new GenericDatumReader<>(schema);
+        return reader.read(null, DecoderFactory.get().binaryDecoder(bytes, null));
+    }
+}
@@ -23,6 +23,7 @@ import com.navercorp.pinpoint.inspector.web.config.InspectorWebPinotDaoConfigura
 import com.navercorp.pinpoint.inspector.web.config.InspectorWebProperties;
 import com.navercorp.pinpoint.inspector.web.definition.Mappings;
 import com.navercorp.pinpoint.inspector.web.definition.YMLInspectorManager;
+import com.navercorp.pinpoint.inspector.web.service.AgentStatBucketCache;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
@@ -77,4 +78,9 @@ public class InspectorWebConfig {
         return new InspectorWebProperties();
     }
 
+    @Bean
+    public AgentStatBucketCache agentStatBucketCache(InspectorWebProperties inspectorWebProperties) {
+        return new AgentStatBucketCache(inspectorWebProperties.getAgentBucketCacheMaximumSize(), inspectorWebProperties.getAgentBucketCacheSettleMillis());
+    }
+
 }
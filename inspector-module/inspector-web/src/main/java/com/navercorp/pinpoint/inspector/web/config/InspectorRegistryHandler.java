@@ -18,6 +18,8 @@ package com.navercorp.pinpoint.inspector.web.config;
 
 import com.navercorp.pinpoint.common.model.TagInformation;
 import com.navercorp.pinpoint.common.dao.pinot.MultiValueTagTypeHandler;
+import com.navercorp.pinpoint.inspector.web.dao.model.FieldMetricPoint;
+import com.navercorp.pinpoint.inspector.web.dao.model.InspectorFieldsQueryParameter;
 import com.navercorp.pinpoint.inspector.web.dao.model.InspectorQueryParameter;
 import com.navercorp.pinpoint.metric.common.config.CommonRegistryHandler;
 import com.navercorp.pinpoint.metric.common.model.Tag;
@@ -51,6 +53,8 @@ public class InspectorRegistryHandler implements MyBatisRegistryHandler {
         typeAliasRegistry.registerAlias(MinMaxMetricPoint.class);
         typeAliasRegistry.registerAlias(AvgMinMetricPoint.class);
         typeAliasRegistry.registerAlias(InspectorQueryParameter.class);
+        typeAliasRegistry.registerAlias(InspectorFieldsQueryParameter.class);
+        typeAliasRegistry.registerAlias(FieldMetricPoint.class);
         typeAliasRegistry.registerAlias("DoubleHandler", DoubleTypeHandler.class);
         typeAliasRegistry.registerAlias(TagInformation.class);
         typeAliasRegistry.registerAlias(MultiValueTagTypeHandler.class);
@@ -36,8 +36,15 @@ public class InspectorWebProperties {
     private String agentStatTablePrefix;
     @Value("${pinot.inspector.agent.table.padding.length}")
     private int agentStatTablePaddingLength;
+    // inspectorStatAppRollup when the collector rolls up application stats
+    @Value("${pinot.inspector.application.table.name:inspectorStatApp}")
+    private String applicationStatTableName;
     @Value("${web.inspector.api.period.max:42}")
     private int inspectorPeriodMax;
+    @Value("${web.inspector.agent.bucket-cache.maximum-size:100000}")
+    private long agentBucketCacheMaximumSize;
+    @Value("${web.inspector.agent.bucket-cache.settle-millis:180000}")
+    private long agentBucketCacheSettleMillis;
 
     @PostConstruct
     public void log() {
@@ -59,17 +66,32 @@ public class InspectorWebProperties {
         return agentStatTablePaddingLength;
     }
 
+    public String getApplicationStatTableName() {
+        return applicationStatTableName;
+    }
+
     public int getInspectorPeriodMax() {
         return inspectorPeriodMax;
     }
 
+    public long getAgentBucketCacheMaximumSize() {
+        return agentBucketCacheMaximumSize;
+    }
+
+    public long getAgentBucketCacheSettleMillis() {
+        return agentBucketCacheSettleMillis;
+    }
+
     @Override
     public String toString() {
         return "InspectorWebProperties{" +
                 "agentStatTableCount=" + agentStatTableCount +
                 ", agentStatTablePrefix='" + agentStatTablePrefix + '\'' +
                 ", agentStatTablePaddingLength=" + agentStatTablePaddingLength +
+                ", applicationStatTableName='" + applicationStatTableName + '\'' +
                 ", inspectorPeriodMax=" + inspectorPeriodMax +
+                ", agentBucketCacheMaximumSize=" + agentBucketCacheMaximumSize +
+                ", agentBucketCacheSettleMillis=" + agentBucketCacheSettleMillis +
                 '}';
     }
 }
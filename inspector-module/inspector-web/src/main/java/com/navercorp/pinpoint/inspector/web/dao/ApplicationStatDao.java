@@ -17,6 +17,7 @@
 package com.navercorp.pinpoint.inspector.web.dao;
 
 import com.navercorp.pinpoint.common.model.TagInformation;
+import com.navercorp.pinpoint.inspector.web.dao.model.FieldMetricPoint;
 import com.navercorp.pinpoint.inspector.web.definition.metric.field.Field;
 import com.navercorp.pinpoint.inspector.web.model.InspectorDataSearchKey;
 import com.navercorp.pinpoint.metric.common.model.Tag;
@@ -42,6 +43,12 @@ public interface ApplicationStatDao {
 
     CompletableFuture<List<SystemMetricPoint<Double>>> selectStatMax(InspectorDataSearchKey inspectorDataSearchKey, String metricName, Field field);
 
+    /**
+     * Reads the untagged fields of a metric in one query.
+     * Each row carries the avg, min, max and sum of one field in one time slot.
+     */
+    CompletableFuture<List<FieldMetricPoint>> selectStatFields(InspectorDataSearchKey inspectorDataSearchKey, String metricName, List<Field> fields);
+
     List<Tag> getTagInfo(InspectorDataSearchKey inspectorDataSearchKey, String metricName, Field field);
 
     TagInformation getTagInfoContainedSpecificTag(InspectorDataSearchKey inspectorDataSearchKey, String metricName, Field field, Tag tag);
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.inspector.web.dao.model;
+
+import com.navercorp.pinpoint.inspector.web.definition.AggregationFunction;
+
+import java.util.Objects;
+
+/**
+ * One time slot of one field, with every aggregation the agent and application charts use.
+ */
+public class FieldMetricPoint {
+
+    private final String fieldName;
+    private final long timestamp;
+    private final double avgValue;
+    private final double minValue;
+    private final double maxValue;
+    private final double sumValue;
+
+    public FieldMetricPoint(String fieldName, long timestamp, double avgValue, double minValue, double maxValue, double sumValue) {
+        this.fieldName = Objects.requireNonNull(fieldName, "fieldName");
+        this.timestamp = timestamp;
+        this.avgValue = avgValue;
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+        this.sumValue = sumValue;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public double getAvgValue() {
+        return avgValue;
+    }
+
+    public double getMinValue() {
+        return minValue;
+    }
+
+    public double getMaxValue() {
+        return maxValue;
+    }
+
+    public double getSumValue() {
+        return sumValue;
+    }
+
+    public double getValue(AggregationFunction aggregationFunction) {
+        return switch (aggregationFunction) {
+            case AVG -> avgValue;
+            case MAX -> maxValue;
+            case SUM -> sumValue;
+            default -> throw new IllegalArgumentException("Unknown aggregation function : " + aggregationFunction);
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "FieldMetricPoint{" +
+                "fieldName='" + fieldName + '\'' +
+                ", timestamp=" + timestamp +
+                ", avgValue=" + avgValue +
+                ", minValue=" + minValue +
+                ", maxValue=" + maxValue +
+                ", sumValue=" + sumValue +
+                '}';
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.inspector.web.dao.model;
+
+import com.navercorp.pinpoint.common.server.util.StringPrecondition;
+import com.navercorp.pinpoint.common.server.util.time.Range;
+import com.navercorp.pinpoint.metric.web.util.TimePrecision;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Query parameter for reading several fields of one metric in a single query.
+ */
+public class InspectorFieldsQueryParameter {
+
+    private final String tableName;
+    private final String sortKey;
+    private final String metricName;
+    private final List<String> fieldNameList;
+    private final Range range;
+    private final TimePrecision timePrecision;
+    private final long limit;
+
+    public InspectorFieldsQueryParameter(String tableName, String sortKey, String metricName, List<String> fieldNameList, Range range, TimePrecision timePrecision) {
+        this.tableName = StringPrecondition.requireHasLength(tableName, "tableName");
+        this.sortKey = StringPrecondition.requireHasLength(sortKey, "sortKey");
+        this.metricName = StringPrecondition.requireHasLength(metricName, "metricName");
+        this.fieldNameList = Objects.requireNonNull(fieldNameList, "fieldNameList");
+        this.range = Objects.requireNonNull(range, "range");
+        this.timePrecision = Objects.requireNonNull(timePrecision, "timePrecision");
+        // one row per field and time slot
+        final long slotCount = range.durationMillis() / timePrecision.getInterval() + 1;
+        this.limit = slotCount * fieldNameList.size();
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public String getSortKey() {
+        return sortKey;
+    }
+
+    public String getMetricName() {
+        return metricName;
+    }
+
+    public List<String> getFieldNameList() {
+        return fieldNameList;
+    }
+
+    public Range getRange() {
+        return range;
+    }
+
+    public TimePrecision getTimePrecision() {
+        return timePrecision;
+    }
+
+    public long getLimit() {
+        return limit;
+    }
+
+    @Override
+    public String toString() {
+        return "InspectorFieldsQueryParameter{" +
+                "tableName='" + tableName + '\'' +
+                ", sortKey='" + sortKey + '\'' +
+                ", metricName='" + metricName + '\'' +
+                ", fieldNameList=" + fieldNameList +
+                ", range=" + range +
+                ", timePrecision=" + timePrecision +
+                ", limit=" + limit +
+                '}';
+    }
+}
@@ -19,8 +19,11 @@ package com.navercorp.pinpoint.inspector.web.dao.pinot;
 import com.navercorp.pinpoint.metric.common.dao.TableNameManager;
 import com.navercorp.pinpoint.common.model.SortKeyUtils;
 import com.navercorp.pinpoint.common.model.TagInformation;
+import com.navercorp.pinpoint.common.server.util.time.Range;
 import com.navercorp.pinpoint.inspector.web.config.InspectorWebProperties;
 import com.navercorp.pinpoint.inspector.web.dao.AgentStatDao;
+import com.navercorp.pinpoint.inspector.web.dao.model.FieldMetricPoint;
+import com.navercorp.pinpoint.inspector.web.dao.model.InspectorFieldsQueryParameter;
 import com.navercorp.pinpoint.inspector.web.dao.model.InspectorQueryParameter;
 import com.navercorp.pinpoint.inspector.web.definition.metric.field.Field;
 import com.navercorp.pinpoint.inspector.web.model.InspectorDataSearchKey;
@@ -72,6 +75,16 @@ public class PinotAgentStatDao implements AgentStatDao {
         return asyncTemplate.selectList(NAMESPACE + "selectInspectorSumData", inspectorQueryParameter);
     }
 
+    @Override
+    public CompletableFuture<List<FieldMetricPoint>> selectAgentStatFields(InspectorDataSearchKey inspectorDataSearchKey, Range range, String metricName, List<Field> fields) {
+        List<String> fieldNameList = fields.stream()
+                .map(Field::getFieldName)
+                .distinct()
+                .toList();
+        InspectorFieldsQueryParameter queryParameter = new InspectorFieldsQueryParameter(getTableName(inspectorDataSearchKey), generateKeyForAgentStat(inspectorDataSearchKey, metricName), metricName, fieldNameList, range, inspectorDataSearchKey.getTimePrecision());
+        return asyncTemplate.selectList(NAMESPACE + "selectInspectorFieldsData", queryParameter);
+    }
+
     @Override
     public CompletableFuture<List<SystemMetricPoint<Double>>> selectAgentStat(InspectorDataSearchKey inspectorDataSearchKey, String metricName, Field field) {
         InspectorQueryParameter inspectorQueryParameter = new InspectorQueryParameter(inspectorDataSearchKey, getTableName(inspectorDataSearchKey), generateKeyForAgentStat(inspectorDataSearchKey, metricName), metricName, field.getFieldName(), field.getTags());
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.inspector.web.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.navercorp.pinpoint.common.server.util.timewindow.TimeWindow;
+import com.navercorp.pinpoint.common.util.Assert;
+import com.navercorp.pinpoint.inspector.web.model.InspectorDataSearchKey;
+
+import java.time.Clock;
+import java.util.Objects;
+
+/**
+ * Caches the raw field values of agent stat time slots that can no longer change.
+ * <p>
+ * A slot is cached per (agent, metric definition, slot size, slot) once it lies completely inside the queried
+ * range and ended more than {@code settleMillis} ago, so late samples are still picked up.
+ * Callers also require a later slot to have data, so a slot is not frozen while Pinot ingestion lags behind.
+ * A value holds one entry per field of the metric definition, {@link Double#NaN} for a field without data.
+ */
+public class AgentStatBucketCache {
+
+    private final long settleMillis;
+    private final Clock clock;
+    private final Cache<BucketKey, double[]> cache;
+
+    public AgentStatBucketCache(long maximumSize, long settleMillis) {
+        this(maximumSize, settleMillis, Clock.systemUTC());
+    }
+
+    AgentStatBucketCache(long maximumSize, long settleMillis, Clock clock) {
+        Assert.isTrue(maximumSize > 0, "maximumSize must be '> 0'");
+        Assert.isTrue(settleMillis >= 0, "settleMillis must be '>= 0'");
+        this.settleMillis = settleMillis;
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    public boolean isCacheable(TimeWindow timeWindow, long slotTimestamp) {
+        final long slotEnd = slotTimestamp + timeWindow.getWindowSlotSize();
+        // the query reads the last slot of the window only up to its first millisecond
+        if (slotEnd > timeWindow.getWindowRange().getTo()) {
+            return false;
+        }
+        return slotEnd <= clock.millis() - settleMillis;
+    }
+
+    public double[] get(InspectorDataSearchKey searchKey, TimeWindow timeWindow, long slotTimestamp) {
+        return cache.getIfPresent(newKey(searchKey, timeWindow, slotTimestamp));
+    }
+
+    public void put(InspectorDataSearchKey searchKey, TimeWindow timeWindow, long slotTimestamp, double[] values) {
+        Objects.requireNonNull(values, "values");
+        cache.put(newKey(searchKey, timeWindow, slotTimestamp), values);
+    }
+
+    private BucketKey newKey(InspectorDataSearchKey searchKey, TimeWindow timeWindow, long slotTimestamp) {
+        return new BucketKey(searchKey.getTenantId(), searchKey.getApplicationName(), searchKey.getAgentId(),
+                searchKey.getMetricDefinitionId(), timeWindow.getWindowSlotSize(), slotTimestamp);
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    private record BucketKey(String tenantId, String applicationName, String agentId,
+                             String metricDefinitionId, long slotSize, long slotTimestamp) {
+    }
+}
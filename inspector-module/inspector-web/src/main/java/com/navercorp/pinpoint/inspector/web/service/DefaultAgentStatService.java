@@ -16,7 +16,9 @@
 
 package com.navercorp.pinpoint.inspector.web.service;
 
+import com.navercorp.pinpoint.common.server.util.time.Range;
 import com.navercorp.pinpoint.inspector.web.dao.AgentStatDao;
+import com.navercorp.pinpoint.inspector.web.dao.model.FieldMetricPoint;
 import com.navercorp.pinpoint.inspector.web.definition.AggregationFunction;
 import com.navercorp.pinpoint.inspector.web.definition.Mappings;
 import com.navercorp.pinpoint.inspector.web.definition.MetricDefinition;
@@ -34,16 +36,16 @@ import com.navercorp.pinpoint.inspector.web.model.InspectorMetricValue;
 import com.navercorp.pinpoint.metric.common.model.Tag;
 import com.navercorp.pinpoint.common.server.util.timewindow.TimeWindow;
 import com.navercorp.pinpoint.metric.common.model.chart.SystemMetricPoint;
-import com.navercorp.pinpoint.metric.common.util.DoubleUncollectedDataCreator;
-import com.navercorp.pinpoint.metric.common.util.TimeSeriesBuilder;
+import com.navercorp.pinpoint.metric.common.util.DoubleTimeSeriesBuilder;
 import com.navercorp.pinpoint.metric.common.util.TimeUtils;
-import com.navercorp.pinpoint.metric.common.util.UncollectedDataCreator;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -62,38 +64,161 @@ public class DefaultAgentStatService implements AgentStatService {
     private final YMLInspectorManager ymlInspectorManager;
     private final MetricProcessorManager metricProcessorManager;
     private final FieldProcessorManager fieldProcessorManager;
+    private final AgentStatBucketCache bucketCache;
 
-    public DefaultAgentStatService(@Qualifier("pinotAgentStatDao")AgentStatDao agentStatDao, @Qualifier("agentInspectorDefinition")Mappings agentInspectorDefinition, MetricProcessorManager metricProcessorManager, FieldProcessorManager fieldProcessorManager) {
+    public DefaultAgentStatService(@Qualifier("pinotAgentStatDao")AgentStatDao agentStatDao, @Qualifier("agentInspectorDefinition")Mappings agentInspectorDefinition, MetricProcessorManager metricProcessorManager, FieldProcessorManager fieldProcessorManager, AgentStatBucketCache bucketCache) {
         this.agentStatDao = Objects.requireNonNull(agentStatDao, "agentStatDao");
         Objects.requireNonNull(agentInspectorDefinition, "agentInspectorDefinition");
         this.ymlInspectorManager = new YMLInspectorManager(agentInspectorDefinition);
         this.metricProcessorManager = Objects.requireNonNull(metricProcessorManager, "metricProcessorManager");
         this.fieldProcessorManager = Objects.requireNonNull(fieldProcessorManager, "fieldProcessorManager");
+        this.bucketCache = Objects.requireNonNull(bucketCache, "bucketCache");
     }
 
     @Override
     public InspectorMetricData selectAgentStat(InspectorDataSearchKey inspectorDataSearchKey, TimeWindow timeWindow){
         MetricDefinition metricDefinition = ymlInspectorManager.findElementOfBasicGroup(inspectorDataSearchKey.getMetricDefinitionId());
 
-        List<QueryResult> queryResults = selectAll(inspectorDataSearchKey, metricDefinition);
+        List<InspectorMetricValue> metricValueList;
+        if (isMultiFieldQuery(metricDefinition.getFields())) {
+            metricValueList = selectFields(inspectorDataSearchKey, timeWindow, metricDefinition);
+        } else {
+            metricValueList = getMetricValues(timeWindow, selectAll(inspectorDataSearchKey, metricDefinition));
+        }
 
-        List<InspectorMetricValue> metricValueList = new ArrayList<>(metricDefinition.getFields().size());
+        List<InspectorMetricValue> processedMetricValueList = postprocessMetricData(metricDefinition, metricValueList);
+        List<Long> timeStampList = TimeUtils.createTimeStampList(timeWindow);
+        return new InspectorMetricData(metricDefinition.getTitle(), timeStampList, processedMetricValueList);
+    }
 
+    private List<InspectorMetricValue> getMetricValues(TimeWindow timeWindow, List<QueryResult> queryResults) {
+        List<InspectorMetricValue> metricValueList = new ArrayList<>(queryResults.size());
         try {
             for (QueryResult result : queryResults) {
                 CompletableFuture<List<SystemMetricPoint<Double>>> future = result.future();
                 List<SystemMetricPoint<Double>> doubleList = future.get();
 
-                InspectorMetricValue doubleMetricValue = createInspectorMetricValue(timeWindow, result.field(), doubleList, DoubleUncollectedDataCreator.UNCOLLECTED_DATA_CREATOR);
+                InspectorMetricValue doubleMetricValue = createInspectorMetricValue(timeWindow, result.field(), doubleList);
                 metricValueList.add(doubleMetricValue);
             }
         } catch (Throwable e) {
             throw new RuntimeException(e);
         }
+        return metricValueList;
+    }
 
-        List<InspectorMetricValue> processedMetricValueList = postprocessMetricData(metricDefinition, metricValueList);
-        List<Long> timeStampList = TimeUtils.createTimeStampList(timeWindow);
-        return new InspectorMetricData(metricDefinition.getTitle(), timeStampList, processedMetricValueList);
+    /**
+     * Tagged fields keep one query per field, because the tag filter applies to the whole query.
+     */
+    private boolean isMultiFieldQuery(List<Field> fields) {
+        if (fields.size() < 2) {
+            return false;
+        }
+        for (Field field : fields) {
+            if (!field.getTags().isEmpty()) {
+                return false;
+            }
+            switch (field.getAggregationFunction()) {
+                case AVG, MAX, SUM -> {
+                }
+                default -> {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private List<InspectorMetricValue> selectFields(InspectorDataSearchKey inspectorDataSearchKey, TimeWindow timeWindow, MetricDefinition metricDefinition) {
+        final List<Field> fields = metricDefinition.getFields();
+        final List<List<SystemMetricPoint<Double>>> pointsByField = new ArrayList<>(fields.size());
+        for (int i = 0; i < fields.size(); i++) {
+            pointsByField.add(new ArrayList<>());
+        }
+
+        // leading slots that no longer change are served from the cache
+        final Range windowRange = timeWindow.getWindowRange();
+        long queryFrom = windowRange.getFrom();
+        for (long timestamp : timeWindow) {
+            if (!bucketCache.isCacheable(timeWindow, timestamp)) {
+                break;
+            }
+            double[] values = bucketCache.get(inspectorDataSearchKey, timeWindow, timestamp);
+            if (values == null) {
+                break;
+            }
+            addPoints(pointsByField, timestamp, values);
+            queryFrom = timestamp + timeWindow.getWindowSlotSize();
+        }
+
+        if (queryFrom <= windowRange.getTo()) {
+            Range queryRange = Range.between(queryFrom, windowRange.getTo());
+            List<FieldMetricPoint> rows;
+            try {
+                rows = agentStatDao.selectAgentStatFields(inspectorDataSearchKey, queryRange, metricDefinition.getMetricName(), fields).get();
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+            Map<Long, double[]> slotValues = toSlotValues(timeWindow, fields, rows);
+            // Pinot has ingested the agent's samples only up to the latest returned slot,
+            // so a slot is complete only when a later slot already has data
+            final long ingestedSlot = latestSlot(slotValues);
+
+            for (long timestamp = queryFrom; timestamp <= windowRange.getTo(); timestamp += timeWindow.getWindowSlotSize()) {
+                double[] values = slotValues.get(timestamp);
+                if (values != null) {
+                    addPoints(pointsByField, timestamp, values);
+                }
+                if (timestamp < ingestedSlot && bucketCache.isCacheable(timeWindow, timestamp)) {
+                    // empty slots are cached too, so they are not read again
+                    bucketCache.put(inspectorDataSearchKey, timeWindow, timestamp, values != null ? values : newEmptyValues(fields.size()));
+                }
+            }
+            logger.debug("selectFields {} queryRange:{} rows:{}", metricDefinition.getDefinitionId(), queryRange, rows.size());
+        }
+
+        List<InspectorMetricValue> metricValueList = new ArrayList<>(fields.size());
+        for (int i = 0; i < fields.size(); i++) {
+            metricValueList.add(createInspectorMetricValue(timeWindow, fields.get(i), pointsByField.get(i)));
+        }
+        return metricValueList;
+    }
+
+    private Map<Long, double[]> toSlotValues(TimeWindow timeWindow, List<Field> fields, List<FieldMetricPoint> rows) {
+        final Map<Long, double[]> slotValues = new HashMap<>();
+        for (FieldMetricPoint row : rows) {
+            double[] values = slotValues.computeIfAbsent(timeWindow.refineTimestamp(row.getTimestamp()), k -> newEmptyValues(fields.size()));
+            // the same field may be charted with different aggregation functions
+            for (int i = 0; i < fields.size(); i++) {
+                Field field = fields.get(i);
+                if (field.getFieldName().equals(row.getFieldName())) {
+                    values[i] = row.getValue(field.getAggregationFunction());
+                }
+            }
+        }
+        return slotValues;
+    }
+
+    private static long latestSlot(Map<Long, double[]> slotValues) {
+        long latest = Long.MIN_VALUE;
+        for (Long timestamp : slotValues.keySet()) {
+            latest = Math.max(latest, timestamp);
+        }
+        return latest;
+    }
+
+    private static double[] newEmptyValues(int size) {
+        double[] values = new double[size];
+        Arrays.fill(values, Double.NaN);
+        return values;
+    }
+
+    private static void addPoints(List<List<SystemMetricPoint<Double>>> pointsByField, long timestamp, double[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (!Double.isNaN(values[i])) {
+                pointsByField.get(i).add(new SystemMetricPoint<>(timestamp, values[i]));
+            }
+        }
     }
 
     @Override
@@ -116,21 +241,7 @@ public class DefaultAgentStatService implements AgentStatService {
     public InspectorMetricGroupData selectAgentStatWithGrouping(InspectorDataSearchKey inspectorDataSearchKey, TimeWindow timeWindow){
         MetricDefinition metricDefinition = ymlInspectorManager.findElementOfBasicGroup(inspectorDataSearchKey.getMetricDefinitionId());
         MetricDefinition newMetricDefinition = preProcess(inspectorDataSearchKey, metricDefinition);
-        List<InspectorMetricValue> metricValueList = new ArrayList<>(newMetricDefinition.getFields().size());
-
-        List<QueryResult> queryResults = selectAll(inspectorDataSearchKey, newMetricDefinition);
-
-        try {
-            for (QueryResult result : queryResults) {
-                CompletableFuture<List<SystemMetricPoint<Double>>> future = result.future();
-                List<SystemMetricPoint<Double>> doubleList = future.get();
-
-                InspectorMetricValue doubleMetricValue = createInspectorMetricValue(timeWindow, result.field(), doubleList, DoubleUncollectedDataCreator.UNCOLLECTED_DATA_CREATOR);
-                metricValueList.add(doubleMetricValue);
-            }
-        } catch (Throwable e) {
-            throw new RuntimeException(e);
-        }
+        List<InspectorMetricValue> metricValueList = getMetricValues(timeWindow, selectAll(inspectorDataSearchKey, newMetricDefinition));
 
         List<InspectorMetricValue> processedMetricValueList = postprocessMetricData(newMetricDefinition, metricValueList);
         List<Long> timeStampList = TimeUtils.createTimeStampList(timeWindow);
@@ -159,19 +270,14 @@ public class DefaultAgentStatService implements AgentStatService {
     }
 
     private InspectorMetricValue createInspectorMetricValue(TimeWindow timeWindow, Field field,
-                                                            List<SystemMetricPoint<Double>> sampledSystemMetricDataList,
-                                                            UncollectedDataCreator<Double> uncollectedDataCreator) {
+                                                            List<SystemMetricPoint<Double>> sampledSystemMetricDataList) {
 
         List<SystemMetricPoint<Double>> postProcessedDataList = postprocessFieldData(field, sampledSystemMetricDataList);
 
-        TimeSeriesBuilder<Double> builder = new TimeSeriesBuilder<>(timeWindow, uncollectedDataCreator);
-        List<SystemMetricPoint<Double>> filledSystemMetricDataList = builder.build(postProcessedDataList);
-
-        List<Double> valueList = filledSystemMetricDataList.stream()
-                .map(SystemMetricPoint::getYVal)
-                .collect(Collectors.toList());
+        DoubleTimeSeriesBuilder builder = new DoubleTimeSeriesBuilder(timeWindow);
+        double[] values = builder.build(postProcessedDataList);
 
-        return new InspectorMetricValue(field.getFieldAlias(), field.getTags(), field.getChartType(), field.getUnit(), valueList);
+        return new InspectorMetricValue(field.getFieldAlias(), field.getTags(), field.getChartType(), field.getUnit(), DoubleTimeSeriesBuilder.toList(values));
     }
 
     private List<SystemMetricPoint<Double>> postprocessFieldData(Field field, List<SystemMetricPoint<Double>> sampledSystemMetricDataList) {
@@ -1,6 +1,7 @@
 package com.navercorp.pinpoint.inspector.web.service;
 
 import com.navercorp.pinpoint.inspector.web.dao.ApplicationStatDao;
+import com.navercorp.pinpoint.inspector.web.dao.model.FieldMetricPoint;
 import com.navercorp.pinpoint.inspector.web.definition.AggregationFunction;
 import com.navercorp.pinpoint.inspector.web.definition.Mappings;
 import com.navercorp.pinpoint.inspector.web.definition.MetricDefinition;
@@ -20,6 +21,7 @@ import com.navercorp.pinpoint.metric.common.model.chart.AvgMinMetricPoint;
 import com.navercorp.pinpoint.metric.common.model.chart.MinMaxMetricPoint;
 import com.navercorp.pinpoint.metric.common.model.chart.Point;
 import com.navercorp.pinpoint.metric.common.model.chart.SystemMetricPoint;
+import com.navercorp.pinpoint.metric.common.util.DoubleTimeSeriesBuilder;
 import com.navercorp.pinpoint.metric.common.util.DoubleUncollectedDataCreator;
 import com.navercorp.pinpoint.metric.common.util.TimeSeriesBuilder;
 import com.navercorp.pinpoint.metric.common.util.TimeUtils;
@@ -36,6 +38,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -61,6 +64,12 @@ public class DefaultApplicationStatService implements ApplicationStatService {
     public InspectorMetricData selectApplicationStat(InspectorDataSearchKey inspectorDataSearchKey, TimeWindow timeWindow) {
         MetricDefinition metricDefinition = ymlInspectorManager.findElementOfBasicGroup(inspectorDataSearchKey.getMetricDefinitionId());
 
+        if (isMultiFieldQuery(metricDefinition.getFields())) {
+            List<InspectorMetricValue> metricValueList = selectFields(inspectorDataSearchKey, timeWindow, metricDefinition);
+            List<InspectorMetricValue> processedMetricValueList = sortingMetricValueList(postprocessMetricData(metricDefinition, metricValueList));
+            return new InspectorMetricData(metricDefinition.getTitle(), TimeUtils.createTimeStampList(timeWindow), processedMetricValueList);
+        }
+
         List<QueryResult> queryResults =  selectAll2(inspectorDataSearchKey, metricDefinition);
         List<InspectorMetricValue> metricValueList = new ArrayList<>(queryResults.size());
 
@@ -78,7 +87,7 @@ public class DefaultApplicationStatService implements ApplicationStatService {
                     metricValueList.addAll(splitMinMax(timeWindow, result.field(), doubleList, DoubleUncollectedDataCreator.UNCOLLECTED_DATA_CREATOR));
                 } else if (resultType.equals(SystemMetricPoint.class)) {
                     List<SystemMetricPoint<Double>> doubleList = (List<SystemMetricPoint<Double>>) result.future().get();
-                    metricValueList.add(createInspectorMetricValue(timeWindow, result.field(), doubleList, DoubleUncollectedDataCreator.UNCOLLECTED_DATA_CREATOR));
+                    metricValueList.add(createInspectorMetricValue(timeWindow, result.field(), doubleList));
                 } else {
                     throw new RuntimeException("not support result type : " + result.resultType());
                 }
@@ -93,6 +102,71 @@ public class DefaultApplicationStatService implements ApplicationStatService {
         return new InspectorMetricData(metricDefinition.getTitle(), timeStampList, processedMetricValueList);
     }
 
+    /**
+     * Tagged fields keep one query per field, because the tag filter applies to the whole query.
+     */
+    private boolean isMultiFieldQuery(List<Field> fields) {
+        if (fields.size() < 2) {
+            return false;
+        }
+        for (Field field : fields) {
+            if (!field.getTags().isEmpty()) {
+                return false;
+            }
+            switch (field.getAggregationFunction()) {
+                case AVG_MIN_MAX, AVG_MIN, MIN_MAX, SUM, MAX -> {
+                }
+                default -> {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private List<InspectorMetricValue> selectFields(InspectorDataSearchKey inspectorDataSearchKey, TimeWindow timeWindow, MetricDefinition metricDefinition) {
+        final List<Field> fields = metricDefinition.getFields();
+        final List<FieldMetricPoint> rows;
+        try {
+            rows = applicationStatDao.selectStatFields(inspectorDataSearchKey, metricDefinition.getMetricName(), fields).get();
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+        final Map<String, List<FieldMetricPoint>> rowsByField = rows.stream()
+                .collect(Collectors.groupingBy(FieldMetricPoint::getFieldName));
+        logger.debug("selectFields {} rows:{}", metricDefinition.getDefinitionId(), rows.size());
+
+        final List<InspectorMetricValue> metricValueList = new ArrayList<>();
+        for (Field field : fields) {
+            final List<FieldMetricPoint> fieldRows = rowsByField.getOrDefault(field.getFieldName(), List.of());
+            switch (field.getAggregationFunction()) {
+                case AVG_MIN_MAX -> metricValueList.addAll(splitAvgMinMax(timeWindow, field,
+                        map(fieldRows, row -> new AvgMinMaxMetricPoint<>(row.getTimestamp(), row.getAvgValue(), row.getMinValue(), row.getMaxValue())),
+                        DoubleUncollectedDataCreator.UNCOLLECTED_DATA_CREATOR));
+                case AVG_MIN -> metricValueList.addAll(splitAvgMin(timeWindow, field,
+                        map(fieldRows, row -> new AvgMinMetricPoint<>(row.getTimestamp(), row.getAvgValue(), row.getMinValue())),
+                        DoubleUncollectedDataCreator.UNCOLLECTED_DATA_CREATOR));
+                case MIN_MAX -> metricValueList.addAll(splitMinMax(timeWindow, field,
+                        map(fieldRows, row -> new MinMaxMetricPoint<>(row.getTimestamp(), row.getMinValue(), row.getMaxValue())),
+                        DoubleUncollectedDataCreator.UNCOLLECTED_DATA_CREATOR));
+                case SUM -> metricValueList.add(createInspectorMetricValue(timeWindow, field,
+                        map(fieldRows, row -> new SystemMetricPoint<>(row.getTimestamp(), row.getSumValue()))));
+                case MAX -> metricValueList.add(createInspectorMetricValue(timeWindow, field,
+                        map(fieldRows, row -> new SystemMetricPoint<>(row.getTimestamp(), row.getMaxValue()))));
+                default -> throw new RuntimeException("not support aggregation function : " + field.getAggregationFunction());
+            }
+        }
+        return metricValueList;
+    }
+
+    private static <P> List<P> map(List<FieldMetricPoint> rows, Function<FieldMetricPoint, P> mapper) {
+        final List<P> points = new ArrayList<>(rows.size());
+        for (FieldMetricPoint row : rows) {
+            points.add(mapper.apply(row));
+        }
+        return points;
+    }
+
     private List<InspectorMetricValue> sortingMetricValueList(List<InspectorMetricValue> processedMetricValueList) {
         InspectorMetricValue[] sortedMetricValues = new InspectorMetricValue[3];
 
@@ -137,7 +211,7 @@ public class DefaultApplicationStatService implements ApplicationStatService {
                     metricValueList.addAll(splitMinMax(timeWindow, result.field(), doubleList, DoubleUncollectedDataCreator.UNCOLLECTED_DATA_CREATOR));
                 } else if (resultType.equals(SystemMetricPoint.class)) {
                     List<SystemMetricPoint<Double>> doubleList = (List<SystemMetricPoint<Double>>) result.future().get();
-                    metricValueList.add(createInspectorMetricValue(timeWindow, result.field(), doubleList, DoubleUncollectedDataCreator.UNCOLLECTED_DATA_CREATOR));
+                    metricValueList.add(createInspectorMetricValue(timeWindow, result.field(), doubleList));
                 } else {
                     throw new RuntimeException("not support result type : " + result.resultType());
                 }
@@ -182,16 +256,11 @@ public class DefaultApplicationStatService implements ApplicationStatService {
     }
 
     private InspectorMetricValue createInspectorMetricValue(TimeWindow timeWindow, Field field,
-                                                            List<SystemMetricPoint<Double>> sampledSystemMetricDataList,
-                                                            UncollectedDataCreator<Double> uncollectedDataCreator) {
-        TimeSeriesBuilder<Double> builder = new TimeSeriesBuilder<>(timeWindow, uncollectedDataCreator);
-        List<SystemMetricPoint<Double>> filledSystemMetricDataList = builder.build(sampledSystemMetricDataList);
-
-        List<Double> valueList = filledSystemMetricDataList.stream()
-                .map(SystemMetricPoint::getYVal)
-                .collect(Collectors.toList());
+                                                            List<SystemMetricPoint<Double>> sampledSystemMetricDataList) {
+        DoubleTimeSeriesBuilder builder = new DoubleTimeSeriesBuilder(timeWindow);
+        double[] values = builder.build(sampledSystemMetricDataList);
 
-        return new InspectorMetricValue(field.getFieldAlias(), field.getTags(), field.getChartType(), field.getUnit(), valueList);
+        return new InspectorMetricValue(field.getFieldAlias(), field.getTags(), field.getChartType(), field.getUnit(), DoubleTimeSeriesBuilder.toList(values));
     }
 
     private List<InspectorMetricValue> splitMinMax(TimeWindow timeWindow, Field field, List<MinMaxMetricPoint<Double>> doubleList, UncollectedDataCreator<Double> uncollectedDataCreator) {
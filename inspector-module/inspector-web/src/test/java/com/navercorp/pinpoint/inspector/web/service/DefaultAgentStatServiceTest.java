@@ -0,0 +1,123 @@
+package com.navercorp.pinpoint.inspector.web.service;
+
+import com.navercorp.pinpoint.common.server.util.time.Range;
+import com.navercorp.pinpoint.common.server.util.timewindow.TimeWindow;
+import com.navercorp.pinpoint.inspector.web.dao.AgentStatDao;
+import com.navercorp.pinpoint.inspector.web.dao.model.FieldMetricPoint;
+import com.navercorp.pinpoint.inspector.web.definition.AggregationFunction;
+import com.navercorp.pinpoint.inspector.web.definition.Mappings;
+import com.navercorp.pinpoint.inspector.web.definition.MetricDefinition;
+import com.navercorp.pinpoint.inspector.web.definition.metric.MetricProcessorManager;
+import com.navercorp.pinpoint.inspector.web.definition.metric.field.Field;
+import com.navercorp.pinpoint.inspector.web.definition.metric.field.FieldProcessorManager;
+import com.navercorp.pinpoint.inspector.web.model.InspectorDataSearchKey;
+import com.navercorp.pinpoint.inspector.web.model.InspectorMetricData;
+import com.navercorp.pinpoint.metric.web.model.basic.metric.group.MatchingRule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DefaultAgentStatServiceTest {
+
+    private static final long TO = 1_700_000_000_000L;
+
+    private final TimeWindow timeWindow = new TimeWindow(Range.between(TO - TimeUnit.MINUTES.toMillis(5), TO));
+    private final InspectorDataSearchKey searchKey = new InspectorDataSearchKey("tenant", "app", "agent", "heap", timeWindow);
+
+    private AgentStatDao agentStatDao;
+    private DefaultAgentStatService service;
+
+    @BeforeEach
+    void setUp() {
+        MetricDefinition heap = new MetricDefinition("heap", "jvmGc", "Heap Usage", null, null, null, List.of(
+                newField("heapUsed", AggregationFunction.AVG),
+                newField("gcOldCount", AggregationFunction.MAX)));
+
+        agentStatDao = mock(AgentStatDao.class);
+        Clock clock = Clock.fixed(Instant.ofEpochMilli(TO + TimeUnit.HOURS.toMillis(1)), ZoneOffset.UTC);
+        service = new DefaultAgentStatService(agentStatDao, new Mappings(List.of(heap)),
+                new MetricProcessorManager(List.of(), List.of()), new FieldProcessorManager(List.of()),
+                new AgentStatBucketCache(1000, 0, clock));
+    }
+
+    private Field newField(String fieldName, AggregationFunction aggregationFunction) {
+        return new Field(fieldName, null, null, MatchingRule.EXACT_ONE, aggregationFunction, null, null, null);
+    }
+
+    @Test
+    void selectAllFieldsInOneQuery() {
+        long from = timeWindow.getWindowRange().getFrom();
+        when(agentStatDao.selectAgentStatFields(eq(searchKey), any(Range.class), eq("jvmGc"), anyList()))
+                .thenReturn(CompletableFuture.completedFuture(List.of(
+                        new FieldMetricPoint("heapUsed", from, 10, 5, 20, 30),
+                        new FieldMetricPoint("gcOldCount", from, 1, 0, 2, 3))));
+
+        InspectorMetricData data = service.selectAgentStat(searchKey, timeWindow);
+
+        assertThat(data.metricValues()).hasSize(2);
+        assertThat(data.metricValues().get(0).getValueList().get(0)).isEqualTo(10.0);
+        assertThat(data.metricValues().get(1).getValueList().get(0)).isEqualTo(2.0);
+        assertThat(data.metricValues().get(1).getValueList().get(1)).isEqualTo(-1.0);
+
+        verify(agentStatDao, times(1)).selectAgentStatFields(any(), any(), any(), anyList());
+        verify(agentStatDao, never()).selectAgentStatAvg(any(), any(), any());
+        verify(agentStatDao, never()).selectAgentStatMax(any(), any(), any());
+    }
+
+    @Test
+    void elapsedSlotsAreCached() {
+        long from = timeWindow.getWindowRange().getFrom();
+        long to = timeWindow.getWindowRange().getTo();
+        when(agentStatDao.selectAgentStatFields(eq(searchKey), any(Range.class), eq("jvmGc"), anyList()))
+                .thenReturn(CompletableFuture.completedFuture(List.of(
+                        new FieldMetricPoint("heapUsed", from, 10, 5, 20, 30),
+                        new FieldMetricPoint("heapUsed", to, 11, 6, 21, 31))));
+
+        InspectorMetricData first = service.selectAgentStat(searchKey, timeWindow);
+        InspectorMetricData second = service.selectAgentStat(searchKey, timeWindow);
+
+        ArgumentCaptor<Range> rangeCaptor = ArgumentCaptor.forClass(Range.class);
+        verify(agentStatDao, times(2)).selectAgentStatFields(eq(searchKey), rangeCaptor.capture(), eq("jvmGc"), anyList());
+        assertThat(rangeCaptor.getAllValues().get(0).getFrom()).isEqualTo(from);
+        // only the last slot is only partially covered by the window and read again
+        assertThat(rangeCaptor.getAllValues().get(1).getFrom()).isEqualTo(to);
+
+        for (int i = 0; i < first.metricValues().size(); i++) {
+            assertThat(second.metricValues().get(i).getValueList()).isEqualTo(first.metricValues().get(i).getValueList());
+        }
+        assertThat(second.metricValues().get(0).getValueList().get(0)).isEqualTo(10.0);
+    }
+
+    @Test
+    void slotsWithoutLaterDataAreNotCached() {
+        long from = timeWindow.getWindowRange().getFrom();
+        // ingestion lag: nothing has arrived after the first slot yet
+        when(agentStatDao.selectAgentStatFields(eq(searchKey), any(Range.class), eq("jvmGc"), anyList()))
+                .thenReturn(CompletableFuture.completedFuture(List.of(
+                        new FieldMetricPoint("heapUsed", from, 10, 5, 20, 30))));
+
+        service.selectAgentStat(searchKey, timeWindow);
+        service.selectAgentStat(searchKey, timeWindow);
+
+        ArgumentCaptor<Range> rangeCaptor = ArgumentCaptor.forClass(Range.class);
+        verify(agentStatDao, times(2)).selectAgentStatFields(eq(searchKey), rangeCaptor.capture(), eq("jvmGc"), anyList());
+        assertThat(rangeCaptor.getAllValues().get(1).getFrom()).isEqualTo(from);
+    }
+}
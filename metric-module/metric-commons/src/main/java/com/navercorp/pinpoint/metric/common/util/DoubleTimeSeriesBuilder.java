@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.metric.common.util;
+
+import com.navercorp.pinpoint.common.server.util.timewindow.TimeWindow;
+import com.navercorp.pinpoint.metric.common.model.chart.SystemMetricPoint;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Gap filling of {@link TimeSeriesBuilder#build(List)} over a primitive array.
+ * Slots without a sample hold {@link DoubleUncollectedDataCreator#UNCOLLECTED_VALUE},
+ * so no placeholder point is created for them.
+ */
+public class DoubleTimeSeriesBuilder {
+
+    private final TimeWindow timeWindow;
+
+    public DoubleTimeSeriesBuilder(TimeWindow timeWindow) {
+        this.timeWindow = Objects.requireNonNull(timeWindow, "timeWindow");
+    }
+
+    public double[] build(List<SystemMetricPoint<Double>> systemMetricDataList) {
+        final double[] values = newUncollectedValues();
+
+        for (SystemMetricPoint<Double> systemMetricPoint : systemMetricDataList) {
+            int timeslotIndex = this.timeWindow.getWindowIndex(systemMetricPoint.getXVal());
+            if (timeslotIndex < 0 || timeslotIndex >= values.length) {
+                continue;
+            }
+            values[timeslotIndex] = systemMetricPoint.getYVal();
+        }
+        return values;
+    }
+
+    private double[] newUncollectedValues() {
+        final double[] values = new double[(int) this.timeWindow.getWindowRangeCount()];
+        Arrays.fill(values, DoubleUncollectedDataCreator.UNCOLLECTED_VALUE);
+        return values;
+    }
+
+    /**
+     * @return read-only list view of the values, an element is boxed only when it is read
+     */
+    public static List<Double> toList(double[] values) {
+        return new DoubleArrayList(values);
+    }
+
+    private static class DoubleArrayList extends AbstractList<Double> implements RandomAccess {
+        private final double[] values;
+
+        private DoubleArrayList(double[] values) {
+            this.values = Objects.requireNonNull(values, "values");
+        }
+
+        @Override
+        public Double get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+}
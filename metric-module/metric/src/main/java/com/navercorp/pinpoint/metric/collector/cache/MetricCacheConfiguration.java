@@ -17,6 +17,8 @@
 package com.navercorp.pinpoint.metric.collector.cache;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.navercorp.pinpoint.metric.collector.service.MetricSeriesRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
@@ -24,6 +26,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -67,5 +70,9 @@ public class MetricCacheConfiguration {
         return caffeineCacheManager;
     }
 
+    @Bean
+    public MetricSeriesRegistry metricSeriesRegistry(@Value("${collector.metric.series.cache.maximum-size:200000}") long maximumSize) {
+        return new MetricSeriesRegistry(maximumSize, Duration.ofDays(1));
+    }
 
 }
@@ -1,10 +1,14 @@
 package com.navercorp.pinpoint.metric.collector.config;
 
 import com.navercorp.pinpoint.metric.collector.dao.pinot.PinotMetricTagDao;
+import com.navercorp.pinpoint.metric.collector.view.SystemMetricDoubleAvroWriter;
 import com.navercorp.pinpoint.metric.collector.view.SystemMetricView;
 import com.navercorp.pinpoint.metric.common.model.MetricData;
 import com.navercorp.pinpoint.pinot.kafka.KafkaConfiguration;
+import com.navercorp.pinpoint.pinot.kafka.KafkaTemplateFactory;
+import com.navercorp.pinpoint.pinot.kafka.KafkaValueFormat;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -19,8 +23,9 @@ import org.springframework.kafka.core.ProducerFactory;
 public class MetricKafkaConfiguration {
 
     @Bean
-    public KafkaTemplate<String, SystemMetricView> kafkaDoubleTemplate(@Qualifier("kafkaProducerFactory") ProducerFactory producerFactory) {
-        return new KafkaTemplate<>(producerFactory);
+    public KafkaTemplate<String, SystemMetricView> kafkaDoubleTemplate(KafkaTemplateFactory kafkaTemplateFactory,
+                                                                       @Value("${kafka.double.value.format:json}") String format) {
+        return kafkaTemplateFactory.newTemplate(KafkaValueFormat.of(format), new SystemMetricDoubleAvroWriter());
     }
 
     @Bean
@@ -16,9 +16,11 @@
 
 package com.navercorp.pinpoint.metric.collector.controller;
 
+import com.navercorp.pinpoint.common.server.util.time.DateTimeUtils;
 import com.navercorp.pinpoint.common.util.CollectionUtils;
 import com.navercorp.pinpoint.metric.collector.model.TelegrafMetric;
 import com.navercorp.pinpoint.metric.collector.model.TelegrafMetrics;
+import com.navercorp.pinpoint.metric.collector.service.MetricSeriesRegistry;
 import com.navercorp.pinpoint.metric.collector.service.SystemMetricDataTypeService;
 import com.navercorp.pinpoint.metric.collector.service.SystemMetricService;
 import com.navercorp.pinpoint.metric.collector.service.SystemMetricTagService;
@@ -38,12 +40,12 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * @author Hyunjoon Cho
@@ -56,17 +58,20 @@ public class TelegrafMetricController {
     private final SystemMetricService systemMetricService;
     private final SystemMetricDataTypeService systemMetricMetadataService;
     private final SystemMetricTagService systemMetricTagService;
+    private final MetricSeriesRegistry metricSeriesRegistry;
     private final TenantProvider tenantProvider;
 
-    private static final List<String> ignoreTags = Collections.singletonList("host");
+    private static final String HOST_TAG = "host";
 
     public TelegrafMetricController(SystemMetricService systemMetricService,
                                     SystemMetricDataTypeService systemMetricMetadataService,
                                     SystemMetricTagService systemMetricTagService,
+                                    MetricSeriesRegistry metricSeriesRegistry,
                                     TenantProvider tenantProvider) {
         this.systemMetricService = Objects.requireNonNull(systemMetricService, "systemMetricService");
         this.systemMetricMetadataService = Objects.requireNonNull(systemMetricMetadataService, "systemMetricMetadataService");
         this.systemMetricTagService = Objects.requireNonNull(systemMetricTagService, "systemMetricTagService");
+        this.metricSeriesRegistry = Objects.requireNonNull(metricSeriesRegistry, "metricSeriesRegistry");
         this.tenantProvider = Objects.requireNonNull(tenantProvider, "tenantProvider");
     }
 
@@ -92,7 +97,6 @@ public class TelegrafMetricController {
 
         Metrics systemMetric = toMetrics(tenantId, hostGroupName, hostName, telegrafMetrics);
 
-        updateMetadata(systemMetric);
         systemMetricService.insert(systemMetric);
 
         return ResponseEntity.ok().build();
@@ -112,50 +116,60 @@ public class TelegrafMetricController {
     }
 
     private Metrics toMetrics(String tenantId, String hostGroupName, String hostName, TelegrafMetrics telegrafMetrics) {
-        List<TelegrafMetric> metrics = telegrafMetrics.getMetrics();
-
-        List<SystemMetric> metricList = metrics.stream()
-                .flatMap(this::toMetric)
-                .collect(Collectors.toList());
-
-        return new Metrics(tenantId, hostGroupName, hostName, metricList);
-    }
-
-    Stream<SystemMetric> toMetric(TelegrafMetric tMetric) {
-        List<Tag> tTags = tMetric.getTags();
-
-        final Tag hostTag = getHost(tTags);
-        if (hostTag == null) {
-            throw new RuntimeException("host tag not found");
+        final long saveTime = DateTimeUtils.previousOrSameSundayToMillis();
+        // metrics with equal tags share the same tag list, see TelegrafJsonDeserializer
+        final Map<List<Tag>, List<Tag>> filteredTags = new IdentityHashMap<>();
+
+        List<SystemMetric> metricList = new ArrayList<>();
+        for (TelegrafMetric tMetric : telegrafMetrics) {
+            List<Tag> tTags = tMetric.getTags();
+
+            final Tag hostTag = getHost(tTags);
+            if (hostTag == null) {
+                throw new RuntimeException("host tag not found");
+            }
+
+            List<Tag> tag = filteredTags.computeIfAbsent(tTags, this::filterHostTag);
+            final long timestamp = TimeUnit.SECONDS.toMillis(tMetric.getTimestamp());
+
+            MetricSeriesRegistry.Series series = metricSeriesRegistry.getSeries(tenantId, hostGroupName,
+                    hostTag.getValue(), tMetric.getName(), tag, saveTime);
+            for (int i = 0; i < tMetric.getFieldCount(); i++) {
+                final String fieldName = tMetric.getFieldName(i);
+                DoubleMetric metric = new DoubleMetric(tMetric.getName(), hostTag.getValue(), fieldName, tMetric.getFieldValue(i), tag, timestamp);
+                metricList.add(metric);
+
+                if (!series.hasField(fieldName)) {
+                    updateMetadata(tenantId, hostGroupName, metric);
+                    series.addField(fieldName);
+                }
+            }
         }
 
-        List<Tag> tag = filterTag(tTags, ignoreTags);
-
-        final long timestamp = TimeUnit.SECONDS.toMillis(tMetric.getTimestamp());
-
-
-        List<TelegrafMetric.Field> fields = tMetric.getFields();
-        return fields.stream()
-                .map(field -> new DoubleMetric(tMetric.getName(), hostTag.getValue(), field.getName(), field.getValue(), tag, timestamp));
+        return new Metrics(tenantId, hostGroupName, hostName, metricList);
     }
 
     private Tag getHost(List<Tag> tTags) {
-        return tTags.stream()
-                .filter(tag -> tag.getName().equals("host"))
-                .findFirst().orElse(null);
-    }
-
-    private List<Tag> filterTag(List<Tag> tTags, List<String> ignoreTagName) {
-        return tTags.stream()
-                .filter(entry -> !ignoreTagName.contains(entry.getName()))
-                .collect(Collectors.toList());
+        for (Tag tag : tTags) {
+            if (HOST_TAG.equals(tag.getName())) {
+                return tag;
+            }
+        }
+        return null;
     }
 
-    private void updateMetadata(Metrics systemMetrics) {
-        for (SystemMetric systemMetric : systemMetrics) {
-            systemMetricMetadataService.saveMetricDataType(systemMetric);
-            systemMetricTagService.saveMetricTag(systemMetrics.getTenantId(), systemMetrics.getHostGroupName(), systemMetric);
+    private List<Tag> filterHostTag(List<Tag> tTags) {
+        List<Tag> tags = new ArrayList<>(tTags.size());
+        for (Tag tag : tTags) {
+            if (!HOST_TAG.equals(tag.getName())) {
+                tags.add(tag);
+            }
         }
+        return tags;
+    }
 
+    private void updateMetadata(String tenantId, String hostGroupName, SystemMetric systemMetric) {
+        systemMetricMetadataService.saveMetricDataType(systemMetric);
+        systemMetricTagService.saveMetricTag(tenantId, hostGroupName, systemMetric);
     }
-}
\ No newline at end of file
+}
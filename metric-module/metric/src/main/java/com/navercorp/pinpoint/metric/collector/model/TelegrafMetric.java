@@ -1,41 +1,31 @@
 package com.navercorp.pinpoint.metric.collector.model;
 
-import com.fasterxml.jackson.annotation.JsonAnySetter;
-import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonProperty;
 import com.navercorp.pinpoint.metric.common.model.Tag;
-import com.navercorp.pinpoint.metric.common.model.Tags;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
+/**
+ * Fields are kept column-wise, see {@link com.navercorp.pinpoint.metric.collector.model.serialize.TelegrafJsonDeserializer}.
+ */
 public class TelegrafMetric {
-    private final List<Field> fields;
+    private final String[] fieldNames;
+    private final double[] fieldValues;
     private final String name;
     private final List<Tag> tags;
     private final long timestamp;
 
-    @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
-    public TelegrafMetric(@JsonProperty("fields") Fields fields,
-                          @JsonProperty("name") String name,
-                          @JsonProperty("tags") Tags tags,
-                          @JsonProperty("timestamp") long timestamp) {
-        this.fields = fields.fields;
-        this.name = name;
-        this.tags = tags.getTags();
-        this.timestamp = timestamp;
-    }
-
-    public static class Fields {
-
-        private final List<Field> fields = new ArrayList<>();
-
-        @JsonAnySetter
-        public void add(String name, Double value) {
-            fields.add(new Field(name, value));
+    public TelegrafMetric(String name, List<Tag> tags, String[] fieldNames, double[] fieldValues, long timestamp) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.tags = Objects.requireNonNull(tags, "tags");
+        this.fieldNames = Objects.requireNonNull(fieldNames, "fieldNames");
+        this.fieldValues = Objects.requireNonNull(fieldValues, "fieldValues");
+        if (fieldNames.length != fieldValues.length) {
+            throw new IllegalArgumentException("fieldNames and fieldValues length mismatch");
         }
-
+        this.timestamp = timestamp;
     }
 
     public static class Field {
@@ -83,7 +73,23 @@ public class TelegrafMetric {
     }
 
 
+    public int getFieldCount() {
+        return fieldNames.length;
+    }
+
+    public String getFieldName(int index) {
+        return fieldNames[index];
+    }
+
+    public double getFieldValue(int index) {
+        return fieldValues[index];
+    }
+
     public List<Field> getFields() {
+        List<Field> fields = new ArrayList<>(fieldNames.length);
+        for (int i = 0; i < fieldNames.length; i++) {
+            fields.add(new Field(fieldNames[i], fieldValues[i]));
+        }
         return fields;
     }
 
@@ -102,7 +108,8 @@ public class TelegrafMetric {
     @Override
     public String toString() {
         return "TelegrafMetric{" +
-                "fields=" + fields +
+                "fieldNames=" + Arrays.toString(fieldNames) +
+                ", fieldValues=" + Arrays.toString(fieldValues) +
                 ", name='" + name + '\'' +
                 ", tags=" + tags +
                 ", timestamp=" + timestamp +
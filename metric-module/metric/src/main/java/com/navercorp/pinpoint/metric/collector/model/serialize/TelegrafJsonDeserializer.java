@@ -18,28 +18,33 @@ package com.navercorp.pinpoint.metric.collector.model.serialize;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.navercorp.pinpoint.metric.collector.model.TelegrafMetric;
 import com.navercorp.pinpoint.metric.collector.model.TelegrafMetrics;
 import com.navercorp.pinpoint.metric.common.model.Tag;
-import com.navercorp.pinpoint.metric.common.model.TagComparator;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
+ * Reads Telegraf json token by token.
+ * <p>
+ * Field values go into reusable column buffers instead of per-field objects,
+ * and metrics of a request with equal tags share one tag list instance.
+ * Fields that are not numbers are skipped instead of failing the whole request.
+ *
  * @author Hyunjoon Cho
  */
 @Component
 public class TelegrafJsonDeserializer extends JsonDeserializer<TelegrafMetrics> {
 
-    private final static Comparator<Tag> TAG_COMPARATOR = TagComparator.INSTANCE;
-
     public TelegrafJsonDeserializer() {
     }
 
@@ -48,21 +53,127 @@ public class TelegrafJsonDeserializer extends JsonDeserializer<TelegrafMetrics>
         if (jp.nextToken() != JsonToken.FIELD_NAME) {
             ctxt.handleUnexpectedToken(TelegrafMetrics.class, jp);
         }
+        final RequestContext context = new RequestContext();
         String text = jp.getText();
         if ("metrics".equals(text)) {
             // batch
             if (jp.nextToken() != JsonToken.START_ARRAY) {
                 ctxt.handleUnexpectedToken(TelegrafMetrics.class, jp);
             }
-            TypeReference<List<TelegrafMetric>> batch = new TypeReference<>() {
-            };
-            List<TelegrafMetric> metrics = jp.readValueAs(batch);
+            List<TelegrafMetric> metrics = new ArrayList<>();
+            while (jp.nextToken() == JsonToken.START_OBJECT) {
+                jp.nextToken();
+                metrics.add(readMetric(jp, ctxt, context));
+            }
+            if (jp.currentToken() != JsonToken.END_ARRAY) {
+                ctxt.handleUnexpectedToken(TelegrafMetrics.class, jp);
+            }
             return new TelegrafMetrics(metrics);
         } else {
             // standard
-            TelegrafMetric metric = jp.readValueAs(TelegrafMetric.class);
+            TelegrafMetric metric = readMetric(jp, ctxt, context);
             return new TelegrafMetrics(Collections.singletonList(metric));
         }
+    }
+
+    /**
+     * Starts at the first property of a metric object and ends at its END_OBJECT.
+     */
+    private TelegrafMetric readMetric(JsonParser jp, DeserializationContext ctxt, RequestContext context) throws IOException {
+        String name = null;
+        List<Tag> tags = Collections.emptyList();
+        long timestamp = 0;
+        context.fields.clear();
+
+        for (JsonToken token = jp.currentToken(); token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+            final String property = jp.currentName();
+            jp.nextToken();
+            switch (property) {
+                case "name" -> name = jp.getValueAsString();
+                case "timestamp" -> timestamp = jp.getValueAsLong();
+                case "tags" -> tags = context.intern(readTags(jp, ctxt));
+                case "fields" -> readFields(jp, ctxt, context.fields);
+                default -> jp.skipChildren();
+            }
+        }
+        if (jp.currentToken() != JsonToken.END_OBJECT) {
+            ctxt.handleUnexpectedToken(TelegrafMetric.class, jp);
+        }
+        if (name == null) {
+            return ctxt.reportInputMismatch(TelegrafMetric.class, "metric name is missing");
+        }
+        return context.fields.toMetric(name, tags, timestamp);
+    }
+
+    private List<Tag> readTags(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        if (jp.currentToken() != JsonToken.START_OBJECT) {
+            ctxt.handleUnexpectedToken(TelegrafMetric.class, jp);
+        }
+        List<Tag> tags = new ArrayList<>();
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            final String tagName = jp.currentName();
+            final String tagValue = jp.nextTextValue();
+            if (tagValue != null) {
+                tags.add(new Tag(tagName, tagValue));
+            } else {
+                jp.skipChildren();
+            }
+        }
+        return tags;
+    }
 
+    private void readFields(JsonParser jp, DeserializationContext ctxt, FieldBuffer fields) throws IOException {
+        if (jp.currentToken() != JsonToken.START_OBJECT) {
+            ctxt.handleUnexpectedToken(TelegrafMetric.class, jp);
+        }
+        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = jp.currentName();
+            final JsonToken token = jp.nextToken();
+            if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+                fields.add(fieldName, jp.getDoubleValue());
+            } else if (token == JsonToken.VALUE_STRING) {
+                // numeric strings are accepted, text fields like system.uptime_format are skipped
+                final double value = jp.getValueAsDouble(Double.NaN);
+                if (!Double.isNaN(value)) {
+                    fields.add(fieldName, value);
+                }
+            } else {
+                jp.skipChildren();
+            }
+        }
+    }
+
+    private static class RequestContext {
+        private final FieldBuffer fields = new FieldBuffer();
+        private final Map<List<Tag>, List<Tag>> tagSets = new HashMap<>();
+
+        List<Tag> intern(List<Tag> tags) {
+            final List<Tag> prev = tagSets.putIfAbsent(tags, tags);
+            return prev != null ? prev : tags;
+        }
+    }
+
+    private static class FieldBuffer {
+        private String[] names = new String[16];
+        private double[] values = new double[16];
+        private int size;
+
+        void add(String name, double value) {
+            if (size == names.length) {
+                names = Arrays.copyOf(names, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            names[size] = name;
+            values[size] = value;
+            size++;
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        TelegrafMetric toMetric(String name, List<Tag> tags, long timestamp) {
+            return new TelegrafMetric(name, tags, Arrays.copyOf(names, size), Arrays.copyOf(values, size), timestamp);
+        }
     }
 }
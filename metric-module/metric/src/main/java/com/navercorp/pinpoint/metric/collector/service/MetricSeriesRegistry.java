@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.metric.collector.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.navercorp.pinpoint.common.util.Assert;
+import com.navercorp.pinpoint.metric.common.model.Tag;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which fields of a series (host group, host, metric, tag-set) have already been written to the
+ * tag and data type catalog, so that the catalog is only touched when a new series or field shows up.
+ * <p>
+ * {@code saveTime} is part of the series, the catalog is refreshed every week.
+ */
+public class MetricSeriesRegistry {
+
+    private final Cache<SeriesKey, Series> cache;
+
+    public MetricSeriesRegistry(long maximumSize, Duration expireAfterAccess) {
+        Assert.isTrue(maximumSize > 0, "maximumSize must be '> 0'");
+        Objects.requireNonNull(expireAfterAccess, "expireAfterAccess");
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+    }
+
+    public Series getSeries(String tenantId, String hostGroupName, String hostName, String metricName, List<Tag> tags, long saveTime) {
+        final SeriesKey key = new SeriesKey(tenantId, hostGroupName, hostName, metricName, tags, saveTime);
+        return cache.get(key, k -> new Series());
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public static class Series {
+        private final Set<String> fieldNames = ConcurrentHashMap.newKeySet();
+
+        private Series() {
+        }
+
+        public boolean hasField(String fieldName) {
+            return fieldNames.contains(fieldName);
+        }
+
+        /**
+         * Call after the field has been written to the catalog.
+         */
+        public void addField(String fieldName) {
+            fieldNames.add(fieldName);
+        }
+    }
+
+    private record SeriesKey(String tenantId, String hostGroupName, String hostName, String metricName,
+                             List<Tag> tags, long saveTime) {
+    }
+}
@@ -20,11 +20,12 @@ import com.navercorp.pinpoint.metric.collector.dao.SystemMetricDao;
 
 import com.navercorp.pinpoint.metric.common.model.DoubleMetric;
 import com.navercorp.pinpoint.metric.common.model.Metrics;
+import com.navercorp.pinpoint.metric.common.model.SystemMetric;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * @author Hyunjoon Cho
@@ -44,9 +45,12 @@ public class SystemMetricService {
     }
 
     public List<DoubleMetric> filterDoubleCounter(Metrics systemMetrics) {
-        return systemMetrics.stream()
-                .filter(DoubleMetric.class::isInstance)
-                .map(DoubleMetric.class::cast)
-                .collect(Collectors.toList());
+        List<DoubleMetric> doubleMetrics = new ArrayList<>(systemMetrics.size());
+        for (SystemMetric systemMetric : systemMetrics) {
+            if (systemMetric instanceof DoubleMetric doubleMetric) {
+                doubleMetrics.add(doubleMetric);
+            }
+        }
+        return doubleMetrics;
     }
 }
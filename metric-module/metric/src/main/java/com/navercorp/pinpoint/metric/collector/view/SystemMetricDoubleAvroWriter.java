@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.metric.collector.view;
+
+import com.navercorp.pinpoint.metric.common.model.DoubleMetric;
+import com.navercorp.pinpoint.pinot.kafka.avro.AvroEncoders;
+import com.navercorp.pinpoint.pinot.kafka.avro.AvroWriter;
+import org.apache.avro.io.Encoder;
+
+import java.io.IOException;
+
+/**
+ * schema : pinot-collector/avro/system-metric-double.avsc
+ */
+public class SystemMetricDoubleAvroWriter implements AvroWriter<SystemMetricView> {
+
+    @Override
+    public void write(SystemMetricView view, Encoder encoder) throws IOException {
+        if (!(view.getMetric() instanceof DoubleMetric metric)) {
+            throw new IllegalArgumentException("not a DoubleMetric:" + view.getMetric());
+        }
+        AvroEncoders.writeNullableString(encoder, view.getTenantId());
+        AvroEncoders.writeNullableString(encoder, view.getHostGroupName());
+        AvroEncoders.writeNullableString(encoder, metric.getHostName());
+        AvroEncoders.writeNullableString(encoder, metric.getMetricName());
+        AvroEncoders.writeNullableString(encoder, metric.getFieldName());
+        encoder.writeDouble(metric.getFieldValue());
+        AvroEncoders.writeStringArray(encoder, metric.getTags());
+        encoder.writeLong(metric.getEventTime());
+    }
+}
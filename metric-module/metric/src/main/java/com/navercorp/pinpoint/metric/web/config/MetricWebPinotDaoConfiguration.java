@@ -7,6 +7,7 @@ import com.navercorp.pinpoint.mybatis.MyBatisConfiguration;
 import com.navercorp.pinpoint.mybatis.MyBatisConfigurationCustomizer;
 import com.navercorp.pinpoint.mybatis.MyBatisRegistryHandler;
 import com.navercorp.pinpoint.pinot.mybatis.PinotAsyncTemplate;
+import com.navercorp.pinpoint.pinot.mybatis.PinotRangeQueryTemplate;
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.transaction.TransactionFactory;
@@ -27,6 +28,7 @@ import org.springframework.transaction.TransactionManager;
 import javax.sql.DataSource;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 
 /**
  * @author Woonduk Kang(emeroad)
@@ -85,8 +87,19 @@ public class MetricWebPinotDaoConfiguration {
 
     @Bean
     public PinotAsyncTemplate pinotAsyncTemplate(
-            @Qualifier("sqlPinotSessionFactory") SqlSessionFactory sessionFactory) {
-        return new PinotAsyncTemplate(sessionFactory);
+            @Qualifier("sqlPinotSessionFactory") SqlSessionFactory sessionFactory,
+            @Value("${web.systemmetric.pinot.default-limit:1000000}") int defaultLimit) {
+        return new PinotAsyncTemplate(sessionFactory, defaultLimit);
+    }
+
+    @Bean
+    public PinotRangeQueryTemplate pinotRangeQueryTemplate(
+            @Qualifier("pinotAsyncTemplate") PinotAsyncTemplate asyncTemplate,
+            @Value("${web.systemmetric.pinot.cache.chunk-size:1h}") Duration chunkSize,
+            @Value("${web.systemmetric.pinot.cache.max-chunk-count:24}") int maxChunkCount,
+            @Value("${web.systemmetric.pinot.cache.settle-time:5m}") Duration settleTime,
+            @Value("${web.systemmetric.pinot.cache.max-rows:2000000}") long maxCachedRows) {
+        return new PinotRangeQueryTemplate(asyncTemplate, chunkSize, maxChunkCount, settleTime, maxCachedRows);
     }
 
     @Bean
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.metric.web.controller;
+
+import com.navercorp.pinpoint.pinot.mybatis.PinotAsyncTemplate;
+import com.navercorp.pinpoint.pinot.mybatis.PinotRangeQueryTemplate;
+import com.navercorp.pinpoint.pinot.mybatis.RangeQueryCacheStats;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Statement latency and range cache statistics of every Pinot template bean, keyed by bean name.
+ */
+@RestController
+@RequestMapping("/api/admin/pinot")
+public class PinotStatsController {
+
+    private final Map<String, PinotAsyncTemplate> asyncTemplates;
+    private final Map<String, PinotRangeQueryTemplate> rangeQueryTemplates;
+
+    public PinotStatsController(Map<String, PinotAsyncTemplate> asyncTemplates,
+                                Map<String, PinotRangeQueryTemplate> rangeQueryTemplates) {
+        this.asyncTemplates = Objects.requireNonNull(asyncTemplates, "asyncTemplates");
+        this.rangeQueryTemplates = Objects.requireNonNull(rangeQueryTemplates, "rangeQueryTemplates");
+    }
+
+    @GetMapping(value = "/statementStats")
+    public Map<String, Map<String, PinotAsyncTemplate.StatementStats>> statementStats() {
+        final Map<String, Map<String, PinotAsyncTemplate.StatementStats>> stats = new TreeMap<>();
+        asyncTemplates.forEach((name, template) -> stats.put(name, new TreeMap<>(template.getStatementStats())));
+        return stats;
+    }
+
+    @GetMapping(value = "/rangeQueryCacheStats")
+    public Map<String, RangeQueryCacheStats> rangeQueryCacheStats() {
+        final Map<String, RangeQueryCacheStats> stats = new TreeMap<>();
+        rangeQueryTemplates.forEach((name, template) -> stats.put(name, template.getStats()));
+        return stats;
+    }
+}
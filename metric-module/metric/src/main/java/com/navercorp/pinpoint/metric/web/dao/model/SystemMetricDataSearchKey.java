@@ -56,6 +56,26 @@ public class SystemMetricDataSearchKey {
         this.tagList = metricTag.getTags();
     }
 
+    private SystemMetricDataSearchKey(SystemMetricDataSearchKey searchKey, Range range, long limit) {
+        this.tenantId = searchKey.tenantId;
+        this.hostGroupName = searchKey.hostGroupName;
+        this.hostName = searchKey.hostName;
+        this.metricName = searchKey.metricName;
+        this.fieldName = searchKey.fieldName;
+        this.tagList = searchKey.tagList;
+        this.timePrecision = searchKey.timePrecision;
+        this.range = Objects.requireNonNull(range, "range");
+        this.limit = limit;
+    }
+
+    /**
+     * @return same search with the given range, limited to one row per bucket of the range
+     */
+    public SystemMetricDataSearchKey withRange(Range range) {
+        long limit = range.durationMillis() / timePrecision.getInterval() + 1;
+        return new SystemMetricDataSearchKey(this, range, limit);
+    }
+
     public String getTenantId() {
         return tenantId;
     }
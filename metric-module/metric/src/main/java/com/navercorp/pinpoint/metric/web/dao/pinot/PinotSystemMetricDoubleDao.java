@@ -21,7 +21,7 @@ import com.navercorp.pinpoint.metric.common.model.chart.SystemMetricPoint;
 import com.navercorp.pinpoint.metric.web.dao.SystemMetricDao;
 import com.navercorp.pinpoint.metric.web.dao.model.SystemMetricDataSearchKey;
 import com.navercorp.pinpoint.metric.web.model.MetricDataSearchKey;
-import com.navercorp.pinpoint.pinot.mybatis.PinotAsyncTemplate;
+import com.navercorp.pinpoint.pinot.mybatis.PinotRangeQueryTemplate;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.mybatis.spring.SqlSessionTemplate;
@@ -42,16 +42,17 @@ public class PinotSystemMetricDoubleDao implements SystemMetricDao<Double> {
     private static final String NAMESPACE = PinotSystemMetricDoubleDao.class.getName() + ".";
 
     private final SqlSessionTemplate sqlPinotSessionTemplate;
-    private final PinotAsyncTemplate asyncTemplate;
+    private final PinotRangeQueryTemplate rangeQueryTemplate;
 
-    public PinotSystemMetricDoubleDao(SqlSessionTemplate sqlPinotSessionTemplate, @Qualifier("pinotAsyncTemplate") PinotAsyncTemplate asyncTemplate) {
+    public PinotSystemMetricDoubleDao(SqlSessionTemplate sqlPinotSessionTemplate,
+                                      @Qualifier("pinotRangeQueryTemplate") PinotRangeQueryTemplate rangeQueryTemplate) {
         this.sqlPinotSessionTemplate = Objects.requireNonNull(sqlPinotSessionTemplate, "sqlPinotSessionTemplate");
-        this.asyncTemplate = Objects.requireNonNull(asyncTemplate, "asyncTemplate");
+        this.rangeQueryTemplate = Objects.requireNonNull(rangeQueryTemplate, "rangeQueryTemplate");
     }
 
     @Override
     public CompletableFuture<List<SystemMetricPoint<Double>>> getAsyncSampledSystemMetricData(MetricDataSearchKey metricDataSearchKey, MetricTag metricTag) {
         SystemMetricDataSearchKey systemMetricDataSearchKey = new SystemMetricDataSearchKey(metricDataSearchKey, metricTag);
-        return asyncTemplate.selectList(NAMESPACE + "selectSampledSystemMetricData", systemMetricDataSearchKey);
+        return rangeQueryTemplate.selectList(NAMESPACE + "selectSampledSystemMetricData", new SystemMetricRangeQuery(systemMetricDataSearchKey));
     }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.metric.web.dao.pinot;
+
+import com.navercorp.pinpoint.common.server.util.time.Range;
+import com.navercorp.pinpoint.metric.common.model.Tag;
+import com.navercorp.pinpoint.metric.common.model.chart.SystemMetricPoint;
+import com.navercorp.pinpoint.metric.web.dao.model.SystemMetricDataSearchKey;
+import com.navercorp.pinpoint.pinot.mybatis.RangeQuery;
+
+import java.util.List;
+import java.util.Objects;
+
+class SystemMetricRangeQuery implements RangeQuery<SystemMetricPoint<Double>> {
+
+    private final SystemMetricDataSearchKey searchKey;
+    private final Key key;
+
+    SystemMetricRangeQuery(SystemMetricDataSearchKey searchKey) {
+        this.searchKey = Objects.requireNonNull(searchKey, "searchKey");
+        this.key = new Key(searchKey.getTenantId(), searchKey.getHostGroupName(), searchKey.getHostName(),
+                searchKey.getMetricName(), searchKey.getFieldName(), searchKey.getTagList(),
+                searchKey.getTimePrecision().getInterval());
+    }
+
+    @Override
+    public long getFrom() {
+        return searchKey.getRange().getFrom();
+    }
+
+    @Override
+    public long getTo() {
+        return searchKey.getRange().getTo();
+    }
+
+    @Override
+    public long getBucketMillis() {
+        return searchKey.getTimePrecision().getInterval();
+    }
+
+    @Override
+    public Object getKey() {
+        return key;
+    }
+
+    @Override
+    public Object toParameter(long from, long to) {
+        return searchKey.withRange(Range.between(from, to));
+    }
+
+    @Override
+    public long getTimestamp(SystemMetricPoint<Double> row) {
+        return row.getXVal();
+    }
+
+    private record Key(String tenantId, String hostGroupName, String hostName,
+                       String metricName, String fieldName, List<Tag> tagList, long interval) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.navercorp.pinpoint.metric.collector.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.navercorp.pinpoint.common.server.util.json.Jackson;
+import com.navercorp.pinpoint.metric.collector.model.TelegrafMetrics;
+import com.navercorp.pinpoint.metric.collector.service.MetricSeriesRegistry;
+import com.navercorp.pinpoint.metric.collector.service.SystemMetricService;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TelegrafMetricControllerTest {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private static final int HOST_COUNT = 10_000;
+
+    private final ObjectMapper mapper = Jackson.newMapper();
+
+    private final AtomicLong rowCount = new AtomicLong();
+    private final AtomicLong dataTypeUpdateCount = new AtomicLong();
+    private final AtomicLong tagUpdateCount = new AtomicLong();
+
+    private final TelegrafMetricController controller = new TelegrafMetricController(
+            new SystemMetricService((tenantId, hostGroupName, hostName, metrics) -> rowCount.addAndGet(metrics.size())),
+            systemMetric -> dataTypeUpdateCount.incrementAndGet(),
+            (tenantId, hostGroupName, systemMetric) -> tagUpdateCount.incrementAndGet(),
+            new MetricSeriesRegistry(1_000_000, Duration.ofDays(1)),
+            () -> "tenant");
+
+    @Test
+    void catalogIsUpdatedOnlyForNewSeries() throws Exception {
+        List<String> payloads = new ArrayList<>(HOST_COUNT);
+        for (int i = 0; i < HOST_COUNT; i++) {
+            payloads.add(payload("host-" + i, i % 3 == 0));
+        }
+
+        final long firstElapsed = send(payloads);
+        final long fieldsPerRound = rowCount.get();
+        assertThat(dataTypeUpdateCount.get()).isEqualTo(fieldsPerRound);
+        assertThat(tagUpdateCount.get()).isEqualTo(fieldsPerRound);
+
+        final long secondElapsed = send(payloads);
+        assertThat(rowCount.get()).isEqualTo(fieldsPerRound * 2);
+        assertThat(dataTypeUpdateCount.get()).isEqualTo(fieldsPerRound);
+        assertThat(tagUpdateCount.get()).isEqualTo(fieldsPerRound);
+
+        logger.info("hosts:{} rows/round:{} first:{}ms steady:{}ms", HOST_COUNT, fieldsPerRound, firstElapsed, secondElapsed);
+    }
+
+    @Test
+    void newTagSetUpdatesCatalog() throws Exception {
+        send(List.of(payload("host-1", false)));
+        final long updates = tagUpdateCount.get();
+
+        // a new disk shows up
+        send(List.of(payload("host-1", true)));
+        assertThat(tagUpdateCount.get()).isEqualTo(updates + 2);
+    }
+
+    private long send(List<String> payloads) throws IOException, BindException {
+        final long start = System.nanoTime();
+        for (String payload : payloads) {
+            TelegrafMetrics metrics = mapper.readValue(payload, TelegrafMetrics.class);
+            controller.saveSystemMetric("hostGroup", metrics, new BeanPropertyBindingResult(metrics, "telegrafMetrics"));
+        }
+        return Duration.ofNanos(System.nanoTime() - start).toMillis();
+    }
+
+    private String payload(String host, boolean extraDisk) {
+        StringBuilder json = new StringBuilder("{\"metrics\": [");
+        json.append(metric("cpu", host, "\"cpu\": \"cpu-total\"", "\"usage_user\": 12.5, \"usage_system\": 3.1, \"usage_idle\": 84.4"));
+        json.append(',').append(metric("cpu", host, "\"cpu\": \"cpu0\"", "\"usage_user\": 10.0, \"usage_system\": 2.0, \"usage_idle\": 88.0"));
+        json.append(',').append(metric("mem", host, null, "\"used_percent\": 43.2, \"available\": 8589934592, \"total\": 17179869184"));
+        json.append(',').append(metric("disk", host, "\"path\": \"/\", \"fstype\": \"ext4\"", "\"used_percent\": 51.0, \"free\": 1073741824"));
+        if (extraDisk) {
+            json.append(',').append(metric("disk", host, "\"path\": \"/data\", \"fstype\": \"xfs\"", "\"used_percent\": 12.0, \"free\": 5368709120"));
+        }
+        json.append(',').append(metric("system", host, null, "\"load1\": 0.5, \"uptime\": 3600, \"uptime_format\": \" 1:00\""));
+        return json.append("]}").toString();
+    }
+
+    private String metric(String name, String host, String tags, String fields) {
+        return "{\"fields\": {" + fields + "}, \"name\": \"" + name + "\", \"tags\": {" +
+                (tags != null ? tags + ", " : "") + "\"host\": \"" + host + "\"}, \"timestamp\": 1458229140}";
+    }
+}
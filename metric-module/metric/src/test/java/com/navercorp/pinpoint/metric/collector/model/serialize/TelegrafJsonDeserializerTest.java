@@ -49,4 +49,26 @@ public class TelegrafJsonDeserializerTest {
                 .flatMap(TelegrafMetric::getFields)
                 .containsOnlyOnce(new TelegrafMetric.Field("field_1", 30));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void deserialize_mixedFieldTypes() throws IOException {
+        String json = """
+                {"metrics": [
+                  {"fields": {"uptime": 3600, "uptime_format": " 1:00", "load1": "0.5", "active": true, "unknown": null},
+                   "name": "system", "tags": {"host": "raynor"}, "timestamp": 1458229140},
+                  {"fields": {"load5": 0.25},
+                   "name": "system", "tags": {"host": "raynor"}, "timestamp": 1458229140}
+                ]}
+                """;
+
+        TelegrafMetrics systemMetrics = mapper.readValue(json, TelegrafMetrics.class);
+        List<TelegrafMetric> metrics = systemMetrics.getMetrics();
+
+        assertThat(metrics).hasSize(2);
+        assertThat(metrics.get(0).getFields())
+                .containsExactly(new TelegrafMetric.Field("uptime", 3600),
+                        new TelegrafMetric.Field("load1", 0.5));
+        // equal tags share one instance
+        assertThat(metrics.get(1).getTags()).isSameAs(metrics.get(0).getTags());
+    }
+}
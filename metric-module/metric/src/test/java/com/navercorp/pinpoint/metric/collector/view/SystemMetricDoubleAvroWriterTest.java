@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.metric.collector.view;
+
+import com.navercorp.pinpoint.metric.common.model.DoubleMetric;
+import com.navercorp.pinpoint.metric.common.model.Tag;
+import com.navercorp.pinpoint.pinot.kafka.avro.AvroSerializer;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DecoderFactory;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+class SystemMetricDoubleAvroWriterTest {
+
+    @Test
+    void write() throws IOException {
+        Schema schema = loadSchema("/pinot-collector/avro/system-metric-double.avsc");
+        DoubleMetric metric = new DoubleMetric("cpu", "host", "usage_user", 12.5, List.of(new Tag("cpu", "cpu-total")), 1700000000000L);
+        SystemMetricView view = new SystemMetricView("tenant", "hostGroup", metric);
+
+        byte[] avro = new AvroSerializer<>(new SystemMetricDoubleAvroWriter()).serialize("topic", view);
+        GenericRecord record = new GenericDatumReader<GenericRecord>(schema).read(null, DecoderFactory.get().binaryDecoder(avro, null));
+
+        Assertions.assertThat(record.get("tenantId")).hasToString("tenant");
+        Assertions.assertThat(record.get("hostGroupName")).hasToString("hostGroup");
+        Assertions.assertThat(record.get("hostName")).hasToString("host");
+        Assertions.assertThat(record.get("metricName")).hasToString("cpu");
+        Assertions.assertThat(record.get("fieldName")).hasToString("usage_user");
+        Assertions.assertThat(record.get("fieldValue")).isEqualTo(12.5);
+        Assertions.assertThat((List<?>) record.get("tags")).map(Object::toString).containsExactly("cpu:cpu-total");
+        Assertions.assertThat(record.get("eventTime")).isEqualTo(1700000000000L);
+
+        try (JsonSerializer<SystemMetricView> jsonSerializer = new JsonSerializer<>()) {
+            Assertions.assertThat(avro.length).isLessThan(jsonSerializer.serialize("topic", view).length);
+        }
+    }
+
+    private Schema loadSchema(String resource) throws IOException {
+        try (InputStream inputStream = getClass().getResourceAsStream(resource)) {
+            return new Schema.Parser().parse(inputStream);
+        }
+    }
+}
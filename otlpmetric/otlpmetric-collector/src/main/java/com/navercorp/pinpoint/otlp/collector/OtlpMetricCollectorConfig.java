@@ -16,17 +16,25 @@
 
 package com.navercorp.pinpoint.otlp.collector;
 
+import com.navercorp.pinpoint.otlp.collector.config.OtlpMetricCollectorProperties;
 import com.navercorp.pinpoint.otlp.collector.config.OtlpMetricPropertySources;
+import com.navercorp.pinpoint.otlp.collector.grpc.OtlpMetricGrpcServerConfig;
+import com.navercorp.pinpoint.otlp.collector.service.OtlpMetricMetadataCache;
+import com.navercorp.pinpoint.otlp.collector.service.OtlpMetricSendLimiter;
 import com.navercorp.pinpoint.pinot.config.PinotConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
+import java.time.Duration;
+
 @Configuration
 @Import({
         PinotConfiguration.class,
-        OtlpMetricPropertySources.class})
+        OtlpMetricPropertySources.class,
+        OtlpMetricGrpcServerConfig.class})
 @ComponentScan({
         "com.navercorp.pinpoint.otlp.collector.config",
         "com.navercorp.pinpoint.otlp.collector.controller",
@@ -36,4 +44,14 @@ import org.springframework.context.annotation.Import;
 })
 @ConditionalOnProperty(name = "pinpoint.modules.collector.otlpmetric.enabled", havingValue = "true")
 public class OtlpMetricCollectorConfig {
+
+    @Bean
+    public OtlpMetricMetadataCache otlpMetricMetadataCache(OtlpMetricCollectorProperties properties) {
+        return new OtlpMetricMetadataCache(properties.getMetadataCacheMaximumSize(), Duration.ofMillis(properties.getMetadataCacheTtlMillis()));
+    }
+
+    @Bean
+    public OtlpMetricSendLimiter otlpMetricSendLimiter(OtlpMetricCollectorProperties properties) {
+        return new OtlpMetricSendLimiter(properties.getKafkaMaxInFlight(), properties.getKafkaAcquireTimeoutMillis());
+    }
 }
@@ -39,6 +39,16 @@ public class OtlpMetricCollectorProperties {
     private String longTopicPrefix;
     @Value("${kafka.otlpmetric.topic.long.padding.length}")
     private int longTopicPaddingLength;
+    @Value("${collector.otlpmetric.metadata.cache.maximum-size:100000}")
+    private long metadataCacheMaximumSize;
+    @Value("${collector.otlpmetric.metadata.cache.ttl-millis:600000}")
+    private long metadataCacheTtlMillis;
+    @Value("${collector.otlpmetric.kafka.max-in-flight:100000}")
+    private int kafkaMaxInFlight;
+    @Value("${collector.otlpmetric.kafka.acquire-timeout-millis:3000}")
+    private long kafkaAcquireTimeoutMillis;
+    @Value("${collector.otlpmetric.kafka.retry-after-seconds:5}")
+    private long kafkaRetryAfterSeconds;
 
     public String getMetadataTopicName() {
         return metadataTopicName;
@@ -67,4 +77,24 @@ public class OtlpMetricCollectorProperties {
     public int getLongTopicPaddingLength() {
         return longTopicPaddingLength;
     }
+
+    public long getMetadataCacheMaximumSize() {
+        return metadataCacheMaximumSize;
+    }
+
+    public long getMetadataCacheTtlMillis() {
+        return metadataCacheTtlMillis;
+    }
+
+    public int getKafkaMaxInFlight() {
+        return kafkaMaxInFlight;
+    }
+
+    public long getKafkaAcquireTimeoutMillis() {
+        return kafkaAcquireTimeoutMillis;
+    }
+
+    public long getKafkaRetryAfterSeconds() {
+        return kafkaRetryAfterSeconds;
+    }
 }
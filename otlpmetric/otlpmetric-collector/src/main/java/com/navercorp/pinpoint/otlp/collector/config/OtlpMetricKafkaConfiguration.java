@@ -16,11 +16,15 @@
 
 package com.navercorp.pinpoint.otlp.collector.config;
 
+import com.navercorp.pinpoint.otlp.collector.model.PinotOtlpMetricAvroWriter;
 import com.navercorp.pinpoint.otlp.collector.model.PinotOtlpMetricDoubleData;
 import com.navercorp.pinpoint.otlp.collector.model.PinotOtlpMetricLongData;
 import com.navercorp.pinpoint.otlp.collector.model.PinotOtlpMetricMetadata;
 import com.navercorp.pinpoint.pinot.kafka.KafkaConfiguration;
+import com.navercorp.pinpoint.pinot.kafka.KafkaTemplateFactory;
+import com.navercorp.pinpoint.pinot.kafka.KafkaValueFormat;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -32,16 +36,18 @@ import org.springframework.kafka.core.ProducerFactory;
 public class OtlpMetricKafkaConfiguration {
     @Bean
     public KafkaTemplate<String, PinotOtlpMetricDoubleData> kafkaOtlpDoubleMetricTemplate(
-            @Qualifier("kafkaProducerFactory") ProducerFactory producerFactory
+            KafkaTemplateFactory kafkaTemplateFactory,
+            @Value("${kafka.otlpmetric.double.value.format:json}") String format
     ) {
-        return new KafkaTemplate<String, PinotOtlpMetricDoubleData>(producerFactory);
+        return kafkaTemplateFactory.newTemplate(KafkaValueFormat.of(format), new PinotOtlpMetricAvroWriter.DoubleWriter());
     }
 
     @Bean
     public KafkaTemplate<String, PinotOtlpMetricLongData> kafkaOtlpLongMetricTemplate(
-            @Qualifier("kafkaProducerFactory") ProducerFactory producerFactory
+            KafkaTemplateFactory kafkaTemplateFactory,
+            @Value("${kafka.otlpmetric.long.value.format:json}") String format
     ) {
-        return new KafkaTemplate<String, PinotOtlpMetricLongData>(producerFactory);
+        return kafkaTemplateFactory.newTemplate(KafkaValueFormat.of(format), new PinotOtlpMetricAvroWriter.LongWriter());
     }
 
     @Bean
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.otlp.collector.controller;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.WireFormat;
+import io.opentelemetry.proto.collector.metrics.v1.ExportMetricsServiceRequest;
+import io.opentelemetry.proto.metrics.v1.ResourceMetrics;
+import io.opentelemetry.proto.metrics.v1.ScopeMetrics;
+import io.opentelemetry.proto.resource.v1.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Decodes an {@link ExportMetricsServiceRequest} from a stream without materializing the whole request.
+ * <p>
+ * Only one {@link ScopeMetrics} is held at a time, unless a sender serializes {@code scope_metrics} before {@code resource}.
+ */
+final class ExportMetricsRequestReader {
+
+    private static final int RESOURCE_METRICS_TAG = lengthDelimitedTag(ExportMetricsServiceRequest.RESOURCE_METRICS_FIELD_NUMBER);
+    private static final int RESOURCE_TAG = lengthDelimitedTag(ResourceMetrics.RESOURCE_FIELD_NUMBER);
+    private static final int SCOPE_METRICS_TAG = lengthDelimitedTag(ResourceMetrics.SCOPE_METRICS_FIELD_NUMBER);
+
+    private ExportMetricsRequestReader() {
+    }
+
+    private static int lengthDelimitedTag(int fieldNumber) {
+        // WireFormat.makeTag() is not public
+        return (fieldNumber << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+    }
+
+    static void read(InputStream inputStream, BiConsumer<Resource, ScopeMetrics> consumer) throws IOException {
+        Objects.requireNonNull(inputStream, "inputStream");
+        Objects.requireNonNull(consumer, "consumer");
+
+        final CodedInputStream input = CodedInputStream.newInstance(inputStream);
+        while (true) {
+            final int tag = input.readTag();
+            if (tag == 0) {
+                return;
+            }
+            if (tag == RESOURCE_METRICS_TAG) {
+                final int length = input.readRawVarint32();
+                final int oldLimit = input.pushLimit(length);
+                readResourceMetrics(input, consumer);
+                input.checkLastTagWas(0);
+                input.popLimit(oldLimit);
+            } else if (!input.skipField(tag)) {
+                return;
+            }
+        }
+    }
+
+    private static void readResourceMetrics(CodedInputStream input, BiConsumer<Resource, ScopeMetrics> consumer) throws IOException {
+        final ExtensionRegistryLite registry = ExtensionRegistryLite.getEmptyRegistry();
+
+        Resource resource = null;
+        List<ScopeMetrics> pending = null;
+        while (true) {
+            final int tag = input.readTag();
+            if (tag == 0) {
+                break;
+            }
+            if (tag == RESOURCE_TAG) {
+                resource = input.readMessage(Resource.parser(), registry);
+                pending = flush(resource, pending, consumer);
+            } else if (tag == SCOPE_METRICS_TAG) {
+                final ScopeMetrics scopeMetrics = input.readMessage(ScopeMetrics.parser(), registry);
+                if (resource != null) {
+                    consumer.accept(resource, scopeMetrics);
+                } else {
+                    if (pending == null) {
+                        pending = new ArrayList<>();
+                    }
+                    pending.add(scopeMetrics);
+                }
+            } else if (!input.skipField(tag)) {
+                break;
+            }
+        }
+        flush(Resource.getDefaultInstance(), pending, consumer);
+    }
+
+    private static List<ScopeMetrics> flush(Resource resource, List<ScopeMetrics> pending, BiConsumer<Resource, ScopeMetrics> consumer) {
+        if (pending != null) {
+            for (ScopeMetrics scopeMetrics : pending) {
+                consumer.accept(resource, scopeMetrics);
+            }
+        }
+        return null;
+    }
+}
@@ -16,88 +16,77 @@
 
 package com.navercorp.pinpoint.otlp.collector.controller;
 
-import com.navercorp.pinpoint.otlp.collector.mapper.OtlpMetricMapper;
-import com.navercorp.pinpoint.otlp.collector.model.OtlpMetricData;
-import com.navercorp.pinpoint.otlp.collector.service.OtlpMetricCollectorService;
-import com.navercorp.pinpoint.pinot.tenant.TenantProvider;
-import io.opentelemetry.proto.collector.metrics.v1.ExportMetricsServiceRequest;
-import io.opentelemetry.proto.common.v1.KeyValue;
-import io.opentelemetry.proto.metrics.v1.Metric;
-import io.opentelemetry.proto.metrics.v1.ResourceMetrics;
-import io.opentelemetry.proto.metrics.v1.ScopeMetrics;
-import jakarta.validation.Valid;
+import com.navercorp.pinpoint.otlp.collector.service.OtlpMetricExportService;
 import jakarta.validation.constraints.NotNull;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPInputStream;
 
 @RestController
 public class OpenTelemetryMetricController {
+    private static final String PROTOBUF = "application/x-protobuf";
+
     private final Logger logger = LogManager.getLogger(this.getClass());
 
-    private final String tenantId;
-    @NotNull private final OtlpMetricCollectorService otlpMetricCollectorService;
-    @NotNull private final OtlpMetricMapper otlpMetricMapper;
+    @NotNull private final OtlpMetricExportService otlpMetricExportService;
 
-    public OpenTelemetryMetricController(TenantProvider tenantProvider,
-                                         @Valid OtlpMetricCollectorService otlpMetricCollectorService,
-                                         @Valid OtlpMetricMapper otlpMetricDataMapper) {
-        Objects.requireNonNull(tenantProvider, "tenantProvider");
-        this.tenantId = tenantProvider.getTenantId();
-        this.otlpMetricCollectorService = Objects.requireNonNull(otlpMetricCollectorService, "otlpMetricService");
-        this.otlpMetricMapper = Objects.requireNonNull(otlpMetricDataMapper, "otlpMetricDataMapper");
-        this.otlpMetricMapper.setTenantId(tenantId);
+    public OpenTelemetryMetricController(OtlpMetricExportService otlpMetricExportService) {
+        this.otlpMetricExportService = Objects.requireNonNull(otlpMetricExportService, "otlpMetricExportService");
     }
 
-    @PostMapping(value = "/opentelemetry", consumes = "application/x-protobuf")
-    public ResponseEntity<Void> saveOtlpMetric(@RequestBody ExportMetricsServiceRequest otlp)  {
-        List<ResourceMetrics> resourceMetricsList = otlp.getResourceMetricsList();
-
-        for (ResourceMetrics resourceMetrics : resourceMetricsList) {
-            List<KeyValue> attributesList = resourceMetrics.getResource().getAttributesList();
-            Map<String, String> tags = convertToMap(attributesList);
-
-            List<ScopeMetrics> scopeMetricsList = resourceMetrics.getScopeMetricsList();
-            for (ScopeMetrics scopeMetrics : scopeMetricsList) {
-                List<Metric> metricList = scopeMetrics.getMetricsList();
-                for (Metric metric: metricList) {
-                    OtlpMetricData metricData = toMetrics(metric, tags);
-                    if (metricData != null) {
-                        otlpMetricCollectorService.save(metricData);
-
-                        if (logger.isDebugEnabled()) {
-                            logger.debug("tenantId:{} serviceName:{} metricGroupName:{} metricName: {}",
-                                    metricData.getTenantId(),
-                                    metricData.getServiceName(),
-                                    metricData.getMetricGroupName(),
-                                    metricData.getMetricName());
-                        }
-                    }
-                }
+    /**
+     * The request is decoded and sent to Kafka while it is being read,
+     * the reply is sent once Kafka has answered every data point.
+     * A request rejected before its first data point was sent is answered with 503 and Retry-After.
+     * Data points that could not be sent after that are reported as partial success instead of a retryable error,
+     * because a retry would duplicate the rows that were already written.
+     */
+    @PostMapping(value = "/opentelemetry", consumes = PROTOBUF, produces = PROTOBUF)
+    public CompletableFuture<ResponseEntity<byte[]>> saveOtlpMetric(@RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+                                                                    InputStream body) {
+        OtlpMetricExportService.Export export = otlpMetricExportService.newExport();
+        try {
+            if ("gzip".equalsIgnoreCase(contentEncoding)) {
+                body = new GZIPInputStream(body);
             }
+            ExportMetricsRequestReader.read(body, export::add);
+        } catch (IOException ex) {
+            return badRequest(export, ex);
+        }
+        if (export.isRejected()) {
+            return CompletableFuture.completedFuture(serviceUnavailable(export));
         }
 
-    return ResponseEntity.ok().build();
+        return export.complete()
+                .thenApply(response -> ResponseEntity.ok().body(response.toByteArray()));
     }
 
-    private OtlpMetricData toMetrics(Metric metric, Map<String, String> tags) {
-        OtlpMetricData otlpMetricData = otlpMetricMapper.map(metric, tags);
-        return otlpMetricData;
+    private ResponseEntity<byte[]> serviceUnavailable(OtlpMetricExportService.Export export) {
+        logger.info("Rejected OTLP metrics request of {} data points: {}", export.getDataPointCount(), export.getRejectError());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(otlpMetricExportService.getRetryAfterSeconds()))
+                .build();
     }
 
-    private Map<String, String> convertToMap(List<KeyValue> tags) {
-        Map<String, String> tagMap = new HashMap<>();
-        for (KeyValue tag : tags) {
-            tagMap.put(tag.getKey(), tag.getValue().getStringValue());
+    private CompletableFuture<ResponseEntity<byte[]>> badRequest(OtlpMetricExportService.Export export, IOException ex) {
+        if (!export.isSent()) {
+            logger.info("Invalid OTLP metrics request: {}", ex.getMessage());
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
         }
-        return tagMap;
+        // not retryable, the data points read before the error are already on their way to Kafka
+        logger.warn("Invalid OTLP metrics request after {} data points were sent: {}", export.getDataPointCount(), ex.getMessage());
+        return export.complete()
+                .thenApply(response -> ResponseEntity.badRequest().build());
     }
-}
\ No newline at end of file
+}
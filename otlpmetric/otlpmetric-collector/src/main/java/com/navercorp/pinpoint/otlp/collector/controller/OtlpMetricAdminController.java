@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.otlp.collector.controller;
+
+import com.navercorp.pinpoint.otlp.collector.service.OtlpMetricMetadataCache;
+import com.navercorp.pinpoint.otlp.collector.service.OtlpMetricMetadataCacheStats;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Objects;
+
+@RestController
+@RequestMapping("/admin/opentelemetry")
+public class OtlpMetricAdminController {
+
+    private final OtlpMetricMetadataCache metadataCache;
+
+    public OtlpMetricAdminController(OtlpMetricMetadataCache metadataCache) {
+        this.metadataCache = Objects.requireNonNull(metadataCache, "metadataCache");
+    }
+
+    @GetMapping(value = "/metadataCacheStats")
+    public OtlpMetricMetadataCacheStats metadataCacheStats() {
+        return metadataCache.snapshot();
+    }
+}
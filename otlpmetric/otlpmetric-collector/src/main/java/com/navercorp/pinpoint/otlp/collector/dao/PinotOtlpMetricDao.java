@@ -70,25 +70,25 @@ public class PinotOtlpMetricDao implements OtlpMetricDao {
     }
 
     @Override
-    public void updateMetadata(PinotOtlpMetricMetadata metadata) {
+    public CompletableFuture<?> updateMetadata(PinotOtlpMetricMetadata metadata) {
         Objects.requireNonNull(metadata);
         CompletableFuture<SendResult<String, PinotOtlpMetricMetadata>> response = this.kafkaOtlpMetadataTemplate.send(metadataTopic, metadata.applicationName(), metadata);
-        response.whenComplete(metadataResultCallback);
+        return response.whenComplete(metadataResultCallback);
     }
 
     @Override
-    public void insertDouble(PinotOtlpMetricDoubleData data) {
+    public CompletableFuture<?> insertDouble(PinotOtlpMetricDoubleData data) {
         Objects.requireNonNull(data);
         String doubleTopic = doubleTopicNameManager.getTopicName(data.getApplicationName());
         CompletableFuture<SendResult<String, PinotOtlpMetricDoubleData>> response = this.kafkaOtlpDoubleMetricTemplate.send(doubleTopic, data.getSortKey(), data);
-        response.whenComplete(doubleResultCallback);
+        return response.whenComplete(doubleResultCallback);
     }
 
     @Override
-    public void insertLong(PinotOtlpMetricLongData data) {
+    public CompletableFuture<?> insertLong(PinotOtlpMetricLongData data) {
         Objects.requireNonNull(data);
         String longTopic = longTopicNameManager.getTopicName(data.getApplicationName());
         CompletableFuture<SendResult<String, PinotOtlpMetricLongData>> response = this.kafkaOtlpLongMetricTemplate.send(longTopic, data.getSortKey(), data);
-        response.whenComplete(longResultCallback);
+        return response.whenComplete(longResultCallback);
     }
 }
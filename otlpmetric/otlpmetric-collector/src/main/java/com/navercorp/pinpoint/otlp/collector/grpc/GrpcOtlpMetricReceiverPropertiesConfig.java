@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.otlp.collector.grpc;
+
+import com.navercorp.pinpoint.collector.grpc.config.GrpcPropertiesServerOptionBuilder;
+import com.navercorp.pinpoint.collector.receiver.BindAddress;
+import com.navercorp.pinpoint.common.server.thread.MonitoringExecutorProperties;
+import com.navercorp.pinpoint.grpc.server.ServerOption;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+@EnableConfigurationProperties
+public class GrpcOtlpMetricReceiverPropertiesConfig {
+
+    public static final String BIND_ADDRESS = "collector.receiver.grpc.otlpmetric.bindaddress";
+
+    public static final String SERVER_EXECUTOR = "collector.receiver.grpc.otlpmetric.server.executor";
+
+    public static final String SERVER_CALL_EXECUTOR = "collector.receiver.grpc.otlpmetric.server-call.executor";
+
+    public static final String SERVER_OPTION = "collector.receiver.grpc.otlpmetric";
+
+    public GrpcOtlpMetricReceiverPropertiesConfig() {
+    }
+
+    @Bean(BIND_ADDRESS)
+    @ConfigurationProperties(BIND_ADDRESS)
+    public BindAddress.Builder newBindAddressBuilder() {
+        return BindAddress.newBuilder();
+    }
+
+    @Bean
+    @ConfigurationProperties(SERVER_EXECUTOR)
+    public MonitoringExecutorProperties grpcOtlpMetricServerExecutorProperties() {
+        return new MonitoringExecutorProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties(SERVER_CALL_EXECUTOR)
+    public MonitoringExecutorProperties grpcOtlpMetricServerCallExecutorProperties() {
+        return new MonitoringExecutorProperties();
+    }
+
+    @Bean(SERVER_OPTION)
+    @ConfigurationProperties(SERVER_OPTION)
+    public GrpcPropertiesServerOptionBuilder newServerOption() {
+        // Server option
+        return new GrpcPropertiesServerOptionBuilder();
+    }
+
+    @Bean
+    public GrpcOtlpMetricReceiverProperties grpcOtlpMetricReceiverConfig(Environment environment) {
+        boolean enable = environment.getProperty("collector.receiver.grpc.otlpmetric.enable", boolean.class, false);
+
+        final ServerOption serverOption = newServerOption().build();
+        final BindAddress bindAddress = newBindAddressBuilder().build();
+
+        return new GrpcOtlpMetricReceiverProperties(
+                enable,
+                bindAddress,
+                serverOption
+        );
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.otlp.collector.grpc;
+
+import com.navercorp.pinpoint.collector.monitor.MonitoringExecutors;
+import com.navercorp.pinpoint.collector.receiver.grpc.GrpcReceiver;
+import com.navercorp.pinpoint.collector.receiver.grpc.SimpleServerCallExecutorSupplier;
+import com.navercorp.pinpoint.common.server.executor.ThreadPoolExecutorCustomizer;
+import com.navercorp.pinpoint.common.server.thread.MonitoringExecutorProperties;
+import com.navercorp.pinpoint.common.server.util.AddressFilter;
+import com.navercorp.pinpoint.common.server.util.CallerUtils;
+import com.navercorp.pinpoint.otlp.collector.service.OtlpMetricExportService;
+import io.opentelemetry.proto.collector.metrics.v1.MetricsServiceGrpc;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * OTLP/gRPC receiver, disabled by default. See {@code collector.receiver.grpc.otlpmetric.enable}.
+ */
+@Configuration
+@Import(GrpcOtlpMetricReceiverPropertiesConfig.class)
+public class OtlpMetricGrpcServerConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public MonitoringExecutors monitoringExecutors() {
+        return new MonitoringExecutors(new ThreadPoolExecutorCustomizer(), null);
+    }
+
+    @Bean("grpcOtlpMetricServerExecutor")
+    public FactoryBean<ExecutorService> grpcOtlpMetricServerExecutor(MonitoringExecutors executors,
+                                                                     @Qualifier("grpcOtlpMetricServerExecutorProperties")
+                                                                     MonitoringExecutorProperties properties) {
+        String beanName = CallerUtils.getCallerMethodName();
+        return executors.newExecutorFactoryBean(properties, beanName);
+    }
+
+    @Bean("grpcOtlpMetricServerCallExecutor")
+    public FactoryBean<ExecutorService> grpcOtlpMetricServerCallExecutor(MonitoringExecutors executors,
+                                                                         @Qualifier("grpcOtlpMetricServerCallExecutorProperties")
+                                                                         MonitoringExecutorProperties properties) {
+        String beanName = CallerUtils.getCallerMethodName();
+        return executors.newExecutorFactoryBean(properties, beanName);
+    }
+
+    @Bean("addressFilter")
+    @ConditionalOnMissingBean(name = "addressFilter")
+    public AddressFilter allAddressFilter() {
+        return AddressFilter.ALL;
+    }
+
+    @Bean
+    public MetricsServiceGrpc.MetricsServiceImplBase otlpMetricGrpcService(OtlpMetricExportService otlpMetricExportService) {
+        return new OtlpMetricGrpcService(otlpMetricExportService);
+    }
+
+    @Bean
+    public GrpcReceiver grpcOtlpMetricReceiver(
+            @Qualifier("grpcOtlpMetricReceiverConfig") GrpcOtlpMetricReceiverProperties receiverConfig,
+            @Qualifier("grpcOtlpMetricServerExecutor") Executor serverExecutor,
+            @Qualifier("grpcOtlpMetricServerCallExecutor") Executor serverCallExecutor,
+            @Qualifier("addressFilter") AddressFilter addressFilter,
+            MetricsServiceGrpc.MetricsServiceImplBase otlpMetricGrpcService
+    ) {
+        final GrpcReceiver receiver = new GrpcReceiver();
+        receiver.setBindAddress(receiverConfig.getBindAddress());
+        receiver.setExecutor(serverExecutor);
+        receiver.setServerCallExecutorSupplier(new SimpleServerCallExecutorSupplier(serverCallExecutor));
+        receiver.setAddressFilter(addressFilter);
+        receiver.setBindableServiceList(List.of(otlpMetricGrpcService.bindService()));
+        receiver.setEnable(receiverConfig.isEnable());
+        receiver.setServerOption(receiverConfig.getServerOption());
+
+        return receiver;
+    }
+
+}
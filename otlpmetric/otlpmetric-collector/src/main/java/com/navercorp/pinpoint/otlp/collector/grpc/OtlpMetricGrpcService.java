@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.otlp.collector.grpc;
+
+import com.navercorp.pinpoint.otlp.collector.service.OtlpMetricExportService;
+import com.google.protobuf.Any;
+import com.google.protobuf.Duration;
+import com.google.rpc.Code;
+import com.google.rpc.RetryInfo;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.protobuf.StatusProto;
+import io.grpc.stub.StreamObserver;
+import io.opentelemetry.proto.collector.metrics.v1.ExportMetricsServiceRequest;
+import io.opentelemetry.proto.collector.metrics.v1.ExportMetricsServiceResponse;
+import io.opentelemetry.proto.collector.metrics.v1.MetricsServiceGrpc;
+import io.opentelemetry.proto.metrics.v1.ResourceMetrics;
+import io.opentelemetry.proto.metrics.v1.ScopeMetrics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Objects;
+
+/**
+ * OTLP/gRPC metrics endpoint, replies once Kafka has acknowledged every data point.
+ */
+class OtlpMetricGrpcService extends MetricsServiceGrpc.MetricsServiceImplBase {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final OtlpMetricExportService otlpMetricExportService;
+
+    OtlpMetricGrpcService(OtlpMetricExportService otlpMetricExportService) {
+        this.otlpMetricExportService = Objects.requireNonNull(otlpMetricExportService, "otlpMetricExportService");
+    }
+
+    @Override
+    public void export(ExportMetricsServiceRequest request, StreamObserver<ExportMetricsServiceResponse> responseObserver) {
+        OtlpMetricExportService.Export export = otlpMetricExportService.newExport();
+        for (ResourceMetrics resourceMetrics : request.getResourceMetricsList()) {
+            for (ScopeMetrics scopeMetrics : resourceMetrics.getScopeMetricsList()) {
+                export.add(resourceMetrics.getResource(), scopeMetrics);
+            }
+        }
+
+        if (export.isRejected()) {
+            logger.info("Rejected OTLP metrics request of {} data points: {}", export.getDataPointCount(), export.getRejectError());
+            responseObserver.onError(unavailable(export.getRejectError()));
+            return;
+        }
+
+        // rejected data points are reported as partial success, see OtlpMetricExportService.Export
+        export.complete().whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                logger.warn("Failed saving OTLP metrics", throwable);
+                responseObserver.onError(Status.INTERNAL.withDescription(throwable.getMessage()).asException());
+                return;
+            }
+            responseObserver.onNext(response);
+            responseObserver.onCompleted();
+        });
+    }
+
+    /**
+     * UNAVAILABLE is retryable, RetryInfo tells the exporter how long to wait
+     */
+    private StatusRuntimeException unavailable(String message) {
+        final RetryInfo retryInfo = RetryInfo.newBuilder()
+                .setRetryDelay(Duration.newBuilder().setSeconds(otlpMetricExportService.getRetryAfterSeconds()))
+                .build();
+        final com.google.rpc.Status status = com.google.rpc.Status.newBuilder()
+                .setCode(Code.UNAVAILABLE_VALUE)
+                .setMessage(String.valueOf(message))
+                .addDetails(Any.pack(retryInfo))
+                .build();
+        return StatusProto.toStatusRuntimeException(status);
+    }
+}
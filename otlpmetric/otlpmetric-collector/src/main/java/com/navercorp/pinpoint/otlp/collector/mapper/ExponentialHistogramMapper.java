@@ -47,7 +47,7 @@ public class ExponentialHistogramMapper extends OtlpMetricDataMapper {
 
 
     @Override
-    void map(OtlpMetricData.Builder builder, Metric metric, Map<String, String> commonTags) {
+    void map(OtlpMetricData.Builder builder, Metric metric) {
         if (metric.hasExponentialHistogram()) {
             builder.setMetricType(MetricType.EXP_HISTOGRAM);
             setMetricName(builder, metric.getName());
@@ -65,7 +65,6 @@ public class ExponentialHistogramMapper extends OtlpMetricDataMapper {
                 Map<String, String> tags = getTags(data.getAttributesList());
                 setAggreFunction(AggreFunc.SUM, dataPointBuilder, tags);
                 dataPointBuilder.addTags(tags);
-                dataPointBuilder.addTags(commonTags);
 
                 addPositiveBuckets(builder, dataPointBuilder, data.getPositive());
                 addNegativeBuckets(builder, dataPointBuilder, data.getNegative());
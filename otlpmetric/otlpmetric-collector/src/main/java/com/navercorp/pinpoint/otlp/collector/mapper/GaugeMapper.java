@@ -37,7 +37,7 @@ import java.util.Map;
 public class GaugeMapper extends OtlpMetricDataMapper {
 
     @Override
-    public void map(OtlpMetricData.Builder builder, Metric metric, Map<String, String> commonTags) {
+    public void map(OtlpMetricData.Builder builder, Metric metric) {
         if (metric.hasGauge()) {
             builder.setMetricType(MetricType.GAUGE);
             String fieldName = setMetricNameAndGetField(builder, metric.getName());
@@ -54,7 +54,6 @@ public class GaugeMapper extends OtlpMetricDataMapper {
                 Map<String, String> tags = getTags(data.getAttributesList());
                 setAggreFunction(AggreFunc.AVERAGE, dataPointBuilder, tags);
                 dataPointBuilder.addTags(tags);
-                dataPointBuilder.addTags(commonTags);
 
                 if (data.hasAsDouble()) {
                     dataPointBuilder.setDataType(DataType.DOUBLE);
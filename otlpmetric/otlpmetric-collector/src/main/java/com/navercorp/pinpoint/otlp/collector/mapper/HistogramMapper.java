@@ -39,7 +39,7 @@ public class HistogramMapper extends OtlpMetricDataMapper {
     private static final String HISTOGRAM_BUCKET_COUNT_FIELDNAME = "numBuckets";
 
     @Override
-    public void map(OtlpMetricData.Builder builder, Metric metric, Map<String, String> commonTags) {
+    public void map(OtlpMetricData.Builder builder, Metric metric) {
         if (metric.hasHistogram()) {
             builder.setMetricType(MetricType.HISTOGRAM);
             setMetricName(builder, metric.getName());
@@ -56,17 +56,16 @@ public class HistogramMapper extends OtlpMetricDataMapper {
                 Map<String, String> tags = getTags(data.getAttributesList());
 
                 addHistogramInfo(builder, dataPointBuilder, data.getMin(), data.getMax(), data.getSum(), data.getCount());
-                addHistogramBuckets(builder, dataPointBuilder, data.getExplicitBoundsList(), data.getBucketCountsList(), tags, commonTags, description);
+                addHistogramBuckets(builder, dataPointBuilder, data.getExplicitBoundsList(), data.getBucketCountsList(), tags, description);
             }
         }
     }
 
     private void addHistogramBuckets(OtlpMetricData.Builder builder, OtlpMetricDataPoint.Builder dataPointBuilder,
                                      List<Double> explicitBoundsList, List<Long> bucketCountsList,
-                                     Map<String, String> tags, Map<String, String> commonTags, String description) {
+                                     Map<String, String> tags, String description) {
         setAggreFunction(AggreFunc.SUM, dataPointBuilder, tags);
         dataPointBuilder.addTags(tags);
-        dataPointBuilder.addTags(commonTags);
 
         int bucketCounts = bucketCountsList.size();
         dataPointBuilder.setFieldName(HISTOGRAM_BUCKET_COUNT_FIELDNAME);
@@ -35,7 +35,7 @@ public abstract class OtlpMetricDataMapper {
     protected static final String CUSTOM_AGGRE_FUNCTION_KEY = "pinpoint.metric.aggregation";
     protected static final long NANO_TO_MS = 1000000;
 
-    abstract void map(OtlpMetricData.Builder builder, Metric metric, Map<String, String> commonTags);
+    abstract void map(OtlpMetricData.Builder builder, Metric metric);
 
     protected void setMetricName(OtlpMetricData.Builder builder, String metricName) {
         builder.setMetricGroupName(MetricName.EMPTY_METRIC_GROUP_NAME);
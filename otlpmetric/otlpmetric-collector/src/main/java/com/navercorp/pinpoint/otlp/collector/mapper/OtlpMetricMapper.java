@@ -17,6 +17,7 @@
 package com.navercorp.pinpoint.otlp.collector.mapper;
 
 import com.navercorp.pinpoint.otlp.collector.model.OtlpMetricData;
+import com.navercorp.pinpoint.otlp.collector.model.OtlpResource;
 import com.navercorp.pinpoint.otlp.collector.model.OtlpResourceAttributes;
 import com.navercorp.pinpoint.pinot.tenant.TenantProvider;
 import io.opentelemetry.proto.metrics.v1.Metric;
@@ -27,7 +28,6 @@ import org.springframework.stereotype.Component;
 
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 @Component
 public class OtlpMetricMapper {
@@ -48,59 +48,42 @@ public class OtlpMetricMapper {
         this.tenantId = tenantId;
     }
 
-    public OtlpMetricData map(Metric metric, Map<String, String> commonTags) {
-        if (metric == null) {
-            return null;
+    /**
+     * Resolves the resource attributes once for all metrics of the resource.
+     * @throws OtlpMappingException if a required attribute is missing
+     */
+    public OtlpResource mapResource(Map<String, String> attributes) {
+        String serviceName = attributes.get(OtlpResourceAttributes.KEY_SERVICE_NAME);
+        if (serviceName == null) {
+            throw new OtlpMappingException("Resource attribute `service.name` is required to save OTLP metrics to Pinpoint.");
         }
 
-        final OtlpMetricData.Builder builder = new OtlpMetricData.Builder();
-        try {
-            parseCommonTags(builder, commonTags);
-        } catch (OtlpMappingException ex) {
-            logger.info("Failed saving OTLP metric {}: {}", metric.getName(), ex.getMessage());
-            return null;
+        String agentId = attributes.get(OtlpResourceAttributes.KEY_PINPOINT_AGENTID);
+        if (agentId == null) {
+            throw new OtlpMappingException("Resource attribute `pinpoint.agentId` is required to save OTLP metrics to Pinpoint");
         }
 
-        Map<String, String> filteredTags = removeTagsByKeyword(commonTags);
-
-        builder.setTenantId(tenantId);
-        builder.setUnit(metric.getUnit());
-
-        this.map(builder, metric, filteredTags);
-        return builder.build();
-    }
-
-    private Map<String, String> removeTagsByKeyword(Map<String, String> commonTags) {
-        Map<String, String> filteredTags = commonTags.entrySet().stream()
-                .filter(entry -> !entry.getKey().contains(OtlpResourceAttributes.KEY_PINPOINT_AGENTID))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-        return filteredTags;
-    }
-
-    private void map(OtlpMetricData.Builder builder, Metric metric, Map<String, String> commonTags) {
-        for (OtlpMetricDataMapper mapper : mappers) {
-            mapper.map(builder, metric, commonTags);
+        String version = attributes.get(OtlpResourceAttributes.KEY_PINPOINT_METRIC_VERSION);
+        if (version == null) {
+            version = "";
         }
+        return new OtlpResource(serviceName, agentId, version, attributes);
     }
 
-    private void parseCommonTags(OtlpMetricData.Builder builder, Map<String, String> commonTags) {
-        String serviceName = commonTags.get(OtlpResourceAttributes.KEY_SERVICE_NAME);
-        if (serviceName == null) {
-            throw new OtlpMappingException("Resource attribute `service.name` is required to save OTLP metrics to Pinpoint.");
-        }
-        builder.setServiceName(serviceName);
-
-        String agentId= commonTags.get(OtlpResourceAttributes.KEY_PINPOINT_AGENTID);
-        if (agentId == null) {
-            throw new OtlpMappingException("Resource attribute `pinpoint.agentId` is required to save OTLP metrics to Pinpoint");
+    public OtlpMetricData map(Metric metric, OtlpResource resource) {
+        if (metric == null) {
+            return null;
         }
+        Objects.requireNonNull(resource, "resource");
 
-        builder.setAgentId(agentId);
+        final OtlpMetricData.Builder builder = new OtlpMetricData.Builder();
+        builder.setResource(resource);
+        builder.setTenantId(tenantId);
+        builder.setUnit(metric.getUnit());
 
-        String version = commonTags.get(OtlpResourceAttributes.KEY_PINPOINT_METRIC_VERSION);
-        if (version != null) {
-            builder.setVersion(version);
+        for (OtlpMetricDataMapper mapper : mappers) {
+            mapper.map(builder, metric);
         }
+        return builder.build();
     }
 }
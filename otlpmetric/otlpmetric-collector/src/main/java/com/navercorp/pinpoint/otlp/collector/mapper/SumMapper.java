@@ -36,7 +36,7 @@ import java.util.Map;
 public class SumMapper extends OtlpMetricDataMapper {
 
     @Override
-    public void map(OtlpMetricData.Builder builder, Metric metric, Map<String, String> commonTags) {
+    public void map(OtlpMetricData.Builder builder, Metric metric) {
         if (metric.hasSum()) {
             builder.setMetricType(MetricType.SUM);
             String fieldName = setMetricNameAndGetField(builder, metric.getName());
@@ -56,7 +56,6 @@ public class SumMapper extends OtlpMetricDataMapper {
                 Map<String, String> tags = getTags(data.getAttributesList());
                 setAggreFunction(AggreFunc.SUM, dataPointBuilder, tags);
                 dataPointBuilder.addTags(tags);
-                dataPointBuilder.addTags(commonTags);
 
                 if (data.hasAsDouble()) {
                     dataPointBuilder.setDataType(DataType.DOUBLE);
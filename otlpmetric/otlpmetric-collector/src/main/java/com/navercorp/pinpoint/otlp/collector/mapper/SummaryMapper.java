@@ -37,7 +37,7 @@ public class SummaryMapper extends OtlpMetricDataMapper {
     private static final String SUMMARY_QUANTILES_COUNT_FIELDNAME = "numQuantiles";
 
     @Override
-    void map(OtlpMetricData.Builder builder, Metric metric, Map<String, String> commonTags) {
+    void map(OtlpMetricData.Builder builder, Metric metric) {
         if (metric.hasSummary()) {
             builder.setMetricType(MetricType.SUMMARY);
             setMetricName(builder, metric.getName());
@@ -53,7 +53,6 @@ public class SummaryMapper extends OtlpMetricDataMapper {
                 Map<String, String> tags = getTags(data.getAttributesList());
                 setAggreFunction(AggreFunc.SUM, dataPointBuilder, tags);
                 dataPointBuilder.addTags(tags);
-                dataPointBuilder.addTags(commonTags);
 
                 addDataPoints(builder, dataPointBuilder, data, metric.getDescription());
             }
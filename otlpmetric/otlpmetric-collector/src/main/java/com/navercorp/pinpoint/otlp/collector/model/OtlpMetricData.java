@@ -39,6 +39,7 @@ public class OtlpMetricData {
     private final AggregationTemporality aggreTemporality;
 
     private final List<OtlpMetricDataPoint> value;
+    private final OtlpResource resource;
 
     public OtlpMetricData(Builder builder) {
         this.tenantId = builder.tenantId;
@@ -53,6 +54,7 @@ public class OtlpMetricData {
         this.aggreTemporality = builder.aggreTemporality;
         this.value = builder.value;
         this.version = builder.version;
+        this.resource = builder.resource;
     }
 
     public String getTenantId() {
@@ -91,6 +93,10 @@ public class OtlpMetricData {
         return value;
     }
 
+    public OtlpResource getResource() {
+        return resource;
+    }
+
     public static class Builder {
         private final Logger logger = LogManager.getLogger(this.getClass());
         private String tenantId;
@@ -106,6 +112,7 @@ public class OtlpMetricData {
         private AggregationTemporality aggreTemporality = AggregationTemporality.AGGREGATION_TEMPORALITY_UNSPECIFIED;
 
         private List<OtlpMetricDataPoint> value = new ArrayList<>();
+        private OtlpResource resource;
 
         public OtlpMetricData build() {
             return new OtlpMetricData(this);
@@ -150,6 +157,13 @@ public class OtlpMetricData {
         public void setVersion(String version) {
             this.version = version;
         }
+
+        public void setResource(OtlpResource resource) {
+            this.resource = resource;
+            this.serviceName = resource.getServiceName();
+            this.agentId = resource.getAgentId();
+            this.version = resource.getVersion();
+        }
     }
 
     @Override
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.otlp.collector.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Attributes of one OTLP resource, resolved once for all metrics of the resource.
+ * <p>
+ * {@link #getTags()} holds the resource attributes that are merged into the tags of every data point.
+ */
+public class OtlpResource {
+
+    private final String serviceName;
+    private final String agentId;
+    private final String version;
+
+    private final Map<String, String> tags;
+
+    public OtlpResource(String serviceName, String agentId, String version, Map<String, String> attributes) {
+        this.serviceName = Objects.requireNonNull(serviceName, "serviceName");
+        this.agentId = Objects.requireNonNull(agentId, "agentId");
+        this.version = Objects.requireNonNull(version, "version");
+        Objects.requireNonNull(attributes, "attributes");
+
+        this.tags = new HashMap<>();
+        for (Map.Entry<String, String> entry : attributes.entrySet()) {
+            if (!entry.getKey().contains(OtlpResourceAttributes.KEY_PINPOINT_AGENTID)) {
+                tags.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Service identifying attributes are stored in their own columns, not as tags.
+     */
+    public static boolean isTag(String key) {
+        String lowerKey = key.toLowerCase();
+        return !lowerKey.equals(OtlpResourceAttributes.KEY_SERVICE_NAME) && !lowerKey.equals(OtlpResourceAttributes.KEY_SERVICE_NAMESPACE);
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    public String getAgentId() {
+        return agentId;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public Map<String, String> getTags() {
+        return Collections.unmodifiableMap(tags);
+    }
+
+    @Override
+    public String toString() {
+        return "OtlpResource{" +
+                "serviceName='" + serviceName + '\'' +
+                ", agentId='" + agentId + '\'' +
+                ", version='" + version + '\'' +
+                ", tags=" + tags +
+                '}';
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.otlp.collector.model;
+
+import com.navercorp.pinpoint.pinot.kafka.avro.AvroEncoders;
+import com.navercorp.pinpoint.pinot.kafka.avro.AvroWriter;
+import org.apache.avro.io.Encoder;
+
+import java.io.IOException;
+
+/**
+ * schema : otlpmetric/collector/avro/otlpmetric-double.avsc, otlpmetric/collector/avro/otlpmetric-long.avsc
+ */
+public abstract class PinotOtlpMetricAvroWriter<T extends PinotOtlpMetricDataRow> implements AvroWriter<T> {
+
+    @Override
+    public void write(T row, Encoder encoder) throws IOException {
+        AvroEncoders.writeNullableString(encoder, row.getServiceName());
+        AvroEncoders.writeNullableString(encoder, row.getApplicationName());
+        AvroEncoders.writeNullableString(encoder, row.getAgentId());
+        AvroEncoders.writeNullableString(encoder, row.getMetricGroupName());
+        AvroEncoders.writeNullableString(encoder, row.getMetricName());
+        AvroEncoders.writeNullableString(encoder, row.getFieldName());
+        encoder.writeInt(row.getFlag());
+        AvroEncoders.writeStringArray(encoder, row.getTags());
+        AvroEncoders.writeNullableString(encoder, row.getVersion());
+        writeValue(row, encoder);
+        AvroEncoders.writeNullableLong(encoder, row.getEventTime());
+        AvroEncoders.writeNullableLong(encoder, row.getStartTime());
+    }
+
+    protected abstract void writeValue(T row, Encoder encoder) throws IOException;
+
+    public static class DoubleWriter extends PinotOtlpMetricAvroWriter<PinotOtlpMetricDoubleData> {
+        @Override
+        protected void writeValue(PinotOtlpMetricDoubleData row, Encoder encoder) throws IOException {
+            encoder.writeDouble(row.getValue());
+        }
+    }
+
+    public static class LongWriter extends PinotOtlpMetricAvroWriter<PinotOtlpMetricLongData> {
+        @Override
+        protected void writeValue(PinotOtlpMetricLongData row, Encoder encoder) throws IOException {
+            encoder.writeLong(row.getValue());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.otlp.collector.service;
+
+/**
+ * Thrown when metrics cannot be accepted because Kafka does not keep up.
+ */
+public class OtlpMetricBackPressureException extends RuntimeException {
+
+    private final boolean sent;
+
+    public OtlpMetricBackPressureException(String message) {
+        this(message, false);
+    }
+
+    public OtlpMetricBackPressureException(String message, boolean sent) {
+        super(message);
+        this.sent = sent;
+    }
+
+    /**
+     * @return true if rows of the metric were sent before the rejection
+     */
+    public boolean isSent() {
+        return sent;
+    }
+}
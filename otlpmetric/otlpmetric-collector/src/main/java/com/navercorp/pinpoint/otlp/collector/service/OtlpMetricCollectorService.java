@@ -19,6 +19,12 @@ package com.navercorp.pinpoint.otlp.collector.service;
 import com.navercorp.pinpoint.otlp.collector.model.OtlpMetricData;
 import jakarta.validation.Valid;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface OtlpMetricCollectorService {
-    void save(@Valid OtlpMetricData otlpMetricData);
+    /**
+     * @return completes when Kafka has acknowledged every row of the metric
+     * @throws OtlpMetricBackPressureException if Kafka does not keep up
+     */
+    CompletableFuture<Void> save(@Valid OtlpMetricData otlpMetricData);
 }
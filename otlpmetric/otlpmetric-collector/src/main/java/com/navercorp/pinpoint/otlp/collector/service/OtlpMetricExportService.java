@@ -0,0 +1,234 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.otlp.collector.service;
+
+import com.navercorp.pinpoint.otlp.collector.config.OtlpMetricCollectorProperties;
+import com.navercorp.pinpoint.otlp.collector.mapper.OtlpMappingException;
+import com.navercorp.pinpoint.otlp.collector.mapper.OtlpMetricMapper;
+import com.navercorp.pinpoint.otlp.collector.model.OtlpMetricData;
+import com.navercorp.pinpoint.otlp.collector.model.OtlpResource;
+import io.opentelemetry.proto.collector.metrics.v1.ExportMetricsPartialSuccess;
+import io.opentelemetry.proto.collector.metrics.v1.ExportMetricsServiceResponse;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.metrics.v1.Metric;
+import io.opentelemetry.proto.metrics.v1.ScopeMetrics;
+import io.opentelemetry.proto.resource.v1.Resource;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Maps and saves the metrics of one OTLP export request, one {@link ScopeMetrics} at a time.
+ * Shared by the HTTP and gRPC transports.
+ */
+@Service
+public class OtlpMetricExportService {
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final OtlpMetricMapper otlpMetricMapper;
+    private final OtlpMetricCollectorService otlpMetricCollectorService;
+    private final OtlpMetricSendLimiter sendLimiter;
+    private final long retryAfterSeconds;
+
+    public OtlpMetricExportService(OtlpMetricMapper otlpMetricMapper, OtlpMetricCollectorService otlpMetricCollectorService,
+                                   OtlpMetricSendLimiter sendLimiter, OtlpMetricCollectorProperties properties) {
+        this.otlpMetricMapper = Objects.requireNonNull(otlpMetricMapper, "otlpMetricMapper");
+        this.otlpMetricCollectorService = Objects.requireNonNull(otlpMetricCollectorService, "otlpMetricCollectorService");
+        this.sendLimiter = Objects.requireNonNull(sendLimiter, "sendLimiter");
+        Objects.requireNonNull(properties, "properties");
+        this.retryAfterSeconds = properties.getKafkaRetryAfterSeconds();
+    }
+
+    public Export newExport() {
+        return new Export();
+    }
+
+    /**
+     * @return seconds an exporter should wait before retrying a request rejected as a whole
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    /**
+     * Not thread-safe, one instance per export request.
+     * <p>
+     * Rows are sent while the request is still being read.
+     * When Kafka does not keep up before the first row went out, the request is rejected as a whole,
+     * see {@link #isRejected()}, and the exporter may retry it.
+     * Once a row went out the request is never rejected as a whole: data points that could not be sent
+     * are reported as partial success, which exporters must not retry.
+     */
+    public class Export {
+        private final List<CompletableFuture<Long>> sends = new ArrayList<>();
+        private final AtomicReference<String> sendError = new AtomicReference<>();
+
+        // scope metrics of a resource are added in a row with the same Resource instance
+        private Resource lastResource;
+        private OtlpResource lastOtlpResource;
+
+        private long dataPointCount;
+        private long rejectedDataPointCount;
+        private String rejectError;
+        private boolean sent;
+
+        private Export() {
+        }
+
+        /**
+         * Once Kafka does not keep up, the remaining data points of the request are rejected without being sent.
+         */
+        public void add(Resource resource, ScopeMetrics scopeMetrics) {
+            Objects.requireNonNull(resource, "resource");
+            Objects.requireNonNull(scopeMetrics, "scopeMetrics");
+
+            if (resource != lastResource) {
+                lastResource = resource;
+                lastOtlpResource = toResource(resource);
+            }
+            final OtlpResource otlpResource = lastOtlpResource;
+            if (otlpResource == null) {
+                return;
+            }
+
+            for (Metric metric : scopeMetrics.getMetricsList()) {
+                OtlpMetricData metricData = otlpMetricMapper.map(metric, otlpResource);
+                if (metricData != null) {
+                    add(metricData);
+                }
+            }
+        }
+
+        private void add(OtlpMetricData metricData) {
+            final long dataPoints = metricData.getValues().size();
+            dataPointCount += dataPoints;
+            if (rejectError != null) {
+                rejectedDataPointCount += dataPoints;
+                return;
+            }
+            if (!sent && !sendLimiter.hasCapacity()) {
+                rejectError = "Kafka sends in flight exceeded, retry later";
+                rejectedDataPointCount += dataPoints;
+                return;
+            }
+
+            final CompletableFuture<Void> future;
+            try {
+                future = otlpMetricCollectorService.save(metricData);
+            } catch (OtlpMetricBackPressureException ex) {
+                // rows of this metric sent before the rejection are kept
+                rejectError = ex.getMessage();
+                rejectedDataPointCount += dataPoints;
+                sent |= ex.isSent();
+                return;
+            }
+            sent = true;
+            sends.add(future.handle((ignored, throwable) -> {
+                if (throwable == null) {
+                    return 0L;
+                }
+                sendError.compareAndSet(null, throwable.getMessage());
+                return dataPoints;
+            }));
+
+            if (logger.isDebugEnabled()) {
+                logger.debug("tenantId:{} serviceName:{} metricGroupName:{} metricName: {}",
+                        metricData.getTenantId(),
+                        metricData.getServiceName(),
+                        metricData.getMetricGroupName(),
+                        metricData.getMetricName());
+            }
+        }
+
+        /**
+         * @return true if a row may have been sent to Kafka
+         */
+        public boolean isSent() {
+            return sent;
+        }
+
+        /**
+         * @return true if Kafka did not keep up before the first row was sent, nothing of the request was written
+         * and the exporter may retry it
+         */
+        public boolean isRejected() {
+            return !sent && rejectError != null;
+        }
+
+        public String getRejectError() {
+            return rejectError;
+        }
+
+        public long getDataPointCount() {
+            return dataPointCount;
+        }
+
+        /**
+         * @return completes when Kafka has answered every row added so far, never exceptionally
+         */
+        public CompletableFuture<ExportMetricsServiceResponse> complete() {
+            return CompletableFuture.allOf(sends.toArray(new CompletableFuture[0]))
+                    .thenApply(ignored -> toResponse());
+        }
+
+        private ExportMetricsServiceResponse toResponse() {
+            long rejected = rejectedDataPointCount;
+            for (CompletableFuture<Long> send : sends) {
+                rejected += send.join();
+            }
+            if (rejected == 0) {
+                return ExportMetricsServiceResponse.getDefaultInstance();
+            }
+
+            final String errorMessage = rejectError != null ? rejectError : sendError.get();
+            logger.info("Rejected {} of {} OTLP data points: {}", rejected, dataPointCount, errorMessage);
+            final ExportMetricsPartialSuccess partialSuccess = ExportMetricsPartialSuccess.newBuilder()
+                    .setRejectedDataPoints(rejected)
+                    .setErrorMessage(String.valueOf(errorMessage))
+                    .build();
+            return ExportMetricsServiceResponse.newBuilder()
+                    .setPartialSuccess(partialSuccess)
+                    .build();
+        }
+
+        private OtlpResource toResource(Resource resource) {
+            try {
+                return otlpMetricMapper.mapResource(convertToMap(resource.getAttributesList()));
+            } catch (OtlpMappingException ex) {
+                logger.info("Failed saving OTLP metrics of resource: {}", ex.getMessage());
+                return null;
+            }
+        }
+    }
+
+    private static Map<String, String> convertToMap(List<KeyValue> tags) {
+        Map<String, String> tagMap = new HashMap<>();
+        for (KeyValue tag : tags) {
+            tagMap.put(tag.getKey(), tag.getValue().getStringValue());
+        }
+        return tagMap;
+    }
+}
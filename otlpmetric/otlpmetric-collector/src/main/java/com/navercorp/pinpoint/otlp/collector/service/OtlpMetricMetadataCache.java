@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.otlp.collector.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.navercorp.pinpoint.common.util.Assert;
+import com.navercorp.pinpoint.otlp.collector.model.PinotOtlpMetricMetadata;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers recently published metadata, so that unchanged metadata is published at most once per {@code ttl}.
+ * <p>
+ * Metadata is compared without {@code startTime} and {@code saveTime}, which differ for almost every data point.
+ */
+public class OtlpMetricMetadataCache {
+
+    private final Cache<MetadataKey, Boolean> cache;
+
+    private final LongAdder publishedCount = new LongAdder();
+    private final LongAdder suppressedCount = new LongAdder();
+
+    public OtlpMetricMetadataCache(long maximumSize, Duration ttl) {
+        this(maximumSize, ttl, Ticker.systemTicker());
+    }
+
+    OtlpMetricMetadataCache(long maximumSize, Duration ttl, Ticker ticker) {
+        Assert.isTrue(maximumSize > 0, "maximumSize must be '> 0'");
+        Objects.requireNonNull(ttl, "ttl");
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .ticker(Objects.requireNonNull(ticker, "ticker"))
+                .build();
+    }
+
+    /**
+     * @return true if the metadata has to be published
+     */
+    public boolean markPublished(PinotOtlpMetricMetadata metadata) {
+        Objects.requireNonNull(metadata, "metadata");
+
+        final Boolean prev = cache.asMap().putIfAbsent(MetadataKey.of(metadata), Boolean.TRUE);
+        if (prev == null) {
+            publishedCount.increment();
+            return true;
+        }
+        suppressedCount.increment();
+        return false;
+    }
+
+    /**
+     * Forgets metadata that was marked but could not be published, so that it is published again with the next data point.
+     */
+    public void unmark(PinotOtlpMetricMetadata metadata) {
+        Objects.requireNonNull(metadata, "metadata");
+
+        cache.invalidate(MetadataKey.of(metadata));
+    }
+
+    public long getPublishedCount() {
+        return publishedCount.sum();
+    }
+
+    public long getSuppressedCount() {
+        return suppressedCount.sum();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * @return counters of the cache, for monitoring
+     */
+    public OtlpMetricMetadataCacheStats snapshot() {
+        return new OtlpMetricMetadataCacheStats(getPublishedCount(), getSuppressedCount(), size());
+    }
+
+    private record MetadataKey(String serviceName, String applicationName, String agentId,
+                               String metricGroupName, String metricName, String fieldName,
+                               String unit, String description, int metricType, int dataType,
+                               int aggreFunc, int aggreTemporality, String rawTags, String version) {
+
+        static MetadataKey of(PinotOtlpMetricMetadata metadata) {
+            return new MetadataKey(metadata.serviceName(), metadata.applicationName(), metadata.agentId(),
+                    metadata.metricGroupName(), metadata.metricName(), metadata.fieldName(),
+                    metadata.unit(), metadata.description(), metadata.metricType(), metadata.dataType(),
+                    metadata.aggreFunc(), metadata.aggreTemporality(), metadata.rawTags(), metadata.version());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.otlp.collector.service;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * @param published  metadata sent to Kafka
+ * @param suppressed unchanged metadata that was not sent again
+ * @param size       metadata currently remembered
+ */
+public record OtlpMetricMetadataCacheStats(long published, long suppressed, long size) {
+
+    /**
+     * @return share of the metadata that was not sent
+     */
+    @JsonProperty("suppressionRatio")
+    public double suppressionRatio() {
+        final long total = published + suppressed;
+        if (total == 0) {
+            return 0;
+        }
+        return (double) suppressed / total;
+    }
+}
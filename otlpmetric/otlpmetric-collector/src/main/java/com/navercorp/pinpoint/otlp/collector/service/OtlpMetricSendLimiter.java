@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.otlp.collector.service;
+
+import com.navercorp.pinpoint.common.util.Assert;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Bounds the number of Kafka sends that have not been acknowledged yet.
+ * <p>
+ * When Kafka falls behind, senders wait up to {@code acquireTimeoutMillis} for a permit and then fail with
+ * {@link OtlpMetricBackPressureException} instead of piling up records in the collector.
+ * A request finding no permit before its first send is rejected as a whole with a retryable error,
+ * data points rejected after the first send are reported to the exporter as partial success.
+ */
+public class OtlpMetricSendLimiter {
+
+    private final int maxInFlight;
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+
+    public OtlpMetricSendLimiter(int maxInFlight, long acquireTimeoutMillis) {
+        Assert.isTrue(maxInFlight > 0, "maxInFlight must be '> 0'");
+        Assert.isTrue(acquireTimeoutMillis >= 0, "acquireTimeoutMillis must be '>= 0'");
+        this.maxInFlight = maxInFlight;
+        this.permits = new Semaphore(maxInFlight);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    public CompletableFuture<?> send(Supplier<CompletableFuture<?>> sender) {
+        Objects.requireNonNull(sender, "sender");
+
+        acquire();
+        final CompletableFuture<?> future;
+        try {
+            future = sender.get();
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        return future.whenComplete((result, throwable) -> permits.release());
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new OtlpMetricBackPressureException("Kafka sends in flight exceeded " + maxInFlight);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OtlpMetricBackPressureException("Interrupted while waiting for Kafka sends in flight");
+        }
+    }
+
+    /**
+     * @return false if a send would have to wait for a permit
+     */
+    public boolean hasCapacity() {
+        return permits.availablePermits() > 0;
+    }
+
+    public int getInFlight() {
+        return maxInFlight - permits.availablePermits();
+    }
+}
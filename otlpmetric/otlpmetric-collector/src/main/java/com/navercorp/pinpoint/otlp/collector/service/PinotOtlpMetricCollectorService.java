@@ -25,10 +25,12 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class PinotOtlpMetricCollectorService implements OtlpMetricCollectorService {
@@ -38,12 +40,18 @@ public class PinotOtlpMetricCollectorService implements OtlpMetricCollectorServi
 
     @NotNull
     private final OtlpMetricDao otlpMetricDao;
+    private final OtlpMetricMetadataCache metadataCache;
+    private final OtlpMetricSendLimiter sendLimiter;
 
-    public PinotOtlpMetricCollectorService(@Valid OtlpMetricDao otlpMetricDao) {
+    public PinotOtlpMetricCollectorService(@Valid OtlpMetricDao otlpMetricDao,
+                                           OtlpMetricMetadataCache metadataCache,
+                                           OtlpMetricSendLimiter sendLimiter) {
         this.otlpMetricDao = Objects.requireNonNull(otlpMetricDao, "otlpMetricDao");
+        this.metadataCache = Objects.requireNonNull(metadataCache, "metadataCache");
+        this.sendLimiter = Objects.requireNonNull(sendLimiter, "sendLimiter");
     }
     @Override
-    public void save(OtlpMetricData otlpMetricData) {
+    public CompletableFuture<Void> save(OtlpMetricData otlpMetricData) {
         if (logger.isDebugEnabled()) {
             logger.debug("save {}", otlpMetricData);
         }
@@ -60,38 +68,85 @@ public class PinotOtlpMetricCollectorService implements OtlpMetricCollectorServi
         String version = "";
 
         Long saveTime = System.currentTimeMillis();
+        OtlpResource resource = otlpMetricData.getResource();
+
+        // data points of a histogram or summary share the same tags
+        Map<String, String> lastTags = null;
+        List<String> tagList = null;
+        String rawTags = null;
+
+        List<OtlpMetricDataPoint> values = otlpMetricData.getValues();
+        List<CompletableFuture<?>> futures = new ArrayList<>(values.size());
+        try {
+            for(OtlpMetricDataPoint dataPoint : values) {
+                DataType dataType = dataPoint.getDataType();
+
+                Map<String, String> tags = dataPoint.getTags();
+                if (!tags.equals(lastTags)) {
+                    lastTags = tags;
+                    tagList = toTagList(tags, resource);
+                    rawTags = String.join(",", tagList);
+                }
+
+                PinotOtlpMetricMetadata metadata = new PinotOtlpMetricMetadata(DEFAULT_SERVICE_NAME, applicationName, agentId,
+                        metricGroupName, metricName, dataPoint.getFieldName(), unit, dataPoint.getDescription(), metricType,
+                        dataType.getNumber(), dataPoint.getAggreFunc(), aggreTemporality, rawTags, dataPoint.getStartTime(), saveTime, version);
+                if (metadataCache.markPublished(metadata)) {
+                    futures.add(sendMetadata(metadata));
+                }
+
+                String sortKey = SortKeyUtils.generateKey(applicationName, metricGroupName, metricName);
+                if (dataType == DataType.LONG) {
+                    long longValue = dataPoint.getValue().longValue();
+                    PinotOtlpMetricLongData row = new PinotOtlpMetricLongData(DEFAULT_SERVICE_NAME, sortKey, applicationName, agentId, metricGroupName, metricName, dataPoint.getFieldName(),
+                            dataPoint.getFlag(), tagList, version, longValue, dataPoint.getEventTime(), dataPoint.getStartTime());
+                    futures.add(sendLimiter.send(() -> otlpMetricDao.insertLong(row)));
+
+                } else {
+                    double doubleValue = dataPoint.getValue().doubleValue();
+                    PinotOtlpMetricDoubleData row = new PinotOtlpMetricDoubleData(DEFAULT_SERVICE_NAME, sortKey, applicationName, agentId, metricGroupName, metricName, dataPoint.getFieldName(),
+                            dataPoint.getFlag(), tagList, version, doubleValue, dataPoint.getEventTime(), dataPoint.getStartTime());
+                    futures.add(sendLimiter.send(() -> otlpMetricDao.insertDouble(row)));
+                }
+            }
+        } catch (OtlpMetricBackPressureException e) {
+            if (futures.isEmpty()) {
+                throw e;
+            }
+            // the rows sent before the rejection are kept
+            throw new OtlpMetricBackPressureException(e.getMessage(), true);
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+    private CompletableFuture<?> sendMetadata(PinotOtlpMetricMetadata metadata) {
+        final CompletableFuture<?> future;
+        try {
+            future = sendLimiter.send(() -> otlpMetricDao.updateMetadata(metadata));
+        } catch (RuntimeException e) {
+            metadataCache.unmark(metadata);
+            throw e;
+        }
+        return future.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                metadataCache.unmark(metadata);
+            }
+        });
+    }
 
-        for(OtlpMetricDataPoint dataPoint : otlpMetricData.getValues()) {
-            DataType dataType = dataPoint.getDataType();
-
-            Map<String, String> tags = dataPoint.getTags();
-
-            List<String> tagList = tags.entrySet().stream().filter((e) -> {
-                String key = e.getKey().toLowerCase();
-                return (!key.equals(OtlpResourceAttributes.KEY_SERVICE_NAME) && !key.equals(OtlpResourceAttributes.KEY_SERVICE_NAMESPACE) && !key.equals(OtlpResourceAttributes.KEY_PINPOINT_AGENTID));
-            }).map((e) -> {
-                return e.getKey() + ":" + e.getValue();
-            }).collect(Collectors.toList());
-
-            String rawTags = String.join(",", tagList);
-            PinotOtlpMetricMetadata metadata = new PinotOtlpMetricMetadata(DEFAULT_SERVICE_NAME, applicationName, agentId,
-                    metricGroupName, metricName, dataPoint.getFieldName(), unit, dataPoint.getDescription(), metricType,
-                    dataType.getNumber(), dataPoint.getAggreFunc(), aggreTemporality, rawTags, dataPoint.getStartTime(), saveTime, version);
-            otlpMetricDao.updateMetadata(metadata);
-
-            String sortKey = SortKeyUtils.generateKey(applicationName, metricGroupName, metricName);
-            if (dataType == DataType.LONG) {
-                long longValue = dataPoint.getValue().longValue();
-                PinotOtlpMetricLongData row = new PinotOtlpMetricLongData(DEFAULT_SERVICE_NAME, sortKey, applicationName, agentId, metricGroupName, metricName, dataPoint.getFieldName(),
-                        dataPoint.getFlag(), tagList, version, longValue, dataPoint.getEventTime(), dataPoint.getStartTime());
-                otlpMetricDao.insertLong(row);
-
-            } else {
-                double doubleValue = dataPoint.getValue().doubleValue();
-                PinotOtlpMetricDoubleData row = new PinotOtlpMetricDoubleData(DEFAULT_SERVICE_NAME, sortKey, applicationName, agentId, metricGroupName, metricName, dataPoint.getFieldName(),
-                        dataPoint.getFlag(), tagList, version, doubleValue, dataPoint.getEventTime(), dataPoint.getStartTime());
-                otlpMetricDao.insertDouble(row);
+    private List<String> toTagList(Map<String, String> tags, OtlpResource resource) {
+        // one merged map, so that the stored tag order does not change.
+        // resource attributes take precedence over data point attributes with the same key
+        Map<String, String> mergedTags = new HashMap<>();
+        mergedTags.putAll(tags);
+        mergedTags.putAll(resource.getTags());
+
+        List<String> tagList = new ArrayList<>(mergedTags.size());
+        for (Map.Entry<String, String> entry : mergedTags.entrySet()) {
+            if (OtlpResource.isTag(entry.getKey())) {
+                tagList.add(entry.getKey() + ":" + entry.getValue());
             }
         }
+        return tagList;
     }
 }
@@ -0,0 +1,112 @@
+package com.navercorp.pinpoint.otlp.collector.controller;
+
+import com.google.protobuf.CodedOutputStream;
+import io.opentelemetry.proto.collector.metrics.v1.ExportMetricsServiceRequest;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.metrics.v1.Metric;
+import io.opentelemetry.proto.metrics.v1.ResourceMetrics;
+import io.opentelemetry.proto.metrics.v1.ScopeMetrics;
+import io.opentelemetry.proto.resource.v1.Resource;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExportMetricsRequestReaderTest {
+
+    @Test
+    void read() throws IOException {
+        Resource resource1 = resource("service1");
+        Resource resource2 = resource("service2");
+        ExportMetricsServiceRequest request = ExportMetricsServiceRequest.newBuilder()
+                .addResourceMetrics(ResourceMetrics.newBuilder()
+                        .setResource(resource1)
+                        .addScopeMetrics(scopeMetrics("cpu"))
+                        .addScopeMetrics(scopeMetrics("memory")))
+                .addResourceMetrics(ResourceMetrics.newBuilder()
+                        .setResource(resource2)
+                        .addScopeMetrics(scopeMetrics("disk"))
+                        .setSchemaUrl("https://opentelemetry.io/schemas/1.21.0"))
+                .build();
+
+        List<Object[]> result = read(request.toByteArray());
+
+        assertThat(result).hasSize(3);
+        assertEntry(result.get(0), resource1, "cpu");
+        assertEntry(result.get(1), resource1, "memory");
+        assertEntry(result.get(2), resource2, "disk");
+    }
+
+    @Test
+    void read_scopeMetricsBeforeResource() throws IOException {
+        Resource resource = resource("service1");
+
+        ByteArrayOutputStream resourceMetrics = new ByteArrayOutputStream();
+        CodedOutputStream resourceMetricsOutput = CodedOutputStream.newInstance(resourceMetrics);
+        resourceMetricsOutput.writeMessage(ResourceMetrics.SCOPE_METRICS_FIELD_NUMBER, scopeMetrics("cpu"));
+        resourceMetricsOutput.writeMessage(ResourceMetrics.RESOURCE_FIELD_NUMBER, resource);
+        resourceMetricsOutput.writeMessage(ResourceMetrics.SCOPE_METRICS_FIELD_NUMBER, scopeMetrics("memory"));
+        resourceMetricsOutput.flush();
+
+        ByteArrayOutputStream request = new ByteArrayOutputStream();
+        CodedOutputStream requestOutput = CodedOutputStream.newInstance(request);
+        requestOutput.writeByteArray(ExportMetricsServiceRequest.RESOURCE_METRICS_FIELD_NUMBER, resourceMetrics.toByteArray());
+        requestOutput.flush();
+
+        List<Object[]> result = read(request.toByteArray());
+
+        assertThat(result).hasSize(2);
+        assertEntry(result.get(0), resource, "cpu");
+        assertEntry(result.get(1), resource, "memory");
+    }
+
+    @Test
+    void read_withoutResource() throws IOException {
+        ExportMetricsServiceRequest request = ExportMetricsServiceRequest.newBuilder()
+                .addResourceMetrics(ResourceMetrics.newBuilder()
+                        .addScopeMetrics(scopeMetrics("cpu")))
+                .build();
+
+        List<Object[]> result = read(request.toByteArray());
+
+        assertThat(result).hasSize(1);
+        assertEntry(result.get(0), Resource.getDefaultInstance(), "cpu");
+    }
+
+    @Test
+    void read_empty() throws IOException {
+        assertThat(read(new byte[0])).isEmpty();
+    }
+
+    private List<Object[]> read(byte[] bytes) throws IOException {
+        List<Object[]> result = new ArrayList<>();
+        ExportMetricsRequestReader.read(new ByteArrayInputStream(bytes),
+                (resource, scopeMetrics) -> result.add(new Object[]{resource, scopeMetrics}));
+        return result;
+    }
+
+    private void assertEntry(Object[] entry, Resource resource, String metricName) {
+        assertThat(entry[0]).isEqualTo(resource);
+        assertThat(entry[1]).isEqualTo(scopeMetrics(metricName));
+    }
+
+    private Resource resource(String serviceName) {
+        return Resource.newBuilder()
+                .addAttributes(KeyValue.newBuilder()
+                        .setKey("service.name")
+                        .setValue(AnyValue.newBuilder().setStringValue(serviceName)))
+                .build();
+    }
+
+    private ScopeMetrics scopeMetrics(String metricName) {
+        return ScopeMetrics.newBuilder()
+                .addMetrics(Metric.newBuilder().setName(metricName))
+                .build();
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.otlp.collector.service;
+
+import com.navercorp.pinpoint.otlp.collector.config.OtlpMetricCollectorProperties;
+import com.navercorp.pinpoint.otlp.collector.mapper.OtlpMetricMapper;
+import com.navercorp.pinpoint.otlp.collector.model.OtlpMetricData;
+import com.navercorp.pinpoint.otlp.collector.model.OtlpMetricDataPoint;
+import com.navercorp.pinpoint.otlp.collector.model.OtlpResource;
+import io.opentelemetry.proto.collector.metrics.v1.ExportMetricsServiceResponse;
+import io.opentelemetry.proto.metrics.v1.Metric;
+import io.opentelemetry.proto.metrics.v1.ScopeMetrics;
+import io.opentelemetry.proto.resource.v1.Resource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OtlpMetricExportServiceTest {
+
+    private final OtlpMetricMapper mapper = mock(OtlpMetricMapper.class);
+    private final OtlpMetricCollectorService collectorService = mock(OtlpMetricCollectorService.class);
+    private final OtlpMetricSendLimiter sendLimiter = new OtlpMetricSendLimiter(1, 0);
+    private final OtlpMetricExportService exportService = new OtlpMetricExportService(mapper, collectorService,
+            sendLimiter, mock(OtlpMetricCollectorProperties.class));
+
+    @BeforeEach
+    void setUp() {
+        OtlpResource resource = new OtlpResource("service", "agent", "", Map.of());
+        when(mapper.mapResource(anyMap())).thenReturn(resource);
+        // every metric has 2 data points
+        OtlpMetricData metricData = mock(OtlpMetricData.class);
+        when(metricData.getValues()).thenReturn(Collections.nCopies(2, mock(OtlpMetricDataPoint.class)));
+        when(mapper.map(any(Metric.class), any(OtlpResource.class))).thenReturn(metricData);
+    }
+
+    @Test
+    void complete_allSent() {
+        when(collectorService.save(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        OtlpMetricExportService.Export export = exportService.newExport();
+        export.add(Resource.getDefaultInstance(), scopeMetrics(3));
+
+        ExportMetricsServiceResponse response = export.complete().join();
+        assertThat(response.hasPartialSuccess()).isFalse();
+        assertThat(export.getDataPointCount()).isEqualTo(6);
+    }
+
+    @Test
+    void complete_rejected() {
+        when(collectorService.save(any()))
+                .thenReturn(CompletableFuture.completedFuture(null))
+                .thenThrow(new OtlpMetricBackPressureException("full"));
+
+        OtlpMetricExportService.Export export = exportService.newExport();
+        export.add(Resource.getDefaultInstance(), scopeMetrics(3));
+
+        // the remaining metric is not sent after the rejection
+        verify(collectorService, times(2)).save(any());
+        assertThat(export.isSent()).isTrue();
+
+        ExportMetricsServiceResponse response = export.complete().join();
+        assertThat(response.getPartialSuccess().getRejectedDataPoints()).isEqualTo(4);
+        assertThat(response.getPartialSuccess().getErrorMessage()).isEqualTo("full");
+        assertThat(export.isRejected()).isFalse();
+    }
+
+    @Test
+    void rejectedBeforeFirstSend() {
+        when(collectorService.save(any())).thenThrow(new OtlpMetricBackPressureException("full"));
+
+        OtlpMetricExportService.Export export = exportService.newExport();
+        export.add(Resource.getDefaultInstance(), scopeMetrics(3));
+
+        verify(collectorService, times(1)).save(any());
+        assertThat(export.isSent()).isFalse();
+        assertThat(export.isRejected()).isTrue();
+        assertThat(export.getRejectError()).isEqualTo("full");
+    }
+
+    @Test
+    void rejectedWithoutCapacity() {
+        CompletableFuture<Object> inFlight = new CompletableFuture<>();
+        sendLimiter.send(() -> inFlight);
+
+        OtlpMetricExportService.Export export = exportService.newExport();
+        export.add(Resource.getDefaultInstance(), scopeMetrics(3));
+
+        verify(collectorService, never()).save(any());
+        assertThat(export.isRejected()).isTrue();
+        inFlight.complete(null);
+    }
+
+    @Test
+    void partiallySentMetricIsNotRejected() {
+        when(collectorService.save(any())).thenThrow(new OtlpMetricBackPressureException("full", true));
+
+        OtlpMetricExportService.Export export = exportService.newExport();
+        export.add(Resource.getDefaultInstance(), scopeMetrics(2));
+
+        assertThat(export.isSent()).isTrue();
+        assertThat(export.isRejected()).isFalse();
+        assertThat(export.complete().join().getPartialSuccess().getRejectedDataPoints()).isEqualTo(4);
+    }
+
+    @Test
+    void complete_sendFailed() {
+        when(collectorService.save(any()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("kafka down")))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        OtlpMetricExportService.Export export = exportService.newExport();
+        export.add(Resource.getDefaultInstance(), scopeMetrics(2));
+
+        ExportMetricsServiceResponse response = export.complete().join();
+        assertThat(response.getPartialSuccess().getRejectedDataPoints()).isEqualTo(2);
+        assertThat(response.getPartialSuccess().getErrorMessage()).isEqualTo("kafka down");
+    }
+
+    @Test
+    void isSent_empty() {
+        OtlpMetricExportService.Export export = exportService.newExport();
+
+        assertThat(export.isSent()).isFalse();
+        assertThat(export.complete().join().hasPartialSuccess()).isFalse();
+    }
+
+    private ScopeMetrics scopeMetrics(int metricCount) {
+        ScopeMetrics.Builder builder = ScopeMetrics.newBuilder();
+        for (int i = 0; i < metricCount; i++) {
+            builder.addMetrics(Metric.newBuilder().setName("metric" + i));
+        }
+        return builder.build();
+    }
+}
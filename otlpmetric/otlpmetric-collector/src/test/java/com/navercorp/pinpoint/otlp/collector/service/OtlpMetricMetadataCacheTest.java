@@ -0,0 +1,55 @@
+package com.navercorp.pinpoint.otlp.collector.service;
+
+import com.navercorp.pinpoint.otlp.collector.model.PinotOtlpMetricMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class OtlpMetricMetadataCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final OtlpMetricMetadataCache cache = new OtlpMetricMetadataCache(100, Duration.ofMinutes(10), nanos::get);
+
+    @Test
+    void suppressUnchangedMetadata() {
+        assertThat(cache.markPublished(metadata("heap", 1000, 1))).isTrue();
+        // startTime and saveTime are ignored
+        assertThat(cache.markPublished(metadata("heap", 2000, 2))).isFalse();
+        assertThat(cache.markPublished(metadata("nonHeap", 2000, 2))).isTrue();
+
+        assertThat(cache.getPublishedCount()).isEqualTo(2);
+        assertThat(cache.getSuppressedCount()).isEqualTo(1);
+
+        OtlpMetricMetadataCacheStats stats = cache.snapshot();
+        assertThat(stats.published()).isEqualTo(2);
+        assertThat(stats.suppressed()).isEqualTo(1);
+        assertThat(stats.suppressionRatio()).isCloseTo(1.0 / 3, within(0.0001));
+    }
+
+    @Test
+    void publishAgainAfterTtl() {
+        assertThat(cache.markPublished(metadata("heap", 1000, 1))).isTrue();
+
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(11));
+        assertThat(cache.markPublished(metadata("heap", 1000, 2))).isTrue();
+        assertThat(cache.getPublishedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void publishAgainAfterUnmark() {
+        assertThat(cache.markPublished(metadata("heap", 1000, 1))).isTrue();
+
+        cache.unmark(metadata("heap", 1000, 1));
+        assertThat(cache.markPublished(metadata("heap", 2000, 2))).isTrue();
+    }
+
+    private PinotOtlpMetricMetadata metadata(String fieldName, long startTime, long saveTime) {
+        return new PinotOtlpMetricMetadata("", "app", "agent", "jvm", "memory", fieldName, "By", "",
+                0, 1, 0, 0, "host:a", startTime, saveTime, "");
+    }
+}
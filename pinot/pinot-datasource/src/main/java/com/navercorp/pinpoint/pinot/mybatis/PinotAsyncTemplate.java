@@ -31,8 +31,13 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 public class PinotAsyncTemplate {
@@ -48,12 +53,29 @@ public class PinotAsyncTemplate {
 
     private static final String LIMIT_STATEMENT = "LIMIT";
 
+    /**
+     * Applied to statements without a LIMIT clause or fetchSize. Pinot itself returns only 10 rows without a LIMIT.
+     */
+    public static final int DEFAULT_LIMIT = 1_000_000;
+
+    private final int defaultLimit;
+
+    private final ConcurrentMap<String, StatementStats> statementStatsMap = new ConcurrentHashMap<>();
+
 
     public PinotAsyncTemplate(SqlSessionFactory sqlSessionFactory) {
+        this(sqlSessionFactory, DEFAULT_LIMIT);
+    }
+
+    public PinotAsyncTemplate(SqlSessionFactory sqlSessionFactory, int defaultLimit) {
         this.sqlSessionFactory = Objects.requireNonNull(sqlSessionFactory, "sqlSessionFactory");
         this.configuration = sqlSessionFactory.getConfiguration();
         this.dataSource = (PinotDataSource) configuration.getEnvironment().getDataSource();
         this.exceptionTranslator = new MyBatisExceptionTranslator(dataSource, true);
+        if (defaultLimit <= 0) {
+            throw new IllegalArgumentException("defaultLimit must be '> 0'");
+        }
+        this.defaultLimit = defaultLimit;
     }
 
     public <E> CompletableFuture<List<E>> selectList(String statement) {
@@ -84,8 +106,10 @@ public class PinotAsyncTemplate {
 
             Executor executor = configuration.newExecutor(transactionFactory.newTransaction(connection));
             StatementHandler handler = new StatementHandler(configuration, executor, mappedStatement, parameterHandler, rowBounds, boundSql);
-            return executeAsync(connection, pinotStatement, handler);
+            CompletableFuture<List<E>> result = executeAsync(connection, pinotStatement, handler);
+            return record(statement, result);
         } catch (Throwable th) {
+            getStatementStats(statement).recordError();
             RuntimeException exception = translateException(th);
             return CompletableFuture.failedFuture(exception);
         } finally {
@@ -94,6 +118,32 @@ public class PinotAsyncTemplate {
     }
 
 
+    private <E> CompletableFuture<List<E>> record(String statement, CompletableFuture<List<E>> result) {
+        final StatementStats stats = getStatementStats(statement);
+        final long startTime = System.nanoTime();
+        return result.whenComplete((list, throwable) -> {
+            if (throwable != null) {
+                stats.recordError();
+                return;
+            }
+            stats.record(System.nanoTime() - startTime);
+            if (list != null && list.size() >= defaultLimit) {
+                logger.warn("{} returned {} rows, the result may be truncated", statement, list.size());
+            }
+        });
+    }
+
+    private StatementStats getStatementStats(String statement) {
+        return statementStatsMap.computeIfAbsent(statement, k -> new StatementStats());
+    }
+
+    /**
+     * @return latency and error counts per statement id
+     */
+    public Map<String, StatementStats> getStatementStats() {
+        return Map.copyOf(statementStatsMap);
+    }
+
     private PreparedStatement preparedStatement(Connection session, MappedStatement mappedStatement, BoundSql boundSql) {
         String sql = boundSql.getSql();
         int fetchSize = getFetchSize(mappedStatement.getFetchSize());
@@ -114,7 +164,7 @@ public class PinotAsyncTemplate {
 
     private int getFetchSize(Integer fetchSize) {
         if (fetchSize == null) {
-            return Integer.MAX_VALUE;
+            return defaultLimit;
         }
         return fetchSize;
     }
@@ -190,6 +240,49 @@ public class PinotAsyncTemplate {
         }
     }
 
+    public static class StatementStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errorCount = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+        void record(long elapsedNanos) {
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+        }
+
+        void recordError() {
+            errorCount.increment();
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getErrorCount() {
+            return errorCount.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+
+        @Override
+        public String toString() {
+            return "StatementStats{" +
+                    "count=" + getCount() +
+                    ", errorCount=" + getErrorCount() +
+                    ", totalNanos=" + getTotalNanos() +
+                    ", maxNanos=" + getMaxNanos() +
+                    '}';
+        }
+    }
+
     private void bindParameter(PreparedStatement preparedStatement, ParameterHandler parameterHandler) throws SQLException {
         try (java.sql.PreparedStatement recorder = new ParameterRecorder(preparedStatement)) {
             parameterHandler.setParameters(recorder);
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.pinot.mybatis;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Splits a {@link RangeQuery} into sub-ranges aligned to a fixed chunk size.
+ * Chunks that ended before {@code now - settleTime} no longer change, so their rows are cached and shared by
+ * every query with the same key regardless of where its range starts.
+ * The remaining recent part of the range is always queried in one statement.
+ */
+public class PinotRangeQueryTemplate {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final PinotAsyncTemplate template;
+    private final long chunkMillis;
+    private final int maxChunkCount;
+    private final long settleMillis;
+    private final Clock clock;
+
+    private final AsyncCache<ChunkKey, List<Object>> cache;
+
+    private final LongAdder chunkCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder liveCount = new LongAdder();
+
+    /**
+     * @param chunkSize     smallest cached sub-range, doubled until a query needs at most {@code maxChunkCount} chunks
+     * @param settleTime    delay after which a bucket is considered complete
+     * @param maxCachedRows total number of cached rows before eviction
+     */
+    public PinotRangeQueryTemplate(PinotAsyncTemplate template, Duration chunkSize, int maxChunkCount, Duration settleTime, long maxCachedRows) {
+        this(template, chunkSize, maxChunkCount, settleTime, maxCachedRows, Clock.systemUTC());
+    }
+
+    PinotRangeQueryTemplate(PinotAsyncTemplate template, Duration chunkSize, int maxChunkCount, Duration settleTime, long maxCachedRows, Clock clock) {
+        this.template = Objects.requireNonNull(template, "template");
+        this.chunkMillis = Objects.requireNonNull(chunkSize, "chunkSize").toMillis();
+        if (chunkMillis <= 0) {
+            throw new IllegalArgumentException("chunkSize must be '> 0'");
+        }
+        if (maxChunkCount <= 0) {
+            throw new IllegalArgumentException("maxChunkCount must be '> 0'");
+        }
+        this.maxChunkCount = maxChunkCount;
+        this.settleMillis = Objects.requireNonNull(settleTime, "settleTime").toMillis();
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxCachedRows)
+                .weigher((ChunkKey key, List<Object> rows) -> rows.size() + 1)
+                .buildAsync();
+    }
+
+    public <E> CompletableFuture<List<E>> selectList(String statement, RangeQuery<E> query) {
+        Objects.requireNonNull(statement, "statement");
+        Objects.requireNonNull(query, "query");
+
+        final long bucket = query.getBucketMillis();
+        if (bucket <= 0) {
+            throw new IllegalArgumentException("bucketMillis must be '> 0'");
+        }
+        final long from = Math.floorDiv(query.getFrom(), bucket) * bucket;
+        final long to = query.getTo();
+        if (to < from) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        final long chunk = chunkSize(bucket, to - from + 1);
+        final long settledTime = clock.millis() - settleMillis;
+
+        final List<CompletableFuture<List<E>>> parts = new ArrayList<>();
+        long chunkStart = Math.floorDiv(from, chunk) * chunk;
+        while (chunkStart <= to) {
+            final long chunkEnd = chunkStart + chunk;
+            if (chunkEnd > settledTime) {
+                liveCount.increment();
+                parts.add(template.selectList(statement, query.toParameter(Math.max(chunkStart, from), to)));
+                break;
+            }
+            parts.add(selectChunk(statement, query, new ChunkKey(statement, query.getKey(), chunkStart, chunk)));
+            chunkStart = chunkEnd;
+        }
+
+        return CompletableFuture.allOf(parts.toArray(new CompletableFuture[0]))
+                .thenApply(ignore -> merge(query, parts, from, to));
+    }
+
+    private long chunkSize(long bucket, long rangeMillis) {
+        long chunk = Math.max(chunkMillis, bucket);
+        while (rangeMillis / chunk >= maxChunkCount) {
+            chunk *= 2;
+        }
+        // sub-ranges must not split a bucket
+        final long remainder = chunk % bucket;
+        if (remainder != 0) {
+            chunk += bucket - remainder;
+        }
+        return chunk;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E> CompletableFuture<List<E>> selectChunk(String statement, RangeQuery<E> query, ChunkKey key) {
+        chunkCount.increment();
+        final CompletableFuture<List<Object>> future = cache.get(key, (chunkKey, executor) -> {
+            missCount.increment();
+            final Object parameter = query.toParameter(chunkKey.from(), chunkKey.from() + chunkKey.size() - 1);
+            return template.<Object>selectList(statement, parameter)
+                    .thenApply(List::copyOf);
+        });
+        return (CompletableFuture<List<E>>) (CompletableFuture<?>) future;
+    }
+
+    private <E> List<E> merge(RangeQuery<E> query, List<CompletableFuture<List<E>>> parts, long from, long to) {
+        if (parts.size() == 1) {
+            final List<E> rows = parts.get(0).join();
+            if (isInRange(query, rows, from, to)) {
+                return rows;
+            }
+        }
+        final List<E> result = new ArrayList<>();
+        for (CompletableFuture<List<E>> part : parts) {
+            for (E row : part.join()) {
+                final long timestamp = query.getTimestamp(row);
+                if (timestamp >= from && timestamp <= to) {
+                    result.add(row);
+                }
+            }
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("merged {} parts rows:{}", parts.size(), result.size());
+        }
+        return result;
+    }
+
+    private <E> boolean isInRange(RangeQuery<E> query, List<E> rows, long from, long to) {
+        for (E row : rows) {
+            final long timestamp = query.getTimestamp(row);
+            if (timestamp < from || timestamp > to) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long getHitCount() {
+        return chunkCount.sum() - missCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getLiveCount() {
+        return liveCount.sum();
+    }
+
+    public long getCachedChunkCount() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    public RangeQueryCacheStats getStats() {
+        return new RangeQueryCacheStats(getHitCount(), getMissCount(), getLiveCount(), getCachedChunkCount());
+    }
+
+    private record ChunkKey(String statement, Object key, long from, long size) {
+    }
+}
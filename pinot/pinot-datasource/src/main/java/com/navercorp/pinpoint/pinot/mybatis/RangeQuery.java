@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.pinot.mybatis;
+
+/**
+ * A time series query that {@link PinotRangeQueryTemplate} may split into aligned sub-ranges.
+ * The statement must return rows ordered by their bucket timestamp and filter the time column with an inclusive range.
+ *
+ * @param <E> row type
+ */
+public interface RangeQuery<E> {
+
+    long getFrom();
+
+    /**
+     * @return inclusive end of the range
+     */
+    long getTo();
+
+    /**
+     * @return bucket size of the time column returned by the statement
+     */
+    long getBucketMillis();
+
+    /**
+     * @return every parameter of the query except its range, used as part of the cache key
+     */
+    Object getKey();
+
+    /**
+     * @return statement parameter for the given inclusive sub-range
+     */
+    Object toParameter(long from, long to);
+
+    long getTimestamp(E row);
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.pinot.mybatis;
+
+/**
+ * Snapshot of the chunk cache of a {@link PinotRangeQueryTemplate}.
+ *
+ * @param hitCount         chunks served from the cache
+ * @param missCount        chunks queried and cached
+ * @param liveCount        recent sub-ranges queried without the cache
+ * @param cachedChunkCount chunks currently cached
+ */
+public record RangeQueryCacheStats(long hitCount, long missCount, long liveCount, long cachedChunkCount) {
+}
@@ -0,0 +1,123 @@
+package com.navercorp.pinpoint.pinot.mybatis;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PinotRangeQueryTemplateTest {
+
+    private static final String STATEMENT = "selectSeries";
+    private static final long MINUTE = Duration.ofMinutes(1).toMillis();
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+
+    private final long now = 10 * HOUR + 30 * MINUTE;
+
+    private PinotAsyncTemplate asyncTemplate;
+    private PinotRangeQueryTemplate template;
+
+    @BeforeEach
+    void setUp() {
+        asyncTemplate = mock(PinotAsyncTemplate.class);
+        when(asyncTemplate.selectList(eq(STATEMENT), any()))
+                .thenAnswer(invocation -> {
+                    long[] range = invocation.getArgument(1);
+                    return CompletableFuture.completedFuture(buckets(range[0], range[1]));
+                });
+
+        Clock clock = Clock.fixed(Instant.ofEpochMilli(now), ZoneOffset.UTC);
+        template = new PinotRangeQueryTemplate(asyncTemplate, Duration.ofHours(1), 24, Duration.ofMinutes(5), 10_000, clock);
+    }
+
+    @Test
+    void splitAndCacheElapsedChunks() {
+        TestQuery query = new TestQuery(7 * HOUR + 10 * MINUTE + 15_000, 10 * HOUR + 20 * MINUTE);
+
+        List<Long> first = template.selectList(STATEMENT, query).join();
+        Assertions.assertThat(first).isEqualTo(buckets(7 * HOUR + 10 * MINUTE, 10 * HOUR + 20 * MINUTE));
+
+        List<Long> second = template.selectList(STATEMENT, query).join();
+        Assertions.assertThat(second).isEqualTo(first);
+
+        // 3 elapsed chunks once, the live part twice
+        verify(asyncTemplate, times(5)).selectList(eq(STATEMENT), any());
+        Assertions.assertThat(template.getMissCount()).isEqualTo(3);
+        Assertions.assertThat(template.getHitCount()).isEqualTo(3);
+        Assertions.assertThat(template.getLiveCount()).isEqualTo(2);
+    }
+
+    @Test
+    void liveRangeOnly() {
+        TestQuery query = new TestQuery(10 * HOUR + 5 * MINUTE, 10 * HOUR + 20 * MINUTE);
+
+        List<Long> rows = template.selectList(STATEMENT, query).join();
+        Assertions.assertThat(rows).isEqualTo(buckets(10 * HOUR + 5 * MINUTE, 10 * HOUR + 20 * MINUTE));
+        Assertions.assertThat(template.getCachedChunkCount()).isZero();
+    }
+
+    @Test
+    void failedChunkIsNotCached() {
+        when(asyncTemplate.selectList(eq(STATEMENT), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("test")));
+        TestQuery query = new TestQuery(7 * HOUR, 8 * HOUR - 1);
+
+        Assertions.assertThat(template.selectList(STATEMENT, query))
+                .isCompletedExceptionally();
+        Assertions.assertThat(template.getCachedChunkCount()).isZero();
+    }
+
+    private static List<Long> buckets(long from, long to) {
+        List<Long> rows = new ArrayList<>();
+        for (long time = (from + MINUTE - 1) / MINUTE * MINUTE; time <= to; time += MINUTE) {
+            rows.add(time);
+        }
+        return rows;
+    }
+
+    private record TestQuery(long from, long to) implements RangeQuery<Long> {
+
+        @Override
+        public long getFrom() {
+            return from;
+        }
+
+        @Override
+        public long getTo() {
+            return to;
+        }
+
+        @Override
+        public long getBucketMillis() {
+            return MINUTE;
+        }
+
+        @Override
+        public Object getKey() {
+            return "series";
+        }
+
+        @Override
+        public Object toParameter(long from, long to) {
+            return new long[]{from, to};
+        }
+
+        @Override
+        public long getTimestamp(Long row) {
+            return row;
+        }
+    }
+}
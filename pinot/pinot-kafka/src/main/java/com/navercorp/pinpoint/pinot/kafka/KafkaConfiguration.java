@@ -3,6 +3,7 @@ package com.navercorp.pinpoint.pinot.kafka;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.PropertySource;
@@ -43,6 +44,12 @@ public class KafkaConfiguration {
         return new DefaultKafkaProducerFactory<>(config);
     }
 
+    @Bean
+    public KafkaTemplateFactory kafkaTemplateFactory(@Qualifier("kafkaProducerFactory") ProducerFactory producerFactory,
+                                                     KafkaProperties properties) {
+        return new KafkaTemplateFactory(producerFactory, toConfig(properties));
+    }
+
     @Deprecated
     @Bean
     public ProducerFactory kafkaProducerByteArrayKeyFactory(KafkaProperties properties) {
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.pinot.kafka;
+
+import com.navercorp.pinpoint.pinot.kafka.avro.AvroSerializer;
+import com.navercorp.pinpoint.pinot.kafka.avro.AvroWriter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Creates the {@link KafkaTemplate} of a topic in the format selected for the topic.
+ * JSON templates share the default producer, each avro template owns a producer with its own value serializer.
+ */
+public class KafkaTemplateFactory implements DisposableBean {
+
+    private final Logger logger = LogManager.getLogger(KafkaTemplateFactory.class);
+
+    private final ProducerFactory<String, ?> jsonProducerFactory;
+    private final Map<String, Object> config;
+
+    private final List<DefaultKafkaProducerFactory<String, ?>> producerFactories = new CopyOnWriteArrayList<>();
+
+    public KafkaTemplateFactory(ProducerFactory<String, ?> jsonProducerFactory, Map<String, Object> config) {
+        this.jsonProducerFactory = Objects.requireNonNull(jsonProducerFactory, "jsonProducerFactory");
+        this.config = new HashMap<>(Objects.requireNonNull(config, "config"));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> KafkaTemplate<String, V> newTemplate(KafkaValueFormat format, AvroWriter<V> avroWriter) {
+        Objects.requireNonNull(format, "format");
+        Objects.requireNonNull(avroWriter, "avroWriter");
+
+        if (format == KafkaValueFormat.JSON) {
+            return new KafkaTemplate<>((ProducerFactory<String, V>) jsonProducerFactory);
+        }
+        logger.info("kafka value format:{} writer:{}", format, avroWriter.getClass().getSimpleName());
+        DefaultKafkaProducerFactory<String, V> producerFactory = new DefaultKafkaProducerFactory<>(config);
+        producerFactory.setValueSerializer(new AvroSerializer<>(avroWriter));
+        producerFactories.add(producerFactory);
+        return new KafkaTemplate<>(producerFactory);
+    }
+
+    @Override
+    public void destroy() {
+        for (DefaultKafkaProducerFactory<String, ?> producerFactory : producerFactories) {
+            producerFactory.destroy();
+        }
+    }
+}
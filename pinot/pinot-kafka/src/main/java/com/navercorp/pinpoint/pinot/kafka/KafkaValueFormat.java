@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.pinot.kafka;
+
+import java.util.Locale;
+
+/**
+ * Encoding of the records sent to a topic. Must match the decoder of the pinot realtime table.
+ */
+public enum KafkaValueFormat {
+    /**
+     * {@code KafkaJSONMessageDecoder}
+     */
+    JSON,
+    /**
+     * {@code SimpleAvroMessageDecoder}
+     */
+    AVRO;
+
+    public static KafkaValueFormat of(String name) {
+        if (name == null || name.isBlank()) {
+            return JSON;
+        }
+        return KafkaValueFormat.valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+}
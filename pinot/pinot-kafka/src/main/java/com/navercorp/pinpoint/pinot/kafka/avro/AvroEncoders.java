@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.pinot.kafka.avro;
+
+import org.apache.avro.io.Encoder;
+
+import java.io.IOException;
+import java.util.List;
+
+public final class AvroEncoders {
+
+    private AvroEncoders() {
+    }
+
+    /**
+     * for fields declared as {@code ["null", "string"]}
+     */
+    public static void writeNullableString(Encoder encoder, String value) throws IOException {
+        if (value == null) {
+            encoder.writeIndex(0);
+            encoder.writeNull();
+        } else {
+            encoder.writeIndex(1);
+            encoder.writeString(value);
+        }
+    }
+
+    /**
+     * for fields declared as {@code ["null", "long"]}
+     */
+    public static void writeNullableLong(Encoder encoder, Long value) throws IOException {
+        if (value == null) {
+            encoder.writeIndex(0);
+            encoder.writeNull();
+        } else {
+            encoder.writeIndex(1);
+            encoder.writeLong(value);
+        }
+    }
+
+    /**
+     * for fields declared as {@code {"type": "array", "items": "string"}}
+     */
+    public static void writeStringArray(Encoder encoder, List<?> values) throws IOException {
+        encoder.writeArrayStart();
+        if (values == null) {
+            encoder.setItemCount(0);
+        } else {
+            encoder.setItemCount(values.size());
+            for (Object value : values) {
+                encoder.startItem();
+                encoder.writeString(String.valueOf(value));
+            }
+        }
+        encoder.writeArrayEnd();
+    }
+}
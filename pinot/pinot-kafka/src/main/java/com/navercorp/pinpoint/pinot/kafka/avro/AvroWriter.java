@@ -0,0 +1,33 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.pinot.kafka.avro;
+
+import org.apache.avro.io.Encoder;
+
+import java.io.IOException;
+
+/**
+ * Writes the fields of a record in the order of its avro schema.
+ * The schema is shared with the avro decoder of the pinot realtime table consuming the topic.
+ */
+@FunctionalInterface
+public interface AvroWriter<T> {
+
+    void write(T value, Encoder encoder) throws IOException;
+
+}
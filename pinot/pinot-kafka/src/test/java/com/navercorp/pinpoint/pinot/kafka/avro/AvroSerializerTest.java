@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.pinot.kafka.avro;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DecoderFactory;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+class AvroSerializerTest {
+
+    private static final Schema SCHEMA = new Schema.Parser().parse("""
+            {
+              "type": "record",
+              "name": "TestStat",
+              "fields": [
+                {"name": "applicationName", "type": "string"},
+                {"name": "tenantId", "type": ["null", "string"], "default": null},
+                {"name": "tags", "type": {"type": "array", "items": "string"}},
+                {"name": "fieldValue", "type": "double"},
+                {"name": "eventTime", "type": "long"}
+              ]
+            }
+            """);
+
+    record TestStat(String applicationName, String tenantId, List<String> tags, double fieldValue, long eventTime) {
+    }
+
+    private final AvroSerializer<TestStat> serializer = new AvroSerializer<>((stat, encoder) -> {
+        encoder.writeString(stat.applicationName());
+        AvroEncoders.writeNullableString(encoder, stat.tenantId());
+        AvroEncoders.writeStringArray(encoder, stat.tags());
+        encoder.writeDouble(stat.fieldValue());
+        encoder.writeLong(stat.eventTime());
+    });
+
+    @Test
+    void serialize() throws IOException {
+        TestStat stat = new TestStat("app", "tenant", List.of("a=1", "b=2"), 1.5, 1000L);
+
+        GenericRecord record = decode(serializer.serialize("topic", stat));
+
+        Assertions.assertThat(record.get("applicationName")).hasToString("app");
+        Assertions.assertThat(record.get("tenantId")).hasToString("tenant");
+        Assertions.assertThat((List<?>) record.get("tags")).map(Object::toString).containsExactly("a=1", "b=2");
+        Assertions.assertThat(record.get("fieldValue")).isEqualTo(1.5);
+        Assertions.assertThat(record.get("eventTime")).isEqualTo(1000L);
+    }
+
+    @Test
+    void serialize_null() throws IOException {
+        TestStat stat = new TestStat("app", null, null, 0, 0);
+
+        GenericRecord record = decode(serializer.serialize("topic", stat));
+
+        Assertions.assertThat(record.get("tenantId")).isNull();
+        Assertions.assertThat((List<?>) record.get("tags")).isEmpty();
+        Assertions.assertThat(serializer.serialize("topic", null)).isNull();
+    }
+
+    private GenericRecord decode(byte[] bytes) throws IOException {
+        GenericDatumReader<GenericRecord> reader = new GenericDatumReader<>(SCHEMA);
+        return reader.read(null, DecoderFactory.get().binaryDecoder(bytes, null));
+    }
+}
@@ -1,13 +1,15 @@
 package com.navercorp.pinpoint.uristat.collector.config;
 
 import com.navercorp.pinpoint.pinot.kafka.KafkaConfiguration;
+import com.navercorp.pinpoint.pinot.kafka.KafkaTemplateFactory;
+import com.navercorp.pinpoint.pinot.kafka.KafkaValueFormat;
 import com.navercorp.pinpoint.uristat.collector.model.UriStat;
-import org.springframework.beans.factory.annotation.Qualifier;
+import com.navercorp.pinpoint.uristat.collector.model.UriStatAvroWriter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.core.ProducerFactory;
 
 /**
  * @author Woonduk Kang(emeroad)
@@ -17,7 +19,8 @@ import org.springframework.kafka.core.ProducerFactory;
 public class UriMetricKafkaConfiguration {
 
     @Bean
-    public KafkaTemplate<String, UriStat> kafkaUriStatTemplate(@Qualifier("kafkaProducerFactory") ProducerFactory producerFactory) {
-        return new KafkaTemplate<>(producerFactory);
+    public KafkaTemplate<String, UriStat> kafkaUriStatTemplate(KafkaTemplateFactory kafkaTemplateFactory,
+                                                               @Value("${kafka.uri.value.format:json}") String format) {
+        return kafkaTemplateFactory.newTemplate(KafkaValueFormat.of(format), new UriStatAvroWriter());
     }
 }
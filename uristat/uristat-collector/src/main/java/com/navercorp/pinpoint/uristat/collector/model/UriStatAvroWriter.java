@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.uristat.collector.model;
+
+import com.navercorp.pinpoint.pinot.kafka.avro.AvroEncoders;
+import com.navercorp.pinpoint.pinot.kafka.avro.AvroWriter;
+import org.apache.avro.io.Encoder;
+
+import java.io.IOException;
+
+/**
+ * schema : uristat/collector/avro/uri-stat.avsc
+ */
+public class UriStatAvroWriter implements AvroWriter<UriStat> {
+
+    @Override
+    public void write(UriStat uriStat, Encoder encoder) throws IOException {
+        AvroEncoders.writeNullableString(encoder, uriStat.getTenantId());
+        AvroEncoders.writeNullableString(encoder, uriStat.getServiceName());
+        AvroEncoders.writeNullableString(encoder, uriStat.getApplicationName());
+        AvroEncoders.writeNullableString(encoder, uriStat.getAgentId());
+        AvroEncoders.writeNullableString(encoder, uriStat.getUri());
+        encoder.writeInt(uriStat.getVersion());
+        encoder.writeDouble(uriStat.getApdexRaw());
+        encoder.writeLong(uriStat.getCount());
+        encoder.writeLong(uriStat.getFailureCount());
+        encoder.writeLong(uriStat.getMaxLatencyMs());
+        encoder.writeLong(uriStat.getTotalTimeMs());
+        // tot0 ~ tot7, fail0 ~ fail7
+        writeHistogram(encoder, uriStat.getTotalHistogram());
+        writeHistogram(encoder, uriStat.getFailureHistogram());
+        encoder.writeLong(uriStat.getTimestamp());
+    }
+
+    private void writeHistogram(Encoder encoder, int[] histogram) throws IOException {
+        for (int i = 0; i < 8; i++) {
+            encoder.writeInt(histogram[i]);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.navercorp.pinpoint.uristat.web.config.UriStatPinotDaoConfiguration;
 import com.navercorp.pinpoint.uristat.web.config.UriStatProperties;
 import com.navercorp.pinpoint.uristat.web.frontend.export.UriStatPropertiesExporter;
 import com.navercorp.pinpoint.uristat.web.mapper.MapperConfig;
+import com.navercorp.pinpoint.uristat.web.service.UriStatQueryFanOut;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
@@ -38,4 +39,11 @@ public class UriStatWebConfig {
     public UriStatPropertiesExporter uriStatPropertiesExporter(UriStatProperties uriStatProperties) {
         return new UriStatPropertiesExporter(uriStatProperties);
     }
+
+    @Bean
+    public UriStatQueryFanOut uriStatQueryFanOut(UriStatProperties uriStatProperties) {
+        return new UriStatQueryFanOut(uriStatProperties.getQuerySplitCount(),
+                uriStatProperties.getQuerySplitMinRange(),
+                uriStatProperties.getQueryTimeout());
+    }
 }
@@ -2,6 +2,8 @@ package com.navercorp.pinpoint.uristat.web.config;
 
 import com.navercorp.pinpoint.mybatis.MyBatisConfigurationCustomizer;
 import com.navercorp.pinpoint.mybatis.MyBatisRegistryHandler;
+import com.navercorp.pinpoint.pinot.mybatis.PinotAsyncTemplate;
+import com.navercorp.pinpoint.pinot.mybatis.PinotRangeQueryTemplate;
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.transaction.TransactionFactory;
@@ -15,6 +17,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.core.io.Resource;
 
 import javax.sql.DataSource;
+import java.time.Duration;
 
 /**
  * @author Woonduk Kang(emeroad)
@@ -60,4 +63,20 @@ public class UriStatPinotDaoConfiguration {
         return new SqlSessionTemplate(sessionFactory);
     }
 
+    @Bean
+    public PinotAsyncTemplate uriStatPinotAsyncTemplate(
+            @Qualifier("uriStatPinotSessionFactory") SqlSessionFactory sessionFactory) {
+        return new PinotAsyncTemplate(sessionFactory);
+    }
+
+    @Bean
+    public PinotRangeQueryTemplate uriStatPinotRangeQueryTemplate(
+            @Qualifier("uriStatPinotAsyncTemplate") PinotAsyncTemplate asyncTemplate,
+            @Value("${web.uristat.pinot.cache.chunk-size:1h}") Duration chunkSize,
+            @Value("${web.uristat.pinot.cache.max-chunk-count:24}") int maxChunkCount,
+            @Value("${web.uristat.pinot.cache.settle-time:5m}") Duration settleTime,
+            @Value("${web.uristat.pinot.cache.max-rows:1000000}") long maxCachedRows) {
+        return new PinotRangeQueryTemplate(asyncTemplate, chunkSize, maxChunkCount, settleTime, maxCachedRows);
+    }
+
 }
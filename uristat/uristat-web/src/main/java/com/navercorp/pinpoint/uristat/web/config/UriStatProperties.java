@@ -23,6 +23,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Value;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -39,6 +40,18 @@ public class UriStatProperties {
     @Value("${web.uristat.api.period.interval:5m,20m,1h,3h,6h,12h,1d,2d,1w,2w,4w}")
     private List<String> uriStatPeriodInteval;
 
+    @Value("${web.uristat.query.split-count:4}")
+    private int querySplitCount;
+
+    @Value("${web.uristat.query.split-min-range:1h}")
+    private Duration querySplitMinRange;
+
+    @Value("${web.uristat.query.timeout:10s}")
+    private Duration queryTimeout;
+
+    @Value("${web.uristat.query.summary-split-limit:10000}")
+    private long summarySplitLimit;
+
     public int getUriStatPeriodMax() {
         return uriStatPeriodMax;
     }
@@ -47,6 +60,22 @@ public class UriStatProperties {
         return uriStatPeriodInteval;
     }
 
+    public int getQuerySplitCount() {
+        return querySplitCount;
+    }
+
+    public Duration getQuerySplitMinRange() {
+        return querySplitMinRange;
+    }
+
+    public Duration getQueryTimeout() {
+        return queryTimeout;
+    }
+
+    public long getSummarySplitLimit() {
+        return summarySplitLimit;
+    }
+
     @PostConstruct
     public void log() {
         logger.info("{}", this);
@@ -59,6 +88,10 @@ public class UriStatProperties {
         return "UriStatProperties{" +
                 "uriStatPeriodMax=" + uriStatPeriodMax +
                 ", uriStatPeriodInteval=" + uriStatPeriodInteval +
+                ", querySplitCount=" + querySplitCount +
+                ", querySplitMinRange=" + querySplitMinRange +
+                ", queryTimeout=" + queryTimeout +
+                ", summarySplitLimit=" + summarySplitLimit +
                 '}';
     }
 }
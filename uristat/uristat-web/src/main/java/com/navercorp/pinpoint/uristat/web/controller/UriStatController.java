@@ -29,6 +29,7 @@ import com.navercorp.pinpoint.uristat.web.chart.UriStatChartTypeFactory;
 import com.navercorp.pinpoint.uristat.web.config.UriStatProperties;
 import com.navercorp.pinpoint.uristat.web.mapper.ModelToViewMapper;
 import com.navercorp.pinpoint.uristat.web.model.UriStatChartValue;
+import com.navercorp.pinpoint.uristat.web.model.UriStatQueryResult;
 import com.navercorp.pinpoint.uristat.web.model.UriStatSummary;
 import com.navercorp.pinpoint.uristat.web.service.UriStatChartService;
 import com.navercorp.pinpoint.uristat.web.service.UriStatSummaryService;
@@ -36,6 +37,7 @@ import com.navercorp.pinpoint.uristat.web.util.UriStatChartQueryParameter;
 import com.navercorp.pinpoint.uristat.web.util.UriStatSummaryQueryParameter;
 import com.navercorp.pinpoint.uristat.web.view.UriStatSummaryView;
 import com.navercorp.pinpoint.uristat.web.view.UriStatView;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -55,6 +57,7 @@ public class UriStatController {
     private final UriStatChartTypeFactory chartTypeFactory;
     private static final TimeWindowSampler DEFAULT_TIME_WINDOW_SAMPLER = new TimeWindowSlotCentricSampler(30000L, 200);
     private static final TimeWindowSampler ROUGH_TIME_WINDOW_SAMPLER = new TimeWindowSlotCentricSampler(30000L, 10);
+    private static final String PARTIAL_RESULT_HEADER = "X-Partial-Result";
     private final RangeValidator rangeValidator;
     private final ModelToViewMapper mapper;
 
@@ -82,7 +85,7 @@ public class UriStatController {
     }
 
     @GetMapping("/summary")
-    public List<UriStatSummaryView> getUriStatPagedSummary(
+    public ResponseEntity<List<UriStatSummaryView>> getUriStatPagedSummary(
             @RequestParam("applicationName") String applicationName,
             @RequestParam(value = "agentId", required = false) String agentId,
             @RequestParam("from") long from,
@@ -108,17 +111,20 @@ public class UriStatController {
                 .build();
 
         if (type == null) {
-            List<UriStatSummary> summaries = uriStatService.getUriStatPagedSummary(query);
-            return summaries.stream()
+            UriStatQueryResult<UriStatSummary> result = uriStatService.getUriStatPagedSummary(query);
+            List<UriStatSummaryView> views = result.data().stream()
                     .map(mapper::toSummaryView
                     ).toList();
+            return ResponseEntity.ok()
+                    .header(PARTIAL_RESULT_HEADER, Boolean.toString(!result.complete()))
+                    .body(views);
         } else {
             UriStatChartType chartType = chartTypeFactory.valueOf(type.toLowerCase());
             List<UriStatSummary> summaries = uriStatService.getUriStatMiniChart(chartType, query);
-            return summaries.stream()
+            return ResponseEntity.ok(summaries.stream()
                     .map((UriStatSummary e)
                             -> mapper.toSummaryView(e, timeWindow, chartType)
-                    ).toList();
+                    ).toList());
         }
     }
 
@@ -144,11 +150,11 @@ public class UriStatController {
                 .build();
 
         UriStatChartType chartType = chartTypeFactory.valueOf(type.toLowerCase());
-        List<UriStatChartValue> uriStats = getChartData(chartType, query);
-        return new UriStatView(uri, timeWindow, uriStats, chartType);
+        UriStatQueryResult<UriStatChartValue> uriStats = getChartData(chartType, query);
+        return new UriStatView(uri, timeWindow, uriStats.data(), chartType, uriStats.complete());
     }
 
-    private List<UriStatChartValue> getChartData(UriStatChartType chartType, UriStatChartQueryParameter query) {
+    private UriStatQueryResult<UriStatChartValue> getChartData(UriStatChartType chartType, UriStatChartQueryParameter query) {
         return uriStatChartService.getUriStatChartData(chartType, query);
     }
 }
@@ -1,37 +1,38 @@
 package com.navercorp.pinpoint.uristat.web.dao;
 
+import com.navercorp.pinpoint.pinot.mybatis.PinotRangeQueryTemplate;
 import com.navercorp.pinpoint.uristat.web.entity.UriStatChartEntity;
 import com.navercorp.pinpoint.uristat.web.mapper.EntityToModelMapper;
 import com.navercorp.pinpoint.uristat.web.model.UriStatChartValue;
 import com.navercorp.pinpoint.uristat.web.util.UriStatChartQueryParameter;
-import org.mybatis.spring.SqlSessionTemplate;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 @Repository
 public class PinotApdexChartDao implements UriStatChartDao {
     private static final String NAMESPACE = UriStatChartDao.class.getName() + ".";
     private static final String SELECT_APDEX_CHART = "selectUriApdex";
 
-    private final SqlSessionTemplate sqlPinotSessionTemplate;
+    private final PinotRangeQueryTemplate rangeQueryTemplate;
     private final EntityToModelMapper mapper;
 
     public PinotApdexChartDao(
-            @Qualifier("uriStatPinotSessionTemplate") SqlSessionTemplate sqlPinotSessionTemplate,
+            @Qualifier("uriStatPinotRangeQueryTemplate") PinotRangeQueryTemplate rangeQueryTemplate,
             EntityToModelMapper mapper
     ) {
-        this.sqlPinotSessionTemplate = Objects.requireNonNull(sqlPinotSessionTemplate, "sqlPinotSessionTemplate");
+        this.rangeQueryTemplate = Objects.requireNonNull(rangeQueryTemplate, "rangeQueryTemplate");
         this.mapper = Objects.requireNonNull(mapper, "mapper");
     }
 
     @Override
-    public List<UriStatChartValue> getChartData(UriStatChartQueryParameter queryParameter) {
-        List<UriStatChartEntity> entities = sqlPinotSessionTemplate.selectList(NAMESPACE + SELECT_APDEX_CHART, queryParameter);
-        return entities.stream()
-                .map(mapper::toApdexChart
-                ).toList();
+    public CompletableFuture<List<UriStatChartValue>> getChartData(UriStatChartQueryParameter queryParameter) {
+        CompletableFuture<List<UriStatChartEntity>> entities = rangeQueryTemplate.selectList(NAMESPACE + SELECT_APDEX_CHART, new UriStatChartRangeQuery(queryParameter));
+        return entities.thenApply(list -> list.stream()
+                .map(mapper::toApdexChart)
+                .toList());
     }
 }
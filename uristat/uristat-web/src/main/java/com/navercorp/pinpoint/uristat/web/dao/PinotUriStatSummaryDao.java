@@ -16,6 +16,7 @@
 
 package com.navercorp.pinpoint.uristat.web.dao;
 
+import com.navercorp.pinpoint.pinot.mybatis.PinotAsyncTemplate;
 import com.navercorp.pinpoint.uristat.web.entity.UriStatSummaryEntity;
 import com.navercorp.pinpoint.uristat.web.mapper.EntityToModelMapper;
 import com.navercorp.pinpoint.uristat.web.model.UriStatSummary;
@@ -28,6 +29,7 @@ import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 @Repository
 public class PinotUriStatSummaryDao implements UriStatSummaryDao {
@@ -36,13 +38,16 @@ public class PinotUriStatSummaryDao implements UriStatSummaryDao {
     private static final String NAMESPACE = PinotUriStatSummaryDao.class.getName() + ".";
     private static final String SELECT_URI_STAT_SUMMARY = "uriStatSummary";
     private final SqlSessionTemplate sqlPinotSessionTemplate;
+    private final PinotAsyncTemplate asyncTemplate;
     private final EntityToModelMapper mapper;
 
     public PinotUriStatSummaryDao(
             @Qualifier("uriStatPinotSessionTemplate") SqlSessionTemplate sqlPinotSessionTemplate,
+            @Qualifier("uriStatPinotAsyncTemplate") PinotAsyncTemplate asyncTemplate,
             EntityToModelMapper mapper
     ) {
         this.sqlPinotSessionTemplate = Objects.requireNonNull(sqlPinotSessionTemplate, "sqlPinotSessionTemplate");
+        this.asyncTemplate = Objects.requireNonNull(asyncTemplate, "asyncTemplate");
         this.mapper = Objects.requireNonNull(mapper, "mapper");
     }
 
@@ -54,4 +59,11 @@ public class PinotUriStatSummaryDao implements UriStatSummaryDao {
                 ).toList();
     }
 
+    /**
+     * Unmapped rows of the summary statement, so that results of several sub-ranges can be merged.
+     */
+    public CompletableFuture<List<UriStatSummaryEntity>> selectUriStatSummary(UriStatSummaryQueryParameter queryParameter) {
+        return asyncTemplate.selectList(NAMESPACE + SELECT_URI_STAT_SUMMARY, queryParameter);
+    }
+
 }
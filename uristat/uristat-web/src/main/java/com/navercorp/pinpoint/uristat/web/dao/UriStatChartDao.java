@@ -20,7 +20,8 @@ import com.navercorp.pinpoint.uristat.web.model.UriStatChartValue;
 import com.navercorp.pinpoint.uristat.web.util.UriStatChartQueryParameter;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface UriStatChartDao {
-    List<UriStatChartValue> getChartData(UriStatChartQueryParameter queryParameter);
+    CompletableFuture<List<UriStatChartValue>> getChartData(UriStatChartQueryParameter queryParameter);
 }
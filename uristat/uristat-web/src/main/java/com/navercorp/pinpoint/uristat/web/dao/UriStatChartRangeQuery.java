@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.uristat.web.dao;
+
+import com.navercorp.pinpoint.common.server.util.time.Range;
+import com.navercorp.pinpoint.pinot.mybatis.RangeQuery;
+import com.navercorp.pinpoint.uristat.web.entity.UriStatChartEntity;
+import com.navercorp.pinpoint.uristat.web.util.UriStatChartQueryParameter;
+
+import java.util.Objects;
+
+class UriStatChartRangeQuery implements RangeQuery<UriStatChartEntity> {
+
+    private final UriStatChartQueryParameter queryParameter;
+    private final Key key;
+
+    UriStatChartRangeQuery(UriStatChartQueryParameter queryParameter) {
+        this.queryParameter = Objects.requireNonNull(queryParameter, "queryParameter");
+        this.key = new Key(queryParameter.getTenantId(), queryParameter.getServiceName(), queryParameter.getApplicationName(),
+                queryParameter.getAgentId(), queryParameter.getUri(), queryParameter.getTimePrecision().getInterval());
+    }
+
+    @Override
+    public long getFrom() {
+        return queryParameter.getRange().getFrom();
+    }
+
+    @Override
+    public long getTo() {
+        return queryParameter.getRange().getTo();
+    }
+
+    @Override
+    public long getBucketMillis() {
+        return queryParameter.getTimePrecision().getInterval();
+    }
+
+    @Override
+    public Object getKey() {
+        return key;
+    }
+
+    @Override
+    public Object toParameter(long from, long to) {
+        return queryParameter.withRange(Range.between(from, to));
+    }
+
+    @Override
+    public long getTimestamp(UriStatChartEntity row) {
+        return row.getTimestamp();
+    }
+
+    private record Key(String tenantId, String serviceName, String applicationName,
+                       String agentId, String uri, long interval) {
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.uristat.web.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * @param complete false when some sub-queries did not finish before the deadline
+ *                 or returned as many rows as their limit
+ */
+public record UriStatQueryResult<T>(List<T> data, boolean complete) {
+
+    public UriStatQueryResult {
+        Objects.requireNonNull(data, "data");
+    }
+}
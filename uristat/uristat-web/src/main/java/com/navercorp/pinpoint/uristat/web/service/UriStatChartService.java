@@ -18,10 +18,9 @@ package com.navercorp.pinpoint.uristat.web.service;
 
 import com.navercorp.pinpoint.uristat.web.chart.UriStatChartType;
 import com.navercorp.pinpoint.uristat.web.model.UriStatChartValue;
+import com.navercorp.pinpoint.uristat.web.model.UriStatQueryResult;
 import com.navercorp.pinpoint.uristat.web.util.UriStatChartQueryParameter;
 
-import java.util.List;
-
 public interface UriStatChartService {
-    List<UriStatChartValue> getUriStatChartData(UriStatChartType type, UriStatChartQueryParameter queryParameter);
+    UriStatQueryResult<UriStatChartValue> getUriStatChartData(UriStatChartType type, UriStatChartQueryParameter queryParameter);
 }
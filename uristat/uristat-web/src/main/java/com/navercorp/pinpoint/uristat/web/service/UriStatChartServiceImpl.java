@@ -17,17 +17,38 @@
 package com.navercorp.pinpoint.uristat.web.service;
 
 import com.navercorp.pinpoint.uristat.web.chart.UriStatChartType;
+import com.navercorp.pinpoint.uristat.web.dao.UriStatChartDao;
 import com.navercorp.pinpoint.uristat.web.model.UriStatChartValue;
+import com.navercorp.pinpoint.uristat.web.model.UriStatQueryResult;
 import com.navercorp.pinpoint.uristat.web.util.UriStatChartQueryParameter;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Service
 public class UriStatChartServiceImpl implements UriStatChartService {
 
+    private final UriStatQueryFanOut fanOut;
+
+    public UriStatChartServiceImpl(UriStatQueryFanOut fanOut) {
+        this.fanOut = Objects.requireNonNull(fanOut, "fanOut");
+    }
+
     @Override
-    public List<UriStatChartValue> getUriStatChartData(UriStatChartType type, UriStatChartQueryParameter queryParameter) {
-        return type.getChartDao().getChartData(queryParameter);
+    public UriStatQueryResult<UriStatChartValue> getUriStatChartData(UriStatChartType type, UriStatChartQueryParameter queryParameter) {
+        final UriStatChartDao chartDao = type.getChartDao();
+        final long interval = queryParameter.getTimePrecision().getInterval();
+
+        // sub-ranges are aligned to the chart bucket, so every bucket comes from exactly one sub-range
+        UriStatQueryResult<List<UriStatChartValue>> result = fanOut.execute(queryParameter.getRange(), interval,
+                subRange -> chartDao.getChartData(queryParameter.withRange(subRange)));
+
+        List<UriStatChartValue> values = new ArrayList<>();
+        for (List<UriStatChartValue> part : result.data()) {
+            values.addAll(part);
+        }
+        return new UriStatQueryResult<>(values, result.complete());
     }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.uristat.web.service;
+
+import com.navercorp.pinpoint.common.server.util.time.Range;
+import com.navercorp.pinpoint.uristat.web.model.UriStatQueryResult;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Splits a query range into bucket-aligned sub-ranges, runs them concurrently and
+ * returns whatever finished before the deadline.
+ */
+public class UriStatQueryFanOut {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final int splitCount;
+    private final long splitMinRangeMillis;
+    private final long timeoutMillis;
+
+    public UriStatQueryFanOut(int splitCount, Duration splitMinRange, Duration timeout) {
+        if (splitCount <= 0) {
+            throw new IllegalArgumentException("splitCount must be '> 0'");
+        }
+        this.splitCount = splitCount;
+        this.splitMinRangeMillis = Objects.requireNonNull(splitMinRange, "splitMinRange").toMillis();
+        this.timeoutMillis = Objects.requireNonNull(timeout, "timeout").toMillis();
+    }
+
+    /**
+     * @param interval bucket size of the query, sub-ranges never split a bucket
+     * @return results of the finished sub-ranges in range order
+     */
+    public <T> UriStatQueryResult<List<T>> execute(Range range, long interval, Function<Range, CompletableFuture<List<T>>> query) {
+        Objects.requireNonNull(range, "range");
+        Objects.requireNonNull(query, "query");
+
+        final List<Range> subRanges = split(range, interval);
+        final List<CompletableFuture<List<T>>> futures = new ArrayList<>(subRanges.size());
+        for (Range subRange : subRanges) {
+            futures.add(query.apply(subRange));
+        }
+
+        await(futures);
+
+        final List<List<T>> results = new ArrayList<>(futures.size());
+        boolean complete = true;
+        for (CompletableFuture<List<T>> future : futures) {
+            if (!future.isDone()) {
+                future.cancel(false);
+                complete = false;
+                continue;
+            }
+            results.add(join(future));
+        }
+        if (!complete) {
+            logger.info("partial result range:{} finished:{}/{}", range, results.size(), futures.size());
+        }
+        return new UriStatQueryResult<>(results, complete);
+    }
+
+    private void await(List<? extends CompletableFuture<?>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException ignore) {
+            // failed futures are rethrown by join(), unfinished ones make the result partial
+        }
+    }
+
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    List<Range> split(Range range, long interval) {
+        final long from = range.getFrom();
+        final long to = range.getTo();
+        if (splitCount == 1 || to - from < splitMinRangeMillis) {
+            return List.of(range);
+        }
+        final long bucket = Math.max(interval, 1);
+        final long step = (to - from + splitCount - 1) / splitCount;
+
+        final List<Range> subRanges = new ArrayList<>(splitCount);
+        long subFrom = from;
+        for (int i = 1; i < splitCount; i++) {
+            final long boundary = Math.floorDiv(from + step * i, bucket) * bucket;
+            if (boundary <= subFrom || boundary > to) {
+                continue;
+            }
+            // the statements filter with an inclusive BETWEEN
+            subRanges.add(Range.between(subFrom, boundary - 1));
+            subFrom = boundary;
+        }
+        subRanges.add(Range.between(subFrom, to));
+        return subRanges;
+    }
+}
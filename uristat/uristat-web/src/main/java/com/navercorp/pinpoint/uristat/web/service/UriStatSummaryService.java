@@ -17,12 +17,13 @@
 package com.navercorp.pinpoint.uristat.web.service;
 
 import com.navercorp.pinpoint.uristat.web.chart.UriStatChartType;
+import com.navercorp.pinpoint.uristat.web.model.UriStatQueryResult;
 import com.navercorp.pinpoint.uristat.web.model.UriStatSummary;
 import com.navercorp.pinpoint.uristat.web.util.UriStatSummaryQueryParameter;
 
 import java.util.List;
 
 public interface UriStatSummaryService {
-    List<UriStatSummary> getUriStatPagedSummary(UriStatSummaryQueryParameter queryParameter);
+    UriStatQueryResult<UriStatSummary> getUriStatPagedSummary(UriStatSummaryQueryParameter queryParameter);
     List<UriStatSummary> getUriStatMiniChart(UriStatChartType type, UriStatSummaryQueryParameter queryParameter);
 }
@@ -16,30 +16,128 @@
 
 package com.navercorp.pinpoint.uristat.web.service;
 
+import com.navercorp.pinpoint.common.server.util.time.Range;
 import com.navercorp.pinpoint.uristat.web.chart.UriStatChartType;
-import com.navercorp.pinpoint.uristat.web.dao.UriStatSummaryDao;
+import com.navercorp.pinpoint.uristat.web.config.UriStatProperties;
+import com.navercorp.pinpoint.uristat.web.dao.PinotUriStatSummaryDao;
+import com.navercorp.pinpoint.uristat.web.entity.UriStatSummaryEntity;
+import com.navercorp.pinpoint.uristat.web.mapper.EntityToModelMapper;
+import com.navercorp.pinpoint.uristat.web.model.UriStatQueryResult;
 import com.navercorp.pinpoint.uristat.web.model.UriStatSummary;
 import com.navercorp.pinpoint.uristat.web.util.UriStatSummaryQueryParameter;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 @Service
 public class UriStatSummaryServiceImpl implements UriStatSummaryService {
 
-    private final UriStatSummaryDao uriStatSummaryDao;
+    private final PinotUriStatSummaryDao uriStatSummaryDao;
+    private final UriStatQueryFanOut fanOut;
+    private final EntityToModelMapper mapper;
+    private final long summarySplitLimit;
 
     public UriStatSummaryServiceImpl(
-            @Qualifier("pinotUriStatSummaryDao") UriStatSummaryDao uriStatDao
+            PinotUriStatSummaryDao uriStatDao,
+            UriStatQueryFanOut fanOut,
+            EntityToModelMapper mapper,
+            UriStatProperties uriStatProperties
     ) {
         this.uriStatSummaryDao = Objects.requireNonNull(uriStatDao);
+        this.fanOut = Objects.requireNonNull(fanOut, "fanOut");
+        this.mapper = Objects.requireNonNull(mapper, "mapper");
+        this.summarySplitLimit = Objects.requireNonNull(uriStatProperties, "uriStatProperties").getSummarySplitLimit();
     }
 
     @Override
-    public List<UriStatSummary> getUriStatPagedSummary(UriStatSummaryQueryParameter queryParameter) {
-        return uriStatSummaryDao.getUriStatPagedSummary(queryParameter);
+    public UriStatQueryResult<UriStatSummary> getUriStatPagedSummary(UriStatSummaryQueryParameter queryParameter) {
+        final Range range = queryParameter.getRange();
+        final long interval = queryParameter.getTimePrecision().getInterval();
+
+        // a sub-range cannot apply the top-N limit, only the merged result can
+        UriStatQueryResult<List<UriStatSummaryEntity>> result = fanOut.execute(range, interval,
+                subRange -> uriStatSummaryDao.selectUriStatSummary(subRange.equals(range) ?
+                        queryParameter : queryParameter.withRange(subRange, summarySplitLimit)));
+
+        List<UriStatSummaryEntity> entities = merge(result.data());
+        if (result.data().size() > 1) {
+            entities.sort(queryParameter.getComparator());
+        }
+        List<UriStatSummary> summaries = entities.stream()
+                .limit(queryParameter.getLimit())
+                .map(mapper::toModel)
+                .toList();
+        return new UriStatQueryResult<>(summaries, result.complete() && !isTruncated(result.data()));
+    }
+
+    /**
+     * A sub-range that returned summarySplitLimit rows may have dropped uris,
+     * so their totals and the merged top-N are not exact.
+     */
+    private boolean isTruncated(List<List<UriStatSummaryEntity>> parts) {
+        if (parts.size() == 1) {
+            return false;
+        }
+        for (List<UriStatSummaryEntity> part : parts) {
+            if (part.size() >= summarySplitLimit) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<UriStatSummaryEntity> merge(List<List<UriStatSummaryEntity>> parts) {
+        if (parts.size() == 1) {
+            return new ArrayList<>(parts.get(0));
+        }
+        Map<MergeKey, UriStatSummaryEntity> merged = new LinkedHashMap<>();
+        for (List<UriStatSummaryEntity> part : parts) {
+            for (UriStatSummaryEntity entity : part) {
+                merged.merge(new MergeKey(entity.getUri(), entity.getVersion()), entity, UriStatSummaryServiceImpl::merge);
+            }
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    private record MergeKey(String uri, String version) {
+    }
+
+    static UriStatSummaryEntity merge(UriStatSummaryEntity e1, UriStatSummaryEntity e2) {
+        UriStatSummaryEntity merged = new UriStatSummaryEntity();
+        merged.setUri(e1.getUri());
+        merged.setVersion(e1.getVersion());
+        merged.setApdexRaw(sum(e1.getApdexRaw(), e2.getApdexRaw()));
+        merged.setTotalApdexRaw(sum(e1.getTotalApdexRaw(), e2.getTotalApdexRaw()));
+        merged.setTotalCount(sum(e1.getTotalCount(), e2.getTotalCount()));
+        merged.setFailureCount(sum(e1.getFailureCount(), e2.getFailureCount()));
+        merged.setTotalTimeMs(sum(e1.getTotalTimeMs(), e2.getTotalTimeMs()));
+        merged.setSumOfTotalTimeMs(sum(e1.getSumOfTotalTimeMs(), e2.getSumOfTotalTimeMs()));
+        merged.setMaxTimeMs(max(e1.getMaxTimeMs(), e2.getMaxTimeMs()));
+        return merged;
+    }
+
+    private static Double sum(Double v1, Double v2) {
+        if (v1 == null) {
+            return v2;
+        }
+        if (v2 == null) {
+            return v1;
+        }
+        return v1 + v2;
+    }
+
+    private static Double max(Double v1, Double v2) {
+        if (v1 == null) {
+            return v2;
+        }
+        if (v2 == null) {
+            return v1;
+        }
+        return Math.max(v1, v2);
     }
 
     @Override
@@ -16,6 +16,7 @@
 
 package com.navercorp.pinpoint.uristat.web.util;
 
+import com.navercorp.pinpoint.common.server.util.time.Range;
 import com.navercorp.pinpoint.common.util.StringUtils;
 import com.navercorp.pinpoint.metric.web.util.QueryParameter;
 import com.navercorp.pinpoint.metric.web.util.TimePrecision;
@@ -53,6 +54,14 @@ public class UriStatChartQueryParameter extends QueryParameter {
         return StringUtils.isEmpty(agentId);
     }
 
+    /**
+     * @return same query over the given sub-range, limited to the rows of its buckets
+     */
+    public UriStatChartQueryParameter withRange(Range range) {
+        final long limit = (range.durationMillis() / timePrecision.getInterval() + 1) * TAG_SET_COUNT;
+        return new UriStatChartQueryParameter(this, range, limit);
+    }
+
 
     protected UriStatChartQueryParameter(Builder builder) {
         super(builder.getRange(), builder.getTimePrecision(), builder.getLimit());
@@ -63,6 +72,15 @@ public class UriStatChartQueryParameter extends QueryParameter {
         this.uri = builder.uri;
     }
 
+    private UriStatChartQueryParameter(UriStatChartQueryParameter source, Range range, long limit) {
+        super(range, source.timePrecision, limit);
+        this.tenantId = source.tenantId;
+        this.serviceName = source.serviceName;
+        this.applicationName = source.applicationName;
+        this.agentId = source.agentId;
+        this.uri = source.uri;
+    }
+
     public static class Builder extends QueryParameter.Builder<Builder> {
         private String tenantId;
         private String serviceName;
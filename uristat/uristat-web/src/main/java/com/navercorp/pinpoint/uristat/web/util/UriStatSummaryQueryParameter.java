@@ -17,12 +17,16 @@
 package com.navercorp.pinpoint.uristat.web.util;
 
 import com.navercorp.pinpoint.common.server.util.EnumGetter;
+import com.navercorp.pinpoint.common.server.util.time.Range;
 import com.navercorp.pinpoint.common.util.StringUtils;
 import com.navercorp.pinpoint.metric.web.util.QueryParameter;
 import com.navercorp.pinpoint.metric.web.util.TimePrecision;
+import com.navercorp.pinpoint.uristat.web.entity.UriStatSummaryEntity;
 
 import java.security.InvalidParameterException;
+import java.util.Comparator;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 public class UriStatSummaryQueryParameter extends QueryParameter {
     private final String tenantId;
@@ -61,6 +65,24 @@ public class UriStatSummaryQueryParameter extends QueryParameter {
         return StringUtils.isEmpty(agentId);
     }
 
+    /**
+     * @return in-memory equivalent of the ORDER BY clause of the summary statement
+     */
+    public Comparator<UriStatSummaryEntity> getComparator() {
+        Comparator<UriStatSummaryEntity> comparator = orderBy.comparator();
+        if ("desc".equals(isDesc)) {
+            return comparator.reversed();
+        }
+        return comparator;
+    }
+
+    /**
+     * @return same query over the given sub-range with its own row limit
+     */
+    public UriStatSummaryQueryParameter withRange(Range range, long limit) {
+        return new UriStatSummaryQueryParameter(this, range, limit);
+    }
+
     private enum OrderBy {
         URI("uri"),
         APDEX("apdex", "(apdexRaw / totalCount)", "(totalApdexRaw / totalCount)"),
@@ -97,6 +119,28 @@ public class UriStatSummaryQueryParameter extends QueryParameter {
             return name;
         }
 
+        private Comparator<UriStatSummaryEntity> comparator() {
+            return switch (this) {
+                case URI -> Comparator.comparing(UriStatSummaryEntity::getUri, Comparator.nullsFirst(Comparator.naturalOrder()));
+                case APDEX -> comparingDouble(entity -> ratio(entity.getApdexRaw(), entity.getTotalCount()));
+                case TOTAL -> comparingDouble(UriStatSummaryEntity::getTotalCount);
+                case FAILURE -> comparingDouble(UriStatSummaryEntity::getFailureCount);
+                case MAX -> comparingDouble(UriStatSummaryEntity::getMaxTimeMs);
+                case AVG -> comparingDouble(entity -> ratio(entity.getTotalTimeMs(), entity.getTotalCount()));
+            };
+        }
+
+        private static Comparator<UriStatSummaryEntity> comparingDouble(Function<UriStatSummaryEntity, Double> getter) {
+            return Comparator.comparing(getter, Comparator.nullsFirst(Comparator.naturalOrder()));
+        }
+
+        private static Double ratio(Double value, Double count) {
+            if (value == null || count == null || count == 0) {
+                return null;
+            }
+            return value / count;
+        }
+
         public static OrderBy fromValue(String name) {
             return GETTER.fromValueIgnoreCase(OrderBy::getName, name);
         }
@@ -118,6 +162,17 @@ public class UriStatSummaryQueryParameter extends QueryParameter {
         this.tenTimesLimit = builder.getLimit() * 10;
     }
 
+    private UriStatSummaryQueryParameter(UriStatSummaryQueryParameter source, Range range, long limit) {
+        super(range, source.timePrecision, limit);
+        this.tenantId = source.tenantId;
+        this.serviceName = source.serviceName;
+        this.applicationName = source.applicationName;
+        this.agentId = source.agentId;
+        this.orderBy = source.orderBy;
+        this.isDesc = source.isDesc;
+        this.tenTimesLimit = limit * 10;
+    }
+
     public static class Builder extends QueryParameter.Builder<Builder> {
         private String tenantId;
         private String serviceName;
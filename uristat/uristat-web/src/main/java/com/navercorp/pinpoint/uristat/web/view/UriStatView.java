@@ -31,11 +31,17 @@ public class UriStatView implements TimeSeriesView {
 
     private final List<Long> timestampList;
     private final List<TimeseriesValueGroupView> uriStats = new ArrayList<>();
+    private final boolean complete;
 
     public UriStatView(String uri, TimeWindow timeWindow, List<UriStatChartValue> uriStats, UriStatChartType chartType) {
+        this(uri, timeWindow, uriStats, chartType, true);
+    }
+
+    public UriStatView(String uri, TimeWindow timeWindow, List<UriStatChartValue> uriStats, UriStatChartType chartType, boolean complete) {
         Objects.requireNonNull(timeWindow, "timeWindow");
         Objects.requireNonNull(uriStats, "uriStats");
         Objects.requireNonNull(chartType, "chartType");
+        this.complete = complete;
 
         this.timestampList = TimeUtils.createTimeStampList(timeWindow);
         if (uriStats.isEmpty()) {
@@ -45,6 +51,13 @@ public class UriStatView implements TimeSeriesView {
         }
     }
 
+    /**
+     * @return false when part of the range was not queried before the deadline
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
     @Override
     public String getTitle() {
         return "uriStat";
@@ -0,0 +1,66 @@
+package com.navercorp.pinpoint.uristat.web.service;
+
+import com.navercorp.pinpoint.common.server.util.time.Range;
+import com.navercorp.pinpoint.uristat.web.model.UriStatQueryResult;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+class UriStatQueryFanOutTest {
+
+    private static final long MINUTE = Duration.ofMinutes(1).toMillis();
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+
+    private final UriStatQueryFanOut fanOut = new UriStatQueryFanOut(4, Duration.ofHours(1), Duration.ofMillis(200));
+
+    @Test
+    void split() {
+        Range range = Range.between(HOUR, 5 * HOUR + 30_000);
+
+        List<Range> subRanges = fanOut.split(range, MINUTE);
+
+        Assertions.assertThat(subRanges).hasSize(4);
+        Assertions.assertThat(subRanges.get(0).getFrom()).isEqualTo(range.getFrom());
+        Assertions.assertThat(subRanges.get(3).getTo()).isEqualTo(range.getTo());
+        for (int i = 1; i < subRanges.size(); i++) {
+            long boundary = subRanges.get(i).getFrom();
+            Assertions.assertThat(boundary % MINUTE).isZero();
+            Assertions.assertThat(subRanges.get(i - 1).getTo()).isEqualTo(boundary - 1);
+        }
+    }
+
+    @Test
+    void split_shortRange() {
+        Range range = Range.between(HOUR, HOUR + 10 * MINUTE);
+
+        Assertions.assertThat(fanOut.split(range, MINUTE)).containsExactly(range);
+    }
+
+    @Test
+    void partialResult() {
+        Range range = Range.between(0, 4 * HOUR);
+
+        UriStatQueryResult<List<Long>> result = fanOut.execute(range, MINUTE, subRange -> {
+            if (subRange.getFrom() == 0) {
+                return new CompletableFuture<>();
+            }
+            return CompletableFuture.completedFuture(List.of(subRange.getFrom()));
+        });
+
+        Assertions.assertThat(result.complete()).isFalse();
+        Assertions.assertThat(result.data())
+                .containsExactly(List.of(HOUR), List.of(2 * HOUR), List.of(3 * HOUR));
+    }
+
+    @Test
+    void failure() {
+        Range range = Range.between(0, 4 * HOUR);
+
+        Assertions.assertThatThrownBy(() -> fanOut.execute(range, MINUTE,
+                        subRange -> CompletableFuture.<List<Long>>failedFuture(new IllegalStateException("test"))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
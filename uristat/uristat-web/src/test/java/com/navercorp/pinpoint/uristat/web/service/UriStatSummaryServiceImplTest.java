@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.uristat.web.service;
+
+import com.navercorp.pinpoint.common.server.util.time.Range;
+import com.navercorp.pinpoint.uristat.web.config.UriStatProperties;
+import com.navercorp.pinpoint.uristat.web.dao.PinotUriStatSummaryDao;
+import com.navercorp.pinpoint.uristat.web.entity.UriStatSummaryEntity;
+import com.navercorp.pinpoint.uristat.web.mapper.EntityToModelMapper;
+import com.navercorp.pinpoint.uristat.web.model.UriStatQueryResult;
+import com.navercorp.pinpoint.uristat.web.model.UriStatSummary;
+import com.navercorp.pinpoint.uristat.web.util.UriStatSummaryQueryParameter;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UriStatSummaryServiceImplTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+
+    private final UriStatQueryFanOut fanOut = new UriStatQueryFanOut(2, Duration.ofHours(1), Duration.ofSeconds(3));
+    private final UriStatSummaryQueryParameter queryParameter = new UriStatSummaryQueryParameter.Builder()
+            .setTenantId("tenant")
+            .setServiceName("service")
+            .setApplicationName("app")
+            .setRange(Range.between(0, 4 * HOUR))
+            .setOrderby("totalCount")
+            .setDesc(true)
+            .setLimit(50)
+            .build();
+
+    private PinotUriStatSummaryDao dao;
+    private UriStatSummaryServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        dao = mock(PinotUriStatSummaryDao.class);
+        UriStatProperties properties = mock(UriStatProperties.class);
+        when(properties.getSummarySplitLimit()).thenReturn(2L);
+        service = new UriStatSummaryServiceImpl(dao, fanOut, mock(EntityToModelMapper.class), properties);
+    }
+
+    @Test
+    void mergeKey() {
+        when(dao.selectUriStatSummary(any())).thenReturn(CompletableFuture.completedFuture(List.of(
+                entity("/a1", ""),
+                entity("/a", "1"))));
+
+        UriStatQueryResult<UriStatSummary> result = service.getUriStatPagedSummary(queryParameter);
+
+        // the same two uris in each sub-range
+        Assertions.assertThat(result.data()).hasSize(2);
+    }
+
+    @Test
+    void subRangeAtLimit_incomplete() {
+        when(dao.selectUriStatSummary(any())).thenReturn(CompletableFuture.completedFuture(List.of(
+                entity("/a", "1"),
+                entity("/b", "1"))));
+
+        UriStatQueryResult<UriStatSummary> result = service.getUriStatPagedSummary(queryParameter);
+
+        Assertions.assertThat(result.complete()).isFalse();
+    }
+
+    @Test
+    void subRangeUnderLimit_complete() {
+        when(dao.selectUriStatSummary(any())).thenReturn(CompletableFuture.completedFuture(List.of(
+                entity("/a", "1"))));
+
+        UriStatQueryResult<UriStatSummary> result = service.getUriStatPagedSummary(queryParameter);
+
+        Assertions.assertThat(result.complete()).isTrue();
+        Assertions.assertThat(result.data()).hasSize(1);
+    }
+
+    private UriStatSummaryEntity entity(String uri, String version) {
+        UriStatSummaryEntity entity = new UriStatSummaryEntity();
+        entity.setUri(uri);
+        entity.setVersion(version);
+        entity.setTotalCount(1.0);
+        return entity;
+    }
+}
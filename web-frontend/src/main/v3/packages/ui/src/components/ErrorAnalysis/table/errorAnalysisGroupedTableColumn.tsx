@@ -50,6 +50,9 @@ export const errorGroupedTableColumns = ({
           {fieldName?.stackTraceHash && (
             <div className="mb-1 text-xxs">{fieldName.stackTraceHash}</div>
           )}
+          {fieldName?.stackTraceFingerprint && (
+            <div className="mb-1 text-xxs">{fieldName.stackTraceFingerprint}</div>
+          )}
           <div className="flex items-center mb-2 space-x-1 break-all">
             <div className="w-1 h-4 rounded-sm min-w-1 bg-status-fail" />
             <div className="text-sm font-semibold line-clamp-1">
@@ -22,6 +22,7 @@ export namespace ErrorAnalysisGroupedErrorList {
       errorClassName?: string;
       errorMessage_logType?: string;
       errorStackTraceHash?: string;
+      stackTraceFingerprint?: string;
     };
     firstLineOfClassName: string;
     firstLineOfMethodName: string;
@@ -36,6 +37,7 @@ export namespace ErrorAnalysisGroupedErrorList {
 
   export interface GroupedFieldName {
     stackTraceHash?: string;
+    stackTraceFingerprint?: string;
     uriTemplate?: string;
     errorMessage?: string;
     errorClassName?: string;
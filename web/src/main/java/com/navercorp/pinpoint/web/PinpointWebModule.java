@@ -6,6 +6,7 @@ import com.navercorp.pinpoint.common.server.util.time.RangeValidatorConfiguratio
 import com.navercorp.pinpoint.datasource.MainDataSourceConfiguration;
 import com.navercorp.pinpoint.web.applicationmap.config.ApplicationMapModule;
 import com.navercorp.pinpoint.web.cache.CacheConfiguration;
+import com.navercorp.pinpoint.web.coalesce.RequestCoalescingConfiguration;
 import com.navercorp.pinpoint.web.component.config.ComponentConfiguration;
 import com.navercorp.pinpoint.web.config.ConfigProperties;
 import com.navercorp.pinpoint.web.config.LogProperties;
@@ -51,6 +52,7 @@ import org.springframework.core.env.StandardEnvironment;
         UserModule.class,
         FrontendConfigExportConfiguration.class,
         QueryServiceConfiguration.class,
+        RequestCoalescingConfiguration.class,
 })
 @ComponentScan(basePackages = {
         "com.navercorp.pinpoint.web.mapper",
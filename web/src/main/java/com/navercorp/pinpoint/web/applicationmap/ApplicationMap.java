@@ -37,4 +37,13 @@ public interface ApplicationMap {
 
     @JsonInclude(JsonInclude.Include.NON_NULL)
     Range getRange();
+
+    /**
+     * true if the link search timed out and the map only contains the links read so far
+     */
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    @JsonProperty("incomplete")
+    default boolean isIncomplete() {
+        return false;
+    }
 }
@@ -123,7 +123,7 @@ public class ApplicationMapBuilder {
         ServerInfoAppender serverInfoAppender = serverInfoAppenderFactory.create(serverGroupListFactory);
         serverInfoAppender.appendServerInfo(range, nodeList, linkDataDuplexMap, timeoutWatcher.remainingTimeMillis());
 
-        return DefaultApplicationMap.build(nodeList, linkList, range);
+        return DefaultApplicationMap.build(nodeList, linkList, range, linkDataDuplexMap.isIncomplete());
     }
 
 }
@@ -54,9 +54,13 @@ public class DefaultApplicationMap {
     }
 
     public static ApplicationMap build(NodeList nodeList, LinkList linkList, Range range) {
+        return build(nodeList, linkList, range, false);
+    }
+
+    public static ApplicationMap build(NodeList nodeList, LinkList linkList, Range range, boolean incomplete) {
         Collection<Node> nodes = nodeList.getNodeList();
         Collection<Link> links = createNewLinkList(linkList);
-        return new SimpleApplicationMap(nodes, links, range);
+        return new SimpleApplicationMap(nodes, links, range, incomplete);
     }
 
 }
@@ -15,16 +15,24 @@ public class SimpleApplicationMap implements ApplicationMap {
     @Nullable
     private final Range range;
 
+    private final boolean incomplete;
+
     public SimpleApplicationMap(Collection<Node> nodes, Collection<Link> links) {
         this.nodes = Objects.requireNonNull(nodes, "nodes");
         this.links = Objects.requireNonNull(links, "links");
         this.range = null;
+        this.incomplete = false;
     }
 
     public SimpleApplicationMap(Collection<Node> nodes, Collection<Link> links, Range range) {
+        this(nodes, links, range, false);
+    }
+
+    public SimpleApplicationMap(Collection<Node> nodes, Collection<Link> links, Range range, boolean incomplete) {
         this.nodes = Objects.requireNonNull(nodes, "nodes");
         this.links = Objects.requireNonNull(links, "links");
         this.range = Objects.requireNonNull(range, "range");
+        this.incomplete = incomplete;
     }
 
     @Override
@@ -41,4 +49,9 @@ public class SimpleApplicationMap implements ApplicationMap {
     public Range getRange() {
         return range;
     }
+
+    @Override
+    public boolean isIncomplete() {
+        return incomplete;
+    }
 }
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.applicationmap.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.navercorp.pinpoint.common.server.util.time.Range;
+import com.navercorp.pinpoint.common.server.util.timewindow.TimeWindow;
+import com.navercorp.pinpoint.common.server.util.timewindow.TimeWindowDownSampler;
+import com.navercorp.pinpoint.common.server.util.timewindow.TimeWindowFunction;
+import com.navercorp.pinpoint.common.util.Assert;
+import com.navercorp.pinpoint.web.applicationmap.histogram.TimeHistogram;
+import com.navercorp.pinpoint.web.applicationmap.link.LinkDirection;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkCallData;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkData;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataMap;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataMapUtils;
+import com.navercorp.pinpoint.web.vo.Application;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches server map statistics in aligned time buckets.
+ * <p>
+ * A requested range is split into buckets of {@code bucketSize}. Buckets that are complete and older than
+ * {@code liveWindow} are immutable and are cached per (direction, application, bucket) as fragments of
+ * one minute resolution. Only uncached, partial or live buckets are read from the loader,
+ * contiguous ones in a single load. The fragments are then merged with the time window of the requested range,
+ * which gives the same result as loading the whole range at once.
+ * <p>
+ * Fragments are shared between time aggregated and non aggregated requests.
+ */
+public class LinkDataMapCache {
+
+    private static final long TIME_SLOT = TimeUnit.MINUTES.toMillis(1);
+    // TimeWindowDownSampler keeps one minute slots up to a range of one hour
+    private static final long MAX_LOAD_RANGE = TimeUnit.HOURS.toMillis(1);
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final long bucketSize;
+    private final long liveWindow;
+    private final long maxCacheableRange;
+    private final long maximumWeight;
+    private final Clock clock;
+
+    private final Cache<BucketKey, LinkDataMap> cache;
+
+    private final LongAdder bypassCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+
+    public LinkDataMapCache(LinkDataMapCacheProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    LinkDataMapCache(LinkDataMapCacheProperties properties, Clock clock) {
+        Objects.requireNonNull(properties, "properties");
+        this.bucketSize = properties.getBucketSize().toMillis();
+        Assert.isTrue(bucketSize > 0 && bucketSize % TIME_SLOT == 0, "bucketSize must be a multiple of one minute");
+        Assert.isTrue(bucketSize <= MAX_LOAD_RANGE, "bucketSize must be '<= 1h'");
+        this.liveWindow = properties.getLiveWindow().toMillis();
+        Assert.isTrue(liveWindow >= 0, "liveWindow must be '>= 0'");
+        this.maxCacheableRange = properties.getMaxCacheableRange().toMillis();
+        this.maximumWeight = properties.getMaximumWeight();
+        this.clock = Objects.requireNonNull(clock, "clock");
+
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher(LinkDataMapCache::weigh)
+                .expireAfterAccess(properties.getExpireAfterAccess())
+                .recordStats()
+                .build();
+    }
+
+    public LinkDataMap select(LinkDirection direction, Application application, Range range, boolean timeAggregated, LinkDataMapLoader loader) {
+        Objects.requireNonNull(direction, "direction");
+        Objects.requireNonNull(application, "application");
+        Objects.requireNonNull(range, "range");
+        Objects.requireNonNull(loader, "loader");
+
+        if (range.durationMillis() > maxCacheableRange) {
+            bypassCount.increment();
+            return loader.load(application, range, timeAggregated);
+        }
+
+        final List<Segment> segments = split(range);
+        if (!hasCacheable(segments)) {
+            bypassCount.increment();
+            return loader.load(application, range, timeAggregated);
+        }
+
+        final LinkDataMap result = newLinkDataMap(range, timeAggregated);
+        final List<Segment> pending = new ArrayList<>();
+        int hit = 0;
+        for (Segment segment : segments) {
+            if (segment.cacheable()) {
+                final LinkDataMap fragment = cache.getIfPresent(new BucketKey(direction, application, segment.from()));
+                if (fragment != null) {
+                    hit++;
+                    load(direction, application, pending, loader, result);
+                    result.addLinkDataMap(fragment);
+                    continue;
+                }
+            }
+            if (!pending.isEmpty() && segment.to() - pending.get(0).from() > MAX_LOAD_RANGE) {
+                load(direction, application, pending, loader, result);
+            }
+            pending.add(segment);
+        }
+        load(direction, application, pending, loader, result);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("{} {} {} bucket hit:{}/{}", direction, application, range.prettyToString(), hit, segments.size());
+        }
+        if (LinkDataMapUtils.hasLength(result)) {
+            return result;
+        }
+        return new LinkDataMap();
+    }
+
+    private void load(LinkDirection direction, Application application, List<Segment> pending,
+                      LinkDataMapLoader loader, LinkDataMap result) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        final Range range = Range.between(pending.get(0).from(), pending.get(pending.size() - 1).to());
+        final LinkDataMap loaded = loader.load(application, range, false);
+        loadCount.increment();
+        result.addLinkDataMap(loaded);
+
+        if (hasCacheable(pending)) {
+            final Map<Long, LinkDataMap> fragments = splitByBucket(loaded);
+            for (Segment segment : pending) {
+                if (segment.cacheable()) {
+                    LinkDataMap fragment = fragments.get(segment.from());
+                    if (fragment == null) {
+                        // cache empty buckets too, so they are not scanned again
+                        fragment = new LinkDataMap();
+                    }
+                    cache.put(new BucketKey(direction, application, segment.from()), fragment);
+                }
+            }
+        }
+        pending.clear();
+    }
+
+    List<Segment> split(Range range) {
+        final long liveFrom = clock.millis() - liveWindow;
+        final long to = range.getTo();
+
+        final List<Segment> segments = new ArrayList<>();
+        long cursor = range.getFrom();
+        while (cursor <= to) {
+            final long bucketStart = toBucket(cursor);
+            final long bucketEnd = bucketStart + bucketSize - 1;
+            final boolean complete = cursor == bucketStart && bucketEnd <= to;
+            final boolean cacheable = complete && bucketEnd < liveFrom;
+            segments.add(new Segment(cursor, Math.min(bucketEnd, to), cacheable));
+            cursor = bucketEnd + 1;
+        }
+        return segments;
+    }
+
+    private Map<Long, LinkDataMap> splitByBucket(LinkDataMap linkDataMap) {
+        final Map<Long, LinkDataMap> fragments = new HashMap<>();
+        for (LinkData linkData : linkDataMap.getLinkDataList()) {
+            for (LinkCallData linkCallData : linkData.getLinkCallDataMap().getLinkDataList()) {
+                for (TimeHistogram histogram : linkCallData.getTimeHistogram()) {
+                    final LinkDataMap fragment = fragments.computeIfAbsent(toBucket(histogram.getTimeStamp()), k -> new LinkDataMap());
+
+                    final LinkData copy = new LinkData(linkData.getFromApplication(), linkData.getToApplication());
+                    copy.getLinkCallDataMap().addCallData(linkCallData.getSource(), linkCallData.getTarget(), List.of(histogram));
+                    fragment.addLinkData(copy);
+                }
+            }
+        }
+        return fragments;
+    }
+
+    private long toBucket(long timestamp) {
+        return timestamp - Math.floorMod(timestamp, bucketSize);
+    }
+
+    private static boolean hasCacheable(List<Segment> segments) {
+        for (Segment segment : segments) {
+            if (segment.cacheable()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static LinkDataMap newLinkDataMap(Range range, boolean timeAggregated) {
+        if (timeAggregated) {
+            return new LinkDataMap(TimeWindowFunction.ALL_IN_ONE);
+        }
+        return new LinkDataMap(new TimeWindow(range, TimeWindowDownSampler.SAMPLER));
+    }
+
+    private static int weigh(BucketKey key, LinkDataMap fragment) {
+        int weight = 1;
+        for (LinkData linkData : fragment.getLinkDataList()) {
+            for (LinkCallData linkCallData : linkData.getLinkCallDataMap().getLinkDataList()) {
+                weight += linkCallData.getTimeHistogram().size();
+            }
+        }
+        return weight;
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    public long getBypassCount() {
+        return bypassCount.sum();
+    }
+
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    public long getCachedWeight() {
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0))
+                .orElse(0L);
+    }
+
+    /**
+     * @return counters of the cache, for monitoring
+     */
+    public LinkDataMapCacheStats snapshot() {
+        final CacheStats stats = cache.stats();
+        return new LinkDataMapCacheStats(stats.hitCount(), stats.missCount(), stats.evictionCount(),
+                getBypassCount(), getLoadCount(), getCachedWeight(), maximumWeight);
+    }
+
+    record Segment(long from, long to, boolean cacheable) {
+    }
+
+    private record BucketKey(LinkDirection direction, Application application, long bucket) {
+    }
+}
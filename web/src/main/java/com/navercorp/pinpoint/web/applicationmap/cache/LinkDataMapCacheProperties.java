@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.applicationmap.cache;
+
+import jakarta.validation.constraints.Positive;
+
+import java.time.Duration;
+
+/**
+ * @see LinkDataMapCache
+ */
+public class LinkDataMapCacheProperties {
+
+    private boolean enable = false;
+
+    /**
+     * size of the aligned time bucket cached as one fragment. must be a multiple of one minute and at most one hour.
+     */
+    private Duration bucketSize = Duration.ofMinutes(5);
+
+    /**
+     * buckets ending within this duration of now may still receive statistics and are never cached.
+     */
+    private Duration liveWindow = Duration.ofMinutes(3);
+
+    /**
+     * requests over a longer range bypass the cache.
+     */
+    private Duration maxCacheableRange = Duration.ofHours(6);
+
+    /**
+     * maximum number of cached TimeHistograms across all fragments.
+     */
+    @Positive
+    private long maximumWeight = 500_000;
+
+    private Duration expireAfterAccess = Duration.ofMinutes(30);
+
+    public LinkDataMapCacheProperties() {
+    }
+
+    public boolean isEnable() {
+        return enable;
+    }
+
+    public void setEnable(boolean enable) {
+        this.enable = enable;
+    }
+
+    public Duration getBucketSize() {
+        return bucketSize;
+    }
+
+    public void setBucketSize(Duration bucketSize) {
+        this.bucketSize = bucketSize;
+    }
+
+    public Duration getLiveWindow() {
+        return liveWindow;
+    }
+
+    public void setLiveWindow(Duration liveWindow) {
+        this.liveWindow = liveWindow;
+    }
+
+    public Duration getMaxCacheableRange() {
+        return maxCacheableRange;
+    }
+
+    public void setMaxCacheableRange(Duration maxCacheableRange) {
+        this.maxCacheableRange = maxCacheableRange;
+    }
+
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    public void setMaximumWeight(long maximumWeight) {
+        this.maximumWeight = maximumWeight;
+    }
+
+    public Duration getExpireAfterAccess() {
+        return expireAfterAccess;
+    }
+
+    public void setExpireAfterAccess(Duration expireAfterAccess) {
+        this.expireAfterAccess = expireAfterAccess;
+    }
+
+    @Override
+    public String toString() {
+        return "LinkDataMapCacheProperties{" +
+                "enable=" + enable +
+                ", bucketSize=" + bucketSize +
+                ", liveWindow=" + liveWindow +
+                ", maxCacheableRange=" + maxCacheableRange +
+                ", maximumWeight=" + maximumWeight +
+                ", expireAfterAccess=" + expireAfterAccess +
+                '}';
+    }
+}
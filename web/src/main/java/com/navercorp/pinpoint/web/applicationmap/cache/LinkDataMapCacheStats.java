@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.applicationmap.cache;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * @param hitCount      buckets read from the cache
+ * @param missCount     cacheable buckets that were not cached
+ * @param evictionCount buckets evicted by size or expiry
+ * @param bypassCount   requests loaded without the cache, because of their range or because no bucket was cacheable
+ * @param loadCount     loads of uncached, partial or live buckets
+ * @param cachedWeight  TimeHistograms currently cached
+ * @param maximumWeight configured maximum of cached TimeHistograms
+ */
+public record LinkDataMapCacheStats(long hitCount, long missCount, long evictionCount,
+                                    long bypassCount, long loadCount,
+                                    long cachedWeight, long maximumWeight) {
+
+    @JsonProperty("hitRate")
+    public double hitRate() {
+        final long requests = hitCount + missCount;
+        if (requests == 0) {
+            return 0;
+        }
+        return (double) hitCount / requests;
+    }
+}
@@ -23,6 +23,8 @@ import com.navercorp.pinpoint.common.server.util.CallerUtils;
 import com.navercorp.pinpoint.web.applicationmap.ApplicationMapBuilderFactory;
 import com.navercorp.pinpoint.web.applicationmap.appender.histogram.NodeHistogramAppenderFactory;
 import com.navercorp.pinpoint.web.applicationmap.appender.server.ServerInfoAppenderFactory;
+import com.navercorp.pinpoint.web.applicationmap.cache.LinkDataMapCache;
+import com.navercorp.pinpoint.web.applicationmap.cache.LinkDataMapCacheProperties;
 import com.navercorp.pinpoint.web.applicationmap.map.ApplicationsMapCreatorFactory;
 import com.navercorp.pinpoint.web.applicationmap.map.LinkSelectorFactory;
 import com.navercorp.pinpoint.web.applicationmap.map.processor.ApplicationLimiterProcessorFactory;
@@ -36,6 +38,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
@@ -82,8 +85,10 @@ public class ApplicationMapModule {
     }
 
     @Bean
-    public ApplicationsMapCreatorFactory applicationsMapCreatorFactory(@Qualifier("applicationsMapCreateExecutor") Executor executor) {
-        return new ApplicationsMapCreatorFactory(executor);
+    public ApplicationsMapCreatorFactory applicationsMapCreatorFactory(@Qualifier("applicationsMapCreateExecutor") Executor executor,
+                                                                      @Value("${web.servermap.link-select.max-concurrency:32}") int maxConcurrency,
+                                                                      @Value("${web.servermap.link-select.timeout:60000}") long timeoutMillis) {
+        return new ApplicationsMapCreatorFactory(executor, maxConcurrency, timeoutMillis);
     }
 
     @Bean
@@ -100,6 +105,20 @@ public class ApplicationMapModule {
         return new LinkSelectorFactory(linkDataMapService, applicationsMapCreatorFactory, hostApplicationMapDao, serverMapDataFilter, applicationLimiterProcessorFactory);
     }
 
+    @Bean
+    @Validated
+    @ConfigurationProperties("web.servermap.link-cache")
+    public LinkDataMapCacheProperties linkDataMapCacheProperties() {
+        return new LinkDataMapCacheProperties();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "web.servermap.link-cache.enable", havingValue = "true")
+    public LinkDataMapCache linkDataMapCache(LinkDataMapCacheProperties linkDataMapCacheProperties) {
+        logger.info("{}", linkDataMapCacheProperties);
+        return new LinkDataMapCache(linkDataMapCacheProperties);
+    }
+
     @Bean
     @Validated
     @ConfigurationProperties("web.servermap.creator.worker")
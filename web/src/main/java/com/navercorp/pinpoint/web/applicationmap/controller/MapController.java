@@ -33,8 +33,10 @@ import com.navercorp.pinpoint.web.applicationmap.service.MapServiceOption;
 import com.navercorp.pinpoint.web.applicationmap.service.ResponseTimeHistogramService;
 import com.navercorp.pinpoint.web.applicationmap.service.ResponseTimeHistogramServiceOption;
 import com.navercorp.pinpoint.web.applicationmap.view.NodeHistogramSummaryView;
+import com.navercorp.pinpoint.web.coalesce.RequestCoalescer;
 import com.navercorp.pinpoint.web.component.ApplicationFactory;
 import com.navercorp.pinpoint.web.config.ConfigProperties;
+import com.navercorp.pinpoint.web.security.ServerMapDataFilter;
 import com.navercorp.pinpoint.web.validation.NullOrNotBlank;
 import com.navercorp.pinpoint.web.view.ApplicationTimeHistogramViewModel;
 import com.navercorp.pinpoint.web.view.LinkHistogramSummaryView;
@@ -62,6 +64,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * @author emeroad
@@ -79,6 +82,11 @@ public class MapController {
     private final ResponseTimeHistogramService responseTimeHistogramService;
     private final RangeValidator rangeValidator;
     private final ApplicationFactory applicationFactory;
+    private final RequestCoalescer requestCoalescer;
+    private final ServerMapDataFilter serverMapDataFilter;
+
+    private static final String SERVER_MAP_ENDPOINT = "servermap";
+    private static final String RESPONSE_TIME_HISTOGRAM_ENDPOINT = "responseTimeHistogram";
 
     private static final String DEFAULT_SEARCH_DEPTH = "4";
     private static final int DEFAULT_MAX_SEARCH_DEPTH = 4;
@@ -87,7 +95,9 @@ public class MapController {
             MapService mapService,
             ResponseTimeHistogramService responseTimeHistogramService,
             ApplicationFactory applicationFactory,
-            ConfigProperties configProperties
+            ConfigProperties configProperties,
+            RequestCoalescer requestCoalescer,
+            Optional<ServerMapDataFilter> serverMapDataFilter
     ) {
         this.mapService = Objects.requireNonNull(mapService, "mapService");
         this.responseTimeHistogramService =
@@ -95,6 +105,8 @@ public class MapController {
         this.applicationFactory = Objects.requireNonNull(applicationFactory, "applicationFactory");
         Objects.requireNonNull(configProperties, "configProperties");
         this.rangeValidator = new ForwardRangeValidator(Duration.ofDays(configProperties.getServerMapPeriodMax()));
+        this.requestCoalescer = Objects.requireNonNull(requestCoalescer, "requestCoalescer");
+        this.serverMapDataFilter = Objects.requireNonNull(serverMapDataFilter, "serverMapDataFilter").orElse(null);
     }
 
     private SearchOption.Builder searchOptionBuilder() {
@@ -140,7 +152,10 @@ public class MapController {
                 .setUseStatisticsAgentState(useStatisticsAgentState)
                 .build();
 
-        return selectApplicationMap(application, option, useLoadHistogramFormat);
+        // MapWrap applies the histogram format to the shared map, so the format is a part of the key
+        final List<Object> key = List.of(application, range, callerRange, calleeRange, bidirectional, wasOnly,
+                useStatisticsAgentState, useLoadHistogramFormat);
+        return selectSharedApplicationMap(key, option, useLoadHistogramFormat);
     }
 
     /**
@@ -183,7 +198,31 @@ public class MapController {
                 .setUseStatisticsAgentState(useStatisticsAgentState)
                 .build();
 
-        return selectApplicationMap(application, option, useLoadHistogramFormat);
+        // MapWrap applies the histogram format to the shared map, so the format is a part of the key
+        final List<Object> key = List.of(application, range, callerRange, calleeRange, bidirectional, wasOnly,
+                useStatisticsAgentState, useLoadHistogramFormat);
+        return selectSharedApplicationMap(key, option, useLoadHistogramFormat);
+    }
+
+    private MapWrap selectSharedApplicationMap(
+            List<Object> key,
+            MapServiceOption mapServiceOption,
+            boolean useLoadHistogramFormat
+    ) {
+        logger.info("Select shared applicationMap. option={}", mapServiceOption);
+        ApplicationMap map;
+        if (serverMapDataFilter == null) {
+            map = requestCoalescer.execute(SERVER_MAP_ENDPOINT, key,
+                    () -> this.mapService.selectApplicationMapWithoutDataFiltering(mapServiceOption));
+        } else {
+            // the link selection already skips the applications filtered out for the user
+            map = requestCoalescer.executePerUser(SERVER_MAP_ENDPOINT, key,
+                    () -> this.mapService.selectApplicationMapWithoutDataFiltering(mapServiceOption));
+            map = serverMapDataFilter.dataFiltering(map);
+        }
+
+        TimeHistogramFormat format = TimeHistogramFormat.format(useLoadHistogramFormat);
+        return new MapWrap(map, format);
     }
 
     private MapWrap selectApplicationMap(
@@ -242,7 +281,7 @@ public class MapController {
                 .Builder(application, range, fromApplications, toApplications)
                 .setUseStatisticsAgentState(useStatisticsAgentState)
                 .build();
-        final NodeHistogramSummary nodeHistogramSummary = responseTimeHistogramService.selectNodeHistogramData(option);
+        final NodeHistogramSummary nodeHistogramSummary = selectNodeHistogramData(option);
 
         TimeHistogramFormat format = TimeHistogramFormat.format(useLoadHistogramFormat);
         return new NodeHistogramSummaryView(nodeHistogramSummary, nodeHistogramSummary.getServerGroupList(), format);
@@ -289,12 +328,19 @@ public class MapController {
                 .setUseStatisticsAgentState(useStatisticsAgentState)
                 .build();
 
-        final NodeHistogramSummary nodeHistogramSummary = responseTimeHistogramService.selectNodeHistogramData(option);
+        final NodeHistogramSummary nodeHistogramSummary = selectNodeHistogramData(option);
 
         final TimeHistogramFormat format = TimeHistogramFormat.format(useLoadHistogramFormat);
         return new NodeHistogramSummaryView(nodeHistogramSummary, nodeHistogramSummary.getServerGroupList(), format);
     }
 
+    private NodeHistogramSummary selectNodeHistogramData(ResponseTimeHistogramServiceOption option) {
+        final List<Object> key = List.of(option.getApplication(), option.getRange(),
+                option.getFromApplications(), option.getToApplications(), option.isUseStatisticsAgentState());
+        return requestCoalescer.execute(RESPONSE_TIME_HISTOGRAM_ENDPOINT, key,
+                () -> responseTimeHistogramService.selectNodeHistogramData(option));
+    }
+
     private List<Application> toApplications(List<String> applicationNames, List<Short> serviceTypeCodes) {
         final List<Application> result = new ArrayList<>(applicationNames.size());
         for (int i = 0; i < applicationNames.size(); i++) {
@@ -17,7 +17,9 @@
 
 package com.navercorp.pinpoint.web.applicationmap.map;
 
+import com.navercorp.pinpoint.web.applicationmap.link.LinkDirection;
 import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataDuplexMap;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataMap;
 import com.navercorp.pinpoint.web.vo.Application;
 
 /**
@@ -27,4 +29,9 @@ public interface ApplicationMapCreator {
 
     LinkDataDuplexMap createMap(Application application, LinkSelectContext linkSelectContext);
 
+    /**
+     * reads and processes the links of one direction without visit or depth check
+     */
+    LinkDataMap selectLinkDataMap(Application application, LinkDirection direction, LinkSelectContext linkSelectContext);
+
 }
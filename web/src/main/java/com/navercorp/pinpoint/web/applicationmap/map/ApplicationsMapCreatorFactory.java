@@ -29,13 +29,29 @@ import java.util.concurrent.Executor;
 @Component
 public class ApplicationsMapCreatorFactory {
 
+    public static final int DEFAULT_MAX_CONCURRENCY = 32;
+
     private final Executor executor;
 
+    private final int maxConcurrency;
+
+    private final long timeoutMillis;
+
     public ApplicationsMapCreatorFactory(@Qualifier("applicationsMapCreateExecutor") Executor executor) {
+        this(executor, DEFAULT_MAX_CONCURRENCY, -1);
+    }
+
+    public ApplicationsMapCreatorFactory(Executor executor, int maxConcurrency, long timeoutMillis) {
         this.executor = Objects.requireNonNull(executor, "executor");
+        this.maxConcurrency = maxConcurrency;
+        this.timeoutMillis = timeoutMillis;
     }
 
     public ApplicationsMapCreator create(ApplicationMapCreator applicationMapCreator) {
         return new DefaultApplicationsMapCreator(applicationMapCreator, executor);
     }
+
+    public FrontierLinkSearcher createFrontierLinkSearcher(ApplicationMapCreator applicationMapCreator) {
+        return new FrontierLinkSearcher(applicationMapCreator, executor, maxConcurrency, timeoutMillis);
+    }
 }
@@ -25,13 +25,13 @@ import com.navercorp.pinpoint.web.vo.Application;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
 /**
  * Breadth-first link search
  * not thread safe
+ * @see FrontierLinkSearcher
  *
  * @author emeroad
  * @author minwoo.jung
@@ -41,7 +41,7 @@ public class BidirectionalLinkSelector implements LinkSelector {
 
     private final Logger logger = LogManager.getLogger(this.getClass());
 
-    private final ApplicationsMapCreator applicationsMapCreator;
+    private final FrontierLinkSearcher linkSearcher;
 
     private final VirtualLinkHandler virtualLinkHandler;
 
@@ -50,10 +50,10 @@ public class BidirectionalLinkSelector implements LinkSelector {
     private final LinkVisitChecker linkVisitChecker = new LinkVisitChecker();
 
     BidirectionalLinkSelector(
-            ApplicationsMapCreator applicationsMapCreator,
+            FrontierLinkSearcher linkSearcher,
             VirtualLinkHandler virtualLinkHandler,
             ServerMapDataFilter serverMapDataFilter) {
-        this.applicationsMapCreator = Objects.requireNonNull(applicationsMapCreator, "applicationsMapCreator");
+        this.linkSearcher = Objects.requireNonNull(linkSearcher, "linkSearcher");
         this.virtualLinkHandler = Objects.requireNonNull(virtualLinkHandler, "virtualLinkHandler");
         this.serverMapDataFilter = serverMapDataFilter;
     }
@@ -69,35 +69,19 @@ public class BidirectionalLinkSelector implements LinkSelector {
         final SearchDepth outDepth = new SearchDepth(outSearchDepth);
         final SearchDepth inDepth = new SearchDepth(inSearchDepth);
 
-        LinkDataDuplexMap linkDataDuplexMap = new LinkDataDuplexMap();
-        List<Application> applications = filterApplications(sourceApplications);
         LinkSelectContext linkSelectContext = new LinkSelectContext(range, outDepth, inDepth, linkVisitChecker, timeAggregated);
 
-        while (!applications.isEmpty()) {
+        logger.info("link search start. depth:{} -> {}, nodes:{}", outSearchDepth, inSearchDepth, sourceApplications);
+        LinkDataDuplexMap linkDataDuplexMap = linkSearcher.search(sourceApplications, linkSelectContext, this::accept);
+        logger.info("link search end. depth:{} -> {}, size:{}, incomplete:{}", outSearchDepth, inSearchDepth, linkDataDuplexMap.size(), linkDataDuplexMap.isIncomplete());
 
-            logger.info("depth search start. depth:{} -> {}, size:{}, nodes:{}", linkSelectContext.getOutDepth(), linkSelectContext.getInDepth(), applications.size(), applications);
-            LinkDataDuplexMap levelData = applicationsMapCreator.createLinkDataDuplexMap(applications, linkSelectContext);
-            logger.info("depth search end. depth:{} -> {}", linkSelectContext.getOutDepth(), linkSelectContext.getInDepth());
-
-            linkDataDuplexMap.addLinkDataDuplexMap(levelData);
-
-            List<Application> nextApplications = linkSelectContext.getNextApplications();
-            applications = filterApplications(nextApplications);
-            linkSelectContext = linkSelectContext.advance();
-        }
         return virtualLinkHandler.processVirtualLinks(linkDataDuplexMap, linkVisitChecker, range);
     }
 
-    private List<Application> filterApplications(List<Application> applications) {
+    private boolean accept(Application application) {
         if (serverMapDataFilter == null) {
-            return applications;
-        }
-        List<Application> filteredApplications = new ArrayList<>();
-        for (Application application : applications) {
-            if (!serverMapDataFilter.filter(application)) {
-                filteredApplications.add(application);
-            }
+            return true;
         }
-        return filteredApplications;
+        return !serverMapDataFilter.filter(application);
     }
 }
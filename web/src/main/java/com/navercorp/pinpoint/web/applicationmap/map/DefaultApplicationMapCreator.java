@@ -30,6 +30,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * @author HyunGil Jeong
@@ -53,39 +54,58 @@ public class DefaultApplicationMapCreator implements ApplicationMapCreator {
     @Override
     public LinkDataDuplexMap createMap(Application application, LinkSelectContext linkSelectContext) {
         logger.debug("Finding Out/In link data for {}", application);
-        final Range range = linkSelectContext.getRange();
         LinkDataDuplexMap searchResult = new LinkDataDuplexMap();
 
         if (linkSelectContext.checkNextOut(application)) {
+            final LinkDataMap processedOutLinkDataMap = selectLinkDataMap(application, LinkDirection.OUT_LINK, linkSelectContext);
+            for (LinkData outLinkData : processedOutLinkDataMap.getLinkDataList()) {
+                searchResult.addSourceLinkData(outLinkData);
+            }
+            forEachNextApplication(LinkDirection.OUT_LINK, processedOutLinkDataMap, linkSelectContext::addNextApplication);
+        }
+
+        if (linkSelectContext.checkNextIn(application)) {
+            final LinkDataMap processedInLinkDataMap = selectLinkDataMap(application, LinkDirection.IN_LINK, linkSelectContext);
+            for (LinkData inLinkData : processedInLinkDataMap.getLinkDataList()) {
+                searchResult.addTargetLinkData(inLinkData);
+            }
+            forEachNextApplication(LinkDirection.IN_LINK, processedInLinkDataMap, linkSelectContext::addNextApplication);
+        }
+        return searchResult;
+    }
+
+    @Override
+    public LinkDataMap selectLinkDataMap(Application application, LinkDirection direction, LinkSelectContext linkSelectContext) {
+        final Range range = linkSelectContext.getRange();
+        if (direction == LinkDirection.OUT_LINK) {
             final LinkDataMap outLinkDataMap = linkDataMapService.selectCallerLinkDataMap(application, range, linkSelectContext.isTimeAggregated());
             logger.debug("Found {}. node={}, depth={}, count={}", LinkDirection.OUT_LINK, application, linkSelectContext.getOutDepth(), outLinkDataMap.size());
 
             final LinkDataMap processedOutLinkDataMap = outLinkDataMapProcessor.processLinkDataMap(LinkDirection.OUT_LINK, outLinkDataMap, range);
             logger.debug("Processed {} node={} count:{} {}", LinkDirection.OUT_LINK, application, processedOutLinkDataMap.size(), processedOutLinkDataMap);
-            for (LinkData outLinkData : processedOutLinkDataMap.getLinkDataList()) {
-                searchResult.addSourceLinkData(outLinkData);
-                final Application toApplication = outLinkData.getToApplication();
+            return processedOutLinkDataMap;
+        }
+        final LinkDataMap inLinkDataMap = linkDataMapService.selectCalleeLinkDataMap(application, range, linkSelectContext.isTimeAggregated());
+        logger.debug("Found {}. node={}, depth={}, count={}", LinkDirection.IN_LINK, application, linkSelectContext.getInDepth(), inLinkDataMap.size());
+
+        final LinkDataMap processedInLinkDataMap = inLinkDataMapProcessor.processLinkDataMap(LinkDirection.IN_LINK, inLinkDataMap, range);
+        logger.debug("Processed {} node={} count:{} {}", LinkDirection.IN_LINK, application, processedInLinkDataMap.size(), processedInLinkDataMap);
+        return processedInLinkDataMap;
+    }
+
+    static void forEachNextApplication(LinkDirection direction, LinkDataMap processedLinkDataMap, Consumer<Application> nextApplication) {
+        for (LinkData linkData : processedLinkDataMap.getLinkDataList()) {
+            if (direction == LinkDirection.OUT_LINK) {
+                final Application toApplication = linkData.getToApplication();
                 // skip if nextApplication is a terminal or an unknown cloud
                 final ServiceType toServiceType = toApplication.getServiceType();
                 if (toServiceType.isTerminal() || toServiceType.isUnknown()) {
                     continue;
                 }
-                linkSelectContext.addNextApplication(toApplication);
+                nextApplication.accept(toApplication);
+            } else {
+                nextApplication.accept(linkData.getFromApplication());
             }
         }
-
-        if (linkSelectContext.checkNextIn(application)) {
-            final LinkDataMap inLinkDataMap = linkDataMapService.selectCalleeLinkDataMap(application, range, linkSelectContext.isTimeAggregated());
-            logger.debug("Found {}. node={}, depth={}, count={}", LinkDirection.IN_LINK, application, linkSelectContext.getInDepth(), inLinkDataMap.size());
-
-            final LinkDataMap processedInLinkDataMap = inLinkDataMapProcessor.processLinkDataMap(LinkDirection.IN_LINK, inLinkDataMap, range);
-            logger.debug("Processed {} node={} count:{} {}", LinkDirection.IN_LINK, application, processedInLinkDataMap.size(), processedInLinkDataMap);
-            for (LinkData inLinkData : processedInLinkDataMap.getLinkDataList()) {
-                searchResult.addTargetLinkData(inLinkData);
-                final Application fromApplication = inLinkData.getFromApplication();
-                linkSelectContext.addNextApplication(fromApplication);
-            }
-        }
-        return searchResult;
     }
 }
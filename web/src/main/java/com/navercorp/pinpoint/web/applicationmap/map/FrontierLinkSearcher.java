@@ -0,0 +1,328 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.applicationmap.map;
+
+import com.navercorp.pinpoint.web.applicationmap.link.LinkDirection;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkData;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataDuplexMap;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataMap;
+import com.navercorp.pinpoint.web.vo.Application;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+/**
+ * Breadth-first link search without level barriers.
+ * <p>
+ * The links of an application are read as soon as the application is discovered instead of waiting for the
+ * whole previous depth to finish. Each (application, direction) is read at most once per search, and an
+ * application reached again through a shorter path re-propagates its links with the shorter depth, so the
+ * selected links are the same as a level by level search.
+ * At most {@code maxConcurrency} reads are in flight per search, shallower reads first.
+ * If the search does not finish within {@code timeoutMillis}, the links read so far are returned and the map is
+ * marked as incomplete. Reads still running are cancelled (interrupted) and waiting reads are dropped.
+ */
+public class FrontierLinkSearcher {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final ApplicationMapCreator applicationMapCreator;
+    private final Executor executor;
+    private final int maxConcurrency;
+    private final long timeoutMillis;
+
+    public FrontierLinkSearcher(ApplicationMapCreator applicationMapCreator, Executor executor, int maxConcurrency, long timeoutMillis) {
+        this.applicationMapCreator = Objects.requireNonNull(applicationMapCreator, "applicationMapCreator");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be '> 0'");
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * @param filter applications rejected by the filter are not searched
+     */
+    public LinkDataDuplexMap search(List<Application> sourceApplications, LinkSelectContext linkSelectContext, Predicate<Application> filter) {
+        Objects.requireNonNull(sourceApplications, "sourceApplications");
+        Objects.requireNonNull(linkSelectContext, "linkSelectContext");
+        Objects.requireNonNull(filter, "filter");
+
+        final Search search = new Search(linkSelectContext, filter);
+        search.start(sourceApplications);
+        try {
+            if (timeoutMillis > 0) {
+                search.done.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } else {
+                search.done.get();
+            }
+            return search.close(false);
+        } catch (TimeoutException e) {
+            logger.warn("link search timeout. timeout:{}ms, {}", timeoutMillis, search);
+            return search.close(true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("link search interrupted. {}", search);
+            return search.close(true);
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    private static class Read {
+        private final Application application;
+        private final LinkDirection direction;
+        private int depth;
+        private LinkDataMap linkDataMap;
+
+        private Read(Application application, LinkDirection direction, int depth) {
+            this.application = application;
+            this.direction = direction;
+            this.depth = depth;
+        }
+
+        @Override
+        public String toString() {
+            return direction + ":" + application + " depth:" + depth;
+        }
+    }
+
+    private record ReadKey(Application application, LinkDirection direction) {
+    }
+
+    private class Search {
+        private final List<LinkSelectContext> depthContexts = new ArrayList<>();
+        private final Predicate<Application> filter;
+        private final LinkVisitChecker linkVisitChecker;
+
+        private final Map<Application, Integer> depthMap = new HashMap<>();
+        private final Map<ReadKey, Read> readMap = new HashMap<>();
+        private final PriorityQueue<Read> waiting = new PriorityQueue<>(Comparator.comparingInt(read -> read.depth));
+        private final Set<ReadTask> runningTasks = new HashSet<>();
+        private int running = 0;
+        private boolean starting = false;
+        private boolean closed = false;
+
+        private final LinkDataDuplexMap result = new LinkDataDuplexMap();
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        private Search(LinkSelectContext linkSelectContext, Predicate<Application> filter) {
+            this.depthContexts.add(linkSelectContext);
+            this.filter = filter;
+            this.linkVisitChecker = linkSelectContext.getLinkVisitChecker();
+        }
+
+        private synchronized void start(List<Application> sourceApplications) {
+            // reads may complete in the calling thread
+            starting = true;
+            for (Application application : sourceApplications) {
+                discover(application, 0);
+            }
+            starting = false;
+            completeIfIdle();
+        }
+
+        private LinkSelectContext getContext(int depth) {
+            while (depthContexts.size() <= depth) {
+                depthContexts.add(depthContexts.get(depthContexts.size() - 1).advance());
+            }
+            return depthContexts.get(depth);
+        }
+
+        private void discover(Application application, int depth) {
+            if (closed || !filter.test(application)) {
+                return;
+            }
+            final Integer knownDepth = depthMap.get(application);
+            if (knownDepth != null && knownDepth <= depth) {
+                return;
+            }
+            depthMap.put(application, depth);
+
+            final LinkSelectContext context = getContext(depth);
+            if (!context.isOutDepthOverflow()) {
+                expand(application, LinkDirection.OUT_LINK, depth);
+            }
+            if (!context.isInDepthOverflow()) {
+                expand(application, LinkDirection.IN_LINK, depth);
+            }
+        }
+
+        private void expand(Application application, LinkDirection direction, int depth) {
+            final ReadKey key = new ReadKey(application, direction);
+            final Read read = readMap.get(key);
+            if (read == null) {
+                visit(application, direction);
+                final Read newRead = new Read(application, direction, depth);
+                readMap.put(key, newRead);
+                if (running < maxConcurrency) {
+                    execute(newRead);
+                } else {
+                    waiting.add(newRead);
+                }
+                return;
+            }
+            if (depth >= read.depth) {
+                return;
+            }
+            // reached through a shorter path
+            read.depth = depth;
+            if (read.linkDataMap != null) {
+                propagate(read);
+            } else if (waiting.remove(read)) {
+                waiting.add(read);
+            }
+        }
+
+        private void visit(Application application, LinkDirection direction) {
+            if (direction == LinkDirection.OUT_LINK) {
+                linkVisitChecker.visitOut(application);
+            } else {
+                linkVisitChecker.visitIn(application);
+            }
+        }
+
+        private void execute(Read read) {
+            final ReadTask task = new ReadTask(read, getContext(read.depth));
+            running++;
+            runningTasks.add(task);
+            try {
+                executor.execute(task);
+            } catch (RuntimeException e) {
+                running--;
+                runningTasks.remove(task);
+                fail(e);
+            }
+        }
+
+        private synchronized void onComplete(ReadTask task, LinkDataMap linkDataMap, Throwable throwable) {
+            running--;
+            runningTasks.remove(task);
+            if (closed) {
+                return;
+            }
+            if (throwable != null) {
+                fail(throwable);
+                return;
+            }
+            final Read read = task.read;
+            read.linkDataMap = linkDataMap;
+            for (LinkData linkData : linkDataMap.getLinkDataList()) {
+                if (read.direction == LinkDirection.OUT_LINK) {
+                    result.addSourceLinkData(linkData);
+                } else {
+                    result.addTargetLinkData(linkData);
+                }
+            }
+            propagate(read);
+
+            while (!closed && running < maxConcurrency && !waiting.isEmpty()) {
+                execute(waiting.poll());
+            }
+            completeIfIdle();
+        }
+
+        private void propagate(Read read) {
+            final int nextDepth = read.depth + 1;
+            DefaultApplicationMapCreator.forEachNextApplication(read.direction, read.linkDataMap, next -> discover(next, nextDepth));
+        }
+
+        private void completeIfIdle() {
+            if (!starting && running == 0 && waiting.isEmpty()) {
+                done.complete(null);
+            }
+        }
+
+        private void fail(Throwable throwable) {
+            stop();
+            done.completeExceptionally(throwable);
+        }
+
+        private synchronized LinkDataDuplexMap close(boolean incomplete) {
+            stop();
+            if (incomplete) {
+                result.markIncomplete();
+            }
+            return result;
+        }
+
+        private void stop() {
+            closed = true;
+            waiting.clear();
+            // cancel() completes the task, which removes it from runningTasks
+            for (ReadTask task : List.copyOf(runningTasks)) {
+                task.cancel(true);
+            }
+        }
+
+        private class ReadTask extends FutureTask<LinkDataMap> {
+            private final Read read;
+
+            private ReadTask(Read read, LinkSelectContext context) {
+                super(() -> applicationMapCreator.selectLinkDataMap(read.application, read.direction, context));
+                this.read = read;
+            }
+
+            @Override
+            protected void done() {
+                if (isCancelled()) {
+                    onComplete(this, null, new CancellationException("link read cancelled. " + read));
+                    return;
+                }
+                try {
+                    onComplete(this, get(), null);
+                } catch (ExecutionException e) {
+                    onComplete(this, null, e.getCause());
+                } catch (InterruptedException e) {
+                    // not reachable, the task is done
+                    Thread.currentThread().interrupt();
+                    onComplete(this, null, e);
+                }
+            }
+        }
+
+        @Override
+        public synchronized String toString() {
+            return "Search{" +
+                    "applications=" + depthMap.size() +
+                    ", reads=" + readMap.size() +
+                    ", running=" + running +
+                    ", waiting=" + waiting.size() +
+                    '}';
+        }
+    }
+}
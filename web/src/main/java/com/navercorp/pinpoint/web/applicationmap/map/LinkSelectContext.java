@@ -72,6 +72,18 @@ public class LinkSelectContext {
         return timeAggregated;
     }
 
+    public boolean isOutDepthOverflow() {
+        return outDepth.isDepthOverflow();
+    }
+
+    public boolean isInDepthOverflow() {
+        return inDepth.isDepthOverflow();
+    }
+
+    public LinkVisitChecker getLinkVisitChecker() {
+        return linkVisitChecker;
+    }
+
     public boolean checkNextOut(Application application) {
         return filterNextLink(LinkDirection.OUT_LINK, outDepth, application, linkVisitChecker::visitOut);
     }
@@ -73,12 +73,12 @@ public class LinkSelectorFactory {
 
         ApplicationMapCreator applicationMapCreator = new DefaultApplicationMapCreator(linkDataMapService, outLinkProcessors, inLinkProcessors);
 
-        ApplicationsMapCreator applicationsMapCreator = applicationsMapCreatorFactory.create(applicationMapCreator);
-
         if (LinkSelectorType.UNIDIRECTIONAL == linkSelectorType) {
+            ApplicationsMapCreator applicationsMapCreator = applicationsMapCreatorFactory.create(applicationMapCreator);
             return new UnidirectionalLinkSelector(applicationsMapCreator, virtualLinkHandler, serverMapDataFilter);
         } else {
-            return new BidirectionalLinkSelector(applicationsMapCreator, virtualLinkHandler, serverMapDataFilter);
+            FrontierLinkSearcher linkSearcher = applicationsMapCreatorFactory.createFrontierLinkSearcher(applicationMapCreator);
+            return new BidirectionalLinkSelector(linkSearcher, virtualLinkHandler, serverMapDataFilter);
         }
     }
 
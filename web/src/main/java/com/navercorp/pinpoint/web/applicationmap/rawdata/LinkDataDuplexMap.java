@@ -30,6 +30,8 @@ public class LinkDataDuplexMap {
 
     private final LinkDataMap targetLinkDataMap;
 
+    private boolean incomplete;
+
     public LinkDataDuplexMap() {
         this.sourceLinkDataMap = new LinkDataMap();
         this.targetLinkDataMap = new LinkDataMap();
@@ -62,6 +64,9 @@ public class LinkDataDuplexMap {
         for (LinkData copyLinkData : linkDataDuplexMap.targetLinkDataMap.getLinkDataList()) {
             addTargetLinkData(copyLinkData);
         }
+        if (linkDataDuplexMap.incomplete) {
+            this.incomplete = true;
+        }
     }
 
     public void addSourceLinkData(LinkData copyLinkData) {
@@ -98,11 +103,23 @@ public class LinkDataDuplexMap {
         return this.sourceLinkDataMap.getTotalCount() + this.targetLinkDataMap.getTotalCount();
     }
 
+    /**
+     * link search stopped before every link was read, e.g. on timeout
+     */
+    public boolean isIncomplete() {
+        return incomplete;
+    }
+
+    public void markIncomplete() {
+        this.incomplete = true;
+    }
+
     @Override
     public String toString() {
         return "LinkDataDuplexMap{" +
                 "sourceLinkDataMap=" + sourceLinkDataMap +
                 ", targetLinkDataMap=" + targetLinkDataMap +
+                ", incomplete=" + incomplete +
                 '}';
     }
 }
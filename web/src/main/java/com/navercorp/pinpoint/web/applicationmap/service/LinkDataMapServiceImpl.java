@@ -18,13 +18,16 @@
 package com.navercorp.pinpoint.web.applicationmap.service;
 
 import com.navercorp.pinpoint.common.server.util.time.Range;
+import com.navercorp.pinpoint.web.applicationmap.cache.LinkDataMapCache;
 import com.navercorp.pinpoint.web.applicationmap.dao.MapStatisticsCalleeDao;
 import com.navercorp.pinpoint.web.applicationmap.dao.MapStatisticsCallerDao;
+import com.navercorp.pinpoint.web.applicationmap.link.LinkDirection;
 import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataMap;
 import com.navercorp.pinpoint.web.vo.Application;
 import org.springframework.stereotype.Service;
 
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * @author HyunGil Jeong
@@ -36,18 +39,29 @@ public class LinkDataMapServiceImpl implements LinkDataMapService {
 
     private final MapStatisticsCalleeDao mapStatisticsCalleeDao;
 
-    public LinkDataMapServiceImpl(MapStatisticsCallerDao mapStatisticsCallerDao, MapStatisticsCalleeDao mapStatisticsCalleeDao) {
+    private final LinkDataMapCache linkDataMapCache;
+
+    public LinkDataMapServiceImpl(MapStatisticsCallerDao mapStatisticsCallerDao,
+                                  MapStatisticsCalleeDao mapStatisticsCalleeDao,
+                                  Optional<LinkDataMapCache> linkDataMapCache) {
         this.mapStatisticsCallerDao = Objects.requireNonNull(mapStatisticsCallerDao, "mapStatisticsCallerDao");
         this.mapStatisticsCalleeDao = Objects.requireNonNull(mapStatisticsCalleeDao, "mapStatisticsCalleeDao");
+        this.linkDataMapCache = Objects.requireNonNull(linkDataMapCache, "linkDataMapCache").orElse(null);
     }
 
     @Override
     public LinkDataMap selectCallerLinkDataMap(Application application, Range range, boolean timeAggregated) {
+        if (linkDataMapCache != null) {
+            return linkDataMapCache.select(LinkDirection.OUT_LINK, application, range, timeAggregated, mapStatisticsCallerDao::selectCaller);
+        }
         return mapStatisticsCallerDao.selectCaller(application, range, timeAggregated);
     }
 
     @Override
     public LinkDataMap selectCalleeLinkDataMap(Application application, Range range, boolean timeAggregated) {
+        if (linkDataMapCache != null) {
+            return linkDataMapCache.select(LinkDirection.IN_LINK, application, range, timeAggregated, mapStatisticsCalleeDao::selectCallee);
+        }
         return mapStatisticsCalleeDao.selectCallee(application, range, timeAggregated);
     }
 }
@@ -18,6 +18,7 @@
 package com.navercorp.pinpoint.web.applicationmap.service;
 
 import com.navercorp.pinpoint.web.applicationmap.ApplicationMap;
+import com.navercorp.pinpoint.web.security.ServerMapDataFilter;
 
 /**
  * @author netspider
@@ -28,4 +29,10 @@ public interface MapService {
      * Queries for the Server Map
      */
     ApplicationMap selectApplicationMap(MapServiceOption option);
+
+    /**
+     * Same as {@link #selectApplicationMap(MapServiceOption)} without {@link ServerMapDataFilter#dataFiltering(ApplicationMap)},
+     * the caller applies the filter to the returned map
+     */
+    ApplicationMap selectApplicationMapWithoutDataFiltering(MapServiceOption option);
 }
@@ -93,6 +93,15 @@ public class MapServiceImpl implements MapService {
      */
     @Override
     public ApplicationMap selectApplicationMap(MapServiceOption option) {
+        ApplicationMap map = selectApplicationMapWithoutDataFiltering(option);
+        if (serverMapDataFilter != null) {
+            map = serverMapDataFilter.dataFiltering(map);
+        }
+        return map;
+    }
+
+    @Override
+    public ApplicationMap selectApplicationMapWithoutDataFiltering(MapServiceOption option) {
         logger.debug("SelectApplicationMap");
 
         StopWatch watch = new StopWatch("ApplicationMap");
@@ -128,9 +137,6 @@ public class MapServiceImpl implements MapService {
         if (logger.isInfoEnabled()) {
             logger.info("ApplicationMap BuildTime: {}", watch.prettyPrint());
         }
-        if (serverMapDataFilter != null) {
-            map = serverMapDataFilter.dataFiltering(map);
-        }
         return map;
     }
 
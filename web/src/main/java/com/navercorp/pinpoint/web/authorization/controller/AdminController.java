@@ -16,6 +16,10 @@
 
 package com.navercorp.pinpoint.web.authorization.controller;
 
+import com.navercorp.pinpoint.web.applicationmap.cache.LinkDataMapCache;
+import com.navercorp.pinpoint.web.applicationmap.cache.LinkDataMapCacheStats;
+import com.navercorp.pinpoint.web.coalesce.CoalescingStats;
+import com.navercorp.pinpoint.web.coalesce.RequestCoalescer;
 import com.navercorp.pinpoint.web.service.AdminService;
 import com.navercorp.pinpoint.web.vo.Application;
 import jakarta.validation.constraints.Min;
@@ -33,6 +37,7 @@ import org.springframework.web.server.ResponseStatusException;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * @author netspider
@@ -46,9 +51,14 @@ public class AdminController {
     private final Logger logger = LogManager.getLogger(this.getClass());
 
     private final AdminService adminService;
+    private final RequestCoalescer requestCoalescer;
+    private final LinkDataMapCache linkDataMapCache;
 
-    public AdminController(AdminService adminService) {
+    public AdminController(AdminService adminService, RequestCoalescer requestCoalescer,
+                           Optional<LinkDataMapCache> linkDataMapCache) {
         this.adminService = Objects.requireNonNull(adminService, "adminService");
+        this.requestCoalescer = Objects.requireNonNull(requestCoalescer, "requestCoalescer");
+        this.linkDataMapCache = Objects.requireNonNull(linkDataMapCache, "linkDataMapCache").orElse(null);
     }
 
     @RequestMapping(value = "/removeApplicationName")
@@ -116,4 +126,17 @@ public class AdminController {
         return this.adminService.getInactiveAgents(applicationName, durationDays);
     }
 
-}
\ No newline at end of file
+    @RequestMapping(value = "/coalescingStats")
+    public Map<String, CoalescingStats> coalescingStats() {
+        return this.requestCoalescer.getStats();
+    }
+
+    @RequestMapping(value = "/linkCacheStats")
+    public LinkDataMapCacheStats linkCacheStats() {
+        if (linkDataMapCache == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "web.servermap.link-cache is disabled");
+        }
+        return this.linkDataMapCache.snapshot();
+    }
+
+}
@@ -2,7 +2,10 @@ package com.navercorp.pinpoint.web.authorization.controller;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.navercorp.pinpoint.common.server.util.time.Range;
+import com.navercorp.pinpoint.web.coalesce.RequestCoalescer;
 import com.navercorp.pinpoint.web.scatter.DragArea;
 import com.navercorp.pinpoint.web.scatter.DragAreaQuery;
 import com.navercorp.pinpoint.web.scatter.Status;
@@ -20,12 +23,17 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.PositiveOrZero;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -40,8 +48,17 @@ public class HeatMapController {
 
     private final HeatMapService heatMap;
 
-    public HeatMapController(HeatMapService heatMap) {
+    private final ObjectWriter heatMapWriter;
+
+    private final RequestCoalescer requestCoalescer;
+
+    private static final String HEATMAP_ENDPOINT = "heatmap";
+
+    public HeatMapController(HeatMapService heatMap, ObjectMapper mapper, RequestCoalescer requestCoalescer) {
         this.heatMap = Objects.requireNonNull(heatMap, "heatMap");
+        Objects.requireNonNull(mapper, "mapper");
+        this.heatMapWriter = mapper.writerFor(HeatMapViewModel.class);
+        this.requestCoalescer = Objects.requireNonNull(requestCoalescer, "requestCoalescer");
     }
 
     @GetMapping(value = "/drag")
@@ -108,13 +125,54 @@ public class HeatMapController {
         final Range range = Range.unchecked(from, to);
         logger.debug("fetch getHeatMapData. RANGE={}, ", range);
 
-        final LimitedScanResult<HeatMap> scanResult =
-                this.heatMap.getHeatMap(applicationName, range, TimeUnit.SECONDS.toMillis(10), LimitUtils.MAX);
+        final LimitedScanResult<HeatMap> scanResult = requestCoalescer.execute(HEATMAP_ENDPOINT, List.of(applicationName, range),
+                () -> this.heatMap.getHeatMap(applicationName, range, TimeUnit.SECONDS.toMillis(10), LimitUtils.MAX));
         final Status status = new Status(System.currentTimeMillis(), range);
 
         return new HeatMapController.HeatMapViewModel(scanResult.scanData(), status);
     }
 
+    /**
+     * Same query as {@link #getHeatMapData(String, long, long)}, written as one json line per time slice, newest first.
+     * Every line shares the axes of the requested range, so the client adds up the counts as they arrive.
+     * Scanning stops at the first slice that can no longer be written to the client.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody streamHeatMapData(
+            @RequestParam("application") @NotBlank String applicationName,
+            @RequestParam("from") @PositiveOrZero long from,
+            @RequestParam("to") @PositiveOrZero long to) {
+
+        final Range range = streamRange(from, to);
+        logger.debug("stream getHeatMapData. RANGE={}, ", range);
+
+        return outputStream -> this.heatMap.streamHeatMap(applicationName, range, TimeUnit.SECONDS.toMillis(10), LimitUtils.MAX,
+                scanResult -> {
+                    final Status status = new Status(System.currentTimeMillis(), range);
+                    final HeatMapViewModel view = new HeatMapViewModel(scanResult.scanData(), status);
+                    try {
+                        outputStream.write(heatMapWriter.writeValueAsBytes(view));
+                        outputStream.write('\n');
+                        outputStream.flush();
+                        return true;
+                    } catch (IOException e) {
+                        logger.debug("heatmap stream closed by client. applicationName:{} {}", applicationName, e.getMessage());
+                        return false;
+                    }
+                });
+    }
+
+    /**
+     * Validated before the stream starts, once the first line is written the status can no longer be changed.
+     */
+    private static Range streamRange(long from, long to) {
+        try {
+            return Range.between(from, to);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
 
     public static class HeatMapViewModel {
         private final HeatMap heatMap;
@@ -16,6 +16,8 @@
 
 package com.navercorp.pinpoint.web.authorization.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.navercorp.pinpoint.common.profiler.util.TransactionId;
 import com.navercorp.pinpoint.common.profiler.util.TransactionIdComparator;
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
@@ -23,6 +25,7 @@ import com.navercorp.pinpoint.common.server.util.DateTimeFormatUtils;
 import com.navercorp.pinpoint.common.server.util.time.Range;
 import com.navercorp.pinpoint.common.util.CollectionUtils;
 import com.navercorp.pinpoint.web.applicationmap.service.FilteredMapService;
+import com.navercorp.pinpoint.web.coalesce.RequestCoalescer;
 import com.navercorp.pinpoint.web.filter.Filter;
 import com.navercorp.pinpoint.web.filter.FilterBuilder;
 import com.navercorp.pinpoint.web.scatter.ScatterData;
@@ -40,16 +43,22 @@ import jakarta.validation.constraints.PositiveOrZero;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author netspider
@@ -69,16 +78,27 @@ public class ScatterChartController {
 
     private final FilterBuilder<List<SpanBo>> filterBuilder;
 
+    private final RequestCoalescer requestCoalescer;
+
     private final GetTraceInfoParser getTraceInfoParser = new GetTraceInfoParser();
 
+    private final ObjectWriter resultViewWriter;
+
+    private static final String SCATTER_ENDPOINT = "scatter";
+
     public ScatterChartController(
             ScatterChartService scatter,
             FilteredMapService flow,
-            FilterBuilder<List<SpanBo>> filterBuilder
+            FilterBuilder<List<SpanBo>> filterBuilder,
+            RequestCoalescer requestCoalescer,
+            ObjectMapper mapper
     ) {
         this.scatter = Objects.requireNonNull(scatter, "scatter");
         this.flow = Objects.requireNonNull(flow, "flow");
         this.filterBuilder = Objects.requireNonNull(filterBuilder, "filterBuilder");
+        this.requestCoalescer = Objects.requireNonNull(requestCoalescer, "requestCoalescer");
+        Objects.requireNonNull(mapper, "mapper");
+        this.resultViewWriter = mapper.writerFor(ScatterView.ResultView.class);
     }
 
 
@@ -131,14 +151,67 @@ public class ScatterChartController {
                 range, xGroupUnit, yGroupUnit, limit, backwardDirection, filterText
         );
 
-        if (StringUtils.isEmpty(filterText)) {
-            final ScatterView.DotView dotView = selectScatterData(
-                    applicationName, range, xGroupUnit, Math.max(yGroupUnit, 1), limit, backwardDirection);
-            return wrapScatterResultView(range, dotView);
-        } else {
-            final ScatterView.DotView dotView = selectFilterScatterData(
-                    applicationName, range, xGroupUnit, Math.max(yGroupUnit, 1), limit, backwardDirection, filterText);
-            return wrapScatterResultView(range, dotView);
+        final List<Object> key = List.of(applicationName, range, xGroupUnit, yGroupUnit, limit, backwardDirection,
+                Objects.toString(filterText, ""));
+        final ScatterView.DotView dotView = requestCoalescer.execute(SCATTER_ENDPOINT, key, () -> {
+            if (StringUtils.isEmpty(filterText)) {
+                return selectScatterData(
+                        applicationName, range, xGroupUnit, Math.max(yGroupUnit, 1), limit, backwardDirection);
+            } else {
+                return selectFilterScatterData(
+                        applicationName, range, xGroupUnit, Math.max(yGroupUnit, 1), limit, backwardDirection, filterText);
+            }
+        });
+        return wrapScatterResultView(range, dotView);
+    }
+
+    /**
+     * Same query as {@link #getScatterData} without a filter, written as one json line per time slice, newest first.
+     * Every line is grouped against the requested range, so the client merges the dots as they arrive.
+     * A line is not complete when the limit was reached inside its slice; no line follows it.
+     * Scanning stops at the first slice that can no longer be written to the client.
+     */
+    @GetMapping(value = "/getScatterData/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody streamScatterData(
+            @RequestParam("application") @NotBlank String applicationName,
+            @RequestParam("from") @PositiveOrZero long from,
+            @RequestParam("to") @PositiveOrZero long to,
+            @RequestParam("xGroupUnit") @Positive int xGroupUnit,
+            @RequestParam("yGroupUnit") @Positive int yGroupUnit,
+            @RequestParam("limit") int limitParam
+    ) {
+        final int limit = LimitUtils.checkRange(limitParam);
+
+        final Range range = streamRange(from, to);
+        logger.debug("stream scatter data. RANGE: {}, X-Group-Unit: {}, Y-Group-Unit: {}, LIMIT: {}",
+                range, xGroupUnit, yGroupUnit, limit);
+
+        return outputStream -> {
+            final AtomicInteger remaining = new AtomicInteger(limit);
+            scatter.streamScatterData(applicationName, range, xGroupUnit, Math.max(yGroupUnit, 1), limit, scatterData -> {
+                final boolean complete = scatterData.getDotSize() < remaining.getAndAdd(-scatterData.getDotSize());
+                final ScatterView.ResultView view = wrapScatterResultView(range, new ScatterView.DotView(scatterData, complete));
+                try {
+                    outputStream.write(resultViewWriter.writeValueAsBytes(view));
+                    outputStream.write('\n');
+                    outputStream.flush();
+                    return true;
+                } catch (IOException e) {
+                    logger.debug("scatter stream closed by client. applicationName:{} {}", applicationName, e.getMessage());
+                    return false;
+                }
+            });
+        };
+    }
+
+    /**
+     * An invalid range is answered with 400 here, the status of a stream is sent with its first line.
+     */
+    private static Range streamRange(long from, long to) {
+        try {
+            return Range.between(from, to);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
         }
     }
 
@@ -17,158 +17,191 @@
 package com.navercorp.pinpoint.web.calltree.span;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 
 /**
+ * Flattens the call tree into pre-order.
+ * The tree shape is kept in primitive arrays indexed by pre-order position,
+ * so depth, parent and sibling lookups do not walk the linked {@link CallTreeNode}s.
+ * The arrays are built from the linked tree after the alignment and are held in addition to it,
+ * they make the lookups faster but do not reduce the memory of a call tree.
+ *
  * @author jaehong.kim
  */
 public class CallTreeIterator implements Iterator<CallTreeNode> {
 
-    private List<CallTreeNode> nodes = new ArrayList<>();
+    private static final int NONE = -1;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private CallTreeNode[] nodes;
+    private int[] parent;
+    private int[] prevSibling;
+    private int[] depth;
+    // exclusive pre-order index of the end of the subtree
+    private int[] subtreeEnd;
+    private int size = 0;
+
     private int index = -1;
 
     public CallTreeIterator(final CallTreeNode root) {
         if (root == null) {
+            this.nodes = new CallTreeNode[0];
+            this.parent = new int[0];
+            this.prevSibling = new int[0];
+            this.depth = new int[0];
+            this.subtreeEnd = new int[0];
             return;
         }
 
-        // init
-        traversal(root, false);
-        // populate
-        addNode(root);
-        if (root.hasChild()) {
-            traversal(root.getChild(), true);
-        }
+        allocate(DEFAULT_CAPACITY);
+        populate(root);
         // reset
         index = -1;
     }
 
-    private int traversal(final CallTreeNode node, final boolean populate) {
-        if (node == null) {
-            return 0;
-        }
-
-        int count = 1;
-        if (populate) {
-            addNode(node);
-        }
+    private void allocate(int capacity) {
+        this.nodes = new CallTreeNode[capacity];
+        this.parent = new int[capacity];
+        this.prevSibling = new int[capacity];
+        this.depth = new int[capacity];
+        this.subtreeEnd = new int[capacity];
+    }
 
-        if (node.hasChild()) {
-            count += traversal(node.getChild(), populate);
-        }
+    private void grow() {
+        final int capacity = nodes.length + (nodes.length >> 1) + 1;
+        this.nodes = Arrays.copyOf(nodes, capacity);
+        this.parent = Arrays.copyOf(parent, capacity);
+        this.prevSibling = Arrays.copyOf(prevSibling, capacity);
+        this.depth = Arrays.copyOf(depth, capacity);
+        this.subtreeEnd = Arrays.copyOf(subtreeEnd, capacity);
+    }
 
-        // change logic from recursive to loop, because of avoid call-stack-overflow.
-        CallTreeNode sibling = node.getSibling();
-        while (sibling != null) {
-            count += 1;
-            if (populate) {
-                addNode(sibling);
+    // pre-order walk using a loop instead of recursion, because of avoid call-stack-overflow.
+    private void populate(final CallTreeNode root) {
+        addNode(root, NONE, NONE);
+
+        int parentIndex = 0;
+        int prevSiblingIndex = NONE;
+        CallTreeNode node = root.getChild();
+        while (node != null) {
+            int current = addNode(node, parentIndex, prevSiblingIndex);
+            if (node.hasChild()) {
+                parentIndex = current;
+                prevSiblingIndex = NONE;
+                node = node.getChild();
+                continue;
             }
-            if (sibling.hasChild()) {
-                count += traversal(sibling.getChild(), populate);
+
+            node = null;
+            // close finished subtrees until a sibling is found. the sibling of the root is not a part of the tree.
+            while (current != 0) {
+                subtreeEnd[current] = size;
+                final CallTreeNode sibling = nodes[current].getSibling();
+                if (sibling != null) {
+                    parentIndex = parent[current];
+                    prevSiblingIndex = current;
+                    node = sibling;
+                    break;
+                }
+                current = parent[current];
             }
-            sibling = sibling.getSibling();
         }
-
-        return count;
+        subtreeEnd[0] = size;
     }
 
-    private void addNode(CallTreeNode node) {
-        nodes.add(node);
-        index++;
+    private int addNode(CallTreeNode node, int parentIndex, int prevSiblingIndex) {
+        if (size == nodes.length) {
+            grow();
+        }
+        index = size++;
+        nodes[index] = node;
+        parent[index] = parentIndex;
+        prevSibling[index] = prevSiblingIndex;
+        depth[index] = parentIndex == NONE ? 0 : depth[parentIndex] + 1;
+        subtreeEnd[index] = index + 1;
 
         final Align align = node.getAlign();
-        if(align.isMeta()) {
+        if (align.isMeta()) {
             align.setGap(0);
-            align.setDepth(node.getDepth());
+            align.setDepth(depth[index]);
             align.setExecutionMilliseconds(0);
         } else {
             align.setGap(getGap());
-            align.setDepth(node.getDepth());
+            align.setDepth(depth[index]);
             align.setExecutionMilliseconds(getExecutionTime());
         }
-
+        return index;
     }
 
     private long getGap() {
-        final CallTreeNode current = getCurrent();
-        if (current.isRoot()) {
+        final int current = index;
+        if (parent[current] == NONE) {
             return 0;
         }
 
-        if (current.getAlign().isAsyncFirst()) {
-            final CallTreeNode parent = getAsyncParent(current);
-            if (parent == null) {
+        final Align currentAlign = nodes[current].getAlign();
+        if (currentAlign.isAsyncFirst()) {
+            final int asyncParent = getAsyncParent(current);
+            if (asyncParent == NONE) {
                 return 0;
             }
             // skip sibling.
-            return current.getAlign().getStartTime() - parent.getAlign().getStartTime();
-        }
-
-        final CallTreeNode prev = getPrev();
-        if (prev == null) {
-            throw new IllegalStateException("A non-root CallTreeNode must have a previous node");
+            return currentAlign.getStartTime() - nodes[asyncParent].getAlign().getStartTime();
         }
 
-        return current.getAlign().getStartTime() - getLastExecuteTime(current, prev);
+        return currentAlign.getStartTime() - getLastExecuteTime(current, current - 1);
     }
 
 
-    private long getLastExecuteTime(final CallTreeNode current, final CallTreeNode prev) {
-        if (prev.getDepth() < current.getDepth()) {
+    private long getLastExecuteTime(final int current, final int prev) {
+        if (depth[prev] < depth[current]) {
             // push and not closed.
-            return prev.getAlign().getStartTime();
+            return nodes[prev].getAlign().getStartTime();
         }
 
-        CallTreeNode node = prev;
-        if (prev.getDepth() > current.getDepth()) {
+        int node = prev;
+        if (depth[prev] > depth[current]) {
             // pop prev sibling.
             node = getPrevSibling(current);
         }
         while (true) {
-            if (!node.getAlign().isAsyncFirst()) {
+            if (!nodes[node].getAlign().isAsyncFirst()) {
                 // not async first.
-                return node.getAlign().getEndTime();
-            } else if (isFirstChild(node)) {
+                return nodes[node].getAlign().getEndTime();
+            } else if (prevSibling[node] == NONE) {
                 // first child
-                return node.getParent().getAlign().getStartTime();
+                return nodes[parent[node]].getAlign().getStartTime();
             }
             // pop prev sibling.
-            node = getPrevSibling(node);
+            node = prevSibling[node];
         }
     }
 
-    private CallTreeNode getPrevSibling(final CallTreeNode node) {
-        CallTreeNode sibling = node.getParent().getChild();
-        while (node != sibling.getSibling()) {
-            sibling = sibling.getSibling();
-            if (sibling == null) {
-                throw new IllegalStateException("Not found prev sibling " + node);
-            }
+    private int getPrevSibling(final int node) {
+        final int sibling = prevSibling[node];
+        if (sibling == NONE) {
+            throw new IllegalStateException("Not found prev sibling " + nodes[node]);
         }
-
         return sibling;
     }
 
-    private boolean isFirstChild(final CallTreeNode node) {
-        return node.getParent().getChild() == node;
-    }
-
-    private CallTreeNode getAsyncParent(final CallTreeNode node) {
-        final int asyncId = node.getAlign().getAsyncId();
-        CallTreeNode parent = node.getParent();
-        while (parent != null && !parent.isRoot()) {
-            if (!parent.getAlign().isSpan() && asyncId == parent.getAlign().getSpanEventBo().getNextAsyncId()) {
-                return parent;
+    private int getAsyncParent(final int node) {
+        final int asyncId = nodes[node].getAlign().getAsyncId();
+        int current = parent[node];
+        while (current != NONE && parent[current] != NONE) {
+            final Align align = nodes[current].getAlign();
+            if (!align.isSpan() && asyncId == align.getSpanEventBo().getNextAsyncId()) {
+                return current;
             }
-            parent = parent.getParent();
+            current = parent[current];
         }
-        return null;
+        return NONE;
     }
 
     private long getExecutionTime() {
-        final CallTreeNode current = getCurrent();
+        final CallTreeNode current = nodes[index];
         final Align align = current.getAlign();
         if (!current.hasChild()) {
             return align.getElapsed();
@@ -194,7 +227,7 @@ public class CallTreeIterator implements Iterator<CallTreeNode> {
 
     @Override
     public boolean hasNext() {
-        return index < nodes.size() - 1;
+        return index < size - 1;
     }
 
     @Override
@@ -203,7 +236,7 @@ public class CallTreeIterator implements Iterator<CallTreeNode> {
             return null;
         }
         index++;
-        return nodes.get(index);
+        return nodes[index];
     }
 
     @Override
@@ -221,55 +254,107 @@ public class CallTreeIterator implements Iterator<CallTreeNode> {
         }
 
         index--;
-        return nodes.get(index);
+        return nodes[index];
     }
 
-    private CallTreeNode getCurrent() {
-        return nodes.get(index);
+    public CallTreeNode get(int nodeIndex) {
+        checkIndex(nodeIndex);
+        return nodes[nodeIndex];
     }
 
-    private CallTreeNode getPrev() {
-        if (!hasPrev()) {
-            return null;
-        }
+    /**
+     * @return pre-order index of the parent, -1 for the root
+     */
+    public int getParentIndex(int nodeIndex) {
+        checkIndex(nodeIndex);
+        return parent[nodeIndex];
+    }
 
-        return nodes.get(index - 1);
+    public int getDepth(int nodeIndex) {
+        checkIndex(nodeIndex);
+        return depth[nodeIndex];
     }
 
-    private CallTreeNode getNext() {
-        if (!hasNext()) {
-            return null;
+    /**
+     * @return number of nodes in the subtree, including the node itself
+     */
+    public int getSubtreeSize(int nodeIndex) {
+        checkIndex(nodeIndex);
+        return subtreeEnd[nodeIndex] - nodeIndex;
+    }
+
+    private void checkIndex(int nodeIndex) {
+        if (nodeIndex < 0 || nodeIndex >= size) {
+            throw new IndexOutOfBoundsException("nodeIndex:" + nodeIndex + " size:" + size);
         }
+    }
 
-        return nodes.get(index + 1);
+    /**
+     * Selects one page of the subtree of {@code rootIndex} in pre-order.
+     * Nodes more than {@code maxDepth} levels below the subtree root are skipped together with their descendants,
+     * so they can be expanded later by requesting their own subtree.
+     *
+     * @param maxDepth levels to expand below the subtree root, negative for the whole subtree
+     */
+    public CallTreePage page(int rootIndex, int maxDepth, int offset, int limit) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("negative offset:" + offset);
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive:" + limit);
+        }
+        if (size == 0) {
+            return new CallTreePage(new int[0], 0, offset);
+        }
+        checkIndex(rootIndex);
+
+        final int depthLimit = maxDepth < 0 ? Integer.MAX_VALUE : depth[rootIndex] + maxDepth;
+        final int end = subtreeEnd[rootIndex];
+        int[] selected = new int[Math.min(limit, end - rootIndex)];
+        int selectedSize = 0;
+        int total = 0;
+        int i = rootIndex;
+        while (i < end) {
+            if (depth[i] > depthLimit) {
+                // collapsed
+                i = subtreeEnd[i];
+                continue;
+            }
+            if (total >= offset && selectedSize < selected.length) {
+                selected[selectedSize++] = i;
+            }
+            total++;
+            i++;
+        }
+        return new CallTreePage(Arrays.copyOf(selected, selectedSize), total, offset);
     }
 
     public List<Align> values() {
-        List<Align> values = new ArrayList<>();
-        for (CallTreeNode node : nodes) {
-            values.add(node.getAlign());
+        List<Align> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(nodes[i].getAlign());
         }
 
         return values;
     }
 
     public int size() {
-        return nodes.size();
+        return size;
     }
 
     public boolean isEmpty() {
-        return nodes.isEmpty();
+        return size == 0;
     }
 
     public String toString() {
         final StringBuilder sb = new StringBuilder();
-        for (CallTreeNode node : nodes) {
-            for (int i = 0; i <= node.getDepth(); i++) {
+        for (int i = 0; i < size; i++) {
+            for (int d = 0; d <= depth[i]; d++) {
                 sb.append('#');
             }
-            sb.append(" : ").append(node);
+            sb.append(" : ").append(nodes[i]);
             sb.append('\n');
         }
         return sb.toString();
     }
-}
\ No newline at end of file
+}
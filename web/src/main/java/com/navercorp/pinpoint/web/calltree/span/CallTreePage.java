@@ -0,0 +1,35 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.calltree.span;
+
+/**
+ * One page of call tree nodes selected by {@link CallTreeIterator#page(int, int, int, int)}.
+ *
+ * @param nodeIndexes pre-order indexes of the selected nodes
+ * @param total       number of nodes that can be selected with the same subtree root and depth
+ * @param offset      position of the first selected node among them
+ */
+public record CallTreePage(int[] nodeIndexes, int total, int offset) {
+
+    public int size() {
+        return nodeIndexes.length;
+    }
+
+    public boolean hasNext() {
+        return offset + nodeIndexes.length < total;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.coalesce;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * @param executions requests that ran the query
+ * @param coalesced  requests that waited for a query started by another request
+ * @param timeouts   coalesced requests that stopped waiting and ran the query themselves
+ */
+public record CoalescingStats(long executions, long coalesced, long timeouts) {
+
+    /**
+     * @return share of the requests that did not start a query of their own
+     */
+    @JsonProperty("coalescingRatio")
+    public double coalescingRatio() {
+        final long requests = executions + coalesced;
+        if (requests == 0) {
+            return 0;
+        }
+        return (double) (coalesced - timeouts) / requests;
+    }
+}
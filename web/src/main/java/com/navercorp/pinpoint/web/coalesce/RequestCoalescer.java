@@ -0,0 +1,170 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.coalesce;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Lets concurrent identical queries share one backend execution.
+ * <p>
+ * The first caller of a key runs the loader on its own thread, callers arriving while it is running
+ * wait for its result instead of running the loader again. Nothing is cached: the key is released as soon as
+ * the result is published, so a later call runs the loader again.
+ * <p>
+ * A waiting caller gives up after {@code maxWait} and runs the loader itself.
+ * A failure of the loader is rethrown to every caller that shared the execution.
+ * Requests of different users share an execution, loaders whose result depends on the user
+ * must use {@link #executePerUser(String, Object, Supplier)} or apply the per user filtering after sharing.
+ * The result is shared as is, so loaders must return values that callers do not modify.
+ */
+public class RequestCoalescer {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final boolean enable;
+    private final Set<String> endpoints;
+    private final long maxWaitMillis;
+
+    private final ConcurrentMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public RequestCoalescer(RequestCoalescerProperties properties) {
+        Objects.requireNonNull(properties, "properties");
+        this.enable = properties.isEnable();
+        this.endpoints = Set.copyOf(properties.getEndpoints());
+        this.maxWaitMillis = properties.getMaxWait().toMillis();
+    }
+
+    public boolean isEnabled(String endpoint) {
+        return enable && endpoints.contains(endpoint);
+    }
+
+    /**
+     * @param endpoint name of the query, requests of endpoints not listed in the properties are never coalesced
+     * @param key      normalized query parameters, including the time range. must implement equals and hashCode
+     */
+    public <T> T execute(String endpoint, Object key, Supplier<T> loader) {
+        return execute(endpoint, "", key, loader);
+    }
+
+    /**
+     * Same as {@link #execute(String, Object, Supplier)}, but only requests of the same authenticated user share an execution
+     */
+    public <T> T executePerUser(String endpoint, Object key, Supplier<T> loader) {
+        return execute(endpoint, currentPrincipal(), key, loader);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T execute(String endpoint, String principal, Object key, Supplier<T> loader) {
+        Objects.requireNonNull(endpoint, "endpoint");
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(loader, "loader");
+
+        if (!isEnabled(endpoint)) {
+            return loader.get();
+        }
+
+        final Counter counter = counters.computeIfAbsent(endpoint, k -> new Counter());
+        final Key inFlightKey = new Key(endpoint, principal, key);
+        final CompletableFuture<Object> newFuture = new CompletableFuture<>();
+        final CompletableFuture<Object> future = inFlight.putIfAbsent(inFlightKey, newFuture);
+        if (future == null) {
+            counter.execution.increment();
+            return (T) load(inFlightKey, newFuture, loader);
+        }
+
+        counter.coalesced.increment();
+        try {
+            return (T) future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            counter.timeout.increment();
+            logger.debug("coalesced request timed out, loading separately. endpoint:{} key:{}", endpoint, key);
+            return loader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for " + endpoint, e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(endpoint + " failed", cause);
+        }
+    }
+
+    private Object load(Key key, CompletableFuture<Object> future, Supplier<?> loader) {
+        try {
+            final Object result = loader.get();
+            future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * @return counters of each endpoint that received a request, by endpoint name
+     */
+    public Map<String, CoalescingStats> getStats() {
+        final Map<String, CoalescingStats> stats = new TreeMap<>();
+        counters.forEach((endpoint, counter) -> stats.put(endpoint, counter.snapshot()));
+        return stats;
+    }
+
+    private static String currentPrincipal() {
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return "";
+        }
+        return authentication.getName();
+    }
+
+    private record Key(String endpoint, String principal, Object key) {
+    }
+
+    private static class Counter {
+        private final LongAdder execution = new LongAdder();
+        private final LongAdder coalesced = new LongAdder();
+        private final LongAdder timeout = new LongAdder();
+
+        CoalescingStats snapshot() {
+            return new CoalescingStats(execution.sum(), coalesced.sum(), timeout.sum());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.coalesce;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * @see RequestCoalescer
+ */
+public class RequestCoalescerProperties {
+
+    private boolean enable = false;
+
+    /**
+     * endpoints whose identical concurrent requests share one execution, see {@link RequestCoalescer#execute}
+     */
+    private Set<String> endpoints = new HashSet<>();
+
+    /**
+     * how long a request waits for the shared execution before running the query itself.
+     */
+    private Duration maxWait = Duration.ofSeconds(30);
+
+    public boolean isEnable() {
+        return enable;
+    }
+
+    public void setEnable(boolean enable) {
+        this.enable = enable;
+    }
+
+    public Set<String> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(Set<String> endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    public void setMaxWait(Duration maxWait) {
+        this.maxWait = maxWait;
+    }
+
+    @Override
+    public String toString() {
+        return "RequestCoalescerProperties{" +
+                "enable=" + enable +
+                ", endpoints=" + endpoints +
+                ", maxWait=" + maxWait +
+                '}';
+    }
+}
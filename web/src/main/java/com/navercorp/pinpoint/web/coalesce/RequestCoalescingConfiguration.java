@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.coalesce;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RequestCoalescingConfiguration {
+
+    private final Logger logger = LogManager.getLogger(RequestCoalescingConfiguration.class);
+
+    @Bean
+    @ConfigurationProperties("web.coalescing")
+    public RequestCoalescerProperties requestCoalescerProperties() {
+        return new RequestCoalescerProperties();
+    }
+
+    @Bean
+    public RequestCoalescer requestCoalescer(RequestCoalescerProperties requestCoalescerProperties) {
+        logger.info("{}", requestCoalescerProperties);
+        return new RequestCoalescer(requestCoalescerProperties);
+    }
+}
@@ -7,7 +7,28 @@ public class ScatterChartProperties {
     @Value("${web.scatter.serverside-scan.use-fuzzyrowfilter:false}")
     private boolean enableFuzzyRowFilter;
 
+    @Value("${web.scatter.heatmap.grid.enable:false}")
+    private boolean enableHeatMapGrid;
+
+    @Value("${web.scatter.heatmap.stream.slice-count:10}")
+    private int heatMapStreamSliceCount;
+
+    @Value("${web.scatter.stream.slice-count:10}")
+    private int scatterStreamSliceCount;
+
     public boolean isEnableFuzzyRowFilter() {
         return enableFuzzyRowFilter;
     }
+
+    public boolean isEnableHeatMapGrid() {
+        return enableHeatMapGrid;
+    }
+
+    public int getHeatMapStreamSliceCount() {
+        return heatMapStreamSliceCount;
+    }
+
+    public int getScatterStreamSliceCount() {
+        return scatterStreamSliceCount;
+    }
 }
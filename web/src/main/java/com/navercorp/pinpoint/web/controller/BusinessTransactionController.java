@@ -25,11 +25,14 @@ import com.navercorp.pinpoint.web.applicationmap.histogram.TimeHistogramFormat;
 import com.navercorp.pinpoint.web.applicationmap.service.FilteredMapService;
 import com.navercorp.pinpoint.web.applicationmap.service.FilteredMapServiceOption;
 import com.navercorp.pinpoint.web.calltree.span.CallTreeIterator;
+import com.navercorp.pinpoint.web.calltree.span.CallTreePage;
 import com.navercorp.pinpoint.web.calltree.span.SpanFilters;
+import com.navercorp.pinpoint.web.service.CallTreePageCache;
 import com.navercorp.pinpoint.web.service.SpanResult;
 import com.navercorp.pinpoint.web.service.SpanService;
 import com.navercorp.pinpoint.web.service.TransactionInfoService;
 import com.navercorp.pinpoint.web.validation.NullOrNotBlank;
+import com.navercorp.pinpoint.web.view.CallStackPageViewModel;
 import com.navercorp.pinpoint.web.view.LogLinkBuilder;
 import com.navercorp.pinpoint.web.view.LogLinkView;
 import com.navercorp.pinpoint.web.view.TraceViewerDataViewModel;
@@ -37,6 +40,7 @@ import com.navercorp.pinpoint.web.view.TransactionInfoViewModel;
 import com.navercorp.pinpoint.web.view.TransactionTimelineInfoViewModel;
 import com.navercorp.pinpoint.web.vo.callstacks.RecordSet;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -72,6 +76,7 @@ public class BusinessTransactionController {
     private final TransactionInfoService transactionInfoService;
     private final FilteredMapService filteredMapService;
     private final LogLinkBuilder logLinkBuilder;
+    private final CallTreePageCache callTreePageCache;
 
     @Value("${web.callstack.selectSpans.limit:-1}")
     private int callstackSelectSpansLimit;
@@ -80,11 +85,13 @@ public class BusinessTransactionController {
     public BusinessTransactionController(SpanService spanService,
                                          TransactionInfoService transactionInfoService,
                                          FilteredMapService filteredMapService,
-                                         LogLinkBuilder logLinkBuilder) {
+                                         LogLinkBuilder logLinkBuilder,
+                                         CallTreePageCache callTreePageCache) {
         this.spanService = Objects.requireNonNull(spanService, "spanService");
         this.transactionInfoService = Objects.requireNonNull(transactionInfoService, "transactionInfoService");
         this.filteredMapService = Objects.requireNonNull(filteredMapService, "filteredMapService");
         this.logLinkBuilder = Objects.requireNonNull(logLinkBuilder, "logLinkBuilder");
+        this.callTreePageCache = Objects.requireNonNull(callTreePageCache, "callTreePageCache");
     }
 
     /**
@@ -158,6 +165,49 @@ public class BusinessTransactionController {
         );
     }
 
+    /**
+     * one page of the call stack of a selected transaction, for transactions too large to render at once
+     *
+     * @param rootIndex pre-order index of the subtree to list, 0 for the whole call stack
+     * @param depth levels to expand below the subtree root, negative to expand all.
+     *              collapsed nodes can be fetched later with their own id - 1 as rootIndex
+     * @return CallStackPageViewModel
+     */
+    @GetMapping(value = "/transactionInfo/callStack")
+    public CallStackPageViewModel transactionCallStack(
+            @RequestParam("traceId") @NotBlank String traceId,
+            @RequestParam(value = "focusTimestamp", required = false, defaultValue = DEFAULT_FOCUS_TIMESTAMP)
+            @PositiveOrZero
+            long focusTimestamp,
+            @RequestParam(value = "agentId", required = false) @NullOrNotBlank String agentId,
+            @RequestParam(value = "spanId", required = false, defaultValue = DEFAULT_SPAN_ID) long spanId,
+            @RequestParam(value = "rootIndex", required = false, defaultValue = "0") @PositiveOrZero int rootIndex,
+            @RequestParam(value = "depth", required = false, defaultValue = "-1") int depth,
+            @RequestParam(value = "offset", required = false, defaultValue = "0") @PositiveOrZero int offset,
+            @RequestParam(value = "limit", required = false, defaultValue = "1000") @Positive int limit
+    ) {
+        logger.debug("GET /transactionInfo/callStack params {traceId={}, focusTimestamp={}, agentId={}, spanId={}, rootIndex={}, depth={}, offset={}, limit={}}",
+                traceId, focusTimestamp, agentId, spanId, rootIndex, depth, offset, limit);
+        final TransactionId transactionId = TransactionIdUtils.parseTransactionId(traceId);
+        final ColumnGetCount columnGetCount = ColumnGetCount.of(callstackSelectSpansLimit);
+
+        // select spans, once for all pages of the transaction
+        final Predicate<SpanBo> spanMatchFilter = SpanFilters.spanFilter(spanId, agentId, focusTimestamp);
+        final SpanResult spanResult = this.callTreePageCache.get(transactionId, spanId, agentId, focusTimestamp,
+                () -> this.spanService.selectSpan(transactionId, spanMatchFilter, columnGetCount));
+        final CallTreeIterator callTreeIterator = spanResult.callTree();
+        if (!callTreeIterator.isEmpty() && rootIndex >= callTreeIterator.size()) {
+            throw new IllegalArgumentException("rootIndex out of range. rootIndex:" + rootIndex + " size:" + callTreeIterator.size());
+        }
+
+        // records are created from the cached nodes
+        synchronized (callTreeIterator) {
+            final CallTreePage page = callTreeIterator.page(rootIndex, depth, offset, limit);
+            final RecordSet recordSet = this.transactionInfoService.createRecordSet(callTreeIterator, spanMatchFilter, page);
+            return new CallStackPageViewModel(transactionId, recordSet, page);
+        }
+    }
+
     /**
      * info lookup for a selected transaction
      *
@@ -20,11 +20,13 @@ import com.navercorp.pinpoint.common.profiler.util.TransactionId;
 import com.navercorp.pinpoint.common.server.util.time.Range;
 import com.navercorp.pinpoint.web.scatter.DragArea;
 import com.navercorp.pinpoint.web.scatter.DragAreaQuery;
+import com.navercorp.pinpoint.web.scatter.heatmap.HeatMapBuilder;
 import com.navercorp.pinpoint.web.vo.LimitedScanResult;
 import com.navercorp.pinpoint.web.vo.scatter.Dot;
 import com.navercorp.pinpoint.web.vo.scatter.DotMetaData;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * @author emeroad
@@ -38,6 +40,12 @@ public interface ApplicationTraceIndexDao {
 
     LimitedScanResult<List<Dot>> scanTraceScatterData(String applicationName, Range range, int limit, boolean scanBackward);
 
+    /**
+     * Scans every salted partition in parallel, each into its own {@link HeatMapBuilder}, and merges them.
+     * @param limit maximum number of dots read from each partition
+     */
+    LimitedScanResult<HeatMapBuilder> scanTraceHeatMap(String applicationName, Range range, int limit, Supplier<HeatMapBuilder> builderFactory);
+
 
     LimitedScanResult<List<TransactionId>> scanTraceIndex(String applicationName, DragArea dragArea, int limit);
 
@@ -1,9 +1,15 @@
 package com.navercorp.pinpoint.web.dao;
 
 import com.navercorp.pinpoint.common.server.bo.SqlUidMetaDataBo;
+import com.navercorp.pinpoint.common.server.bo.serializer.metadata.uid.UidMetaDataRowKey;
 
 import java.util.List;
 
 public interface SqlUidMetaDataDao {
     List<SqlUidMetaDataBo> getSqlUidMetaData(String agentId, long time, byte[] sqlUid);
+
+    /**
+     * @return metadata of each key, in the order of the given keys
+     */
+    List<List<SqlUidMetaDataBo>> getSqlUidMetaData(List<UidMetaDataRowKey> keys);
 }
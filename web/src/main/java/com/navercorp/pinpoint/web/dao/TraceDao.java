@@ -24,6 +24,7 @@ import com.navercorp.pinpoint.web.service.FetchResult;
 import com.navercorp.pinpoint.web.vo.GetTraceInfo;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * @author emeroad
@@ -40,5 +41,12 @@ public interface TraceDao {
 
     List<List<SpanBo>> selectAllSpans(List<TransactionId> transactionIdList, ColumnGetCount columnGetCount);
 
+    /**
+     * Streaming version of {@link #selectAllSpans(List, ColumnGetCount)}.
+     * Spans are read in partitions and handed to the consumer one transaction at a time,
+     * so only a single partition is held in memory.
+     */
+    void selectAllSpans(List<TransactionId> transactionIdList, ColumnGetCount columnGetCount, Consumer<List<SpanBo>> transactionConsumer);
+
 
 }
@@ -34,6 +34,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -72,15 +73,36 @@ public class HbaseApiMetaDataDao implements ApiMetaDataDao {
         Objects.requireNonNull(agentId, "agentId");
 
         MetaDataRowKey metaDataRowKey = new DefaultMetaDataRowKey(agentId, time, apiId);
-        byte[] sqlId = getDistributedKey(rowKeyEncoder.encodeRowKey(metaDataRowKey));
-
-        Get get = new Get(sqlId);
-        get.addFamily(DESCRIPTOR.getName());
+        Get get = newGet(metaDataRowKey);
 
         TableName apiMetaDataTableName = tableNameProvider.getTableName(DESCRIPTOR.getTable());
         return hbaseOperations.get(apiMetaDataTableName, get, apiMetaDataMapper);
     }
 
+    @Override
+    public List<List<ApiMetaDataBo>> getApiMetaData(List<MetaDataRowKey> keys) {
+        Objects.requireNonNull(keys, "keys");
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        List<Get> gets = new ArrayList<>(keys.size());
+        for (MetaDataRowKey key : keys) {
+            gets.add(newGet(key));
+        }
+
+        TableName apiMetaDataTableName = tableNameProvider.getTableName(DESCRIPTOR.getTable());
+        return hbaseOperations.get(apiMetaDataTableName, gets, apiMetaDataMapper);
+    }
+
+    private Get newGet(MetaDataRowKey metaDataRowKey) {
+        byte[] rowKey = getDistributedKey(rowKeyEncoder.encodeRowKey(metaDataRowKey));
+
+        Get get = new Get(rowKey);
+        get.addFamily(DESCRIPTOR.getName());
+        return get;
+    }
+
     private byte[] getDistributedKey(byte[] rowKey) {
         return rowKeyDistributorByHashPrefix.getDistributedKey(rowKey);
     }
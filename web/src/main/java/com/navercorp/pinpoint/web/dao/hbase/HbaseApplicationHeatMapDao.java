@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.dao.hbase;
+
+import com.navercorp.pinpoint.common.hbase.HbaseColumnFamily;
+import com.navercorp.pinpoint.common.hbase.HbaseOperations;
+import com.navercorp.pinpoint.common.hbase.RowMapper;
+import com.navercorp.pinpoint.common.hbase.TableNameProvider;
+import com.navercorp.pinpoint.common.server.scatter.HeatMapGridUtils;
+import com.navercorp.pinpoint.common.server.util.time.Range;
+import com.navercorp.pinpoint.web.dao.ApplicationHeatMapDao;
+import com.navercorp.pinpoint.web.mapper.HeatMapGridMapper;
+import com.navercorp.pinpoint.web.scatter.heatmap.HeatMapGridCell;
+import com.navercorp.pinpoint.web.util.ListListUtils;
+import com.sematext.hbase.wd.RowKeyDistributorByHashPrefix;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Objects;
+
+@Repository
+public class HbaseApplicationHeatMapDao implements ApplicationHeatMapDao {
+
+    private static final int APPLICATION_HEATMAP_NUM_PARTITIONS = 8;
+
+    private static final HbaseColumnFamily.ApplicationHeatMap DESCRIPTOR = HbaseColumnFamily.APPLICATION_HEATMAP_COUNTER;
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final HbaseOperations hbaseOperations;
+    private final TableNameProvider tableNameProvider;
+
+    private final RowKeyDistributorByHashPrefix rowKeyDistributor;
+    private final RowMapper<List<HeatMapGridCell>> heatMapGridMapper;
+
+    private int scanCacheSize = 64;
+
+    public HbaseApplicationHeatMapDao(HbaseOperations hbaseOperations,
+                                      TableNameProvider tableNameProvider,
+                                      @Qualifier("applicationHeatMapRowKeyDistributor") RowKeyDistributorByHashPrefix rowKeyDistributor) {
+        this.hbaseOperations = Objects.requireNonNull(hbaseOperations, "hbaseOperations");
+        this.tableNameProvider = Objects.requireNonNull(tableNameProvider, "tableNameProvider");
+        this.rowKeyDistributor = Objects.requireNonNull(rowKeyDistributor, "rowKeyDistributor");
+        this.heatMapGridMapper = new HeatMapGridMapper(rowKeyDistributor);
+    }
+
+    public void setScanCacheSize(int scanCacheSize) {
+        this.scanCacheSize = scanCacheSize;
+    }
+
+    @Override
+    public List<HeatMapGridCell> selectHeatMap(String applicationName, Range range) {
+        Objects.requireNonNull(applicationName, "applicationName");
+        Objects.requireNonNull(range, "range");
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("selectHeatMap applicationName:{}, {}", applicationName, range);
+        }
+
+        // start key is replaced by end key because timestamp has been reversed
+        final byte[] startKey = HeatMapGridUtils.makeRowKey(applicationName, HeatMapGridUtils.getRowTimeSlot(range.getTo()));
+        final byte[] endKey = HeatMapGridUtils.makeRowKey(applicationName, HeatMapGridUtils.getRowTimeSlot(range.getFrom()));
+
+        final Scan scan = new Scan();
+        scan.setCaching(this.scanCacheSize);
+        scan.withStartRow(startKey);
+        scan.withStopRow(endKey, true);
+        scan.addFamily(DESCRIPTOR.getName());
+        scan.setId("ApplicationHeatMapScan");
+
+        final TableName tableName = tableNameProvider.getTableName(DESCRIPTOR.getTable());
+        final List<List<HeatMapGridCell>> listList = hbaseOperations.findParallel(tableName, scan, rowKeyDistributor,
+                heatMapGridMapper, APPLICATION_HEATMAP_NUM_PARTITIONS);
+
+        return ListListUtils.toList(listList);
+    }
+}
@@ -23,6 +23,7 @@ import com.navercorp.pinpoint.common.hbase.HbaseOperations;
 import com.navercorp.pinpoint.common.hbase.LimitEventHandler;
 import com.navercorp.pinpoint.common.hbase.RowMapper;
 import com.navercorp.pinpoint.common.hbase.TableNameProvider;
+import com.navercorp.pinpoint.common.hbase.scan.ScanUtils;
 import com.navercorp.pinpoint.common.hbase.util.CellUtils;
 import com.navercorp.pinpoint.common.profiler.util.TransactionId;
 import com.navercorp.pinpoint.common.server.bo.serializer.agent.ApplicationNameRowKeyEncoder;
@@ -32,12 +33,14 @@ import com.navercorp.pinpoint.common.server.util.time.Range;
 import com.navercorp.pinpoint.common.util.TimeUtils;
 import com.navercorp.pinpoint.web.config.ScatterChartProperties;
 import com.navercorp.pinpoint.web.dao.ApplicationTraceIndexDao;
+import com.navercorp.pinpoint.web.mapper.TraceIndexHeatMapExtractor;
 import com.navercorp.pinpoint.web.mapper.TraceIndexMetaScatterMapper;
 import com.navercorp.pinpoint.web.mapper.TraceIndexScatterMapper;
 import com.navercorp.pinpoint.web.mapper.TransactionIdMapper;
 import com.navercorp.pinpoint.web.scatter.DragArea;
 import com.navercorp.pinpoint.web.scatter.DragAreaQuery;
 import com.navercorp.pinpoint.web.scatter.ElpasedTimeDotPredicate;
+import com.navercorp.pinpoint.web.scatter.heatmap.HeatMapBuilder;
 import com.navercorp.pinpoint.web.util.ListListUtils;
 import com.navercorp.pinpoint.web.vo.LimitedScanResult;
 import com.navercorp.pinpoint.web.vo.scatter.Dot;
@@ -54,9 +57,12 @@ import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * @author emeroad
@@ -256,6 +262,43 @@ public class HbaseApplicationTraceIndexDao implements ApplicationTraceIndexDao {
         return new LimitedScanResult<>(lastTime, dots);
     }
 
+    @Override
+    public LimitedScanResult<HeatMapBuilder> scanTraceHeatMap(String applicationName, Range range, int limit, Supplier<HeatMapBuilder> builderFactory) {
+        Objects.requireNonNull(applicationName, "applicationName");
+        Objects.requireNonNull(range, "range");
+        Objects.requireNonNull(builderFactory, "builderFactory");
+        if (limit < 0) {
+            throw new IllegalArgumentException("negative limit:" + limit);
+        }
+        logger.debug("scanTraceHeatMap {}", range);
+
+        final Scan scan = createScan(applicationName, range, true, -1);
+        final List<Scan> scans = splitScans(scan);
+
+        final TableName applicationTraceIndexTableName = tableNameProvider.getTableName(INDEX.getTable());
+        final TraceIndexHeatMapExtractor extractor = new TraceIndexHeatMapExtractor(builderFactory, limit);
+        final List<TraceIndexHeatMapExtractor.Partition> partitions = hbaseOperations.findParallel(applicationTraceIndexTableName, scans, extractor);
+
+        final HeatMapBuilder heatMap = builderFactory.get();
+        long lastTime = range.getFrom();
+        for (TraceIndexHeatMapExtractor.Partition partition : partitions) {
+            heatMap.merge(partition.builder());
+            if (partition.limited()) {
+                // older dots of this partition were not read
+                lastTime = Math.max(lastTime, partition.lastAcceptedTime());
+            }
+        }
+        return new LimitedScanResult<>(lastTime, heatMap);
+    }
+
+    private List<Scan> splitScans(Scan scan) {
+        try {
+            return List.of(ScanUtils.splitScans(scan, traceIdRowKeyDistributor));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Override
     public LimitedScanResult<List<TransactionId>> scanTraceIndex(String applicationName, DragArea dragArea, int limit) {
         Objects.requireNonNull(applicationName, "applicationName");
@@ -32,6 +32,7 @@ import org.apache.hadoop.hbase.client.Get;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -68,13 +69,34 @@ public class HbaseSqlMetaDataDao implements SqlMetaDataDao {
         Objects.requireNonNull(agentId, "agentId");
 
         MetaDataRowKey metaDataRowKey = new DefaultMetaDataRowKey(agentId, time, sqlId);
+        Get get = newGet(metaDataRowKey);
+
+        TableName sqlMetaDataTableName = tableNameProvider.getTableName(DESCRIPTOR.getTable());
+        return hbaseOperations.get(sqlMetaDataTableName, get, sqlMetaDataMapper);
+    }
+
+    @Override
+    public List<List<SqlMetaDataBo>> getSqlMetaData(List<MetaDataRowKey> keys) {
+        Objects.requireNonNull(keys, "keys");
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        List<Get> gets = new ArrayList<>(keys.size());
+        for (MetaDataRowKey key : keys) {
+            gets.add(newGet(key));
+        }
+
+        TableName sqlMetaDataTableName = tableNameProvider.getTableName(DESCRIPTOR.getTable());
+        return hbaseOperations.get(sqlMetaDataTableName, gets, sqlMetaDataMapper);
+    }
+
+    private Get newGet(MetaDataRowKey metaDataRowKey) {
         byte[] rowKey = getDistributedKey(rowKeyEncoder.encodeRowKey(metaDataRowKey));
 
         Get get = new Get(rowKey);
         get.addFamily(DESCRIPTOR.getName());
-
-        TableName sqlMetaDataTableName = tableNameProvider.getTableName(DESCRIPTOR.getTable());
-        return hbaseOperations.get(sqlMetaDataTableName, get, sqlMetaDataMapper);
+        return get;
     }
 
     private byte[] getDistributedKey(byte[] rowKey) {
@@ -16,6 +16,7 @@ import org.apache.hadoop.hbase.client.Get;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -47,13 +48,34 @@ public class HbaseSqlUidMetaDataDao implements SqlUidMetaDataDao {
         Objects.requireNonNull(agentId, "agentId");
 
         UidMetaDataRowKey uidMetaDataRowKey = new DefaultUidMetaDataRowKey(agentId, time, sqlUid);
+        Get get = newGet(uidMetaDataRowKey);
+
+        TableName sqlUidMetaDataTableName = tableNameProvider.getTableName(DESCRIPTOR.getTable());
+        return hbaseOperations.get(sqlUidMetaDataTableName, get, sqlUidMetaDataMapper);
+    }
+
+    @Override
+    public List<List<SqlUidMetaDataBo>> getSqlUidMetaData(List<UidMetaDataRowKey> keys) {
+        Objects.requireNonNull(keys, "keys");
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        List<Get> gets = new ArrayList<>(keys.size());
+        for (UidMetaDataRowKey key : keys) {
+            gets.add(newGet(key));
+        }
+
+        TableName sqlUidMetaDataTableName = tableNameProvider.getTableName(DESCRIPTOR.getTable());
+        return hbaseOperations.get(sqlUidMetaDataTableName, gets, sqlUidMetaDataMapper);
+    }
+
+    private Get newGet(UidMetaDataRowKey uidMetaDataRowKey) {
         byte[] rowKey = getDistributedKey(rowKeyEncoder.encodeRowKey(uidMetaDataRowKey));
 
         Get get = new Get(rowKey);
         get.addFamily(DESCRIPTOR.getName());
-
-        TableName sqlUidMetaDataTableName = tableNameProvider.getTableName(DESCRIPTOR.getTable());
-        return hbaseOperations.get(sqlUidMetaDataTableName, get, sqlUidMetaDataMapper);
+        return get;
     }
 
     private byte[] getDistributedKey(byte[] rowKey) {
@@ -32,6 +32,7 @@ import org.apache.hadoop.hbase.client.Get;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -67,13 +68,34 @@ public class HbaseStringMetaDataDao implements StringMetaDataDao {
         Objects.requireNonNull(agentId, "agentId");
 
         MetaDataRowKey metaDataRowKey = new DefaultMetaDataRowKey(agentId, time, stringId);
+        Get get = newGet(metaDataRowKey);
+
+        TableName stringMetaDataTableName = tableNameProvider.getTableName(DESCRIPTOR.getTable());
+        return hbaseOperations.get(stringMetaDataTableName, get, stringMetaDataMapper);
+    }
+
+    @Override
+    public List<List<StringMetaDataBo>> getStringMetaData(List<MetaDataRowKey> keys) {
+        Objects.requireNonNull(keys, "keys");
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        List<Get> gets = new ArrayList<>(keys.size());
+        for (MetaDataRowKey key : keys) {
+            gets.add(newGet(key));
+        }
+
+        TableName stringMetaDataTableName = tableNameProvider.getTableName(DESCRIPTOR.getTable());
+        return hbaseOperations.get(stringMetaDataTableName, gets, stringMetaDataMapper);
+    }
+
+    private Get newGet(MetaDataRowKey metaDataRowKey) {
         byte[] rowKey = getDistributedKey(rowKeyEncoder.encodeRowKey(metaDataRowKey));
 
         Get get = new Get(rowKey);
         get.addFamily(DESCRIPTOR.getName());
-
-        TableName stringMetaDataTableName = tableNameProvider.getTableName(DESCRIPTOR.getTable());
-        return hbaseOperations.get(stringMetaDataTableName, get, stringMetaDataMapper);
+        return get;
     }
 
     private byte[] getDistributedKey(byte[] rowKey) {
@@ -32,6 +32,7 @@ import com.navercorp.pinpoint.common.server.bo.serializer.RowKeyEncoder;
 import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanEncoder;
 import com.navercorp.pinpoint.web.dao.TraceDao;
 import com.navercorp.pinpoint.web.mapper.SpanMapperFactory;
+import com.navercorp.pinpoint.web.mapper.SpanMapperV2;
 import com.navercorp.pinpoint.web.service.FetchResult;
 import com.navercorp.pinpoint.web.vo.GetTraceInfo;
 import org.apache.commons.collections4.CollectionUtils;
@@ -42,6 +43,7 @@ import org.apache.hadoop.hbase.client.Get;
 import org.apache.hadoop.hbase.filter.BinaryPrefixComparator;
 import org.apache.hadoop.hbase.filter.ByteArrayComparable;
 import org.apache.hadoop.hbase.filter.Filter;
+import org.apache.hadoop.hbase.filter.FilterList;
 import org.apache.hadoop.hbase.filter.QualifierFilter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -53,6 +55,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -154,6 +157,26 @@ public class HbaseTraceDaoV2 implements TraceDao {
         return selectAllSpans(transactionIdList, selectAllSpansLimit, filter);
     }
 
+    @Override
+    public void selectAllSpans(List<TransactionId> transactionIdList, ColumnGetCount columnGetCount, Consumer<List<SpanBo>> transactionConsumer) {
+        Objects.requireNonNull(transactionConsumer, "transactionConsumer");
+        if (CollectionUtils.isEmpty(transactionIdList)) {
+            return;
+        }
+        Filter filter = ColumnGetCount.toFilter(columnGetCount);
+
+        List<SpanQuery> spanQueryList = transactionIdList.stream()
+                .map(SpanQuery::new)
+                .collect(Collectors.toList());
+
+        for (List<SpanQuery> partition : partition(spanQueryList, selectAllSpansLimit)) {
+            List<List<SpanBo>> result = bulkSelect(partition, DESCRIPTOR.getName(), filter);
+            for (List<SpanBo> transaction : result) {
+                transactionConsumer.accept(transaction);
+            }
+        }
+    }
+
     List<List<SpanBo>> selectAllSpans(List<TransactionId> transactionIdList, int eachPartitionSize, Filter filter) {
         if (CollectionUtils.isEmpty(transactionIdList)) {
             return Collections.emptyList();
@@ -198,15 +221,13 @@ public class HbaseTraceDaoV2 implements TraceDao {
     }
 
     private RowMapper<List<SpanBo>> newRowMapper(List<SpanQuery> spanQueryList) {
-        RequestAwareRowMapper<List<SpanBo>, SpanQuery> getTraceInfoRowMapper = new RequestAwareDynamicRowMapper<>(this::getSpanMapper);
+        // rows of one multi-get are mapped sequentially, so they can share a string cache
+        final SpanMapperV2.BufferFactory bufferFactory = spanMapperFactory.newBufferFactory();
+        RequestAwareRowMapper<List<SpanBo>, SpanQuery> getTraceInfoRowMapper = new RequestAwareDynamicRowMapper<>(
+                spanQuery -> spanMapperFactory.getSpanMapper(spanQuery.getSpanFilter(), bufferFactory));
         return new RequestAwareRowMapperAdaptor<>(spanQueryList, getTraceInfoRowMapper);
     }
 
-
-    private RowMapper<List<SpanBo>> getSpanMapper(SpanQuery spanQuery) {
-        return spanMapperFactory.getSpanMapper(spanQuery.getSpanFilter());
-    }
-
     private List<Get> createGetList(List<SpanQuery> spanQueryList, byte[] columnFamily, Filter defaultFilter) {
         if (CollectionUtils.isEmpty(spanQueryList)) {
             return Collections.emptyList();
@@ -244,7 +265,12 @@ public class HbaseTraceDaoV2 implements TraceDao {
     }
 
     public Filter createSpanQualifierFilter() {
-        byte indexPrefix = SpanEncoder.TYPE_SPAN;
+        Filter spanV0 = createQualifierPrefixFilter(SpanEncoder.TYPE_SPAN);
+        Filter spanV1 = createQualifierPrefixFilter(SpanEncoder.TYPE_SPAN_V1);
+        return new FilterList(FilterList.Operator.MUST_PASS_ONE, spanV0, spanV1);
+    }
+
+    private Filter createQualifierPrefixFilter(byte indexPrefix) {
         ByteArrayComparable prefixComparator = new BinaryPrefixComparator(new byte[]{indexPrefix});
         return new QualifierFilter(CompareOperator.EQUAL, prefixComparator);
     }
@@ -5,7 +5,7 @@ import com.navercorp.pinpoint.common.profiler.util.TransactionId;
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
 import com.navercorp.pinpoint.common.server.bo.serializer.RowKeyDecoder;
 import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanDecoder;
-import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanDecoderV0;
+import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanDecoderV1;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -26,7 +26,7 @@ public class SpanMapperFactory {
 
     private final RowMapper<List<SpanBo>> mapper;
 
-    private final SpanDecoder spanDecoder = new SpanDecoderV0();
+    private final SpanDecoder spanDecoder = new SpanDecoderV1();
 
     public SpanMapperFactory(@Qualifier("traceRowKeyDecoderV2") RowKeyDecoder<TransactionId> rowKeyDecoder,
                              @Value("${web.hbase.mapper.cache.string.size:-1}") int stringCacheSize) {
@@ -57,4 +57,18 @@ public class SpanMapperFactory {
         final SpanDecoder targetSpanDecoder = new FilteringSpanDecoder(spanDecoder, spanFilter);
         return new SpanMapperV2(rowKeyDecoder, targetSpanDecoder, stringCacheSize);
     }
+
+    /**
+     * Creates a BufferFactory whose string cache can be shared by the rows of a single query.
+     */
+    public SpanMapperV2.BufferFactory newBufferFactory() {
+        return new SpanMapperV2.BufferFactory(stringCacheSize);
+    }
+
+    public RowMapper<List<SpanBo>> getSpanMapper(Predicate<SpanBo> spanFilter, SpanMapperV2.BufferFactory bufferFactory) {
+        Objects.requireNonNull(bufferFactory, "bufferFactory");
+
+        final SpanDecoder targetSpanDecoder = spanFilter == null ? spanDecoder : new FilteringSpanDecoder(spanDecoder, spanFilter);
+        return new SpanMapperV2(rowKeyDecoder, targetSpanDecoder, bufferFactory);
+    }
 }
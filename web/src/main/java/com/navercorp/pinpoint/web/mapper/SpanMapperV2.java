@@ -21,6 +21,7 @@ import com.google.common.collect.ListMultimap;
 import com.navercorp.pinpoint.common.buffer.Buffer;
 import com.navercorp.pinpoint.common.buffer.CachedStringAllocator;
 import com.navercorp.pinpoint.common.buffer.FixedBuffer;
+import com.navercorp.pinpoint.common.buffer.OffsetFixedBuffer;
 import com.navercorp.pinpoint.common.buffer.StringAllocator;
 import com.navercorp.pinpoint.common.buffer.StringCacheableBuffer;
 import com.navercorp.pinpoint.common.hbase.HbaseColumnFamily;
@@ -33,7 +34,7 @@ import com.navercorp.pinpoint.common.server.bo.SpanEventBo;
 import com.navercorp.pinpoint.common.server.bo.SpanEventComparator;
 import com.navercorp.pinpoint.common.server.bo.serializer.RowKeyDecoder;
 import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanDecoder;
-import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanDecoderV0;
+import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanDecoderV1;
 import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanDecodingContext;
 import com.navercorp.pinpoint.common.trace.ServiceTypeCategory;
 import com.navercorp.pinpoint.common.util.CollectionUtils;
@@ -70,12 +71,15 @@ public class SpanMapperV2 implements RowMapper<List<SpanBo>> {
 
     private final int cacheSize;
 
+    // @Nullable shared by all rows of one query, see SpanMapperFactory#getSpanMapper(Predicate, BufferFactory)
+    private final BufferFactory bufferFactory;
+
     public SpanMapperV2(RowKeyDecoder<TransactionId> rowKeyDecoder) {
-        this(rowKeyDecoder, new SpanDecoderV0(), DISABLED_CACHE);
+        this(rowKeyDecoder, new SpanDecoderV1(), DISABLED_CACHE);
     }
 
     public SpanMapperV2(RowKeyDecoder<TransactionId> rowKeyDecoder, int cacheSize) {
-        this(rowKeyDecoder, new SpanDecoderV0(), cacheSize);
+        this(rowKeyDecoder, new SpanDecoderV1(), cacheSize);
     }
 
     public SpanMapperV2(RowKeyDecoder<TransactionId> rowKeyDecoder, SpanDecoder spanDecoder) {
@@ -86,6 +90,17 @@ public class SpanMapperV2 implements RowMapper<List<SpanBo>> {
         this.rowKeyDecoder = Objects.requireNonNull(rowKeyDecoder, "rowKeyDecoder");
         this.spanDecoder = Objects.requireNonNull(spanDecoder, "spanDecoder");
         this.cacheSize = cacheSize;
+        this.bufferFactory = null;
+    }
+
+    /**
+     * The given bufferFactory is not thread-safe, the mapper must be confined to a single query.
+     */
+    public SpanMapperV2(RowKeyDecoder<TransactionId> rowKeyDecoder, SpanDecoder spanDecoder, BufferFactory bufferFactory) {
+        this.rowKeyDecoder = Objects.requireNonNull(rowKeyDecoder, "rowKeyDecoder");
+        this.spanDecoder = Objects.requireNonNull(spanDecoder, "spanDecoder");
+        this.bufferFactory = Objects.requireNonNull(bufferFactory, "bufferFactory");
+        this.cacheSize = bufferFactory.getCacheSize();
     }
 
     @Override
@@ -106,7 +121,7 @@ public class SpanMapperV2 implements RowMapper<List<SpanBo>> {
         final SpanDecodingContext decodingContext = new SpanDecodingContext();
         decodingContext.setTransactionId(transactionId);
 
-        final BufferFactory bufferFactory = new BufferFactory(cacheSize);
+        final BufferFactory bufferFactory = getBufferFactory();
 
         for (Cell cell : rawCells) {
             SpanDecoder spanDecoder = null;
@@ -115,8 +130,9 @@ public class SpanMapperV2 implements RowMapper<List<SpanBo>> {
 
                 decodingContext.setCollectorAcceptedTime(cell.getTimestamp());
 
-                final Buffer qualifier = bufferFactory.createBuffer(CellUtil.cloneQualifier(cell));
-                final Buffer columnValue = bufferFactory.createBuffer(CellUtil.cloneValue(cell));
+                // decode in place, without copying the qualifier and value out of the cell
+                final Buffer qualifier = bufferFactory.createBuffer(cell.getQualifierArray(), cell.getQualifierOffset(), cell.getQualifierLength());
+                final Buffer columnValue = bufferFactory.createBuffer(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength());
 
                 spanDecoder = resolveDecoder(columnValue);
                 final Object decodeObject = spanDecoder.decode(qualifier, columnValue, decodingContext);
@@ -148,11 +164,21 @@ public class SpanMapperV2 implements RowMapper<List<SpanBo>> {
 
     }
 
+    private BufferFactory getBufferFactory() {
+        if (bufferFactory != null) {
+            return bufferFactory;
+        }
+        return new BufferFactory(cacheSize);
+    }
+
     public static class BufferFactory {
 
+        private final int cacheSize;
+
         private final StringAllocator stringAllocator;
 
         public BufferFactory(int cacheSize) {
+            this.cacheSize = cacheSize;
             if (cacheSize > 0) {
                 Map<ByteBuffer, String> lruCache = new LRUCache<>(cacheSize);
                 this.stringAllocator = new CachedStringAllocator(lruCache);
@@ -161,6 +187,10 @@ public class SpanMapperV2 implements RowMapper<List<SpanBo>> {
             }
         }
 
+        public int getCacheSize() {
+            return cacheSize;
+        }
+
         public Buffer createBuffer(byte[] buffer) {
             if (stringAllocator != null) {
                 return new StringCacheableBuffer(buffer, stringAllocator);
@@ -168,6 +198,14 @@ public class SpanMapperV2 implements RowMapper<List<SpanBo>> {
                 return new FixedBuffer(buffer);
             }
         }
+
+        public Buffer createBuffer(byte[] buffer, int offset, int length) {
+            if (stringAllocator != null) {
+                return new StringCacheableBuffer(buffer, offset, length, stringAllocator);
+            } else {
+                return new OffsetFixedBuffer(buffer, offset, length);
+            }
+        }
     }
 
     private void nextCell(SpanDecoder spanDecoder, SpanDecodingContext decodingContext) {
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.mapper;
+
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.buffer.ByteArrayUtils;
+import com.navercorp.pinpoint.common.buffer.OffsetFixedBuffer;
+import com.navercorp.pinpoint.common.hbase.HbaseColumnFamily;
+import com.navercorp.pinpoint.common.hbase.HbaseTableConstants;
+import com.navercorp.pinpoint.common.hbase.ResultsExtractor;
+import com.navercorp.pinpoint.common.util.TimeUtils;
+import com.navercorp.pinpoint.web.scatter.heatmap.HeatMapBuilder;
+import com.navercorp.pinpoint.web.vo.scatter.Dot;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Accumulates the trace index of a single scan partition into its own {@link HeatMapBuilder},
+ * without materializing a {@link Dot} per transaction.
+ * <p>
+ * An instance is created per scan and used by its partitions concurrently.
+ * The partitions share the limit, so the scan stops once all partitions together have read {@code limit} dots.
+ */
+public class TraceIndexHeatMapExtractor implements ResultsExtractor<TraceIndexHeatMapExtractor.Partition> {
+
+    private static final HbaseColumnFamily.ApplicationTraceIndexTrace INDEX = HbaseColumnFamily.APPLICATION_TRACE_INDEX_TRACE;
+
+    private static final int ACCEPTED_TIME_OFFSET = HbaseTableConstants.APPLICATION_NAME_MAX_LEN + INDEX.ROW_DISTRIBUTE_SIZE;
+
+    private final Supplier<HeatMapBuilder> builderFactory;
+    private final int limit;
+    private final AtomicInteger count = new AtomicInteger();
+
+    public TraceIndexHeatMapExtractor(Supplier<HeatMapBuilder> builderFactory, int limit) {
+        this.builderFactory = Objects.requireNonNull(builderFactory, "builderFactory");
+        this.limit = limit;
+    }
+
+    @Override
+    public Partition extractData(ResultScanner results) throws Exception {
+        final HeatMapBuilder builder = builderFactory.get();
+        long lastAcceptedTime = Long.MAX_VALUE;
+        for (Result result : results) {
+            if (lastAcceptedTime != Long.MAX_VALUE && count.get() >= limit) {
+                // the other partitions used up the limit. every partition reads at least one row, so that the cutoff moves
+                return new Partition(builder, lastAcceptedTime, true);
+            }
+            final Cell[] rawCells = result.rawCells();
+            if (rawCells.length == 0) {
+                continue;
+            }
+            final long acceptedTime = getAcceptedTime(rawCells[0]);
+            int rowCount = 0;
+            for (Cell cell : rawCells) {
+                if (!CellUtil.matchingFamily(cell, INDEX.getName())) {
+                    continue;
+                }
+                final Buffer valueBuffer = new OffsetFixedBuffer(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength());
+                final int elapsed = valueBuffer.readVInt();
+                final int exceptionCode = valueBuffer.readSVInt();
+                builder.addDataPoint(acceptedTime, elapsed, exceptionCode == Dot.EXCEPTION_NONE);
+                rowCount++;
+            }
+            lastAcceptedTime = acceptedTime;
+            if (count.addAndGet(rowCount) >= limit) {
+                return new Partition(builder, lastAcceptedTime, true);
+            }
+        }
+        return new Partition(builder, lastAcceptedTime, false);
+    }
+
+    private long getAcceptedTime(Cell cell) {
+        final long reverseAcceptedTime = ByteArrayUtils.bytesToLong(cell.getRowArray(), cell.getRowOffset() + ACCEPTED_TIME_OFFSET);
+        return TimeUtils.recoveryTimeMillis(reverseAcceptedTime);
+    }
+
+    /**
+     * @param lastAcceptedTime accepted time of the last row read from the partition
+     * @param limited          whether the partition stopped at the limit before reaching the end of the range
+     */
+    public record Partition(HeatMapBuilder builder, long lastAcceptedTime, boolean limited) {
+    }
+}
@@ -1,12 +1,7 @@
 package com.navercorp.pinpoint.web.scatter.heatmap;
 
-import com.navercorp.pinpoint.common.server.util.pair.IntegerValuePair;
-
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 
 public class HeatMapBuilder {
@@ -17,11 +12,11 @@ public class HeatMapBuilder {
     private long oldestAcceptedTime = Long.MAX_VALUE;
     private long latestAcceptedTime = Long.MIN_VALUE;
 
-    private Map<Point2D, IntegerValuePair> map = newMap();
-
-    private Map<Point2D, IntegerValuePair> newMap() {
-        return new HashMap<>(128);
-    }
+    // dense grid indexed by x * ySize + y
+    private final int xSize;
+    private final int ySize;
+    private long[] success;
+    private long[] fail;
 
     public static HeatMapBuilder newBuilder(long startX, long endX, int xSlot, long minY, long maxY, int ySlot) {
         AxisResolver xResolver = new DefaultAxisResolver(xSlot, startX, endX);
@@ -32,6 +27,14 @@ public class HeatMapBuilder {
     public HeatMapBuilder(AxisResolver xAxisResolver, AxisResolver yAxisResolver) {
         this.xAxisResolver = Objects.requireNonNull(xAxisResolver, "xAxisResolver");
         this.yAxisResolver = Objects.requireNonNull(yAxisResolver, "yAxisResolver");
+        this.xSize = Math.toIntExact(xAxisResolver.getMaxIndex() + 1);
+        this.ySize = Math.toIntExact(yAxisResolver.getMaxIndex() + 1);
+        this.success = newGrid();
+        this.fail = newGrid();
+    }
+
+    private long[] newGrid() {
+        return new long[Math.multiplyExact(xSize, ySize)];
     }
 
 
@@ -41,6 +44,11 @@ public class HeatMapBuilder {
         long[] getIndex();
 
         long getTick();
+
+        /**
+         * @return the largest value {@link #getIndex(long)} can return
+         */
+        long getMaxIndex();
     }
 
     public static class DefaultAxisResolver implements AxisResolver {
@@ -72,6 +80,14 @@ public class HeatMapBuilder {
             return x / tick;
         }
 
+        @Override
+        public long getMaxIndex() {
+            if (range <= 0 || tick == 0) {
+                return 0;
+            }
+            return range / tick;
+        }
+
         @Override
         public long[] getIndex() {
             long[] index = new long[slotNumber];
@@ -83,6 +99,10 @@ public class HeatMapBuilder {
     }
 
     public void addDataPoint(long x, long y, boolean success) {
+        addDataPoint(x, y, success, 1);
+    }
+
+    public void addDataPoint(long x, long y, boolean success, long count) {
 
         final long xTick = xAxisResolver.getIndex(x);
         final long yTick = yAxisResolver.getIndex(y);
@@ -90,39 +110,59 @@ public class HeatMapBuilder {
         this.oldestAcceptedTime = Math.min(oldestAcceptedTime, x);
         this.latestAcceptedTime = Math.max(latestAcceptedTime, x);
 
-        final Point2D key = new Point2D(xTick, yTick);
-        IntegerValuePair counter = this.map.computeIfAbsent(key, longPair -> new IntegerValuePair(0, 0));
+        final int index = (int) (xTick * ySize + yTick);
         if (success) {
-            counter.addFirst(1);
+            this.success[index] += count;
         } else {
-            counter.addSecond(1);
+            this.fail[index] += count;
         }
     }
 
+    /**
+     * Adds the counts of a builder that was filled independently, e.g. by another scan partition.
+     * Both builders must have been created with the same axes.
+     */
+    public void merge(HeatMapBuilder other) {
+        Objects.requireNonNull(other, "other");
+        if (xSize != other.xSize || ySize != other.ySize) {
+            throw new IllegalArgumentException("grid size mismatch " + xSize + "x" + ySize + " " + other.xSize + "x" + other.ySize);
+        }
+        final long[] otherSuccess = other.success;
+        final long[] otherFail = other.fail;
+        for (int i = 0; i < otherSuccess.length; i++) {
+            this.success[i] += otherSuccess[i];
+            this.fail[i] += otherFail[i];
+        }
+        this.oldestAcceptedTime = Math.min(oldestAcceptedTime, other.oldestAcceptedTime);
+        this.latestAcceptedTime = Math.max(latestAcceptedTime, other.latestAcceptedTime);
+    }
+
 
     public HeatMap build() {
-        final Map<Point2D, IntegerValuePair> copy = this.map;
-        this.map = newMap();
+        final long[] successCopy = this.success;
+        final long[] failCopy = this.fail;
+        this.success = newGrid();
+        this.fail = newGrid();
 
         long success = 0;
         long fail = 0;
 
-
-        final List<Point> list = new ArrayList<>(copy.size());
-        for (Map.Entry<Point2D, IntegerValuePair> entry : copy.entrySet()) {
-            Point2D key = entry.getKey();
-            IntegerValuePair value = entry.getValue();
-
-            success += value.first();
-            fail += value.second();
-
-            final long acceptedTime = key.x();
-
-            Point point = new Point(acceptedTime, key.y(), value.first(), value.second());
-
-            list.add(point);
+        // x descending, y ascending
+        final List<Point> list = new ArrayList<>();
+        for (int x = xSize - 1; x >= 0; x--) {
+            final int offset = x * ySize;
+            for (int y = 0; y < ySize; y++) {
+                final long successCount = successCopy[offset + y];
+                final long failCount = failCopy[offset + y];
+                if (successCount == 0 && failCount == 0) {
+                    continue;
+                }
+                success += successCount;
+                fail += failCount;
+
+                list.add(new Point(x, y, successCount, failCount));
+            }
         }
-        list.sort(COMPARATOR);
         long[] xIndex = xAxisResolver.getIndex();
         long xTick = xAxisResolver.getTick();
         long[] yIndex = yAxisResolver.getIndex();
@@ -131,11 +171,4 @@ public class HeatMapBuilder {
         return new HeatMap(list, success, fail, oldestAcceptedTime, latestAcceptedTime, xIndex, xTick, yIndex, yTick);
     }
 
-    private static final Comparator<Point> COMPARATOR = Comparator.comparingLong(Point::x)
-                                                                    .reversed()
-                                                                    .thenComparingLong(Point::y);
-
-    record Point2D(long x, long y) {
-    }
-
 }
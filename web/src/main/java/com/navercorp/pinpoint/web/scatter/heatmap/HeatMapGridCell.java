@@ -0,0 +1,27 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.scatter.heatmap;
+
+/**
+ * One counter of the pre-aggregated heatmap grid.
+ *
+ * @param time    start time of the time cell
+ * @param elapsed lower bound of the elapsed-time cell
+ */
+public record HeatMapGridCell(long time, int elapsed, boolean success, long count) {
+}
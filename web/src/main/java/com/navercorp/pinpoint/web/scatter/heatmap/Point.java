@@ -1,5 +1,5 @@
 package com.navercorp.pinpoint.web.scatter.heatmap;
 
-public record Point(long x, long y, int success, int fail) {
+public record Point(long x, long y, long success, long fail) {
 
 }
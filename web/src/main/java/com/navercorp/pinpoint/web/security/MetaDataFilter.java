@@ -36,5 +36,14 @@ public interface MetaDataFilter {
 
     Record createRecord(CallTreeNode node, RecordFactory factory);
 
+    /**
+     * Same as {@link #createRecord(CallTreeNode, RecordFactory)}, but the record gets the id chosen by the caller,
+     * so that pages of the same call tree can be joined.
+     */
+    default Record createRecord(CallTreeNode node, RecordFactory factory, int id) {
+        final Record record = createRecord(node, factory);
+        return factory.getFilteredRecord(node, record.getTitle(), id);
+    }
+
     void replaceAnnotationBo(Align align, MetaData param);
 }
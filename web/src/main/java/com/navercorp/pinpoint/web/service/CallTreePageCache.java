@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.navercorp.pinpoint.common.profiler.util.TransactionId;
+import com.navercorp.pinpoint.web.security.MetaDataFilter;
+import com.navercorp.pinpoint.web.util.SecurityContextUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the aligned call tree of recently paged transactions,
+ * so that the following pages of the call stack do not select and align the spans again.
+ * <p>
+ * The cache is bounded by the total number of call tree nodes (spans and span events), not by the number of transactions,
+ * a single transaction may have tens of thousands of span events.
+ * Records are created from the shared nodes, callers must not build two pages of the same tree at the same time.
+ * The {@link MetaDataFilter} replaces annotations of the nodes for the current user,
+ * so the trees are kept per user when a filter is configured.
+ */
+@Component
+public class CallTreePageCache {
+
+    private final Cache<Key, SpanResult> cache;
+    private final boolean perUser;
+
+    public CallTreePageCache(@Value("${web.callstack.page.cache.maximum-weight:50000}") long maximumWeight,
+                             @Value("${web.callstack.page.cache.expire-after-access:2m}") Duration expireAfterAccess,
+                             Optional<MetaDataFilter> metaDataFilter) {
+        Objects.requireNonNull(expireAfterAccess, "expireAfterAccess");
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher(CallTreePageCache::weigh)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+        this.perUser = Objects.requireNonNull(metaDataFilter, "metaDataFilter").isPresent();
+    }
+
+    private static int weigh(Key key, SpanResult spanResult) {
+        return Math.max(1, spanResult.callTree().size());
+    }
+
+    public SpanResult get(TransactionId transactionId, long spanId, String agentId, long focusTimestamp, Supplier<SpanResult> loader) {
+        Objects.requireNonNull(transactionId, "transactionId");
+        Objects.requireNonNull(loader, "loader");
+
+        final String principal = perUser ? SecurityContextUtils.getPrincipalName("") : "";
+        final Key key = new Key(transactionId, spanId, agentId, focusTimestamp, principal);
+        return cache.get(key, k -> loader.get());
+    }
+
+    private record Key(TransactionId transactionId, long spanId, String agentId, long focusTimestamp, String principal) {
+    }
+}
@@ -8,6 +8,7 @@ import com.navercorp.pinpoint.web.vo.LimitedScanResult;
 import com.navercorp.pinpoint.web.vo.scatter.DotMetaData;
 
 import java.util.List;
+import java.util.function.Predicate;
 
 public interface HeatMapService {
 
@@ -17,4 +18,10 @@ public interface HeatMapService {
     LimitedScanResult<List<DotMetaData>> dragScatterDataV2(String applicationName, DragAreaQuery dragAreaquery, int limit);
 
     LimitedScanResult<HeatMap> getHeatMap(String applicationName, Range range, long maxY, int limit);
+
+    /**
+     * Scans the range newest slice first and passes the heatmap of each slice to the consumer as soon as it is built.
+     * All slices share the axes of the full range. Scanning stops when the consumer returns false or the limit is reached.
+     */
+    void streamHeatMap(String applicationName, Range range, long maxY, int limit, Predicate<LimitedScanResult<HeatMap>> consumer);
 }
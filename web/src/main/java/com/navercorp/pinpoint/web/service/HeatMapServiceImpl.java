@@ -2,13 +2,17 @@ package com.navercorp.pinpoint.web.service;
 
 import com.navercorp.pinpoint.common.profiler.util.TransactionId;
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
+import com.navercorp.pinpoint.common.server.scatter.HeatMapGridUtils;
 import com.navercorp.pinpoint.common.server.util.time.Range;
 import com.navercorp.pinpoint.common.util.CollectionUtils;
+import com.navercorp.pinpoint.web.config.ScatterChartProperties;
+import com.navercorp.pinpoint.web.dao.ApplicationHeatMapDao;
 import com.navercorp.pinpoint.web.dao.ApplicationTraceIndexDao;
 import com.navercorp.pinpoint.web.dao.TraceDao;
 import com.navercorp.pinpoint.web.scatter.DragAreaQuery;
 import com.navercorp.pinpoint.web.scatter.heatmap.HeatMap;
 import com.navercorp.pinpoint.web.scatter.heatmap.HeatMapBuilder;
+import com.navercorp.pinpoint.web.scatter.heatmap.HeatMapGridCell;
 import com.navercorp.pinpoint.web.util.ListListUtils;
 import com.navercorp.pinpoint.web.vo.GetTraceInfo;
 import com.navercorp.pinpoint.web.vo.LimitedScanResult;
@@ -31,17 +35,25 @@ import java.util.stream.Collectors;
 @Service
 public class HeatMapServiceImpl implements HeatMapService {
 
+    private static final int HEATMAP_SLOT_SIZE = 100;
+
     private final Logger logger = LogManager.getLogger(this.getClass());
 
     private final ApplicationTraceIndexDao applicationTraceIndexDao;
+    private final ApplicationHeatMapDao applicationHeatMapDao;
+    private final ScatterChartProperties scatterChartProperties;
 
     private final TraceDao traceDao;
     private final SpanService spanService;
 
     public HeatMapServiceImpl(ApplicationTraceIndexDao applicationTraceIndexDao,
+                              ApplicationHeatMapDao applicationHeatMapDao,
+                              ScatterChartProperties scatterChartProperties,
                               SpanService spanService,
                               TraceDao traceDao) {
         this.applicationTraceIndexDao = Objects.requireNonNull(applicationTraceIndexDao, "applicationTraceIndexDao");
+        this.applicationHeatMapDao = Objects.requireNonNull(applicationHeatMapDao, "applicationHeatMapDao");
+        this.scatterChartProperties = Objects.requireNonNull(scatterChartProperties, "scatterChartProperties");
         this.spanService = Objects.requireNonNull(spanService, "spanService");
         this.traceDao = Objects.requireNonNull(traceDao, "traceDao");
     }
@@ -145,19 +157,88 @@ public class HeatMapServiceImpl implements HeatMapService {
         Objects.requireNonNull(applicationName, "applicationName");
         Objects.requireNonNull(range, "range");
 
+        if (useHeatMapGrid(range)) {
+            return getHeatMapFromGrid(applicationName, range, maxY);
+        }
+
+        LimitedScanResult<HeatMapBuilder> scanResult = applicationTraceIndexDao.scanTraceHeatMap(applicationName, range, limit,
+                () -> newHeatMapBuilder(range, maxY));
 
-        LimitedScanResult<List<Dot>> scanResult = applicationTraceIndexDao.scanTraceScatterData(applicationName, range, limit, true);
+        HeatMap heatMap = scanResult.scanData().build();
+        logger.debug("getHeatMap applicationName:{} heatMap:{}", applicationName, heatMap);
 
-        final int slotSize = 100;
-        HeatMapBuilder builder = HeatMapBuilder.newBuilder(range.getFrom(), range.getTo(), slotSize, 0, maxY, slotSize);
-        for (Dot dot : scanResult.scanData()) {
-            final boolean success = dot.getExceptionCode() == Dot.EXCEPTION_NONE;
-            builder.addDataPoint(dot.getAcceptedTime(), dot.getElapsedTime(), success);
+        return new LimitedScanResult<>(scanResult.limitedTime(), heatMap);
+    }
+
+    @Override
+    public void streamHeatMap(String applicationName, Range range, long maxY, int limit, Predicate<LimitedScanResult<HeatMap>> consumer) {
+        Objects.requireNonNull(applicationName, "applicationName");
+        Objects.requireNonNull(range, "range");
+        Objects.requireNonNull(consumer, "consumer");
+
+        if (useHeatMapGrid(range)) {
+            // grid cells straddle slice boundaries and the whole range is a single cheap scan
+            consumer.test(getHeatMapFromGrid(applicationName, range, maxY));
+            return;
+        }
+
+        final int sliceCount = Math.max(scatterChartProperties.getHeatMapStreamSliceCount(), 1);
+        final long sliceSize = Math.max((range.durationMillis() + sliceCount - 1) / sliceCount, 1);
+
+        int remaining = limit;
+        // the trace index scan covers (from, to], so adjacent slices do not overlap
+        long sliceTo = range.getTo();
+        while (sliceTo > range.getFrom()) {
+            final long sliceFrom = Math.max(sliceTo - sliceSize, range.getFrom());
+            final Range slice = Range.unchecked(sliceFrom, sliceTo);
+
+            LimitedScanResult<HeatMapBuilder> scanResult = applicationTraceIndexDao.scanTraceHeatMap(applicationName, slice, remaining,
+                    () -> newHeatMapBuilder(range, maxY));
+            HeatMap heatMap = scanResult.scanData().build();
+            logger.debug("streamHeatMap applicationName:{} slice:{} heatMap:{}", applicationName, slice, heatMap);
+
+            remaining -= Math.toIntExact(heatMap.getSuccess() + heatMap.getFail());
+            if (!consumer.test(new LimitedScanResult<>(scanResult.limitedTime(), heatMap))) {
+                logger.debug("streamHeatMap cancelled applicationName:{} slice:{}", applicationName, slice);
+                return;
+            }
+            if (remaining <= 0) {
+                return;
+            }
+            sliceTo = sliceFrom;
+        }
+    }
+
+    /**
+     * The grid cannot resolve a heatmap column narrower than its time cell,
+     * short ranges are scanned from the trace index instead.
+     */
+    private boolean useHeatMapGrid(Range range) {
+        if (!scatterChartProperties.isEnableHeatMapGrid()) {
+            return false;
+        }
+        return range.durationMillis() / HEATMAP_SLOT_SIZE >= HeatMapGridUtils.TIME_CELL_SIZE;
+    }
+
+    private LimitedScanResult<HeatMap> getHeatMapFromGrid(String applicationName, Range range, long maxY) {
+        List<HeatMapGridCell> cells = applicationHeatMapDao.selectHeatMap(applicationName, range);
+
+        HeatMapBuilder builder = newHeatMapBuilder(range, maxY);
+        for (HeatMapGridCell cell : cells) {
+            if (cell.time() + HeatMapGridUtils.TIME_CELL_SIZE <= range.getFrom() || cell.time() > range.getTo()) {
+                continue;
+            }
+            builder.addDataPoint(cell.time(), cell.elapsed(), cell.success(), cell.count());
         }
         HeatMap heatMap = builder.build();
-        logger.debug("getHeatMap applicationName:{} dots:{} heatMap:{}", applicationName, scanResult.scanData().size(), heatMap);
+        logger.debug("getHeatMapFromGrid applicationName:{} cells:{} heatMap:{}", applicationName, cells.size(), heatMap);
 
-        return new LimitedScanResult<>(scanResult.limitedTime(), heatMap);
+        // the grid is never truncated
+        return new LimitedScanResult<>(range.getFrom(), heatMap);
+    }
+
+    private HeatMapBuilder newHeatMapBuilder(Range range, long maxY) {
+        return HeatMapBuilder.newBuilder(range.getFrom(), range.getTo(), HEATMAP_SLOT_SIZE, 0, maxY, HEATMAP_SLOT_SIZE);
     }
 
     private List<GetTraceInfo> buildQuery(String applicationName, List<Dot> dots) {
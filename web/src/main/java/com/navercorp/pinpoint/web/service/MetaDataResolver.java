@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.navercorp.pinpoint.common.server.bo.ApiMetaDataBo;
+import com.navercorp.pinpoint.common.server.bo.SqlMetaDataBo;
+import com.navercorp.pinpoint.common.server.bo.SqlUidMetaDataBo;
+import com.navercorp.pinpoint.common.server.bo.StringMetaDataBo;
+import com.navercorp.pinpoint.common.server.bo.serializer.metadata.MetaDataRowKey;
+import com.navercorp.pinpoint.common.server.bo.serializer.metadata.uid.UidMetaDataRowKey;
+import com.navercorp.pinpoint.web.cache.CacheConfiguration;
+import com.navercorp.pinpoint.web.dao.ApiMetaDataDao;
+import com.navercorp.pinpoint.web.dao.SqlMetaDataDao;
+import com.navercorp.pinpoint.web.dao.SqlUidMetaDataDao;
+import com.navercorp.pinpoint.web.dao.StringMetaDataDao;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Resolves api/sql/sql-uid/string metadata for a whole call tree at once.
+ * <p>
+ * Keys missing from the cache are fetched with one multi-get per metadata table.
+ * Api metadata shares the {@link CacheConfiguration#API_METADATA_CACHE_NAME} cache with
+ * {@link ApiMetaDataDao#getApiMetaData(String, long, int)}; sql, sql-uid and string metadata have their own caches.
+ * Missing entries are not cached, because the agent may still be sending them.
+ */
+@Component
+public class MetaDataResolver {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final ApiMetaDataDao apiMetaDataDao;
+    private final SqlMetaDataDao sqlMetaDataDao;
+    private final SqlUidMetaDataDao sqlUidMetaDataDao;
+    private final StringMetaDataDao stringMetaDataDao;
+
+    private final org.springframework.cache.Cache apiMetaDataCache;
+    private final Cache<MetaDataRowKey, List<SqlMetaDataBo>> sqlMetaDataCache;
+    private final Cache<UidMetaDataRowKey, List<SqlUidMetaDataBo>> sqlUidMetaDataCache;
+    private final Cache<MetaDataRowKey, List<StringMetaDataBo>> stringMetaDataCache;
+
+    public MetaDataResolver(ApiMetaDataDao apiMetaDataDao,
+                            SqlMetaDataDao sqlMetaDataDao,
+                            SqlUidMetaDataDao sqlUidMetaDataDao,
+                            StringMetaDataDao stringMetaDataDao,
+                            @Qualifier(CacheConfiguration.API_METADATA_CACHE_NAME) CacheManager apiMetaDataCacheManager,
+                            @Value("${web.metadata.cache.maximum-size:10000}") long maximumSize,
+                            @Value("${web.metadata.cache.expire-after-access:10m}") Duration expireAfterAccess) {
+        this.apiMetaDataDao = Objects.requireNonNull(apiMetaDataDao, "apiMetaDataDao");
+        this.sqlMetaDataDao = Objects.requireNonNull(sqlMetaDataDao, "sqlMetaDataDao");
+        this.sqlUidMetaDataDao = Objects.requireNonNull(sqlUidMetaDataDao, "sqlUidMetaDataDao");
+        this.stringMetaDataDao = Objects.requireNonNull(stringMetaDataDao, "stringMetaDataDao");
+
+        Objects.requireNonNull(apiMetaDataCacheManager, "apiMetaDataCacheManager");
+        this.apiMetaDataCache = Objects.requireNonNull(apiMetaDataCacheManager.getCache(CacheConfiguration.API_METADATA_CACHE_NAME), "apiMetaDataCache");
+        Objects.requireNonNull(expireAfterAccess, "expireAfterAccess");
+        this.sqlMetaDataCache = newCache(maximumSize, expireAfterAccess);
+        this.sqlUidMetaDataCache = newCache(maximumSize, expireAfterAccess);
+        this.stringMetaDataCache = newCache(maximumSize, expireAfterAccess);
+    }
+
+    private static <K, V> Cache<K, V> newCache(long maximumSize, Duration expireAfterAccess) {
+        return Caffeine.newBuilder()
+                .expireAfterAccess(expireAfterAccess)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public Map<MetaDataRowKey, List<ApiMetaDataBo>> getApiMetaData(Set<MetaDataRowKey> keys) {
+        return resolve(keys, this::getCachedApiMetaData,
+                (key, metaData) -> apiMetaDataCache.put(apiMetaDataCacheKey(key), metaData),
+                apiMetaDataDao::getApiMetaData);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ApiMetaDataBo> getCachedApiMetaData(MetaDataRowKey key) {
+        final List<ApiMetaDataBo> metaData = apiMetaDataCache.get(apiMetaDataCacheKey(key), List.class);
+        if (metaData == null || metaData.isEmpty()) {
+            // not found results cached by ApiMetaDataDao are read again
+            return null;
+        }
+        return metaData;
+    }
+
+    /**
+     * same key as HbaseApiMetaDataDao.SPEL_KEY
+     */
+    private static String apiMetaDataCacheKey(MetaDataRowKey key) {
+        return key.getAgentId() + "." + key.getAgentStartTime() + "." + key.getId();
+    }
+
+    public Map<MetaDataRowKey, List<SqlMetaDataBo>> getSqlMetaData(Set<MetaDataRowKey> keys) {
+        return resolve(keys, sqlMetaDataCache::getIfPresent, sqlMetaDataCache::put, sqlMetaDataDao::getSqlMetaData);
+    }
+
+    public Map<UidMetaDataRowKey, List<SqlUidMetaDataBo>> getSqlUidMetaData(Set<UidMetaDataRowKey> keys) {
+        return resolve(keys, sqlUidMetaDataCache::getIfPresent, sqlUidMetaDataCache::put, sqlUidMetaDataDao::getSqlUidMetaData);
+    }
+
+    public Map<MetaDataRowKey, List<StringMetaDataBo>> getStringMetaData(Set<MetaDataRowKey> keys) {
+        return resolve(keys, stringMetaDataCache::getIfPresent, stringMetaDataCache::put, stringMetaDataDao::getStringMetaData);
+    }
+
+    private <K, V> Map<K, List<V>> resolve(Set<K> keys,
+                                           Function<K, List<V>> cacheGet,
+                                           BiConsumer<K, List<V>> cachePut,
+                                           Function<List<K>, List<List<V>>> loader) {
+        Objects.requireNonNull(keys, "keys");
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+
+        final Map<K, List<V>> result = new HashMap<>(keys.size());
+        final List<K> missing = new ArrayList<>();
+        for (K key : keys) {
+            final List<V> cached = cacheGet.apply(key);
+            if (cached != null) {
+                result.put(key, cached);
+            } else {
+                missing.add(key);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        final List<List<V>> loaded = loader.apply(missing);
+        for (int i = 0; i < missing.size(); i++) {
+            final K key = missing.get(i);
+            final List<V> metaData = loaded.get(i);
+            result.put(key, metaData);
+            if (!metaData.isEmpty()) {
+                cachePut.accept(key, metaData);
+            }
+        }
+        logger.debug("resolve keys:{} cached:{} loaded:{}", keys.size(), keys.size() - missing.size(), missing.size());
+        return result;
+    }
+}
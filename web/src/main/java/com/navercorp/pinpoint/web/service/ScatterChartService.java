@@ -25,6 +25,7 @@ import com.navercorp.pinpoint.common.server.util.time.Range;
 import com.navercorp.pinpoint.web.vo.scatter.Dot;
 
 import java.util.List;
+import java.util.function.Predicate;
 
 public interface ScatterChartService {
 
@@ -46,4 +47,10 @@ public interface ScatterChartService {
 
     ScatterData selectScatterData(List<TransactionId> transactionIdList, String applicationName, Range range, int xGroupUnit, int yGroupUnit, Filter<List<SpanBo>> filter);
 
+    /**
+     * Scans the range newest slice first and passes the scatter data of each slice to the consumer as soon as it is built.
+     * All slices are grouped against the full range. Scanning stops when the consumer returns false or the limit is reached.
+     */
+    void streamScatterData(String applicationName, Range range, int xGroupUnit, int yGroupUnit, int limit, Predicate<ScatterData> consumer);
+
 }
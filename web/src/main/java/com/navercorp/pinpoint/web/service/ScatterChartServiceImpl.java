@@ -20,6 +20,7 @@ import com.navercorp.pinpoint.common.profiler.util.TransactionId;
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
 import com.navercorp.pinpoint.common.server.util.time.Range;
 import com.navercorp.pinpoint.common.util.CollectionUtils;
+import com.navercorp.pinpoint.web.config.ScatterChartProperties;
 import com.navercorp.pinpoint.web.dao.ApplicationTraceIndexDao;
 import com.navercorp.pinpoint.web.dao.TraceDao;
 import com.navercorp.pinpoint.web.filter.Filter;
@@ -37,6 +38,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -54,12 +56,16 @@ public class ScatterChartServiceImpl implements ScatterChartService {
 
     private final SpanService spanService;
 
+    private final ScatterChartProperties scatterChartProperties;
+
     public ScatterChartServiceImpl(ApplicationTraceIndexDao applicationTraceIndexDao,
                                    TraceDao traceDao,
-                                   SpanService spanService) {
+                                   SpanService spanService,
+                                   ScatterChartProperties scatterChartProperties) {
         this.applicationTraceIndexDao = Objects.requireNonNull(applicationTraceIndexDao, "applicationTraceIndexDao");
         this.traceDao = Objects.requireNonNull(traceDao, "traceDao");
         this.spanService = Objects.requireNonNull(spanService, "spanService");
+        this.scatterChartProperties = Objects.requireNonNull(scatterChartProperties, "scatterChartProperties");
     }
 
     @Override
@@ -120,6 +126,39 @@ public class ScatterChartServiceImpl implements ScatterChartService {
         return builder.build();
     }
 
+    @Override
+    public void streamScatterData(String applicationName, Range range, int xGroupUnit, int yGroupUnit, int limit, Predicate<ScatterData> consumer) {
+        Objects.requireNonNull(applicationName, "applicationName");
+        Objects.requireNonNull(range, "range");
+        Objects.requireNonNull(consumer, "consumer");
+
+        final int sliceCount = Math.max(scatterChartProperties.getScatterStreamSliceCount(), 1);
+        final long sliceSize = Math.max((range.durationMillis() + sliceCount - 1) / sliceCount, 1);
+
+        int remaining = limit;
+        // the trace index scan covers (from, to], so adjacent slices do not overlap
+        long sliceTo = range.getTo();
+        while (sliceTo > range.getFrom()) {
+            final long sliceFrom = Math.max(sliceTo - sliceSize, range.getFrom());
+            final Range slice = Range.unchecked(sliceFrom, sliceTo);
+
+            LimitedScanResult<List<Dot>> scanResult = applicationTraceIndexDao.scanTraceScatterData(applicationName, slice, remaining, true);
+            ScatterDataBuilder builder = new ScatterDataBuilder(range.getFrom(), range.getTo(), xGroupUnit, yGroupUnit);
+            builder.addDot(scanResult.scanData());
+            logger.debug("streamScatterData applicationName:{} slice:{} dots:{}", applicationName, slice, scanResult.scanData().size());
+
+            remaining -= scanResult.scanData().size();
+            if (!consumer.test(builder.build())) {
+                logger.debug("streamScatterData cancelled applicationName:{} slice:{}", applicationName, slice);
+                return;
+            }
+            if (remaining <= 0) {
+                return;
+            }
+            sliceTo = sliceFrom;
+        }
+    }
+
     @Override
     public ScatterData selectScatterData(List<TransactionId> transactionIdList, String applicationName, Range range, int xGroupUnit, int yGroupUnit, Filter<List<SpanBo>> filter) {
         Objects.requireNonNull(transactionIdList, "transactionIdList");
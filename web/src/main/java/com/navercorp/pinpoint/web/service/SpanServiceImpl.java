@@ -28,6 +28,10 @@ import com.navercorp.pinpoint.common.server.bo.SpanBo;
 import com.navercorp.pinpoint.common.server.bo.SqlMetaDataBo;
 import com.navercorp.pinpoint.common.server.bo.SqlUidMetaDataBo;
 import com.navercorp.pinpoint.common.server.bo.StringMetaDataBo;
+import com.navercorp.pinpoint.common.server.bo.serializer.metadata.DefaultMetaDataRowKey;
+import com.navercorp.pinpoint.common.server.bo.serializer.metadata.MetaDataRowKey;
+import com.navercorp.pinpoint.common.server.bo.serializer.metadata.uid.DefaultUidMetaDataRowKey;
+import com.navercorp.pinpoint.common.server.bo.serializer.metadata.uid.UidMetaDataRowKey;
 import com.navercorp.pinpoint.common.server.util.AnnotationUtils;
 import com.navercorp.pinpoint.common.trace.AnnotationKey;
 import com.navercorp.pinpoint.common.util.AnnotationKeyUtils;
@@ -42,10 +46,6 @@ import com.navercorp.pinpoint.web.calltree.span.CallTree;
 import com.navercorp.pinpoint.web.calltree.span.CallTreeIterator;
 import com.navercorp.pinpoint.web.calltree.span.SpanAligner;
 import com.navercorp.pinpoint.web.calltree.span.TraceState;
-import com.navercorp.pinpoint.web.dao.ApiMetaDataDao;
-import com.navercorp.pinpoint.web.dao.SqlMetaDataDao;
-import com.navercorp.pinpoint.web.dao.SqlUidMetaDataDao;
-import com.navercorp.pinpoint.web.dao.StringMetaDataDao;
 import com.navercorp.pinpoint.web.dao.TraceDao;
 import com.navercorp.pinpoint.web.security.MetaDataFilter;
 import com.navercorp.pinpoint.web.security.MetaDataFilter.MetaData;
@@ -60,10 +60,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -79,16 +81,10 @@ public class SpanServiceImpl implements SpanService {
 
     private final TraceDao traceDao;
 
-    private final SqlMetaDataDao sqlMetaDataDao;
-
-    private final SqlUidMetaDataDao sqlUidMetaDataDao;
+    private final MetaDataResolver metaDataResolver;
 
     private final MetaDataFilter metaDataFilter;
 
-    private final ApiMetaDataDao apiMetaDataDao;
-
-    private final StringMetaDataDao stringMetaDataDao;
-
     private final ServiceTypeRegistryService serviceTypeRegistryService;
 
     private final AgentInfoService agentInfoService;
@@ -97,19 +93,13 @@ public class SpanServiceImpl implements SpanService {
     private final OutputParameterParser outputParameterParser = new OutputParameterParser();
 
     public SpanServiceImpl(TraceDao traceDao,
-                           SqlMetaDataDao sqlMetaDataDao,
-                           SqlUidMetaDataDao sqlUidMetaDataDao,
+                           MetaDataResolver metaDataResolver,
                            Optional<MetaDataFilter> metaDataFilter,
-                           ApiMetaDataDao apiMetaDataDao,
-                           StringMetaDataDao stringMetaDataDao,
                            ServiceTypeRegistryService serviceTypeRegistryService,
                            AgentInfoService agentInfoService) {
         this.traceDao = Objects.requireNonNull(traceDao, "traceDao");
-        this.sqlMetaDataDao = Objects.requireNonNull(sqlMetaDataDao, "sqlMetaDataDao");
-        this.sqlUidMetaDataDao = Objects.requireNonNull(sqlUidMetaDataDao, "sqlUidMetaDataDao");
+        this.metaDataResolver = Objects.requireNonNull(metaDataResolver, "metaDataResolver");
         this.metaDataFilter = Objects.requireNonNull(metaDataFilter, "metaDataFilter").orElse(null);
-        this.apiMetaDataDao = Objects.requireNonNull(apiMetaDataDao, "apiMetaDataDao");
-        this.stringMetaDataDao = Objects.requireNonNull(stringMetaDataDao, "stringMetaDataDao");
         this.serviceTypeRegistryService = Objects.requireNonNull(serviceTypeRegistryService, "serviceTypeRegistryService");
         this.agentInfoService = Objects.requireNonNull(agentInfoService, "agentInfoService");
     }
@@ -140,12 +130,14 @@ public class SpanServiceImpl implements SpanService {
         final CallTreeIterator callTreeIterator = result.callTree();
         final List<Align> values = callTreeIterator.values();
 
-        transitionDynamicApiId(values);
-        transitionSqlId(values);
-        transitionSqlUid(values);
+        final CallTreeMetaData metaData = prefetchMetaData(values);
+
+        transitionDynamicApiId(values, metaData);
+        transitionSqlId(values, metaData);
+        transitionSqlUid(values, metaData);
         transitionMongoJson(values);
-        transitionCachedString(values);
-        transitionException(values);
+        transitionCachedString(values, metaData);
+        transitionException(values, metaData);
 
         // TODO need to at least show the row data when root span is not found.
         return result;
@@ -193,6 +185,56 @@ public class SpanServiceImpl implements SpanService {
     }
 
 
+    private CallTreeMetaData prefetchMetaData(List<Align> values) {
+        final Set<MetaDataRowKey> apiKeys = new HashSet<>();
+        final Set<MetaDataRowKey> sqlKeys = new HashSet<>();
+        final Set<UidMetaDataRowKey> sqlUidKeys = new HashSet<>();
+        final Set<MetaDataRowKey> stringKeys = new HashSet<>();
+
+        for (Align align : values) {
+            final String agentId = align.getAgentId();
+            final long agentStartTime = align.getAgentStartTime();
+            final List<AnnotationBo> annotationBoList = Objects.requireNonNullElse(align.getAnnotationBoList(), List.of());
+
+            final int apiId = align.getApiId();
+            if (apiId != 0 || AnnotationUtils.findApiAnnotation(annotationBoList) == null) {
+                apiKeys.add(new DefaultMetaDataRowKey(agentId, agentStartTime, apiId));
+            }
+
+            for (AnnotationBo annotationBo : annotationBoList) {
+                final int key = annotationBo.getKey();
+                if (key == AnnotationKey.SQL_ID.getCode()) {
+                    if (!isFilteredSql(align)) {
+                        final IntStringStringValue sqlValue = (IntStringStringValue) annotationBo.getValue();
+                        sqlKeys.add(new DefaultMetaDataRowKey(agentId, agentStartTime, sqlValue.getIntValue()));
+                    }
+                } else if (key == AnnotationKey.SQL_UID.getCode()) {
+                    if (!isFilteredSql(align)) {
+                        final BytesStringStringValue sqlValue = (BytesStringStringValue) annotationBo.getValue();
+                        sqlUidKeys.add(new DefaultUidMetaDataRowKey(agentId, agentStartTime, sqlValue.getBytesValue()));
+                    }
+                } else if (AnnotationKeyUtils.isCachedArgsKey(key)) {
+                    stringKeys.add(new DefaultMetaDataRowKey(agentId, agentStartTime, (Integer) annotationBo.getValue()));
+                }
+            }
+
+            if (align.hasException()) {
+                stringKeys.add(new DefaultMetaDataRowKey(agentId, agentStartTime, align.getExceptionId()));
+            }
+        }
+
+        return new CallTreeMetaData(
+                metaDataResolver.getApiMetaData(apiKeys),
+                metaDataResolver.getSqlMetaData(sqlKeys),
+                metaDataResolver.getSqlUidMetaData(sqlUidKeys),
+                metaDataResolver.getStringMetaData(stringKeys)
+        );
+    }
+
+    private boolean isFilteredSql(Align align) {
+        return metaDataFilter != null && metaDataFilter.filter(align, MetaData.SQL);
+    }
+
     private void transitionAnnotation(List<Align> spans, AnnotationReplacementCallback annotationReplacementCallback) {
         for (Align align : spans) {
             List<AnnotationBo> annotationBoList = align.getAnnotationBoList();
@@ -204,7 +246,7 @@ public class SpanServiceImpl implements SpanService {
         }
     }
 
-    private void transitionSqlId(final List<Align> spans) {
+    private void transitionSqlId(final List<Align> spans, final CallTreeMetaData metaData) {
         this.transitionAnnotation(spans, new AnnotationReplacementCallback() {
             @Override
             public void replacement(Align align, List<AnnotationBo> annotationBoList) {
@@ -212,7 +254,7 @@ public class SpanServiceImpl implements SpanService {
                 if (sqlIdAnnotation == null) {
                     return;
                 }
-                if (metaDataFilter != null && metaDataFilter.filter(align, MetaData.SQL)) {
+                if (isFilteredSql(align)) {
                     AnnotationBo annotationBo = metaDataFilter.createAnnotationBo(align, MetaData.SQL);
                     annotationBoList.add(annotationBo);
                     return;
@@ -224,7 +266,7 @@ public class SpanServiceImpl implements SpanService {
                 final String sqlParam = sqlValue.getStringValue1();
                 final String bindValue = sqlValue.getStringValue2();
 
-                List<SqlMetaDataBo> sqlMetaDataList = sqlMetaDataDao.getSqlMetaData(align.getAgentId(), align.getAgentStartTime(), sqlId);
+                List<SqlMetaDataBo> sqlMetaDataList = metaData.getSqlMetaData(align.getAgentId(), align.getAgentStartTime(), sqlId);
 
                 final int size = sqlMetaDataList.size();
                 if (size == 0) {
@@ -271,7 +313,7 @@ public class SpanServiceImpl implements SpanService {
         });
     }
 
-    private void transitionSqlUid(final List<Align> spans) {
+    private void transitionSqlUid(final List<Align> spans, final CallTreeMetaData metaData) {
         this.transitionAnnotation(spans, new AnnotationReplacementCallback() {
             @Override
             public void replacement(Align align, List<AnnotationBo> annotationBoList) {
@@ -279,7 +321,7 @@ public class SpanServiceImpl implements SpanService {
                 if (sqlUidAnnotation == null) {
                     return;
                 }
-                if (metaDataFilter != null && metaDataFilter.filter(align, MetaData.SQL)) {
+                if (isFilteredSql(align)) {
                     AnnotationBo annotationBo = metaDataFilter.createAnnotationBo(align, MetaData.SQL);
                     annotationBoList.add(annotationBo);
                     return;
@@ -291,7 +333,7 @@ public class SpanServiceImpl implements SpanService {
                 final String sqlParam = sqlValue.getStringValue1();
                 final String bindValue = sqlValue.getStringValue2();
 
-                List<SqlUidMetaDataBo> sqlUidMetaDataList = sqlUidMetaDataDao.getSqlUidMetaData(align.getAgentId(), align.getAgentStartTime(), sqlUid);
+                List<SqlUidMetaDataBo> sqlUidMetaDataList = metaData.getSqlUidMetaData(align.getAgentId(), align.getAgentStartTime(), sqlUid);
 
                 final int size = sqlUidMetaDataList.size();
                 if (size == 0) {
@@ -399,7 +441,7 @@ public class SpanServiceImpl implements SpanService {
         return null;
     }
 
-    private void transitionDynamicApiId(List<Align> spans) {
+    private void transitionDynamicApiId(List<Align> spans, CallTreeMetaData metaData) {
         this.transitionAnnotation(spans, new AnnotationReplacementCallback() {
             @Override
             public void replacement(Align align, List<AnnotationBo> annotationBoList) {
@@ -419,7 +461,7 @@ public class SpanServiceImpl implements SpanService {
                 }
 
                 // may be able to get a more accurate data using agentIdentifier.
-                List<ApiMetaDataBo> apiMetaDataList = apiMetaDataDao.getApiMetaData(align.getAgentId(), align.getAgentStartTime(), apiId);
+                List<ApiMetaDataBo> apiMetaDataList = metaData.getApiMetaData(align.getAgentId(), align.getAgentStartTime(), apiId);
                 int size = apiMetaDataList.size();
                 if (size == 0) {
                     String errorMessage = "API-DynamicID not found. api:" + apiId;
@@ -450,7 +492,7 @@ public class SpanServiceImpl implements SpanService {
         });
     }
 
-    private void transitionCachedString(List<Align> spans) {
+    private void transitionCachedString(List<Align> spans, CallTreeMetaData metaData) {
         this.transitionAnnotation(spans, new AnnotationReplacementCallback() {
             @Override
             public void replacement(Align align, List<AnnotationBo> annotationBoList) {
@@ -462,7 +504,7 @@ public class SpanServiceImpl implements SpanService {
                 for (AnnotationBo annotationBo : cachedStringAnnotation) {
                     final int cachedArgsKey = annotationBo.getKey();
                     int stringMetaDataId = (Integer) annotationBo.getValue();
-                    List<StringMetaDataBo> stringMetaList = stringMetaDataDao.getStringMetaData(align.getAgentId(), align.getAgentStartTime(), stringMetaDataId);
+                    List<StringMetaDataBo> stringMetaList = metaData.getStringMetaData(align.getAgentId(), align.getAgentStartTime(), stringMetaDataId);
                     int size = stringMetaList.size();
                     if (size == 0) {
                         logger.warn("StringMetaData not Found {}/{}/{}", align.getAgentId(), stringMetaDataId, align.getAgentStartTime());
@@ -495,18 +537,18 @@ public class SpanServiceImpl implements SpanService {
         return findAnnotationBoList;
     }
 
-    private void transitionException(List<Align> alignList) {
+    private void transitionException(List<Align> alignList, CallTreeMetaData metaData) {
         for (Align align : alignList) {
             if (align.hasException()) {
-                StringMetaDataBo stringMetaData = selectStringMetaData(align.getAgentId(), align.getExceptionId(), align.getAgentStartTime());
+                StringMetaDataBo stringMetaData = selectStringMetaData(metaData, align.getAgentId(), align.getExceptionId(), align.getAgentStartTime());
                 align.setExceptionClass(stringMetaData.getStringValue());
             }
         }
 
     }
 
-    private StringMetaDataBo selectStringMetaData(String agentId, int cacheId, long agentStartTime) {
-        final List<StringMetaDataBo> metaDataList = stringMetaDataDao.getStringMetaData(agentId, agentStartTime, cacheId);
+    private StringMetaDataBo selectStringMetaData(CallTreeMetaData metaData, String agentId, int cacheId, long agentStartTime) {
+        final List<StringMetaDataBo> metaDataList = metaData.getStringMetaData(agentId, agentStartTime, cacheId);
         if (CollectionUtils.isEmpty(metaDataList)) {
             logger.warn("StringMetaData not Found agent:{}, cacheId{}, agentStartTime:{}", agentId, cacheId, agentStartTime);
             return new StringMetaDataBo(agentId, agentStartTime, cacheId, "STRING-META-DATA-NOT-FOUND");
@@ -551,6 +593,28 @@ public class SpanServiceImpl implements SpanService {
         void replacement(Align align, List<AnnotationBo> annotationBoList);
     }
 
+    private record CallTreeMetaData(Map<MetaDataRowKey, List<ApiMetaDataBo>> apiMetaData,
+                                    Map<MetaDataRowKey, List<SqlMetaDataBo>> sqlMetaData,
+                                    Map<UidMetaDataRowKey, List<SqlUidMetaDataBo>> sqlUidMetaData,
+                                    Map<MetaDataRowKey, List<StringMetaDataBo>> stringMetaData) {
+
+        List<ApiMetaDataBo> getApiMetaData(String agentId, long agentStartTime, int apiId) {
+            return apiMetaData.getOrDefault(new DefaultMetaDataRowKey(agentId, agentStartTime, apiId), List.of());
+        }
+
+        List<SqlMetaDataBo> getSqlMetaData(String agentId, long agentStartTime, int sqlId) {
+            return sqlMetaData.getOrDefault(new DefaultMetaDataRowKey(agentId, agentStartTime, sqlId), List.of());
+        }
+
+        List<SqlUidMetaDataBo> getSqlUidMetaData(String agentId, long agentStartTime, byte[] sqlUid) {
+            return sqlUidMetaData.getOrDefault(new DefaultUidMetaDataRowKey(agentId, agentStartTime, sqlUid), List.of());
+        }
+
+        List<StringMetaDataBo> getStringMetaData(String agentId, long agentStartTime, int stringId) {
+            return stringMetaData.getOrDefault(new DefaultMetaDataRowKey(agentId, agentStartTime, stringId), List.of());
+        }
+    }
+
     private SpanResult order(List<SpanBo> spans, Predicate<SpanBo> filter, boolean isReachedLimit) {
         SpanAligner spanAligner = new SpanAligner(spans, filter, serviceTypeRegistryService);
         final CallTree callTree = spanAligner.align();
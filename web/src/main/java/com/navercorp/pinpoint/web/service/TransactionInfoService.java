@@ -22,6 +22,7 @@ import java.util.function.Predicate;
 import com.navercorp.pinpoint.common.profiler.util.TransactionId;
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
 import com.navercorp.pinpoint.web.calltree.span.CallTreeIterator;
+import com.navercorp.pinpoint.web.calltree.span.CallTreePage;
 import com.navercorp.pinpoint.web.filter.Filter;
 import com.navercorp.pinpoint.web.vo.BusinessTransactions;
 import com.navercorp.pinpoint.common.server.util.time.Range;
@@ -33,5 +34,11 @@ import com.navercorp.pinpoint.web.vo.callstacks.RecordSet;
 public interface TransactionInfoService {
     RecordSet createRecordSet(CallTreeIterator callTreeIterator, Predicate<SpanBo> viewPointFilter);
 
+    /**
+     * Same as {@link #createRecordSet(CallTreeIterator, Predicate)}, but only creates the records of the nodes in the page.
+     * The time range and view point are still resolved from the whole tree.
+     */
+    RecordSet createRecordSet(CallTreeIterator callTreeIterator, Predicate<SpanBo> viewPointFilter, CallTreePage page);
+
     BusinessTransactions selectBusinessTransactions(List<TransactionId> traceIds, String applicationName, Range range, Filter<List<SpanBo>> filter);
 }
@@ -26,6 +26,7 @@ import com.navercorp.pinpoint.common.trace.LoggingInfo;
 import com.navercorp.pinpoint.web.calltree.span.Align;
 import com.navercorp.pinpoint.web.calltree.span.CallTreeIterator;
 import com.navercorp.pinpoint.web.calltree.span.CallTreeNode;
+import com.navercorp.pinpoint.web.calltree.span.CallTreePage;
 import com.navercorp.pinpoint.web.component.AnnotationKeyMatcherService;
 import com.navercorp.pinpoint.web.dao.TraceDao;
 import com.navercorp.pinpoint.web.filter.Filter;
@@ -45,6 +46,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -127,6 +129,22 @@ public class TransactionInfoServiceImpl implements TransactionInfoService {
         Objects.requireNonNull(callTreeIterator, "callTreeIterator");
         Objects.requireNonNull(viewPointFilter, "viewPointFilter");
 
+        final SpanAlignPopulate spanAlignPopulate = new SpanAlignPopulate();
+        return createRecordSet(callTreeIterator, viewPointFilter, spanAlignPopulate::populateSpanRecord);
+    }
+
+    @Override
+    public RecordSet createRecordSet(CallTreeIterator callTreeIterator, Predicate<SpanBo> viewPointFilter, CallTreePage page) {
+        Objects.requireNonNull(callTreeIterator, "callTreeIterator");
+        Objects.requireNonNull(viewPointFilter, "viewPointFilter");
+        Objects.requireNonNull(page, "page");
+
+        final SpanAlignPopulate spanAlignPopulate = new SpanAlignPopulate();
+        return createRecordSet(callTreeIterator, viewPointFilter, iterator -> spanAlignPopulate.populateSpanRecord(iterator, page));
+    }
+
+    private RecordSet createRecordSet(CallTreeIterator callTreeIterator, Predicate<SpanBo> viewPointFilter,
+                                      Function<CallTreeIterator, List<Record>> populate) {
         RecordSet recordSet = new RecordSet();
         final List<Align> alignList = callTreeIterator.values();
 
@@ -168,8 +186,7 @@ public class TransactionInfoServiceImpl implements TransactionInfoService {
 
         recordSet.setLoggingTransactionInfo(findIsLoggingTransactionInfo(alignList));
 
-        final SpanAlignPopulate spanAlignPopulate = new SpanAlignPopulate();
-        List<Record> recordList = spanAlignPopulate.populateSpanRecord(callTreeIterator);
+        List<Record> recordList = populate.apply(callTreeIterator);
         if (viewPointAlign != null) {
             // mark the record to be used as focus
             long beginTimeStamp = viewPointAlign.getStartTime();
@@ -350,55 +367,91 @@ public class TransactionInfoServiceImpl implements TransactionInfoService {
                     logger.warn("Corrupt CallTree found : {}", callTreeIterator);
                     throw new IllegalStateException("CallTree corrupted");
                 }
-                final Align align = node.getAlign();
+                populateNode(recordList, factory, node, factory::get,
+                        filteredNode -> metaDataFilter.createRecord(filteredNode, factory));
+            }
 
-                if (metaDataFilter != null && metaDataFilter.filter(align, MetaData.API)) {
-                    if (align.isSpan()) {
-                        Record record = metaDataFilter.createRecord(node, factory);
-                        recordList.add(record);
-                    }
-                    continue;
-                }
+            return recordList;
+        }
 
-                if (metaDataFilter != null && metaDataFilter.filter(align, MetaData.PARAM)) {
-                    metaDataFilter.replaceAnnotationBo(align, MetaData.PARAM);
-                }
+        /**
+         * Call tree records, including the ones replaced by the {@link MetaDataFilter}, use the pre-order index + 1 as id
+         * so that pages of the same tree can be joined by the client.
+         * Ids of the exception, annotation and parameter records are only unique within the page.
+         */
+        private List<Record> populateSpanRecord(CallTreeIterator callTreeIterator, CallTreePage page) {
+            Objects.requireNonNull(callTreeIterator, "callTreeIterator");
 
-                final Record record = factory.get(node);
-                recordList.add(record);
+            final List<Record> recordList = new ArrayList<>(page.size() * 2);
+            final RecordFactory factory = recordFactoryProvider.getRecordFactory();
+            factory.reserveIds(callTreeIterator.size());
 
-                // add exception record.
-                if (align.hasException()) {
-                    final Record exceptionRecord = factory.getException(record.getTab() + 1, record.getId(), align);
-                    if (exceptionRecord != null) {
-                        recordList.add(exceptionRecord);
-                    }
+            // the parent may be on another page
+            for (int nodeIndex : page.nodeIndexes()) {
+                final int parentIndex = callTreeIterator.getParentIndex(nodeIndex);
+                if (parentIndex != -1) {
+                    callTreeIterator.get(parentIndex).getAlign().setId(parentIndex + 1);
                 }
+            }
+            for (int nodeIndex : page.nodeIndexes()) {
+                final int id = nodeIndex + 1;
+                populateNode(recordList, factory, callTreeIterator.get(nodeIndex),
+                        node -> factory.get(node, id),
+                        node -> metaDataFilter.createRecord(node, factory, id));
+            }
 
-                // add annotation record.
-                if (!align.getAnnotationBoList().isEmpty()) {
-                    final List<Record> annotations = factory.getAnnotations(record.getTab() + 1, record.getId(), align);
-                    recordList.addAll(annotations);
-                }
+            return recordList;
+        }
 
-                // add remote record.(span only)
-                if (align.getRemoteAddr() != null) {
-                    final Record remoteAddressRecord = factory.getParameter(record.getTab() + 1, record.getId(), "REMOTE_ADDRESS", align.getRemoteAddr());
-                    recordList.add(remoteAddressRecord);
-                }
+        private void populateNode(List<Record> recordList, RecordFactory factory, CallTreeNode node,
+                                  Function<CallTreeNode, Record> newRecord,
+                                  Function<CallTreeNode, Record> newFilteredRecord) {
+            final Align align = node.getAlign();
 
-                // add endPoint.(span only)
+            if (metaDataFilter != null && metaDataFilter.filter(align, MetaData.API)) {
                 if (align.isSpan()) {
-                    final SpanBo spanBo = align.getSpanBo();
-                    final String endPoint = spanBo.getEndPoint();
-                    if (endPoint != null) {
-                        final Record endPointRecord = factory.getParameter(record.getTab() + 1, record.getId(), "ENDPOINT", endPoint);
-                        recordList.add(endPointRecord);
-                    }
+                    Record record = newFilteredRecord.apply(node);
+                    recordList.add(record);
                 }
+                return;
             }
 
-            return recordList;
+            if (metaDataFilter != null && metaDataFilter.filter(align, MetaData.PARAM)) {
+                metaDataFilter.replaceAnnotationBo(align, MetaData.PARAM);
+            }
+
+            final Record record = newRecord.apply(node);
+            recordList.add(record);
+
+            // add exception record.
+            if (align.hasException()) {
+                final Record exceptionRecord = factory.getException(record.getTab() + 1, record.getId(), align);
+                if (exceptionRecord != null) {
+                    recordList.add(exceptionRecord);
+                }
+            }
+
+            // add annotation record.
+            if (!align.getAnnotationBoList().isEmpty()) {
+                final List<Record> annotations = factory.getAnnotations(record.getTab() + 1, record.getId(), align);
+                recordList.addAll(annotations);
+            }
+
+            // add remote record.(span only)
+            if (align.getRemoteAddr() != null) {
+                final Record remoteAddressRecord = factory.getParameter(record.getTab() + 1, record.getId(), "REMOTE_ADDRESS", align.getRemoteAddr());
+                recordList.add(remoteAddressRecord);
+            }
+
+            // add endPoint.(span only)
+            if (align.isSpan()) {
+                final SpanBo spanBo = align.getSpanBo();
+                final String endPoint = spanBo.getEndPoint();
+                if (endPoint != null) {
+                    final Record endPointRecord = factory.getParameter(record.getTab() + 1, record.getId(), "ENDPOINT", endPoint);
+                    recordList.add(endPointRecord);
+                }
+            }
         }
     }
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.view;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.navercorp.pinpoint.common.profiler.util.TransactionId;
+import com.navercorp.pinpoint.web.calltree.span.CallTreePage;
+import com.navercorp.pinpoint.web.vo.callstacks.Record;
+import com.navercorp.pinpoint.web.vo.callstacks.RecordSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * One page of the call stack of a transaction, see {@link TransactionInfoViewModel#getCallStack()}.
+ */
+public class CallStackPageViewModel {
+
+    private final TransactionId transactionId;
+    private final RecordSet recordSet;
+    private final CallTreePage page;
+
+    public CallStackPageViewModel(TransactionId transactionId, RecordSet recordSet, CallTreePage page) {
+        this.transactionId = Objects.requireNonNull(transactionId, "transactionId");
+        this.recordSet = Objects.requireNonNull(recordSet, "recordSet");
+        this.page = Objects.requireNonNull(page, "page");
+    }
+
+    @JsonProperty("transactionId")
+    public String getTransactionId() {
+        return transactionId.toString();
+    }
+
+    @JsonProperty("callStackStart")
+    public long getCallStackStart() {
+        return recordSet.getStartTime();
+    }
+
+    @JsonProperty("callStackEnd")
+    public long getCallStackEnd() {
+        return recordSet.getEndTime();
+    }
+
+    @JsonProperty("total")
+    public int getTotal() {
+        return page.total();
+    }
+
+    @JsonProperty("offset")
+    public int getOffset() {
+        return page.offset();
+    }
+
+    @JsonProperty("hasNext")
+    public boolean hasNext() {
+        return page.hasNext();
+    }
+
+    @JsonProperty("callStackIndex")
+    public Map<String, Integer> getCallStackIndex() {
+        return TransactionInfoViewModel.Field.getFieldMap();
+    }
+
+    @JsonProperty("callStack")
+    public List<TransactionInfoViewModel.CallStack> getCallStack() {
+        // the root record may be on another page
+        long barRatio = 0;
+        final long elapsed = recordSet.getEndTime() - recordSet.getStartTime();
+        if (elapsed > 0) {
+            barRatio = 100 / elapsed;
+        }
+
+        final List<Record> recordList = recordSet.getRecordList();
+        final List<TransactionInfoViewModel.CallStack> list = new ArrayList<>(recordList.size());
+        for (Record record : recordList) {
+            list.add(new TransactionInfoViewModel.CallStack(record, barRatio));
+        }
+        return list;
+    }
+}
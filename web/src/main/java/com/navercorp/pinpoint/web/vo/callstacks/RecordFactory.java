@@ -66,8 +66,16 @@ public class RecordFactory {
     }
 
     public Record get(final CallTreeNode node) {
+        return get(node, getNextId());
+    }
+
+    /**
+     * Creates the record with an id chosen by the caller. The id must not be handed out by this factory,
+     * see {@link #reserveIds(int)}.
+     */
+    public Record get(final CallTreeNode node, final int id) {
         final Align align = node.getAlign();
-        align.setId(getNextId());
+        align.setId(id);
 
         final int parentId = getParentId(node);
         Api api = getApi(align);
@@ -141,8 +149,16 @@ public class RecordFactory {
     }
 
     public Record getFilteredRecord(final CallTreeNode node, String apiTitle) {
+        return getFilteredRecord(node, apiTitle, getNextId());
+    }
+
+    /**
+     * Same as {@link #getFilteredRecord(CallTreeNode, String)} with an id chosen by the caller,
+     * see {@link #get(CallTreeNode, int)}.
+     */
+    public Record getFilteredRecord(final CallTreeNode node, String apiTitle, final int id) {
         final Align align = node.getAlign();
-        align.setId(getNextId());
+        align.setId(id);
 
         final int parentId = getParentId(node);
 //        Api api = getApi(align);
@@ -262,4 +278,14 @@ public class RecordFactory {
         return idGen++;
     }
 
+    /**
+     * Keeps the next {@code count} ids free for {@link #get(CallTreeNode, int)} and {@link #getFilteredRecord(CallTreeNode, String, int)}.
+     */
+    public void reserveIds(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("negative count:" + count);
+        }
+        idGen += count;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,190 @@
+package com.navercorp.pinpoint.web.applicationmap.cache;
+
+import com.navercorp.pinpoint.common.server.util.time.Range;
+import com.navercorp.pinpoint.common.server.util.timewindow.TimeWindow;
+import com.navercorp.pinpoint.common.server.util.timewindow.TimeWindowDownSampler;
+import com.navercorp.pinpoint.common.server.util.timewindow.TimeWindowFunction;
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.web.applicationmap.histogram.TimeHistogram;
+import com.navercorp.pinpoint.web.applicationmap.link.LinkDirection;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkCallData;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkData;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataMap;
+import com.navercorp.pinpoint.web.vo.Application;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LinkDataMapCacheTest {
+
+    private static final long ONE_MINUTE = TimeUnit.MINUTES.toMillis(1);
+    private static final long NOW = 1_700_000_000_000L - (1_700_000_000_000L % TimeUnit.HOURS.toMillis(1));
+
+    private final Application caller = new Application("caller", ServiceType.STAND_ALONE);
+    private final Application callee = new Application("callee", ServiceType.STAND_ALONE);
+    private final Application db = new Application("db", ServiceType.STAND_ALONE);
+
+    private final List<Row> rows = new ArrayList<>();
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    private final LinkDataMapLoader loader = this::load;
+
+    private record Row(long timestamp, Application to, short slot, long count) {
+    }
+
+    /**
+     * emulates HbaseMapStatisticsCallerDao
+     */
+    private LinkDataMap load(Application application, Range range, boolean timeAggregated) {
+        loadCount.incrementAndGet();
+        TimeWindowFunction mapperWindow = timeAggregated ? TimeWindowFunction.ALL_IN_ONE : TimeWindowFunction.identity();
+        TimeWindow timeWindow = new TimeWindow(range, TimeWindowDownSampler.SAMPLER);
+
+        long from = range.getFrom() - (range.getFrom() % ONE_MINUTE);
+        long to = range.getTo() - (range.getTo() % ONE_MINUTE);
+        LinkDataMap result = new LinkDataMap(timeWindow);
+        for (Row row : rows) {
+            if (row.timestamp() < from || row.timestamp() > to) {
+                continue;
+            }
+            LinkDataMap map = new LinkDataMap(mapperWindow);
+            map.addLinkData(application, "agent", row.to(), row.to().getName(), mapperWindow.refineTimestamp(row.timestamp()), row.slot(), row.count());
+            result.addLinkDataMap(map);
+        }
+        if (result.size() > 0) {
+            return result;
+        }
+        return new LinkDataMap();
+    }
+
+    private LinkDataMapCache newCache() {
+        LinkDataMapCacheProperties properties = new LinkDataMapCacheProperties();
+        properties.setBucketSize(Duration.ofMinutes(5));
+        properties.setLiveWindow(Duration.ofMinutes(3));
+        return new LinkDataMapCache(properties, Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC));
+    }
+
+    private void randomRows(Random random, long from, long to) {
+        for (long time = from; time <= to; time += ONE_MINUTE) {
+            if (random.nextInt(4) == 0) {
+                continue;
+            }
+            Application to1 = random.nextBoolean() ? callee : db;
+            short slot = (short) (random.nextBoolean() ? 100 : 3000);
+            rows.add(new Row(time, to1, slot, random.nextInt(100) + 1));
+        }
+    }
+
+    @Test
+    public void sameAsUncached() {
+        Random random = new Random(1234);
+        randomRows(random, NOW - TimeUnit.HOURS.toMillis(7), NOW);
+
+        LinkDataMapCache cache = newCache();
+        List<Range> ranges = List.of(
+                Range.between(NOW - TimeUnit.MINUTES.toMillis(5), NOW),
+                Range.between(NOW - TimeUnit.MINUTES.toMillis(20), NOW),
+                Range.between(NOW - TimeUnit.HOURS.toMillis(1), NOW),
+                Range.between(NOW - TimeUnit.HOURS.toMillis(3) - 12345, NOW - 4321),
+                Range.between(NOW - TimeUnit.HOURS.toMillis(6), NOW - TimeUnit.HOURS.toMillis(2) + 777)
+        );
+        for (int i = 0; i < 3; i++) {
+            for (Range range : ranges) {
+                for (boolean timeAggregated : new boolean[]{false, true}) {
+                    LinkDataMap expected = load(caller, range, timeAggregated);
+                    LinkDataMap actual = cache.select(LinkDirection.OUT_LINK, caller, range, timeAggregated, loader);
+                    assertThat(flatten(actual)).as("%s aggregated:%s", range, timeAggregated)
+                            .isEqualTo(flatten(expected));
+                    assertThat(actual.getTotalCount()).isEqualTo(expected.getTotalCount());
+                }
+            }
+        }
+        assertThat(cache.getStats().hitCount()).isPositive();
+    }
+
+    @Test
+    public void cachedBucketsAreNotLoadedAgain() {
+        randomRows(new Random(42), NOW - TimeUnit.HOURS.toMillis(2), NOW);
+        LinkDataMapCache cache = newCache();
+        Range range = Range.between(NOW - TimeUnit.HOURS.toMillis(1), NOW);
+
+        cache.select(LinkDirection.OUT_LINK, caller, range, false, loader);
+        long missCount = cache.getStats().missCount();
+
+        loadCount.set(0);
+        cache.select(LinkDirection.OUT_LINK, caller, range, true, loader);
+        // only the live tail is loaded
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(cache.getStats().missCount()).isEqualTo(missCount);
+        assertThat(cache.getStats().hitCount()).isEqualTo(missCount);
+
+        LinkDataMapCacheStats stats = cache.snapshot();
+        assertThat(stats.hitCount()).isEqualTo(missCount);
+        assertThat(stats.hitRate()).isEqualTo(0.5);
+        assertThat(stats.loadCount()).isEqualTo(cache.getLoadCount());
+        assertThat(stats.cachedWeight()).isPositive().isLessThanOrEqualTo(stats.maximumWeight());
+    }
+
+    @Test
+    public void liveBucketsAreNotCached() {
+        LinkDataMapCache cache = newCache();
+        Range range = Range.between(NOW - TimeUnit.MINUTES.toMillis(20), NOW);
+
+        rows.add(new Row(NOW - TimeUnit.MINUTES.toMillis(15), callee, (short) 100, 1));
+        assertThat(cache.select(LinkDirection.OUT_LINK, caller, range, true, loader).getTotalCount()).isEqualTo(1);
+
+        rows.add(new Row(NOW - ONE_MINUTE, callee, (short) 100, 2));
+        assertThat(cache.select(LinkDirection.OUT_LINK, caller, range, true, loader).getTotalCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void directionIsPartOfKey() {
+        rows.add(new Row(NOW - TimeUnit.MINUTES.toMillis(15), callee, (short) 100, 1));
+        LinkDataMapCache cache = newCache();
+        Range range = Range.between(NOW - TimeUnit.MINUTES.toMillis(20), NOW);
+
+        cache.select(LinkDirection.OUT_LINK, caller, range, true, loader);
+        LinkDataMap inLink = cache.select(LinkDirection.IN_LINK, caller, range, true, (application, r, aggregated) -> new LinkDataMap());
+        assertThat(inLink.size()).isZero();
+    }
+
+    @Test
+    public void split() {
+        LinkDataMapCache cache = newCache();
+        long bucket = NOW - TimeUnit.MINUTES.toMillis(30);
+
+        List<LinkDataMapCache.Segment> segments = cache.split(Range.between(bucket - 1000, NOW));
+        assertThat(segments.get(0)).isEqualTo(new LinkDataMapCache.Segment(bucket - 1000, bucket - 1, false));
+        assertThat(segments.get(1)).isEqualTo(new LinkDataMapCache.Segment(bucket, bucket + TimeUnit.MINUTES.toMillis(5) - 1, true));
+        // live
+        assertThat(segments.get(segments.size() - 2).cacheable()).isFalse();
+        // partial tail
+        assertThat(segments.get(segments.size() - 1)).isEqualTo(new LinkDataMapCache.Segment(NOW, NOW, false));
+    }
+
+    private Map<String, String> flatten(LinkDataMap linkDataMap) {
+        Map<String, String> map = new TreeMap<>();
+        for (LinkData linkData : linkDataMap.getLinkDataList()) {
+            for (LinkCallData linkCallData : linkData.getLinkCallDataMap().getLinkDataList()) {
+                for (TimeHistogram histogram : linkCallData.getTimeHistogram()) {
+                    String key = linkData.getFromApplication() + "->" + linkData.getToApplication() + " " +
+                            linkCallData.getSource() + "->" + linkCallData.getTarget() + " " + histogram.getTimeStamp();
+                    map.put(key, histogram.toString());
+                }
+            }
+        }
+        return map;
+    }
+}
@@ -0,0 +1,232 @@
+package com.navercorp.pinpoint.web.applicationmap.map;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.navercorp.pinpoint.common.server.util.time.Range;
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.web.applicationmap.link.LinkDirection;
+import com.navercorp.pinpoint.web.applicationmap.link.LinkKey;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataDuplexMap;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataMap;
+import com.navercorp.pinpoint.web.applicationmap.service.SearchDepth;
+import com.navercorp.pinpoint.web.vo.Application;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FrontierLinkSearcherTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    private final Range range = Range.between(0, 100);
+
+    private final Application A = app("A");
+    private final Application B = app("B");
+    private final Application C = app("C");
+    private final Application D = app("D");
+    private final Application E = app("E");
+    private final Application X = app("X");
+
+    private final FakeMapCreator mapCreator = new FakeMapCreator();
+
+    @AfterEach
+    public void cleanUp() {
+        MoreExecutors.shutdownAndAwaitTermination(executor, Duration.ofSeconds(3));
+    }
+
+    private static Application app(String name) {
+        return new Application(name, ServiceType.TEST_STAND_ALONE);
+    }
+
+    private LinkSelectContext newContext(int outDepth, int inDepth) {
+        return new LinkSelectContext(range, new SearchDepth(outDepth), new SearchDepth(inDepth), new LinkVisitChecker(), false);
+    }
+
+    @Test
+    public void shorterPathIsExpanded() throws InterruptedException {
+        // A -> B -> X -> C -> D
+        // A -> E(slow) -> C
+        mapCreator.link(A, B);
+        mapCreator.link(B, X);
+        mapCreator.link(X, C);
+        mapCreator.link(C, D);
+        mapCreator.link(A, E);
+        mapCreator.link(E, C);
+        CountDownLatch xRead = new CountDownLatch(1);
+        mapCreator.beforeRead.put(X, xRead::countDown);
+        mapCreator.beforeRead.put(E, () -> {
+            await(xRead);
+            sleep(50);
+        });
+
+        FrontierLinkSearcher searcher = new FrontierLinkSearcher(mapCreator, executor, 4, -1);
+        LinkDataDuplexMap result = searcher.search(List.of(A), newContext(3, 0), application -> true);
+
+        // C is reached at depth 3 through X first, and at depth 2 through E later
+        assertThat(result.getSourceLinkData(new LinkKey(C, D))).isNotNull();
+        assertThat(result.getSourceLinkData(new LinkKey(E, C))).isNotNull();
+        assertThat(result.getSourceLinkDataList()).hasSize(6);
+        assertThat(result.isIncomplete()).isFalse();
+        assertThat(mapCreator.readCount(C, LinkDirection.OUT_LINK)).isEqualTo(1);
+        assertThat(mapCreator.readCount(D, LinkDirection.OUT_LINK)).isZero();
+    }
+
+    @Test
+    public void readOncePerDirection() {
+        // A <-> B bidirectional
+        mapCreator.link(A, B);
+        mapCreator.link(B, A);
+
+        FrontierLinkSearcher searcher = new FrontierLinkSearcher(mapCreator, executor, 4, -1);
+        LinkDataDuplexMap result = searcher.search(List.of(A), newContext(4, 4), application -> true);
+
+        assertThat(result.getSourceLinkDataList()).hasSize(2);
+        assertThat(result.getTargetLinkDataList()).hasSize(2);
+        assertThat(result.getTotalCount()).isEqualTo(4);
+        for (Application application : List.of(A, B)) {
+            assertThat(mapCreator.readCount(application, LinkDirection.OUT_LINK)).isEqualTo(1);
+            assertThat(mapCreator.readCount(application, LinkDirection.IN_LINK)).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void filter() {
+        mapCreator.link(A, B);
+        mapCreator.link(B, C);
+
+        FrontierLinkSearcher searcher = new FrontierLinkSearcher(mapCreator, executor, 4, -1);
+        LinkDataDuplexMap result = searcher.search(List.of(A), newContext(4, 0), application -> !application.equals(B));
+
+        assertThat(result.getSourceLinkDataList()).hasSize(1);
+        assertThat(mapCreator.readCount(B, LinkDirection.OUT_LINK)).isZero();
+    }
+
+    @Test
+    public void maxConcurrency() {
+        List<Application> targets = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Application target = app("T" + i);
+            targets.add(target);
+            mapCreator.link(A, target);
+        }
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        for (Application target : targets) {
+            mapCreator.beforeRead.put(target, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(10);
+                running.decrementAndGet();
+            });
+        }
+
+        FrontierLinkSearcher searcher = new FrontierLinkSearcher(mapCreator, executor, 3, -1);
+        LinkDataDuplexMap result = searcher.search(List.of(A), newContext(2, 0), application -> true);
+
+        assertThat(result.getSourceLinkDataList()).hasSize(20);
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    public void timeout() {
+        mapCreator.link(A, B);
+        mapCreator.link(B, C);
+        CountDownLatch release = new CountDownLatch(1);
+        mapCreator.beforeRead.put(B, () -> await(release));
+
+        try {
+            FrontierLinkSearcher searcher = new FrontierLinkSearcher(mapCreator, executor, 4, 100);
+            LinkDataDuplexMap result = searcher.search(List.of(A), newContext(4, 0), application -> true);
+
+            assertThat(result.isIncomplete()).isTrue();
+            assertThat(result.getSourceLinkData(new LinkKey(A, B))).isNotNull();
+            assertThat(result.getSourceLinkData(new LinkKey(B, C))).isNull();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void timeout_cancelRunningReads() throws InterruptedException {
+        mapCreator.link(A, B);
+        mapCreator.link(B, C);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        mapCreator.beforeRead.put(B, () -> {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+
+        FrontierLinkSearcher searcher = new FrontierLinkSearcher(mapCreator, executor, 4, 100);
+        LinkDataDuplexMap result = searcher.search(List.of(A), newContext(4, 0), application -> true);
+
+        assertThat(result.isIncomplete()).isTrue();
+        assertThat(interrupted.await(3, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class FakeMapCreator implements ApplicationMapCreator {
+        private final List<LinkKey> links = new ArrayList<>();
+        private final Map<Application, Runnable> beforeRead = new ConcurrentHashMap<>();
+        private final Map<String, AtomicInteger> readCount = new ConcurrentHashMap<>();
+
+        void link(Application from, Application to) {
+            links.add(new LinkKey(from, to));
+        }
+
+        int readCount(Application application, LinkDirection direction) {
+            AtomicInteger count = readCount.get(direction + application.getName());
+            return count == null ? 0 : count.get();
+        }
+
+        @Override
+        public LinkDataDuplexMap createMap(Application application, LinkSelectContext linkSelectContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public LinkDataMap selectLinkDataMap(Application application, LinkDirection direction, LinkSelectContext linkSelectContext) {
+            readCount.computeIfAbsent(direction + application.getName(), k -> new AtomicInteger()).incrementAndGet();
+            Runnable hook = beforeRead.get(application);
+            if (hook != null) {
+                hook.run();
+            }
+            LinkDataMap linkDataMap = new LinkDataMap();
+            short slot = ServiceType.TEST_STAND_ALONE.getHistogramSchema().getNormalSlot().getSlotTime();
+            for (LinkKey link : links) {
+                Application self = direction == LinkDirection.OUT_LINK ? link.getFrom() : link.getTo();
+                if (self.equals(application)) {
+                    linkDataMap.addLinkData(link.getFrom(), "agent", link.getTo(), "agent", 1000, slot, 1);
+                }
+            }
+            return linkDataMap;
+        }
+    }
+}
@@ -27,6 +27,7 @@ import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.LinkedBlockingQueue;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -480,6 +481,49 @@ public class CallTreeIteratorTest {
         assertCallTree(callTree, callStack.getStackEvents(), true);
     }
 
+    @Test
+    public void page() {
+        CallTree callTree = factory.get(List.of("R", "##", "###", "###", "##", "###"));
+        CallTreeIterator iterator = callTree.iterator();
+
+        assertEquals(6, iterator.getSubtreeSize(0));
+        assertEquals(3, iterator.getSubtreeSize(1));
+        assertEquals(1, iterator.getSubtreeSize(2));
+        assertEquals(-1, iterator.getParentIndex(0));
+        assertEquals(1, iterator.getParentIndex(3));
+        assertEquals(4, iterator.getParentIndex(5));
+        assertEquals(2, iterator.getDepth(5));
+
+        CallTreePage collapsed = iterator.page(0, 1, 0, 10);
+        assertArrayEquals(new int[]{0, 1, 4}, collapsed.nodeIndexes());
+        assertEquals(3, collapsed.total());
+        assertFalse(collapsed.hasNext());
+
+        CallTreePage subtree = iterator.page(1, -1, 0, 10);
+        assertArrayEquals(new int[]{1, 2, 3}, subtree.nodeIndexes());
+
+        CallTreePage window = iterator.page(0, -1, 2, 2);
+        assertArrayEquals(new int[]{2, 3}, window.nodeIndexes());
+        assertEquals(6, window.total());
+        assertTrue(window.hasNext());
+    }
+
+    @Test
+    public void wideTree() {
+        List<String> events = new ArrayList<>();
+        events.add("R");
+        for (int i = 0; i < 20000; i++) {
+            events.add("##");
+        }
+        CallTree callTree = factory.get(events);
+
+        CallTreeIterator iterator = callTree.iterator();
+        assertEquals(20001, iterator.size());
+        assertEquals(0, iterator.getParentIndex(20000));
+        assertEquals(20001, iterator.getSubtreeSize(0));
+        assertEquals(1, iterator.getDepth(20000));
+    }
+
     private void assertCallTree(CallTree callTree, List<StackEvent> stackEvents, boolean check) {
 
         Queue<StackEvent> stackEventQueue = new LinkedList<>(stackEvents);
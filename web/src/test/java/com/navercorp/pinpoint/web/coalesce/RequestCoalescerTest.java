@@ -0,0 +1,198 @@
+package com.navercorp.pinpoint.web.coalesce;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class RequestCoalescerTest {
+
+    private static final String ENDPOINT = "scatter";
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private RequestCoalescer newCoalescer(Duration maxWait) {
+        RequestCoalescerProperties properties = new RequestCoalescerProperties();
+        properties.setEnable(true);
+        properties.setEndpoints(Set.of(ENDPOINT));
+        properties.setMaxWait(maxWait);
+        return new RequestCoalescer(properties);
+    }
+
+    @Test
+    void shareExecution() throws Exception {
+        RequestCoalescer coalescer = newCoalescer(Duration.ofSeconds(10));
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> coalescer.execute(ENDPOINT, List.of("app", 1L), () -> {
+            loadCount.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "result";
+        }));
+        Assertions.assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Future<String> follower = executor.submit(() -> coalescer.execute(ENDPOINT, List.of("app", 1L), () -> {
+            loadCount.incrementAndGet();
+            return "other";
+        }));
+        awaitCoalesced(coalescer, 1);
+        release.countDown();
+
+        Assertions.assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        Assertions.assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        Assertions.assertThat(loadCount).hasValue(1);
+
+        CoalescingStats stats = coalescer.getStats().get(ENDPOINT);
+        Assertions.assertThat(stats).isEqualTo(new CoalescingStats(1, 1, 0));
+        Assertions.assertThat(stats.coalescingRatio()).isEqualTo(0.5);
+
+        // nothing is cached once the execution is over
+        Assertions.assertThat(coalescer.execute(ENDPOINT, List.of("app", 1L), () -> "next")).isEqualTo("next");
+    }
+
+    @Test
+    void shareFailure() throws Exception {
+        RequestCoalescer coalescer = newCoalescer(Duration.ofSeconds(10));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> coalescer.execute(ENDPOINT, "key", () -> {
+            started.countDown();
+            await(release);
+            throw new IllegalStateException("scan failed");
+        }));
+        Assertions.assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> follower = executor.submit(() -> coalescer.execute(ENDPOINT, "key", () -> "other"));
+        awaitCoalesced(coalescer, 1);
+        release.countDown();
+
+        Assertions.assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("scan failed");
+        Assertions.assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("scan failed");
+    }
+
+    @Test
+    void maxWait() throws Exception {
+        RequestCoalescer coalescer = newCoalescer(Duration.ofMillis(10));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> coalescer.execute(ENDPOINT, "key", () -> {
+            started.countDown();
+            await(release);
+            return "slow";
+        }));
+        Assertions.assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Assertions.assertThat(coalescer.execute(ENDPOINT, "key", () -> "own")).isEqualTo("own");
+        release.countDown();
+        Assertions.assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+        Assertions.assertThat(coalescer.getStats().get(ENDPOINT)).isEqualTo(new CoalescingStats(1, 1, 1));
+    }
+
+    @Test
+    void sharedAcrossUsers() throws Exception {
+        RequestCoalescer coalescer = newCoalescer(Duration.ofSeconds(10));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> user1 = submitAs("user1", () -> coalescer.execute(ENDPOINT, "key", () -> {
+            started.countDown();
+            await(release);
+            return "result";
+        }));
+        Assertions.assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Future<String> user2 = submitAs("user2", () -> coalescer.execute(ENDPOINT, "key", () -> "other"));
+        awaitCoalesced(coalescer, 1);
+        release.countDown();
+
+        Assertions.assertThat(user1.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        Assertions.assertThat(user2.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        Assertions.assertThat(coalescer.getStats().get(ENDPOINT)).isEqualTo(new CoalescingStats(1, 1, 0));
+    }
+
+    @Test
+    void notSharedAcrossUsers() throws Exception {
+        RequestCoalescer coalescer = newCoalescer(Duration.ofSeconds(10));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> user1 = submitAs("user1", () -> coalescer.executePerUser(ENDPOINT, "key", () -> {
+            started.countDown();
+            await(release);
+            return "user1 result";
+        }));
+        Assertions.assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Future<String> user2 = submitAs("user2", () -> coalescer.executePerUser(ENDPOINT, "key", () -> "user2 result"));
+        Assertions.assertThat(user2.get(5, TimeUnit.SECONDS)).isEqualTo("user2 result");
+        release.countDown();
+
+        Assertions.assertThat(user1.get(5, TimeUnit.SECONDS)).isEqualTo("user1 result");
+        Assertions.assertThat(coalescer.getStats().get(ENDPOINT)).isEqualTo(new CoalescingStats(2, 0, 0));
+    }
+
+    @Test
+    void disabledEndpoint() {
+        RequestCoalescer coalescer = newCoalescer(Duration.ofSeconds(10));
+        AtomicInteger loadCount = new AtomicInteger();
+
+        coalescer.execute("servermap", "key", loadCount::incrementAndGet);
+        coalescer.execute("servermap", "key", loadCount::incrementAndGet);
+
+        Assertions.assertThat(loadCount).hasValue(2);
+        Assertions.assertThat(coalescer.isEnabled("servermap")).isFalse();
+        Assertions.assertThat(coalescer.getStats()).isEmpty();
+    }
+
+    private <T> Future<T> submitAs(String user, Callable<T> task) {
+        return executor.submit(() -> {
+            SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(user, null));
+            try {
+                return task.call();
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        });
+    }
+
+    private static void awaitCoalesced(RequestCoalescer coalescer, long count) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            CoalescingStats stats = coalescer.getStats().get(ENDPOINT);
+            if (stats != null && stats.coalesced() >= count) {
+                return;
+            }
+            Thread.sleep(1);
+        }
+        throw new AssertionError("not coalesced");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -19,14 +19,18 @@ package com.navercorp.pinpoint.web.dao.hbase;
 import com.navercorp.pinpoint.common.hbase.HbaseOperations;
 import com.navercorp.pinpoint.common.hbase.HbaseTableNameProvider;
 import com.navercorp.pinpoint.common.hbase.LimitEventHandler;
+import com.navercorp.pinpoint.common.hbase.ResultsExtractor;
 import com.navercorp.pinpoint.common.hbase.RowMapper;
 import com.navercorp.pinpoint.common.hbase.TableNameProvider;
 import com.navercorp.pinpoint.common.profiler.util.TransactionId;
 import com.navercorp.pinpoint.common.server.util.time.Range;
 import com.navercorp.pinpoint.web.config.ScatterChartProperties;
 import com.navercorp.pinpoint.web.dao.ApplicationTraceIndexDao;
+import com.navercorp.pinpoint.web.mapper.TraceIndexHeatMapExtractor;
 import com.navercorp.pinpoint.web.scatter.ScatterData;
 import com.navercorp.pinpoint.web.scatter.ScatterDataBuilder;
+import com.navercorp.pinpoint.web.scatter.heatmap.HeatMap;
+import com.navercorp.pinpoint.web.scatter.heatmap.HeatMapBuilder;
 import com.navercorp.pinpoint.web.util.ListListUtils;
 import com.navercorp.pinpoint.web.vo.LimitedScanResult;
 import com.navercorp.pinpoint.web.vo.scatter.Dot;
@@ -44,11 +48,13 @@ import org.mockito.Spy;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -147,6 +153,32 @@ public class HbaseApplicationTraceIndexDaoTest {
         Assertions.assertEquals(3000L, result.getLatestAcceptedTime());
     }
 
+    @Test
+    public void scanTraceHeatMapTest() throws Exception {
+        when(this.traceIdRowKeyDistributor.getDistributedScans(any(Scan.class))).thenReturn(new Scan[]{new Scan(), new Scan()});
+
+        Range range = Range.between(1000L, 5000L);
+        Supplier<HeatMapBuilder> builderFactory = () -> HeatMapBuilder.newBuilder(range.getFrom(), range.getTo(), 10, 0, 1000, 10);
+
+        HeatMapBuilder limited = builderFactory.get();
+        limited.addDataPoint(4000L, 100, true);
+        limited.addDataPoint(3000L, 100, false);
+        HeatMapBuilder completed = builderFactory.get();
+        completed.addDataPoint(2000L, 100, true);
+        when(this.hbaseOperations.findParallel(any(TableName.class), anyList(), any(ResultsExtractor.class))).thenReturn(List.of(
+                new TraceIndexHeatMapExtractor.Partition(limited, 3000L, true),
+                new TraceIndexHeatMapExtractor.Partition(completed, 2000L, false)));
+
+        LimitedScanResult<HeatMapBuilder> scanResult = this.applicationTraceIndexDao.scanTraceHeatMap("app", range, 2, builderFactory);
+        HeatMap heatMap = scanResult.scanData().build();
+
+        Assertions.assertEquals(3000L, scanResult.limitedTime());
+        Assertions.assertEquals(2, heatMap.getSuccess());
+        Assertions.assertEquals(1, heatMap.getFail());
+        Assertions.assertEquals(2000L, heatMap.getOldestAcceptedTime());
+        Assertions.assertEquals(4000L, heatMap.getLatestAcceptedTime());
+    }
+
     private List<List<Dot>> createScatterDotList() {
         List<List<Dot>> ret = new ArrayList<>();
         TransactionId transactionId = TransactionId.of("A", 1, 1);
@@ -2,20 +2,34 @@ package com.navercorp.pinpoint.web.mapper;
 
 import com.navercorp.pinpoint.common.buffer.Buffer;
 import com.navercorp.pinpoint.common.buffer.OffsetFixedBuffer;
+import com.navercorp.pinpoint.common.hbase.HbaseColumnFamily;
+import com.navercorp.pinpoint.common.profiler.util.TransactionId;
 import com.navercorp.pinpoint.common.server.bo.AnnotationBo;
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
 import com.navercorp.pinpoint.common.server.bo.SpanEventBo;
+import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanDecoder;
 import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanDecoderV0;
+import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanDecoderV1;
 import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanDecodingContext;
 import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanEncoder;
 import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanEncoderV0;
+import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanEncoderV1;
 import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.SpanEncodingContext;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellComparator;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import java.lang.management.ManagementFactory;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -92,4 +106,126 @@ public class SpanMapperV2Test {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    public void mapRow_decodeInPlace() throws Exception {
+        TransactionId transactionId = TransactionId.of("agentId", 100, 1);
+        SpanBo span1 = newSpan(1, 10);
+        SpanBo span2 = newSpan(2, 10);
+        Result result = newResult(transactionId, span1, span2);
+
+        SpanMapperV2.BufferFactory bufferFactory = new SpanMapperV2.BufferFactory(128);
+        SpanMapperV2 mapper = new SpanMapperV2(rowKey -> transactionId, new SpanDecoderV1(), bufferFactory);
+
+        List<SpanBo> first = mapper.mapRow(result, 0);
+        List<SpanBo> second = mapper.mapRow(result, 1);
+
+        assertThat(first).hasSize(2);
+        assertThat(first.get(0).getSpanEventBoList()).hasSize(10);
+        assertThat(first).extracting(SpanBo::getSpanId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(second)
+                .usingRecursiveComparison()
+                .isEqualTo(first);
+        // string cache is shared by the rows of one query
+        Assertions.assertSame(first.get(0).getApplicationId(), second.get(0).getApplicationId());
+    }
+
+    @Disabled("benchmark")
+    @Test
+    public void benchmark_largeTrace() throws Exception {
+        TransactionId transactionId = TransactionId.of("agentId", 100, 1);
+        SpanBo[] spans = new SpanBo[50];
+        for (int i = 0; i < spans.length; i++) {
+            spans[i] = newSpan(i, 1000);
+        }
+        Result result = newResult(transactionId, spans);
+        SpanDecoder spanDecoder = new SpanDecoderV1();
+
+        SpanMapperV2 mapper = new SpanMapperV2(rowKey -> transactionId, spanDecoder, 1024);
+        Runnable inPlace = () -> {
+            try {
+                mapper.mapRow(result, 0);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+        Runnable copy = () -> {
+            SpanDecodingContext decodingContext = new SpanDecodingContext();
+            decodingContext.setTransactionId(transactionId);
+            SpanMapperV2.BufferFactory bufferFactory = new SpanMapperV2.BufferFactory(1024);
+            for (Cell cell : result.rawCells()) {
+                decodingContext.setCollectorAcceptedTime(cell.getTimestamp());
+                Buffer qualifier = bufferFactory.createBuffer(CellUtil.cloneQualifier(cell));
+                Buffer columnValue = bufferFactory.createBuffer(CellUtil.cloneValue(cell));
+                spanDecoder.decode(qualifier, columnValue, decodingContext);
+                spanDecoder.next(decodingContext);
+            }
+        };
+
+        for (int round = 0; round < 3; round++) {
+            measure("copy", copy);
+            measure("inPlace", inPlace);
+        }
+    }
+
+    private void measure(String name, Runnable task) {
+        final int iterations = 200;
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long startAllocated = threadMXBean.getThreadAllocatedBytes(threadId);
+        long startTime = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            task.run();
+        }
+        long elapsed = System.nanoTime() - startTime;
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - startAllocated;
+        logger.info("{} avg:{}us allocated:{}KB/row", name, elapsed / iterations / 1000, allocated / iterations / 1024);
+    }
+
+    private SpanBo newSpan(long spanId, int spanEventSize) {
+        SpanBo span = new SpanBo();
+        span.setApplicationId("applicationId");
+        span.setAgentId("agentId");
+        span.setAgentStartTime(100);
+        span.setSpanId(spanId);
+        span.setServiceType((short) 1000);
+        span.setRpc("/orders");
+        for (int i = 0; i < spanEventSize; i++) {
+            SpanEventBo spanEvent = new SpanEventBo();
+            spanEvent.setSequence((short) i);
+            spanEvent.setDepth(2);
+            spanEvent.setStartElapsed(i);
+            spanEvent.setEndElapsed(1);
+            spanEvent.setServiceType((short) 2101);
+            spanEvent.setApiId(10);
+            spanEvent.setEndPoint("mysql-primary.db.internal:3306");
+            spanEvent.setDestinationId("order_service_db");
+            spanEvent.setAnnotationBoList(List.of(AnnotationBo.of(41, "SELECT * FROM orders WHERE id = ?")));
+            span.addSpanEvent(spanEvent);
+        }
+        return span;
+    }
+
+    private Result newResult(TransactionId transactionId, SpanBo... spans) {
+        byte[] rowKey = Bytes.toBytes(transactionId.toString());
+        byte[] family = HbaseColumnFamily.TRACE_V2_SPAN.getName();
+        SpanEncoder encoder = new SpanEncoderV1();
+
+        List<Cell> cells = new ArrayList<>();
+        for (SpanBo span : spans) {
+            SpanEncodingContext<SpanBo> encodingContext = new SpanEncodingContext<>(span);
+            byte[] qualifier = toBytes(encoder.encodeSpanQualifier(encodingContext));
+            byte[] value = toBytes(encoder.encodeSpanColumnValue(encodingContext));
+            // KeyValue keeps row, family, qualifier and value in a single array
+            cells.add(new KeyValue(rowKey, family, qualifier, 1000, value));
+        }
+        cells.sort(CellComparator.getInstance());
+        return Result.create(cells);
+    }
+
+    private byte[] toBytes(ByteBuffer byteBuffer) {
+        byte[] bytes = new byte[byteBuffer.remaining()];
+        byteBuffer.get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.mapper;
+
+import com.navercorp.pinpoint.common.buffer.AutomaticBuffer;
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.hbase.HbaseColumnFamily;
+import com.navercorp.pinpoint.common.hbase.HbaseTableConstants;
+import com.navercorp.pinpoint.common.util.BytesUtils;
+import com.navercorp.pinpoint.common.util.TimeUtils;
+import com.navercorp.pinpoint.web.scatter.heatmap.HeatMapBuilder;
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellBuilderFactory;
+import org.apache.hadoop.hbase.CellBuilderType;
+import org.apache.hadoop.hbase.HConstants;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TraceIndexHeatMapExtractorTest {
+
+    private static final HbaseColumnFamily.ApplicationTraceIndexTrace INDEX = HbaseColumnFamily.APPLICATION_TRACE_INDEX_TRACE;
+
+    private final TraceIndexHeatMapExtractor extractor = new TraceIndexHeatMapExtractor(
+            () -> HeatMapBuilder.newBuilder(1000L, 5000L, 10, 0, 1000, 10), 4);
+
+    @Test
+    public void partitionsShareLimit() throws Exception {
+        TraceIndexHeatMapExtractor.Partition first = extractor.extractData(scanner(4000L, 3000L, 2000L));
+        assertThat(first.limited()).isFalse();
+        assertThat(first.builder().build().getSuccess()).isEqualTo(3);
+
+        // the fourth dot reaches the limit
+        TraceIndexHeatMapExtractor.Partition second = extractor.extractData(scanner(4500L, 3500L, 2500L));
+        assertThat(second.limited()).isTrue();
+        assertThat(second.lastAcceptedTime()).isEqualTo(4500L);
+        assertThat(second.builder().build().getSuccess()).isEqualTo(1);
+
+        // a partition started after the limit was reached still reads one row
+        TraceIndexHeatMapExtractor.Partition third = extractor.extractData(scanner(4200L, 3200L));
+        assertThat(third.limited()).isTrue();
+        assertThat(third.lastAcceptedTime()).isEqualTo(4200L);
+        assertThat(third.builder().build().getSuccess()).isEqualTo(1);
+    }
+
+    private ResultScanner scanner(long... acceptedTimes) {
+        List<Result> results = new ArrayList<>();
+        for (long acceptedTime : acceptedTimes) {
+            Result result = mock(Result.class);
+            when(result.rawCells()).thenReturn(new Cell[]{cell(acceptedTime)});
+            results.add(result);
+        }
+        ResultScanner scanner = mock(ResultScanner.class);
+        when(scanner.iterator()).thenReturn(results.iterator());
+        return scanner;
+    }
+
+    private Cell cell(long acceptedTime) {
+        final int offset = HbaseTableConstants.APPLICATION_NAME_MAX_LEN + HbaseColumnFamily.ApplicationTraceIndexTrace.ROW_DISTRIBUTE_SIZE;
+        byte[] row = new byte[offset + BytesUtils.LONG_BYTE_LENGTH];
+        BytesUtils.writeLong(TimeUtils.reverseTimeMillis(acceptedTime), row, offset);
+
+        Buffer value = new AutomaticBuffer(8);
+        value.putVInt(100);
+        value.putSVInt(0);
+
+        return CellBuilderFactory.create(CellBuilderType.SHALLOW_COPY)
+                .setRow(row)
+                .setFamily(INDEX.getName())
+                .setQualifier(Bytes.toBytes(acceptedTime))
+                .setTimestamp(HConstants.LATEST_TIMESTAMP)
+                .setType(Cell.Type.Put)
+                .setValue(value.getBuffer())
+                .build();
+    }
+}
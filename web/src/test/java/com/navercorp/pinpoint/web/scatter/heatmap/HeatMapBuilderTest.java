@@ -3,10 +3,13 @@ package com.navercorp.pinpoint.web.scatter.heatmap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -79,6 +82,92 @@ public class HeatMapBuilderTest {
 
     }
 
+    @Test
+    public void addPoint_count() {
+        HeatMapBuilder builder = HeatMapBuilder.newBuilder(0, 1000, 10, 0, 1000, 10);
+
+        builder.addDataPoint(1, 1, true, 5);
+        builder.addDataPoint(1, 1, false, 2);
+
+        HeatMap heatMap = builder.build();
+        assertThat(heatMap.getData()).containsExactly(new Point(0, 0, 5, 2));
+        Assertions.assertEquals(5, heatMap.getSuccess());
+        Assertions.assertEquals(2, heatMap.getFail());
+    }
+
+    @Test
+    public void addPoint_overflow() {
+        HeatMapBuilder builder = HeatMapBuilder.newBuilder(0, 1000, 10, 0, 1000, 10);
+
+        builder.addDataPoint(-100, -100, true);
+        builder.addDataPoint(5000, 5000, true);
+
+        List<Point> points = builder.build().getData();
+        assertThat(points).containsExactly(new Point(10, 10, 1, 0), new Point(0, 0, 1, 0));
+    }
+
+    @Test
+    public void build_reset() {
+        HeatMapBuilder builder = HeatMapBuilder.newBuilder(0, 1000, 10, 0, 1000, 10);
+        builder.addDataPoint(1, 1, true);
+        builder.build();
+
+        assertThat(builder.build().getData()).isEmpty();
+    }
+
+    @Test
+    public void merge() {
+        HeatMapBuilder partition1 = HeatMapBuilder.newBuilder(0, 1000, 10, 0, 1000, 10);
+        partition1.addDataPoint(1, 1, true);
+        partition1.addDataPoint(500, 1, false);
+
+        HeatMapBuilder partition2 = HeatMapBuilder.newBuilder(0, 1000, 10, 0, 1000, 10);
+        partition2.addDataPoint(2, 2, true);
+        partition2.addDataPoint(900, 900, true);
+
+        HeatMapBuilder merged = HeatMapBuilder.newBuilder(0, 1000, 10, 0, 1000, 10);
+        merged.merge(partition1);
+        merged.merge(partition2);
+
+        HeatMap heatMap = merged.build();
+        assertThat(heatMap.getData()).containsExactly(
+                new Point(9, 9, 1, 0),
+                new Point(5, 0, 0, 1),
+                new Point(0, 0, 2, 0));
+        Assertions.assertEquals(1, heatMap.getOldestAcceptedTime());
+        Assertions.assertEquals(900, heatMap.getLatestAcceptedTime());
+    }
+
+    @Test
+    public void merge_sizeMismatch() {
+        HeatMapBuilder builder = HeatMapBuilder.newBuilder(0, 1000, 10, 0, 1000, 10);
+        HeatMapBuilder other = HeatMapBuilder.newBuilder(0, 1000, 100, 0, 1000, 10);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.merge(other));
+    }
+
+    @Disabled("benchmark")
+    @Test
+    public void addPoint_5M() {
+        final int points = 5_000_000;
+        final long from = 1_700_000_000_000L;
+        final long to = from + TimeUnit.HOURS.toMillis(1);
+        final Random random = new Random(0);
+
+        long start = System.nanoTime();
+        HeatMapBuilder builder = HeatMapBuilder.newBuilder(from, to, 100, 0, 10000, 100);
+        for (int i = 0; i < points; i++) {
+            long x = from + (long) (random.nextDouble() * (to - from));
+            int y = random.nextInt(12000);
+            builder.addDataPoint(x, y, y < 11000);
+        }
+        HeatMap heatMap = builder.build();
+        long elapsed = System.nanoTime() - start;
+        logger.info("{} points, cells:{} elapsed:{}ms", points, heatMap.getData().size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+
+        Assertions.assertEquals(points, heatMap.getSuccess() + heatMap.getFail());
+    }
+
     @Test
     public void index() {
         HeatMapBuilder.AxisResolver resolver = new HeatMapBuilder.DefaultAxisResolver(10, 0, 1000);
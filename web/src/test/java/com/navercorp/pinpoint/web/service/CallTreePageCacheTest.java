@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.service;
+
+import com.navercorp.pinpoint.common.profiler.util.TransactionId;
+import com.navercorp.pinpoint.web.calltree.span.CallTreeIterator;
+import com.navercorp.pinpoint.web.security.MetaDataFilter;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.mock;
+
+class CallTreePageCacheTest {
+
+    private final TransactionId transactionId = TransactionId.of("agent", 1, 1);
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void sharedWithoutMetaDataFilter() {
+        CallTreePageCache cache = new CallTreePageCache(100, Duration.ofMinutes(1), Optional.empty());
+
+        getAs(cache, "user1");
+        getAs(cache, "user2");
+
+        Assertions.assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    void perUserWithMetaDataFilter() {
+        CallTreePageCache cache = new CallTreePageCache(100, Duration.ofMinutes(1), Optional.of(mock(MetaDataFilter.class)));
+
+        getAs(cache, "user1");
+        getAs(cache, "user1");
+        getAs(cache, "user2");
+
+        Assertions.assertThat(loadCount).hasValue(2);
+    }
+
+    private SpanResult getAs(CallTreePageCache cache, String user) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(user, null));
+        return cache.get(transactionId, 1, "agent", 1, () -> {
+            loadCount.incrementAndGet();
+            return new SpanResult(null, new CallTreeIterator(null));
+        });
+    }
+}
@@ -2,9 +2,15 @@ package com.navercorp.pinpoint.web.service;
 
 import com.navercorp.pinpoint.common.profiler.util.TransactionId;
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
+import com.navercorp.pinpoint.common.server.util.time.Range;
+import com.navercorp.pinpoint.web.config.ScatterChartProperties;
+import com.navercorp.pinpoint.web.dao.ApplicationHeatMapDao;
 import com.navercorp.pinpoint.web.dao.ApplicationTraceIndexDao;
 import com.navercorp.pinpoint.web.dao.TraceDao;
 import com.navercorp.pinpoint.web.scatter.DragAreaQuery;
+import com.navercorp.pinpoint.web.scatter.heatmap.HeatMap;
+import com.navercorp.pinpoint.web.scatter.heatmap.HeatMapBuilder;
+import com.navercorp.pinpoint.web.scatter.heatmap.HeatMapGridCell;
 import com.navercorp.pinpoint.web.vo.LimitedScanResult;
 import com.navercorp.pinpoint.web.vo.scatter.Dot;
 import com.navercorp.pinpoint.web.vo.scatter.DotMetaData;
@@ -14,10 +20,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +40,10 @@ public class HeatMapServiceImplTest {
     SpanService spanService;
     @Mock
     DragAreaQuery dragAreaQuery;
+    @Mock
+    ApplicationHeatMapDao applicationHeatMapDao;
+    @Mock
+    ScatterChartProperties scatterChartProperties;
 
     private static final String APPLICATION_NAME = "applicationName";
     private static final int LIMIT = 50;
@@ -42,7 +59,7 @@ public class HeatMapServiceImplTest {
         when(applicationTraceIndexDao.scanScatterDataV2(APPLICATION_NAME, dragAreaQuery, LIMIT))
                 .thenReturn(scanResult);
 
-        HeatMapService heatMapService = new HeatMapServiceImpl(applicationTraceIndexDao, spanService, traceDao);
+        HeatMapService heatMapService = new HeatMapServiceImpl(applicationTraceIndexDao, applicationHeatMapDao, scatterChartProperties, spanService, traceDao);
         Assertions.assertSame(scanResult, heatMapService.dragScatterDataV2(APPLICATION_NAME, dragAreaQuery, LIMIT));
     }
 
@@ -56,7 +73,7 @@ public class HeatMapServiceImplTest {
                 .thenReturn(scanResult);
         when(traceDao.selectSpans(any())).thenReturn(matchingSpanData());
 
-        HeatMapService heatMapService = new HeatMapServiceImpl(applicationTraceIndexDao, spanService, traceDao);
+        HeatMapService heatMapService = new HeatMapServiceImpl(applicationTraceIndexDao, applicationHeatMapDao, scatterChartProperties, spanService, traceDao);
         heatMapService.dragScatterDataV2(APPLICATION_NAME, dragAreaQuery, LIMIT);
         Assertions.assertNotSame(scanResult, heatMapService.dragScatterDataV2(APPLICATION_NAME, dragAreaQuery, LIMIT));
     }
@@ -71,7 +88,7 @@ public class HeatMapServiceImplTest {
                 .thenReturn(scanResult);
         when(traceDao.selectSpans(any())).thenReturn(moreSpanData());
 
-        HeatMapService heatMapService = new HeatMapServiceImpl(applicationTraceIndexDao, spanService, traceDao);
+        HeatMapService heatMapService = new HeatMapServiceImpl(applicationTraceIndexDao, applicationHeatMapDao, scatterChartProperties, spanService, traceDao);
         heatMapService.dragScatterDataV2(APPLICATION_NAME, dragAreaQuery, LIMIT);
         Assertions.assertNotSame(scanResult, heatMapService.dragScatterDataV2(APPLICATION_NAME, dragAreaQuery, LIMIT));
     }
@@ -85,10 +102,117 @@ public class HeatMapServiceImplTest {
         when(applicationTraceIndexDao.scanScatterDataV2(APPLICATION_NAME, dragAreaQuery, LIMIT)).thenReturn(scanResult);
         when(traceDao.selectSpans(any())).thenReturn(lessSpanData());
 
-        HeatMapService heatMapService = new HeatMapServiceImpl(applicationTraceIndexDao, spanService, traceDao);
+        HeatMapService heatMapService = new HeatMapServiceImpl(applicationTraceIndexDao, applicationHeatMapDao, scatterChartProperties, spanService, traceDao);
         Assertions.assertThrows(IllegalStateException.class, () -> heatMapService.dragScatterDataV2(APPLICATION_NAME, dragAreaQuery, LIMIT));
     }
 
+    @Test
+    public void getHeatMapFromGrid() {
+        ApplicationTraceIndexDao applicationTraceIndexDao = mock(ApplicationTraceIndexDao.class);
+        TraceDao traceDao = mock(TraceDao.class);
+
+        Range range = Range.between(600000, 1200000);
+        when(scatterChartProperties.isEnableHeatMapGrid()).thenReturn(true);
+        when(applicationHeatMapDao.selectHeatMap(APPLICATION_NAME, range)).thenReturn(List.of(
+                new HeatMapGridCell(595000, 100, true, 100),
+                new HeatMapGridCell(600000, 100, true, 3),
+                new HeatMapGridCell(600000, 100, false, 2),
+                new HeatMapGridCell(900000, 10000, true, 5),
+                new HeatMapGridCell(1200000, 0, false, 1)
+        ));
+
+        HeatMapService heatMapService = new HeatMapServiceImpl(applicationTraceIndexDao, applicationHeatMapDao, scatterChartProperties, spanService, traceDao);
+        HeatMap heatMap = heatMapService.getHeatMap(APPLICATION_NAME, range, 10000, LIMIT).scanData();
+
+        Assertions.assertEquals(8, heatMap.getSuccess());
+        Assertions.assertEquals(3, heatMap.getFail());
+        Assertions.assertEquals(600000, heatMap.getOldestAcceptedTime());
+        Assertions.assertEquals(1200000, heatMap.getLatestAcceptedTime());
+        verifyNoInteractions(applicationTraceIndexDao);
+    }
+
+    @Test
+    public void getHeatMapFromGrid_largeCount() {
+        ApplicationTraceIndexDao applicationTraceIndexDao = mock(ApplicationTraceIndexDao.class);
+        TraceDao traceDao = mock(TraceDao.class);
+
+        Range range = Range.between(600000, 1200000);
+        final long count = Integer.MAX_VALUE + 10L;
+        when(scatterChartProperties.isEnableHeatMapGrid()).thenReturn(true);
+        when(applicationHeatMapDao.selectHeatMap(APPLICATION_NAME, range)).thenReturn(List.of(
+                new HeatMapGridCell(600000, 100, true, count),
+                new HeatMapGridCell(600000, 100, true, count)
+        ));
+
+        HeatMapService heatMapService = new HeatMapServiceImpl(applicationTraceIndexDao, applicationHeatMapDao, scatterChartProperties, spanService, traceDao);
+        HeatMap heatMap = heatMapService.getHeatMap(APPLICATION_NAME, range, 10000, LIMIT).scanData();
+
+        Assertions.assertEquals(count * 2, heatMap.getSuccess());
+        Assertions.assertEquals(count * 2, heatMap.getData().get(0).success());
+    }
+
+    @Test
+    public void getHeatMap_shortRangeScansTraceIndex() {
+        ApplicationTraceIndexDao applicationTraceIndexDao = mock(ApplicationTraceIndexDao.class);
+        TraceDao traceDao = mock(TraceDao.class);
+
+        // 60s / 100 columns is finer than the 5s grid time cell
+        Range range = Range.between(60000, 120000);
+        when(scatterChartProperties.isEnableHeatMapGrid()).thenReturn(true);
+        when(applicationTraceIndexDao.scanTraceHeatMap(eq(APPLICATION_NAME), eq(range), eq(LIMIT), any()))
+                .thenAnswer(invocation -> new LimitedScanResult<>(range.getFrom(), invocation.<Supplier<HeatMapBuilder>>getArgument(3).get()));
+
+        HeatMapService heatMapService = new HeatMapServiceImpl(applicationTraceIndexDao, applicationHeatMapDao, scatterChartProperties, spanService, traceDao);
+        heatMapService.getHeatMap(APPLICATION_NAME, range, 10000, LIMIT);
+
+        verify(applicationTraceIndexDao).scanTraceHeatMap(eq(APPLICATION_NAME), eq(range), eq(LIMIT), any());
+        verifyNoInteractions(applicationHeatMapDao);
+    }
+
+    @Test
+    public void streamHeatMap() {
+        ApplicationTraceIndexDao applicationTraceIndexDao = mock(ApplicationTraceIndexDao.class);
+        TraceDao traceDao = mock(TraceDao.class);
+
+        Range range = Range.between(0, 100000);
+        when(scatterChartProperties.getHeatMapStreamSliceCount()).thenReturn(4);
+        when(applicationTraceIndexDao.scanTraceHeatMap(eq(APPLICATION_NAME), any(), anyInt(), any())).thenAnswer(invocation -> {
+            Range slice = invocation.getArgument(1);
+            Supplier<HeatMapBuilder> supplier = invocation.getArgument(3);
+            HeatMapBuilder builder = supplier.get();
+            builder.addDataPoint(slice.getTo(), 100, true);
+            return new LimitedScanResult<>(slice.getFrom(), builder);
+        });
+
+        HeatMapService heatMapService = new HeatMapServiceImpl(applicationTraceIndexDao, applicationHeatMapDao, scatterChartProperties, spanService, traceDao);
+        List<Long> resultTo = new ArrayList<>();
+        heatMapService.streamHeatMap(APPLICATION_NAME, range, 10000, LIMIT, scanResult -> {
+            Assertions.assertEquals(1, scanResult.scanData().getSuccess());
+            resultTo.add(scanResult.scanData().getLatestAcceptedTime());
+            return true;
+        });
+
+        Assertions.assertEquals(List.of(100000L, 75000L, 50000L, 25000L), resultTo);
+        verify(applicationTraceIndexDao).scanTraceHeatMap(eq(APPLICATION_NAME), eq(Range.between(75000, 100000)), eq(LIMIT), any());
+        verify(applicationTraceIndexDao).scanTraceHeatMap(eq(APPLICATION_NAME), eq(Range.between(0, 25000)), eq(LIMIT - 3), any());
+    }
+
+    @Test
+    public void streamHeatMap_cancel() {
+        ApplicationTraceIndexDao applicationTraceIndexDao = mock(ApplicationTraceIndexDao.class);
+        TraceDao traceDao = mock(TraceDao.class);
+
+        Range range = Range.between(0, 100000);
+        when(scatterChartProperties.getHeatMapStreamSliceCount()).thenReturn(4);
+        when(applicationTraceIndexDao.scanTraceHeatMap(eq(APPLICATION_NAME), any(), anyInt(), any()))
+                .thenAnswer(invocation -> new LimitedScanResult<>(0, invocation.<Supplier<HeatMapBuilder>>getArgument(3).get()));
+
+        HeatMapService heatMapService = new HeatMapServiceImpl(applicationTraceIndexDao, applicationHeatMapDao, scatterChartProperties, spanService, traceDao);
+        heatMapService.streamHeatMap(APPLICATION_NAME, range, 10000, LIMIT, scanResult -> false);
+
+        verify(applicationTraceIndexDao, times(1)).scanTraceHeatMap(eq(APPLICATION_NAME), any(), anyInt(), any());
+    }
+
     private List<DotMetaData> dotMataData() {
         Dot dot1 = new Dot(TRANSACTION_ID_1, 1, 2, 0, "dotAgentId1");
         Dot dot2 = new Dot(TRANSACTION_ID_2, 3, 4, 0, "dotAgentId2");
@@ -0,0 +1,123 @@
+package com.navercorp.pinpoint.web.service;
+
+import com.navercorp.pinpoint.common.server.bo.ApiMetaDataBo;
+import com.navercorp.pinpoint.common.server.bo.MethodTypeEnum;
+import com.navercorp.pinpoint.common.server.bo.SqlMetaDataBo;
+import com.navercorp.pinpoint.common.server.bo.SqlUidMetaDataBo;
+import com.navercorp.pinpoint.common.server.bo.serializer.metadata.DefaultMetaDataRowKey;
+import com.navercorp.pinpoint.common.server.bo.serializer.metadata.MetaDataRowKey;
+import com.navercorp.pinpoint.common.server.bo.serializer.metadata.uid.DefaultUidMetaDataRowKey;
+import com.navercorp.pinpoint.common.server.bo.serializer.metadata.uid.UidMetaDataRowKey;
+import com.navercorp.pinpoint.web.cache.CacheConfiguration;
+import com.navercorp.pinpoint.web.dao.ApiMetaDataDao;
+import com.navercorp.pinpoint.web.dao.SqlMetaDataDao;
+import com.navercorp.pinpoint.web.dao.SqlUidMetaDataDao;
+import com.navercorp.pinpoint.web.dao.StringMetaDataDao;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class MetaDataResolverTest {
+
+    private static final String AGENT_ID = "agentId";
+    private static final long START_TIME = 1000;
+
+    private ApiMetaDataDao apiMetaDataDao;
+    private SqlMetaDataDao sqlMetaDataDao;
+    private SqlUidMetaDataDao sqlUidMetaDataDao;
+    private CacheManager apiMetaDataCacheManager;
+    private MetaDataResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        apiMetaDataDao = mock(ApiMetaDataDao.class);
+        sqlMetaDataDao = mock(SqlMetaDataDao.class);
+        sqlUidMetaDataDao = mock(SqlUidMetaDataDao.class);
+        apiMetaDataCacheManager = new ConcurrentMapCacheManager(CacheConfiguration.API_METADATA_CACHE_NAME);
+        resolver = new MetaDataResolver(apiMetaDataDao, sqlMetaDataDao, sqlUidMetaDataDao, mock(StringMetaDataDao.class),
+                apiMetaDataCacheManager, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void apiMetaData_sharedCache() {
+        Cache cache = apiMetaDataCacheManager.getCache(CacheConfiguration.API_METADATA_CACHE_NAME);
+        ApiMetaDataBo api1 = new ApiMetaDataBo.Builder(AGENT_ID, START_TIME, 1, 10, MethodTypeEnum.DEFAULT, "api1").build();
+        ApiMetaDataBo api2 = new ApiMetaDataBo.Builder(AGENT_ID, START_TIME, 2, 20, MethodTypeEnum.DEFAULT, "api2").build();
+        // entry loaded by ApiMetaDataDao.getApiMetaData(agentId, time, apiId)
+        cache.put(AGENT_ID + "." + START_TIME + ".1", List.of(api1));
+        when(apiMetaDataDao.getApiMetaData(anyList())).thenReturn(List.of(List.of(api2)));
+
+        MetaDataRowKey key1 = new DefaultMetaDataRowKey(AGENT_ID, START_TIME, 1);
+        MetaDataRowKey key2 = new DefaultMetaDataRowKey(AGENT_ID, START_TIME, 2);
+        Assertions.assertThat(resolver.getApiMetaData(Set.of(key1, key2)))
+                .containsEntry(key1, List.of(api1))
+                .containsEntry(key2, List.of(api2));
+
+        verify(apiMetaDataDao).getApiMetaData(List.of(key2));
+        Assertions.assertThat(cache.get(AGENT_ID + "." + START_TIME + ".2", List.class)).isEqualTo(List.of(api2));
+    }
+
+    @Test
+    void batchLoadAndCache() {
+        MetaDataRowKey key1 = new DefaultMetaDataRowKey(AGENT_ID, START_TIME, 1);
+        MetaDataRowKey key2 = new DefaultMetaDataRowKey(AGENT_ID, START_TIME, 2);
+        SqlMetaDataBo sql1 = new SqlMetaDataBo(AGENT_ID, START_TIME, 1, "select 1");
+        SqlMetaDataBo sql2 = new SqlMetaDataBo(AGENT_ID, START_TIME, 2, "select 2");
+        when(sqlMetaDataDao.getSqlMetaData(anyList()))
+                .thenAnswer(invocation -> {
+                    List<MetaDataRowKey> keys = invocation.getArgument(0);
+                    return keys.stream()
+                            .map(key -> key.getId() == 1 ? List.of(sql1) : List.of(sql2))
+                            .toList();
+                });
+
+        Map<MetaDataRowKey, List<SqlMetaDataBo>> first = resolver.getSqlMetaData(Set.of(key1, key2));
+        Assertions.assertThat(first)
+                .containsEntry(key1, List.of(sql1))
+                .containsEntry(key2, List.of(sql2));
+
+        Map<MetaDataRowKey, List<SqlMetaDataBo>> second = resolver.getSqlMetaData(Set.of(new DefaultMetaDataRowKey(AGENT_ID, START_TIME, 2)));
+        Assertions.assertThat(second).containsEntry(key2, List.of(sql2));
+
+        verify(sqlMetaDataDao, times(1)).getSqlMetaData(anyList());
+        verifyNoMoreInteractions(sqlMetaDataDao);
+    }
+
+    @Test
+    void notFoundIsNotCached() {
+        UidMetaDataRowKey key = new DefaultUidMetaDataRowKey(AGENT_ID, START_TIME, new byte[]{1, 2, 3});
+        SqlUidMetaDataBo sql = new SqlUidMetaDataBo(AGENT_ID, START_TIME, new byte[]{1, 2, 3}, "select 1");
+        when(sqlUidMetaDataDao.getSqlUidMetaData(anyList()))
+                .thenReturn(List.of(List.of()))
+                .thenReturn(List.of(List.of(sql)));
+
+        Assertions.assertThat(resolver.getSqlUidMetaData(Set.of(key))).containsEntry(key, List.of());
+
+        UidMetaDataRowKey sameKey = new DefaultUidMetaDataRowKey(AGENT_ID, START_TIME, new byte[]{1, 2, 3});
+        Assertions.assertThat(resolver.getSqlUidMetaData(Set.of(sameKey))).containsEntry(key, List.of(sql));
+        Assertions.assertThat(resolver.getSqlUidMetaData(Set.of(sameKey))).containsEntry(key, List.of(sql));
+
+        verify(sqlUidMetaDataDao, times(2)).getSqlUidMetaData(anyList());
+    }
+
+    @Test
+    void emptyKeys() {
+        Assertions.assertThat(resolver.getSqlMetaData(Set.of())).isEmpty();
+        verifyNoMoreInteractions(sqlMetaDataDao);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.service;
+
+import com.navercorp.pinpoint.common.profiler.util.TransactionId;
+import com.navercorp.pinpoint.common.server.util.time.Range;
+import com.navercorp.pinpoint.web.config.ScatterChartProperties;
+import com.navercorp.pinpoint.web.dao.ApplicationTraceIndexDao;
+import com.navercorp.pinpoint.web.dao.TraceDao;
+import com.navercorp.pinpoint.web.vo.LimitedScanResult;
+import com.navercorp.pinpoint.web.vo.scatter.Dot;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ScatterChartServiceImplTest {
+
+    private static final String APPLICATION_NAME = "applicationName";
+    private static final int LIMIT = 50;
+
+    private final ApplicationTraceIndexDao applicationTraceIndexDao = mock(ApplicationTraceIndexDao.class);
+    private final ScatterChartProperties scatterChartProperties = mock(ScatterChartProperties.class);
+    private final ScatterChartService scatterChartService = new ScatterChartServiceImpl(applicationTraceIndexDao,
+            mock(TraceDao.class), mock(SpanService.class), scatterChartProperties);
+
+    @Test
+    public void streamScatterData() {
+        Range range = Range.between(1000, 101000);
+        when(scatterChartProperties.getScatterStreamSliceCount()).thenReturn(4);
+        when(applicationTraceIndexDao.scanTraceScatterData(eq(APPLICATION_NAME), any(), anyInt(), anyBoolean())).thenAnswer(invocation -> {
+            Range slice = invocation.getArgument(1);
+            Dot dot = new Dot(TransactionId.of("agent", 1, slice.getTo()), slice.getTo(), 100, 0, "agent");
+            return new LimitedScanResult<>(slice.getFrom(), List.of(dot));
+        });
+
+        List<Long> resultTo = new ArrayList<>();
+        scatterChartService.streamScatterData(APPLICATION_NAME, range, 1000, 100, LIMIT, scatterData -> {
+            Assertions.assertEquals(1, scatterData.getDotSize());
+            Assertions.assertEquals(range.getFrom(), scatterData.getFrom());
+            resultTo.add(scatterData.getLatestAcceptedTime());
+            return true;
+        });
+
+        Assertions.assertEquals(List.of(101000L, 76000L, 51000L, 26000L), resultTo);
+        verify(applicationTraceIndexDao).scanTraceScatterData(APPLICATION_NAME, Range.between(76000, 101000), LIMIT, true);
+        verify(applicationTraceIndexDao).scanTraceScatterData(APPLICATION_NAME, Range.between(1000, 26000), LIMIT - 3, true);
+    }
+
+    @Test
+    public void streamScatterData_cancel() {
+        Range range = Range.between(1000, 101000);
+        when(scatterChartProperties.getScatterStreamSliceCount()).thenReturn(4);
+        when(applicationTraceIndexDao.scanTraceScatterData(eq(APPLICATION_NAME), any(), anyInt(), anyBoolean()))
+                .thenReturn(new LimitedScanResult<>(0, List.of()));
+
+        scatterChartService.streamScatterData(APPLICATION_NAME, range, 1000, 100, LIMIT, scatterData -> false);
+
+        verify(applicationTraceIndexDao, times(1)).scanTraceScatterData(eq(APPLICATION_NAME), any(), anyInt(), anyBoolean());
+    }
+}